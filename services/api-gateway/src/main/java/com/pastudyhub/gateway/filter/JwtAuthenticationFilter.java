@@ -26,8 +26,9 @@ import java.util.Set;
  * Global JWT authentication filter.
  *
  * Validates the Bearer token on every incoming request (except public paths),
- * then injects X-User-Id and X-User-Email headers so downstream services
- * can trust the identity without re-verifying JWT themselves.
+ * then injects X-User-Id, X-User-Email and X-User-Role headers so downstream
+ * services can trust the identity without re-verifying JWT themselves. The
+ * headers replace any the client sent.
  */
 @Component
 @Slf4j
@@ -74,11 +75,13 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
             Claims claims = parseToken(token);
             String userId    = claims.getSubject();
             String userEmail = claims.get("email", String.class);
+            String userRole  = claims.get("role", String.class);
 
             // Forward identity to downstream services via trusted headers
             ServerHttpRequest mutated = request.mutate()
                     .header("X-User-Id",    userId)
                     .header("X-User-Email", userEmail != null ? userEmail : "")
+                    .header("X-User-Role",  userRole != null ? userRole : "")
                     .build();
 
             return chain.filter(exchange.mutate().request(mutated).build());
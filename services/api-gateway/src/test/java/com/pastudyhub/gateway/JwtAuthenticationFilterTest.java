@@ -185,6 +185,37 @@ class JwtAuthenticationFilterTest {
         assertThat(exchange.getResponse().getStatusCode()).isNull();
     }
 
+    @Test
+    @DisplayName("Valid token forwards its role as X-User-Role, replacing one sent by the client")
+    void validToken_forwardsRoleOverClientHeader() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .claim("email", "student@example.com")
+                .claim("role", "STUDENT")
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(key)
+                .compact();
+
+        final String[] capturedRole = {null};
+        GatewayFilterChain capturingChain = exchange -> {
+            capturedRole[0] = exchange.getRequest().getHeaders().getFirst("X-User-Role");
+            return Mono.empty();
+        };
+
+        MockServerHttpRequest request = MockServerHttpRequest
+                .post("/api/v1/questions/import")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header("X-User-Role", "ADMIN")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        StepVerifier.create(filter.filter(exchange, capturingChain))
+                .verifyComplete();
+
+        assertThat(capturedRole[0]).isEqualTo("STUDENT");
+    }
+
     // ---- Helpers ----------------------------------------------------------
 
     private String buildValidToken() {
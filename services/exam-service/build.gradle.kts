@@ -1,5 +1,6 @@
 plugins {
     // Inherited from root: java, spring boot, dependency-management, jacoco
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 description = "PA Study Hub — Exam Service: practice exams, questions, scoring, PANCE prep"
@@ -31,6 +32,13 @@ tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
     archiveFileName.set("exam-service.jar")
 }
 
+// Microbenchmarks in src/jmh — run with ./gradlew :services:exam-service:jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
+
 tasks.named<JacocoCoverageVerification>("jacocoTestCoverageVerification") {
     violationRules {
         rule {
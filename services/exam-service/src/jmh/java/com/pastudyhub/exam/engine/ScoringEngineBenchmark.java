@@ -0,0 +1,82 @@
+package com.pastudyhub.exam.engine;
+
+import com.pastudyhub.exam.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Scores an exam of {@code size} answers with the single-pass {@link ScoringEngine}
+ * and with the stream-per-metric approach it replaced ({@link #streams}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoringEngineBenchmark {
+
+    @Param({"300", "3000"})
+    int size;
+
+    List<ExamAnswer> answers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        QuestionCategory[] categories = QuestionCategory.values();
+        answers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Question question = Question.builder()
+                    .id(UUID.randomUUID())
+                    .category(categories[random.nextInt(categories.length)])
+                    .difficulty(DifficultyLevel.MEDIUM)
+                    .build();
+            answers.add(ExamAnswer.builder()
+                    .question(question)
+                    .isCorrect(random.nextInt(10) < 7)
+                    .timeSpentSeconds(10 + random.nextInt(120))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ScoreResult singlePass() {
+        return new ScoringEngine(answers).calculate();
+    }
+
+    @Benchmark
+    public ScoreResult streams() {
+        int raw = rawScore();
+        double pct = Math.round((double) rawScore() / answers.size() * 1000.0) / 10.0;
+        Map<String, Double> breakdown = answers.stream()
+                .collect(Collectors.groupingBy(a -> a.getQuestion().getCategory()))
+                .entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().name(), e -> {
+                    long correct = e.getValue().stream().filter(ExamAnswer::isCorrect).count();
+                    return Math.round((double) correct / e.getValue().size() * 1000.0) / 10.0;
+                }));
+        double bandPct = Math.round((double) rawScore() / answers.size() * 1000.0) / 10.0;
+        PerformanceBand band = bandPct >= 80 ? PerformanceBand.EXCELLENT
+                : bandPct >= 70 ? PerformanceBand.GOOD
+                : bandPct >= 60 ? PerformanceBand.PASSING
+                : PerformanceBand.NEEDS_IMPROVEMENT;
+        double avgTime = answers.stream()
+                .filter(a -> a.getTimeSpentSeconds() != null)
+                .mapToInt(ExamAnswer::getTimeSpentSeconds)
+                .average().orElse(0.0);
+        List<UUID> incorrect = answers.stream()
+                .filter(a -> !a.isCorrect())
+                .map(a -> a.getQuestion().getId())
+                .collect(Collectors.toList());
+        return new ScoreResult(raw, answers.size(), pct, breakdown, band, avgTime, incorrect);
+    }
+
+    private int rawScore() {
+        return (int) answers.stream().filter(ExamAnswer::isCorrect).count();
+    }
+}
@@ -0,0 +1,95 @@
+package com.pastudyhub.exam.adaptive;
+
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.bank.QuestionBankCache;
+import com.pastudyhub.exam.model.QuestionCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Chooses the next question of an adaptive exam: the active question of the exam's
+ * category (or of any category) with the most Fisher information at the candidate's
+ * current ability estimate.
+ *
+ * <p>An {@link InformationTable} is precomputed for every category and for the whole
+ * bank. They are built together from the current {@link QuestionBank} the first time an
+ * adaptive exam needs them and rebuilt when the bank is replaced, so picking a question
+ * is a walk of at most {@code exam.adaptive.table-depth} ranked entries.
+ */
+@Slf4j
+@Component
+public class AdaptiveItemSelector {
+
+    private final QuestionBankCache questionBankCache;
+    private final int depth;
+
+    private volatile Tables tables;
+
+    public AdaptiveItemSelector(QuestionBankCache questionBankCache,
+                                @Value("${exam.adaptive.table-depth:64}") int depth) {
+        this.questionBankCache = questionBankCache;
+        this.depth = depth;
+    }
+
+    /**
+     * The most informative unseen question.
+     *
+     * @param category the exam's category filter, or null for all categories
+     * @param theta    current ability estimate
+     * @param served   IDs of questions already served in this exam
+     * @return the question, or null if the pool is exhausted
+     */
+    public BankedQuestion next(QuestionCategory category, double theta, Set<UUID> served) {
+        return table(category).select(theta, served::contains);
+    }
+
+    /** Number of active questions an adaptive exam with this filter can draw from. */
+    public int poolSize(QuestionCategory category) {
+        return table(category).size();
+    }
+
+    private InformationTable table(QuestionCategory category) {
+        QuestionBank bank = questionBankCache.current();
+        Tables current = tables;
+        if (current == null || current.bank() != bank) {
+            current = build(bank);
+        }
+        return current.byCategory()[category == null ? 0 : category.ordinal() + 1];
+    }
+
+    private synchronized Tables build(QuestionBank bank) {
+        Tables current = tables;
+        if (current != null && current.bank() == bank) return current;
+
+        long started = System.nanoTime();
+        QuestionCategory[] categories = QuestionCategory.values();
+        List<List<BankedQuestion>> pools = new ArrayList<>();
+        for (int i = 0; i <= categories.length; i++) {
+            pools.add(new ArrayList<>());
+        }
+        for (UUID id : bank.activeIds(null, null)) {
+            BankedQuestion question = bank.question(id);
+            pools.get(0).add(question);
+            pools.get(question.category().ordinal() + 1).add(question);
+        }
+        InformationTable[] byCategory = pools.stream()
+                .map(pool -> InformationTable.of(pool, depth))
+                .toArray(InformationTable[]::new);
+
+        current = new Tables(bank, byCategory);
+        tables = current;
+        log.info("Adaptive information tables built: bankVersion={}, items={}, took={}ms",
+                bank.version(), byCategory[0].size(), (System.nanoTime() - started) / 1_000_000);
+        return current;
+    }
+
+    /** Tables for one bank; index 0 is the whole bank, then one per category by ordinal. */
+    private record Tables(QuestionBank bank, InformationTable[] byCategory) {}
+}
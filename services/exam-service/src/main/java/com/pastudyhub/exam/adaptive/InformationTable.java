@@ -0,0 +1,111 @@
+package com.pastudyhub.exam.adaptive;
+
+import com.pastudyhub.exam.bank.BankedQuestion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Items of one question pool ranked by Fisher information at fixed ability points, for
+ * choosing the most informative next question of an adaptive exam.
+ *
+ * <p>Abilities from {@value #GRID_MIN} to {@value #GRID_MAX} are covered in steps of
+ * {@value #GRID_STEP}. For each grid point the table keeps the {@code depth} most
+ * informative items, best first, so selection rounds the ability to the nearest point
+ * and walks at most {@code depth} entries to skip questions the candidate has already
+ * seen. Only when every ranked item has been seen does it fall back to scoring the whole
+ * pool at the exact ability.
+ *
+ * <p>Immutable once built.
+ */
+public final class InformationTable {
+
+    static final double GRID_MIN = -4.0;
+    static final double GRID_MAX = 4.0;
+    static final double GRID_STEP = 0.25;
+    static final int GRID_SIZE = (int) Math.round((GRID_MAX - GRID_MIN) / GRID_STEP) + 1;
+
+    private final BankedQuestion[] items;
+    /** Item indexes per grid point, most informative first. */
+    private final int[][] ranked;
+
+    private InformationTable(BankedQuestion[] items, int[][] ranked) {
+        this.items = items;
+        this.ranked = ranked;
+    }
+
+    /**
+     * Ranks {@code items} at every grid point.
+     *
+     * @param items the pool (active questions of one category, or of all)
+     * @param depth how many items to keep per grid point
+     */
+    public static InformationTable of(List<BankedQuestion> items, int depth) {
+        BankedQuestion[] pool = items.toArray(BankedQuestion[]::new);
+        int keep = Math.min(depth, pool.length);
+        int[][] ranked = new int[GRID_SIZE][];
+        double[] information = new double[pool.length];
+        for (int node = 0; node < GRID_SIZE; node++) {
+            double theta = GRID_MIN + node * GRID_STEP;
+            for (int i = 0; i < pool.length; i++) {
+                information[i] = pool[i].irt().information(theta);
+            }
+            ranked[node] = top(information, keep);
+        }
+        return new InformationTable(pool, ranked);
+    }
+
+    /** Number of items in the pool. */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * The most informative item at {@code theta} that is not excluded.
+     *
+     * @param theta    current ability estimate
+     * @param excluded true for question IDs already served in this exam
+     * @return the item, or null if every item is excluded
+     */
+    public BankedQuestion select(double theta, Predicate<UUID> excluded) {
+        for (int index : ranked[node(theta)]) {
+            if (!excluded.test(items[index].id())) {
+                return items[index];
+            }
+        }
+        BankedQuestion best = null;
+        double bestInformation = -1.0;
+        for (BankedQuestion item : items) {
+            if (excluded.test(item.id())) continue;
+            double information = item.irt().information(theta);
+            if (information > bestInformation) {
+                best = item;
+                bestInformation = information;
+            }
+        }
+        return best;
+    }
+
+    static int node(double theta) {
+        int node = (int) Math.round((theta - GRID_MIN) / GRID_STEP);
+        return Math.max(0, Math.min(GRID_SIZE - 1, node));
+    }
+
+    /** Indexes of the {@code keep} largest values, largest first (insertion into a sorted prefix). */
+    private static int[] top(double[] values, int keep) {
+        int[] best = new int[keep];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (size == keep && values[i] <= values[best[keep - 1]]) continue;
+            int at = size < keep ? size++ : keep - 1;
+            while (at > 0 && values[best[at - 1]] < values[i]) {
+                best[at] = best[at - 1];
+                at--;
+            }
+            best[at] = i;
+        }
+        return size == keep ? best : Arrays.copyOf(best, size);
+    }
+}
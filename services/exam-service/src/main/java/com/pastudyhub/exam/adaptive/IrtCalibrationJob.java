@@ -0,0 +1,133 @@
+package com.pastudyhub.exam.adaptive;
+
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.bank.QuestionBankCache;
+import com.pastudyhub.exam.engine.ItemParameters;
+import com.pastudyhub.exam.repository.ExamAnswerRepository;
+import com.pastudyhub.exam.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Recalibrates every question's IRT discrimination and difficulty from all recorded
+ * answers with {@link IrtCalibrator}. Each EM iteration streams {@code exam_answers} once,
+ * grouped by session; only per-item expected counts stay in memory.
+ *
+ * <p>Questions with fewer than {@code exam.adaptive.calibration.min-responses} answers
+ * keep their current parameters. Results are written in one transaction and then the
+ * question bank is reloaded, which also rebuilds the adaptive information tables.
+ *
+ * <p>Runs on {@code exam.adaptive.calibration.cron}, disabled ({@code -}) by default.
+ */
+@Slf4j
+@Component
+public class IrtCalibrationJob {
+
+    private final ExamAnswerRepository examAnswerRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionBankCache questionBankCache;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int iterations;
+    private final int minResponses;
+
+    public IrtCalibrationJob(ExamAnswerRepository examAnswerRepository,
+                             QuestionRepository questionRepository,
+                             QuestionBankCache questionBankCache,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${exam.adaptive.calibration.iterations:20}") int iterations,
+                             @Value("${exam.adaptive.calibration.min-responses:200}") int minResponses) {
+        this.examAnswerRepository = examAnswerRepository;
+        this.questionRepository = questionRepository;
+        this.questionBankCache = questionBankCache;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.iterations = iterations;
+        this.minResponses = minResponses;
+    }
+
+    /** Runs the calibration and stores the new parameters. */
+    @Scheduled(cron = "${exam.adaptive.calibration.cron:-}")
+    public void calibrate() {
+        long started = System.nanoTime();
+        QuestionBank bank = questionBankCache.current();
+        UUID[] ids = bank.activeIds(null, null);
+        Map<UUID, Integer> indexes = new HashMap<>(ids.length * 2);
+        ItemParameters[] start = new ItemParameters[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            indexes.put(ids[i], i);
+            start[i] = bank.question(ids[i]).irt();
+        }
+
+        IrtCalibrator calibrator = new IrtCalibrator(start);
+        ItemParameters[] fitted = start;
+        double[] responses = new double[ids.length];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            calibrator.beginIteration();
+            readTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = examAnswerRepository.streamResponses()) {
+                    accept(calibrator, indexes, rows);
+                }
+            });
+            for (int i = 0; i < ids.length; i++) responses[i] = calibrator.responses(i);
+            fitted = calibrator.maximize(minResponses);
+        }
+
+        ItemParameters[] calibrated = fitted;
+        int updated = writeTransaction.execute(status -> {
+            int count = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (responses[i] < minResponses) continue;
+                questionRepository.updateIrtParameters(ids[i],
+                        calibrated[i].discrimination(), calibrated[i].difficulty());
+                count++;
+            }
+            return count;
+        });
+        if (updated > 0) {
+            questionBankCache.questionsChanged();
+        }
+        log.info("IRT calibration finished: items={}, calibrated={}, iterations={}, took={}ms",
+                ids.length, updated, iterations, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /** Feeds streamed (session, question, correct) rows to the calibrator one session at a time. */
+    private static void accept(IrtCalibrator calibrator, Map<UUID, Integer> indexes, Stream<Object[]> rows) {
+        int[] items = new int[128];
+        boolean[] correct = new boolean[128];
+        int count = 0;
+        Object session = null;
+        for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+            Object[] row = it.next();
+            if (!row[0].equals(session)) {
+                calibrator.acceptExaminee(items, correct, count);
+                session = row[0];
+                count = 0;
+            }
+            Integer index = indexes.get((UUID) row[1]);
+            if (index == null) continue; // inactive or deleted question
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+                correct = Arrays.copyOf(correct, count * 2);
+            }
+            items[count] = index;
+            correct[count] = (Boolean) row[2];
+            count++;
+        }
+        calibrator.acceptExaminee(items, correct, count);
+    }
+}
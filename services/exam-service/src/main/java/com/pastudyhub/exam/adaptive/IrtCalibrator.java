@@ -0,0 +1,147 @@
+package com.pastudyhub.exam.adaptive;
+
+import com.pastudyhub.exam.engine.ItemParameters;
+
+import java.util.Arrays;
+
+/**
+ * Marginal maximum-likelihood calibration of item discrimination and difficulty by EM
+ * (Bock–Aitkin), with each exam session treated as one examinee whose ability is drawn
+ * from a standard normal prior. Guessing parameters are held at their current values.
+ *
+ * <p>One EM iteration is: {@link #beginIteration}, then {@link #acceptExaminee} for every
+ * session's responses (the E-step — each examinee's posterior over a fixed quadrature
+ * grid is added to per-item expected counts), then {@link #maximize} (the M-step — a few
+ * Fisher-scoring steps per item against those counts). Only the counts are held in
+ * memory, so responses can be streamed from the database once per iteration.
+ *
+ * <p>Not thread-safe.
+ */
+public final class IrtCalibrator {
+
+    static final int NODES = 41;
+    private static final double NODE_MIN = -4.0;
+    private static final double NODE_STEP = 0.2;
+    private static final int NEWTON_STEPS = 5;
+    private static final double MIN_DISCRIMINATION = 0.2;
+    private static final double MAX_DISCRIMINATION = 3.0;
+
+    private static final double[] THETA = new double[NODES];
+    private static final double[] LOG_PRIOR = new double[NODES];
+
+    static {
+        for (int k = 0; k < NODES; k++) {
+            THETA[k] = NODE_MIN + k * NODE_STEP;
+            LOG_PRIOR[k] = -0.5 * THETA[k] * THETA[k];
+        }
+    }
+
+    private final ItemParameters[] items;
+    /** Expected examinees at each node, per item: {@code [item * NODES + node]}. */
+    private final double[] expectedTotal;
+    /** Expected correct answers at each node, per item. */
+    private final double[] expectedCorrect;
+    private final double[] logPosterior = new double[NODES];
+
+    /** @param items starting parameters, indexed as in {@link #acceptExaminee} */
+    public IrtCalibrator(ItemParameters[] items) {
+        this.items = items.clone();
+        this.expectedTotal = new double[items.length * NODES];
+        this.expectedCorrect = new double[items.length * NODES];
+    }
+
+    /** Clears the expected counts for a new E-step. */
+    public void beginIteration() {
+        Arrays.fill(expectedTotal, 0.0);
+        Arrays.fill(expectedCorrect, 0.0);
+    }
+
+    /**
+     * Adds one examinee's responses to the expected counts.
+     *
+     * @param itemIndexes indexes of the answered items
+     * @param correct     whether each answer was correct
+     * @param count       number of responses in the arrays
+     */
+    public void acceptExaminee(int[] itemIndexes, boolean[] correct, int count) {
+        if (count == 0) return;
+        System.arraycopy(LOG_PRIOR, 0, logPosterior, 0, NODES);
+        for (int r = 0; r < count; r++) {
+            ItemParameters item = items[itemIndexes[r]];
+            for (int k = 0; k < NODES; k++) {
+                double p = item.probability(THETA[k]);
+                logPosterior[k] += Math.log(correct[r] ? p : 1.0 - p);
+            }
+        }
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : logPosterior) max = Math.max(max, value);
+        double sum = 0.0;
+        for (int k = 0; k < NODES; k++) {
+            logPosterior[k] = Math.exp(logPosterior[k] - max);
+            sum += logPosterior[k];
+        }
+        for (int r = 0; r < count; r++) {
+            int base = itemIndexes[r] * NODES;
+            for (int k = 0; k < NODES; k++) {
+                double weight = logPosterior[k] / sum;
+                expectedTotal[base + k] += weight;
+                if (correct[r]) expectedCorrect[base + k] += weight;
+            }
+        }
+    }
+
+    /**
+     * M-step: re-estimates discrimination and difficulty of every item with at least
+     * {@code minResponses} responses in this iteration; other items keep their parameters.
+     *
+     * @return the updated parameters (also used by the next E-step)
+     */
+    public ItemParameters[] maximize(int minResponses) {
+        for (int i = 0; i < items.length; i++) {
+            if (responses(i) >= minResponses) {
+                items[i] = fit(i, items[i]);
+            }
+        }
+        return items.clone();
+    }
+
+    /** Number of responses to item {@code i} accepted in the current iteration. */
+    public double responses(int i) {
+        double total = 0.0;
+        for (int k = 0; k < NODES; k++) total += expectedTotal[i * NODES + k];
+        return total;
+    }
+
+    private ItemParameters fit(int i, ItemParameters start) {
+        double a = start.discrimination();
+        double b = start.difficulty();
+        double c = start.guessing();
+        int base = i * NODES;
+        for (int step = 0; step < NEWTON_STEPS; step++) {
+            double ga = 0, gb = 0, haa = 0, hab = 0, hbb = 0;
+            for (int k = 0; k < NODES; k++) {
+                double n = expectedTotal[base + k];
+                if (n == 0.0) continue;
+                double logistic = 1.0 / (1.0 + Math.exp(-a * (THETA[k] - b)));
+                double p = c + (1.0 - c) * logistic;
+                double slope = (1.0 - c) * logistic * (1.0 - logistic);
+                double dpda = slope * (THETA[k] - b);
+                double dpdb = -slope * a;
+                double residual = (expectedCorrect[base + k] - n * p) / (p * (1.0 - p));
+                double weight = n / (p * (1.0 - p));
+                ga += residual * dpda;
+                gb += residual * dpdb;
+                haa += weight * dpda * dpda;
+                hab += weight * dpda * dpdb;
+                hbb += weight * dpdb * dpdb;
+            }
+            double det = haa * hbb - hab * hab;
+            if (det <= 1e-12) break;
+            a += (hbb * ga - hab * gb) / det;
+            b += (haa * gb - hab * ga) / det;
+            a = Math.max(MIN_DISCRIMINATION, Math.min(MAX_DISCRIMINATION, a));
+            b = Math.max(NODE_MIN, Math.min(-NODE_MIN, b));
+        }
+        return new ItemParameters(a, b, c);
+    }
+}
@@ -0,0 +1,13 @@
+package com.pastudyhub.exam.bank;
+
+import com.pastudyhub.exam.model.AnswerOption;
+
+import java.util.UUID;
+
+/** Immutable copy of an {@link AnswerOption}. */
+public record BankedOption(UUID id, String text, int orderIndex, boolean correct) {
+
+    static BankedOption from(AnswerOption option) {
+        return new BankedOption(option.getId(), option.getText(), option.getOrderIndex(), option.isCorrect());
+    }
+}
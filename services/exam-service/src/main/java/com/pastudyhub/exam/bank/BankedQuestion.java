@@ -0,0 +1,48 @@
+package com.pastudyhub.exam.bank;
+
+import com.pastudyhub.exam.engine.ItemParameters;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.Question;
+import com.pastudyhub.exam.model.QuestionCategory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a {@link Question} and its options, options in display order, with
+ * the question's IRT parameters (defaults where it has not been calibrated).
+ */
+public record BankedQuestion(
+        UUID id,
+        String stem,
+        String clinicalVignette,
+        QuestionCategory category,
+        DifficultyLevel difficulty,
+        String explanation,
+        boolean active,
+        ItemParameters irt,
+        List<BankedOption> options) {
+
+    public static BankedQuestion from(Question question) {
+        return new BankedQuestion(
+                question.getId(),
+                question.getStem(),
+                question.getClinicalVignette(),
+                question.getCategory(),
+                question.getDifficulty(),
+                question.getExplanation(),
+                question.isActive(),
+                ItemParameters.of(question.getIrtDiscrimination(), question.getIrtDifficulty(),
+                        question.getIrtGuessing(), question.getDifficulty()),
+                question.getAnswerOptions().stream()
+                        .map(BankedOption::from)
+                        .sorted(Comparator.comparingInt(BankedOption::orderIndex))
+                        .toList());
+    }
+
+    /** The correct option, or null if none is marked correct. */
+    public BankedOption correctOption() {
+        return options.stream().filter(BankedOption::correct).findFirst().orElse(null);
+    }
+}
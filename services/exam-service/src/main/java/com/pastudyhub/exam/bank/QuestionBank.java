@@ -0,0 +1,166 @@
+package com.pastudyhub.exam.bank;
+
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.Question;
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.selection.OrdinalBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of every question and answer option, indexed for exam start,
+ * answer checking and result rendering.
+ *
+ * <ul>
+ *   <li>{@link #question} — question by ID, active or not (old results still render)</li>
+ *   <li>{@link #option} — owning question and correctness by option ID</li>
+ *   <li>{@link #activeIds} — sorted IDs of active questions for every category and
+ *       difficulty filter, including "any", ready for sampling</li>
+ *   <li>{@link #activeOrdinals} — the same pools as bitmaps of question ordinals, for
+ *       selection against a user's seen questions; {@link #ordinal} and
+ *       {@link #questionId} map between the two</li>
+ * </ul>
+ *
+ * <p>A bank is never modified after construction; {@link QuestionBankCache} swaps in a
+ * new one when the question set changes, so readers need no locking.
+ */
+public final class QuestionBank {
+
+    private static final int DIFFICULTY_SLOTS = DifficultyLevel.values().length + 1;
+
+    private final long version;
+    private final Map<UUID, BankedQuestion> questions;
+    private final Map<UUID, OptionRef> options;
+    /** Indexed by {@link #slot}; slot 0 of each dimension means "any". */
+    private final UUID[][] activeIds;
+    private final OrdinalBitmap[] activeOrdinals;
+    private final Map<UUID, Integer> ordinals;
+    /** Question ID by ordinal; null where no question has that ordinal. */
+    private final UUID[] idsByOrdinal;
+
+    private QuestionBank(long version, Map<UUID, BankedQuestion> questions, Map<UUID, OptionRef> options,
+                         UUID[][] activeIds, OrdinalBitmap[] activeOrdinals, Map<UUID, Integer> ordinals,
+                         UUID[] idsByOrdinal) {
+        this.version = version;
+        this.questions = questions;
+        this.options = options;
+        this.activeIds = activeIds;
+        this.activeOrdinals = activeOrdinals;
+        this.ordinals = ordinals;
+        this.idsByOrdinal = idsByOrdinal;
+    }
+
+    /**
+     * Builds a bank from loaded entities (options must be initialized).
+     *
+     * @param version   the question bank version the entities were read at
+     * @param questions every question, active or not
+     */
+    public static QuestionBank of(long version, List<Question> questions) {
+        Map<UUID, BankedQuestion> byId = new HashMap<>();
+        Map<UUID, OptionRef> byOption = new HashMap<>();
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        int slots = (QuestionCategory.values().length + 1) * DIFFICULTY_SLOTS;
+        List<List<UUID>> pools = new ArrayList<>();
+        OrdinalBitmap[] activeOrdinals = new OrdinalBitmap[slots];
+        for (int i = 0; i < slots; i++) {
+            pools.add(new ArrayList<>());
+            activeOrdinals[i] = new OrdinalBitmap();
+        }
+
+        int maxOrdinal = -1;
+        for (Question entity : questions) {
+            BankedQuestion question = BankedQuestion.from(entity);
+            byId.put(question.id(), question);
+            question.options().forEach(option ->
+                    byOption.put(option.id(), new OptionRef(question.id(), option.correct())));
+            Integer ordinal = entity.getOrdinal();
+            if (ordinal != null) {
+                ordinals.put(question.id(), ordinal);
+                maxOrdinal = Math.max(maxOrdinal, ordinal);
+            }
+            if (!question.active()) continue;
+            for (QuestionCategory category : new QuestionCategory[]{null, question.category()}) {
+                for (DifficultyLevel difficulty : new DifficultyLevel[]{null, question.difficulty()}) {
+                    pools.get(slot(category, difficulty)).add(question.id());
+                    if (ordinal != null) activeOrdinals[slot(category, difficulty)].add(ordinal);
+                }
+            }
+        }
+
+        UUID[][] activeIds = new UUID[pools.size()][];
+        for (int i = 0; i < pools.size(); i++) {
+            activeIds[i] = pools.get(i).stream().sorted(Comparator.naturalOrder()).toArray(UUID[]::new);
+        }
+        UUID[] idsByOrdinal = new UUID[maxOrdinal + 1];
+        ordinals.forEach((id, ordinal) -> idsByOrdinal[ordinal] = id);
+        return new QuestionBank(version, Map.copyOf(byId), Map.copyOf(byOption), activeIds, activeOrdinals,
+                Map.copyOf(ordinals), idsByOrdinal);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /** Number of questions, active or not. */
+    public int size() {
+        return questions.size();
+    }
+
+    /** The question, or null if unknown. */
+    public BankedQuestion question(UUID questionId) {
+        return questions.get(questionId);
+    }
+
+    /** Every question, active or not, in no particular order. */
+    public Collection<BankedQuestion> questions() {
+        return questions.values();
+    }
+
+    /** The option's question and correctness, or null if unknown. */
+    public OptionRef option(UUID optionId) {
+        return options.get(optionId);
+    }
+
+    /**
+     * Sorted IDs of active questions matching the filters; null matches everything.
+     * The array is shared — callers must not modify it.
+     */
+    public UUID[] activeIds(QuestionCategory category, DifficultyLevel difficulty) {
+        return activeIds[slot(category, difficulty)];
+    }
+
+    /**
+     * Ordinals of active questions matching the filters; null matches everything. Only
+     * questions read back from the database have ordinals. The bitmap is shared —
+     * callers must not modify it.
+     */
+    public OrdinalBitmap activeOrdinals(QuestionCategory category, DifficultyLevel difficulty) {
+        return activeOrdinals[slot(category, difficulty)];
+    }
+
+    /** The question's ordinal, or null if it has none. */
+    public Integer ordinal(UUID questionId) {
+        return ordinals.get(questionId);
+    }
+
+    /** The ID of the question with this ordinal, or null if unknown. */
+    public UUID questionId(int ordinal) {
+        return ordinal >= 0 && ordinal < idsByOrdinal.length ? idsByOrdinal[ordinal] : null;
+    }
+
+    private static int slot(QuestionCategory category, DifficultyLevel difficulty) {
+        int c = category == null ? 0 : category.ordinal() + 1;
+        int d = difficulty == null ? 0 : difficulty.ordinal() + 1;
+        return c * DIFFICULTY_SLOTS + d;
+    }
+
+    /** Where an answer option belongs and whether it is the correct one. */
+    public record OptionRef(UUID questionId, boolean correct) {}
+}
@@ -0,0 +1,144 @@
+package com.pastudyhub.exam.bank;
+
+import com.pastudyhub.exam.model.QuestionBankVersion;
+import com.pastudyhub.exam.repository.QuestionBankVersionRepository;
+import com.pastudyhub.exam.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current {@link QuestionBank} and replaces it when questions change.
+ *
+ * <p>The bank is loaded once at startup — two selects for every question and option —
+ * and exam start, answer checking and result mapping read it instead of the database.
+ *
+ * <p>Changes are detected through {@link QuestionBankVersion}. When a transaction
+ * writes a question or option, {@link QuestionBankChangeListener} calls
+ * {@link #questionsChanged}; after commit the version row is bumped and this instance
+ * reloads at once. Other instances notice the bump on their next poll
+ * ({@code exam.question-bank.poll-interval-ms}). A reload builds a complete new bank
+ * and swaps it in with one reference write, so readers see either the old bank or the
+ * new one, never a mix.
+ */
+@Slf4j
+@Component
+public class QuestionBankCache {
+
+    private final QuestionRepository questionRepository;
+    private final QuestionBankVersionRepository versionRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    private final AtomicReference<QuestionBank> current = new AtomicReference<>();
+    /** Set on threads inside {@link #batchChanges}; element 0 records whether anything changed. */
+    private final ThreadLocal<boolean[]> batchedChange = new ThreadLocal<>();
+
+    public QuestionBankCache(QuestionRepository questionRepository,
+                             QuestionBankVersionRepository versionRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.questionRepository = questionRepository;
+        this.versionRepository = versionRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** The current bank, loading it first if this instance has not yet. */
+    public QuestionBank current() {
+        QuestionBank bank = current.get();
+        return bank != null ? bank : reload();
+    }
+
+    /** Loads a fresh bank and swaps it in. */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized QuestionBank reload() {
+        QuestionBank bank = readTransaction.execute(status -> {
+            long version = versionRepository.findCurrentVersion().orElse(0L);
+            return QuestionBank.of(version, questionRepository.findAllWithOptions());
+        });
+        current.set(bank);
+        log.info("Question bank loaded: version={}, questions={}", bank.version(), bank.size());
+        return bank;
+    }
+
+    /** Reloads if another instance has bumped the version since the last load. */
+    @Scheduled(fixedDelayString = "${exam.question-bank.poll-interval-ms:30000}")
+    public void pollVersion() {
+        QuestionBank bank = current.get();
+        if (bank == null) return; // not loaded yet — the first read loads it
+        long version = readTransaction.execute(status -> versionRepository.findCurrentVersion().orElse(0L));
+        if (version != bank.version()) {
+            reload();
+        }
+    }
+
+    /**
+     * Records that the current transaction wrote questions or options. Once per
+     * transaction, after it commits, the version is bumped and the bank reloaded;
+     * nothing happens on rollback. Outside a transaction the bump is immediate.
+     * Inside {@link #batchChanges} the bump waits for the end of the batch.
+     */
+    public void questionsChanged() {
+        boolean[] batch = batchedChange.get();
+        if (batch != null) {
+            batch[0] = true;
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishChange();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) return;
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(QuestionBankCache.this);
+                if (status == STATUS_COMMITTED) {
+                    publishChange();
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs {@code work}, which may commit any number of transactions that write
+     * questions, and bumps the version and reloads at most once, when it returns or
+     * fails. Nested calls join the outermost batch.
+     */
+    public <T> T batchChanges(Supplier<T> work) {
+        if (batchedChange.get() != null) return work.get();
+        boolean[] changed = {false};
+        batchedChange.set(changed);
+        try {
+            return work.get();
+        } finally {
+            batchedChange.remove();
+            if (changed[0]) {
+                publishChange();
+            }
+        }
+    }
+
+    private void publishChange() {
+        writeTransaction.executeWithoutResult(status -> {
+            if (versionRepository.increment() == 0) {
+                versionRepository.save(new QuestionBankVersion(QuestionBankVersion.SINGLETON_ID, 1));
+            }
+        });
+        reload();
+    }
+}
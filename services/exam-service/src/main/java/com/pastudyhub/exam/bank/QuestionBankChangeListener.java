@@ -0,0 +1,32 @@
+package com.pastudyhub.exam.bank;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener on {@code Question} and {@code AnswerOption}: any insert, update
+ * or delete marks the question bank as changed.
+ *
+ * <p>Hibernate obtains this listener from the Spring context; the cache is looked up
+ * lazily because listeners are created while the entity manager factory is still
+ * being built.
+ */
+@Component
+public class QuestionBankChangeListener {
+
+    private final ObjectProvider<QuestionBankCache> questionBankCache;
+
+    public QuestionBankChangeListener(ObjectProvider<QuestionBankCache> questionBankCache) {
+        this.questionBankCache = questionBankCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        questionBankCache.getObject().questionsChanged();
+    }
+}
@@ -10,7 +10,8 @@ import org.springframework.security.web.SecurityFilterChain;
 
 /**
  * Security config — auth is enforced by the API Gateway.
- * This service is internal-only and trusts the X-User-Id header.
+ * This service is internal-only and trusts the X-User-Id and X-User-Role headers;
+ * role checks are made in the service layer.
  */
 @Configuration
 @EnableWebSecurity
@@ -2,16 +2,29 @@ package com.pastudyhub.exam.controller;
 
 import com.pastudyhub.exam.dto.*;
 import com.pastudyhub.exam.service.ExamService;
+import com.pastudyhub.exam.service.ExamStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 /**
  * REST controller for PANCE-style practice exam operations.
@@ -25,6 +38,7 @@ import java.util.UUID;
 public class ExamController {
 
     private final ExamService examService;
+    private final ExamStatsService examStatsService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -43,9 +57,40 @@ public class ExamController {
         return examService.getExamSession(sessionId, userId);
     }
 
+    @GetMapping("/{sessionId}/next")
+    @Operation(summary = "Get the next unanswered question (404 once every question is answered)")
+    public NextQuestionResponse getNextQuestion(
+            @PathVariable UUID sessionId,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return examService.getNextQuestion(sessionId, userId);
+    }
+
+    @PostMapping("/{sessionId}/answer")
+    @Operation(summary = "Submit an answer, naming the question in the body")
+    public AnswerResponse answer(
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody AnswerRequest request,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return examService.submitAnswer(sessionId, request.getQuestionId(),
+                SubmitAnswerRequest.builder()
+                        .selectedOptionId(request.getSelectedOptionId())
+                        .timeSpentSeconds(request.getTimeSpentSeconds())
+                        .build(),
+                userId);
+    }
+
+    @PostMapping("/{sessionId}/answers")
+    @Operation(summary = "Submit many answers at once, optionally completing the exam in the same request")
+    public BulkAnswerResponse submitAnswers(
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody BulkAnswerRequest request,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return examService.submitAnswers(sessionId, request, userId);
+    }
+
     @PostMapping("/{sessionId}/questions/{questionId}/answer")
     @Operation(summary = "Submit an answer for a question")
-    public ExamSessionResponse submitAnswer(
+    public AnswerResponse submitAnswer(
             @PathVariable UUID sessionId,
             @PathVariable UUID questionId,
             @Valid @RequestBody SubmitAnswerRequest request,
@@ -70,12 +115,39 @@ public class ExamController {
         examService.abandonExam(sessionId, userId);
     }
 
+    /**
+     * Streams the stored result. Clients that accept gzip get the stored bytes as they are;
+     * others get them decompressed on the fly. A finished result never changes, so the
+     * ETag is permanent and the response may be cached for as long as the client likes.
+     */
     @GetMapping("/{sessionId}/result")
     @Operation(summary = "Retrieve results of a completed exam")
-    public ExamResultResponse getExamResult(
+    public ResponseEntity<Resource> getExamResult(
             @PathVariable UUID sessionId,
-            @RequestHeader("X-User-Id") UUID userId) {
-        return examService.getExamResult(sessionId, userId);
+            @RequestHeader("X-User-Id") UUID userId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) throws IOException {
+        StoredExamResult result = examService.getExamResult(sessionId, userId);
+        if (webRequest.checkNotModified(result.etag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(result.gzippedJson().length)
+                    .body(new ByteArrayResource(result.gzippedJson()));
+        }
+        return response.body(new InputStreamResource(
+                new GZIPInputStream(new ByteArrayInputStream(result.gzippedJson()))));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get the current user's exam summary: attempts, scores, trend and per-category results")
+    public ExamStatsResponse getExamStats(@RequestHeader("X-User-Id") UUID userId) {
+        return examStatsService.getStats(userId);
     }
 
     @GetMapping("/history")
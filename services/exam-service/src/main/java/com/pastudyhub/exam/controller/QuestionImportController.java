@@ -0,0 +1,47 @@
+package com.pastudyhub.exam.controller;
+
+import com.pastudyhub.exam.dto.QuestionImportResponse;
+import com.pastudyhub.exam.service.QuestionImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Bulk import of licensed question banks, for ADMIN callers only. The request body is
+ * read as a stream, so files of any size are imported without being buffered.
+ */
+@RestController
+@RequestMapping("/api/v1/questions/import")
+@RequiredArgsConstructor
+@Tag(name = "Question import", description = "Streaming NDJSON and CSV import of questions")
+@SecurityRequirement(name = "bearerAuth")
+public class QuestionImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final QuestionImportService questionImportService;
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import questions, one JSON object per line; existing external keys are skipped (ADMIN)")
+    public QuestionImportResponse importNdjson(
+            InputStream body,
+            @RequestHeader(value = "X-User-Role", required = false) String role) {
+        return questionImportService.importNdjson(body, role);
+    }
+
+    @PostMapping(consumes = TEXT_CSV)
+    @Operation(summary = "Import questions from CSV with a header row; existing external keys are skipped (ADMIN)")
+    public QuestionImportResponse importCsv(
+            InputStream body,
+            @RequestHeader(value = "X-User-Role", required = false) String role) {
+        return questionImportService.importCsv(body, role);
+    }
+}
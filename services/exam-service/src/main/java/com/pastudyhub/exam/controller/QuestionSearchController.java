@@ -0,0 +1,37 @@
+package com.pastudyhub.exam.controller;
+
+import com.pastudyhub.exam.dto.QuestionSearchHitResponse;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.service.QuestionSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Full-text question search for authors and review mode. */
+@RestController
+@RequestMapping("/api/v1/questions/search")
+@RequiredArgsConstructor
+@Tag(name = "Question search", description = "Full-text search of stems, vignettes and explanations")
+@SecurityRequirement(name = "bearerAuth")
+public class QuestionSearchController {
+
+    private final QuestionSearchService questionSearchService;
+
+    @GetMapping
+    @Operation(summary = "Search questions; every word must match, the last one also as a prefix")
+    public Page<QuestionSearchHitResponse> search(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) QuestionCategory category,
+            @RequestParam(required = false) DifficultyLevel difficulty,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return questionSearchService.search(q, category, difficulty, page, size);
+    }
+}
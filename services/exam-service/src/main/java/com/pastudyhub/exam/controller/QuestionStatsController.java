@@ -0,0 +1,49 @@
+package com.pastudyhub.exam.controller;
+
+import com.pastudyhub.exam.dto.QuestionStatsResponse;
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.service.QuestionStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Item statistics for question authors (ADMIN): difficulty, discrimination, time spent
+ * and option selection rates, gathered from completed exams.
+ */
+@RestController
+@RequestMapping("/api/v1/questions")
+@RequiredArgsConstructor
+@Tag(name = "Question statistics", description = "Psychometric statistics of bank questions")
+@SecurityRequirement(name = "bearerAuth")
+public class QuestionStatsController {
+
+    private final QuestionStatsService questionStatsService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "List question statistics, sorted by discrimination, proportionCorrect, responses or meanTimeSeconds")
+    public Page<QuestionStatsResponse> getQuestionStats(
+            @RequestParam(required = false) QuestionCategory category,
+            @RequestParam(defaultValue = "0") long minResponses,
+            @RequestParam(defaultValue = "discrimination") String sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(value = "X-User-Role", required = false) String role) {
+        return questionStatsService.getStats(category, minResponses, sort, direction, page, size, role);
+    }
+
+    @GetMapping("/{questionId}/stats")
+    @Operation(summary = "Get one question's statistics with per-option selection rates")
+    public QuestionStatsResponse getQuestionStats(
+            @PathVariable UUID questionId,
+            @RequestHeader(value = "X-User-Role", required = false) String role) {
+        return questionStatsService.getStats(questionId, role);
+    }
+}
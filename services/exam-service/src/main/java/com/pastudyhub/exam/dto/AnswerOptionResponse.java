@@ -14,6 +14,7 @@ import java.util.UUID;
 public class AnswerOptionResponse {
     private UUID id;
     private String text;
+    /** Position the option is shown at; renumbered when the session shuffles options. */
     private int orderIndex;
     /** Only included in results — never sent during active exam. */
     private Boolean isCorrect;
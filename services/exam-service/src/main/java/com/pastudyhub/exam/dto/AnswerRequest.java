@@ -0,0 +1,27 @@
+package com.pastudyhub.exam.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** Request body for POST /exams/{id}/answer, which names the question in the body. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerRequest {
+
+    @NotNull(message = "questionId is required")
+    private UUID questionId;
+
+    @NotNull(message = "selectedOptionId is required")
+    private UUID selectedOptionId;
+
+    @Min(value = 0, message = "timeSpentSeconds cannot be negative")
+    private int timeSpentSeconds;
+}
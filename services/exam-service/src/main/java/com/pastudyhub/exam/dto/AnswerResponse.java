@@ -0,0 +1,29 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Acknowledgement of one submitted answer. Constant size however long the exam is:
+ * feedback for the answered question, the running score and the next question.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerResponse {
+    private UUID questionId;
+    private Boolean isCorrect;
+    private UUID correctOptionId;
+    private String explanation;
+    private RunningScore runningScore;
+    /** Progress: how many answered so far */
+    private int answeredCount;
+    private int questionCount;
+    /** The next unanswered question, or null once every question has an answer. */
+    private NextQuestionResponse next;
+}
@@ -0,0 +1,30 @@
+package com.pastudyhub.exam.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request body for POST /exams/{id}/answers: any number of the session's answers at once,
+ * e.g. those a client collected offline or in the last minute of a timed exam.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAnswerRequest {
+
+    /** If a question appears more than once, the last answer counts. */
+    @NotEmpty(message = "answers must not be empty")
+    @Size(max = 120, message = "Maximum 120 answers per request")
+    private List<@Valid AnswerRequest> answers;
+
+    /** Complete and score the exam in the same transaction. */
+    private boolean complete;
+}
@@ -0,0 +1,21 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Acknowledgement of a bulk answer submission. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAnswerResponse {
+    /** Distinct questions answered by this request */
+    private int accepted;
+    private RunningScore runningScore;
+    private int answeredCount;
+    private int questionCount;
+    /** The scored result if the request completed the exam, otherwise null */
+    private ExamResultResponse result;
+}
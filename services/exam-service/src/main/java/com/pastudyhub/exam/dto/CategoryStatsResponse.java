@@ -0,0 +1,17 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A user's answered/correct counts for one category across completed exams. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryStatsResponse {
+    private int correct;
+    private int total;
+    private double percentCorrect;
+}
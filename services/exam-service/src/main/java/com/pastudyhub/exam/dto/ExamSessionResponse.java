@@ -30,4 +30,8 @@ public class ExamSessionResponse {
     private List<QuestionResponse> questions;
     /** Progress: how many answered so far */
     private int answeredCount;
+    private boolean adaptive;
+    /** Adaptive exams only: current ability estimate and its standard error */
+    private Double abilityEstimate;
+    private Double abilityStandardError;
 }
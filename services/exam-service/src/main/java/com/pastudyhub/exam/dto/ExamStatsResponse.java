@@ -0,0 +1,31 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** A user's exam summary across all sessions. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamStatsResponse {
+    private UUID userId;
+    /** Exams started, whatever their outcome */
+    private int attempts;
+    private int completedCount;
+    /** Null until an exam is completed */
+    private Double averageScorePercent;
+    private Double bestScorePercent;
+    /** Scores of the most recent completed exams, oldest first */
+    private List<Double> recentScores;
+    private Double recentAverageScorePercent;
+    /** Recent average minus overall average; positive means improving */
+    private Double trend;
+    private Map<String, CategoryStatsResponse> categoryBreakdown;
+}
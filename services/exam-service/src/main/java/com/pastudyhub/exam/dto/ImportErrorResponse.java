@@ -0,0 +1,19 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A rejected import record. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorResponse {
+    /** Line the record starts on, from 1 */
+    private long line;
+    /** The record's external key, if it could be read */
+    private String externalKey;
+    private String message;
+}
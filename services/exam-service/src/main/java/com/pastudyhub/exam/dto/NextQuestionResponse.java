@@ -0,0 +1,21 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** The next unanswered question of an exam session — GET /exams/{id}/next. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NextQuestionResponse {
+    /** Options omit isCorrect; no explanation. */
+    private QuestionResponse question;
+    /** 1-based position of the question in the exam. */
+    private int questionNumber;
+    private int totalQuestions;
+    /** Null for untimed exams. */
+    private Integer timeRemainingSeconds;
+}
@@ -0,0 +1,22 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** How often one answer option was chosen. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionStatsResponse {
+    private UUID optionId;
+    private String text;
+    private boolean correct;
+    private long selections;
+    /** Selections over all responses to the question, skipped ones included */
+    private double selectionRate;
+}
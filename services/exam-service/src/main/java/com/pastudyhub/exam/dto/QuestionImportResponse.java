@@ -0,0 +1,24 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** Outcome of a question import. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionImportResponse {
+    /** Records read from the file */
+    private int received;
+    private int created;
+    /** Records whose external key already exists — imported earlier */
+    private int skipped;
+    private int rejected;
+    /** Why records were rejected; at most the first 100 */
+    private List<ImportErrorResponse> errors;
+}
@@ -0,0 +1,29 @@
+package com.pastudyhub.exam.dto;
+
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/** One question matching a full-text search. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionSearchHitResponse {
+    private UUID questionId;
+    private QuestionCategory category;
+    private DifficultyLevel difficulty;
+    private boolean active;
+    private double score;
+    /**
+     * Matching fragments by field (stem, clinicalVignette, explanation), HTML-escaped with
+     * matches wrapped in {@code <mark>}; fields without a match are left out
+     */
+    private Map<String, String> highlights;
+}
@@ -0,0 +1,29 @@
+package com.pastudyhub.exam.dto;
+
+import com.pastudyhub.exam.model.QuestionCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Classical item statistics of one question across completed exams, for question authors. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionStatsResponse {
+    private UUID questionId;
+    private String stem;
+    private QuestionCategory category;
+    private long responses;
+    /** Difficulty: proportion of responses that were correct, 0–1 */
+    private Double proportionCorrect;
+    /** Point-biserial correlation with the rest of the exam; null while undefined */
+    private Double discrimination;
+    private Double meanTimeSeconds;
+    /** Per-option selection rates; only in the single-question view */
+    private List<OptionStatsResponse> options;
+}
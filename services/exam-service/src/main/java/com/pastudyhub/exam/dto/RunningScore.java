@@ -0,0 +1,16 @@
+package com.pastudyhub.exam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Correct answers out of questions answered so far. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningScore {
+    private int correct;
+    private int total;
+}
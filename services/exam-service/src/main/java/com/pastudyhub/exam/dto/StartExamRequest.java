@@ -30,4 +30,10 @@ public class StartExamRequest {
     @Max(value = 360, message = "Maximum 6-hour time limit")
     @Builder.Default
     private int timeLimitMinutes = 0;
+
+    /**
+     * Adaptive mode: each question is the most informative one at the current ability
+     * estimate. The difficulty filter does not apply.
+     */
+    private boolean adaptive;
 }
@@ -0,0 +1,8 @@
+package com.pastudyhub.exam.dto;
+
+/**
+ * A finished exam's result as stored: gzip-compressed {@link ExamResultResponse} JSON
+ * and its strong ETag (unquoted).
+ */
+public record StoredExamResult(String etag, byte[] gzippedJson) {
+}
@@ -0,0 +1,35 @@
+package com.pastudyhub.exam.engine;
+
+/**
+ * Running ability estimate of an adaptive exam: a normal approximation to the posterior,
+ * kept as its mean and precision (inverse variance).
+ *
+ * <p>Each answer applies one Fisher-scoring step from the current estimate,
+ * {@code theta += score / (precision + information)}, then adds the item's information at
+ * the new estimate to the precision. The cost of an update does not depend on how many
+ * answers came before it, so the estimate can be carried on the session and updated
+ * per answer instead of being re-fitted to the whole response history.
+ *
+ * @param theta     ability estimate, clamped to ±{@link #THETA_LIMIT}
+ * @param precision posterior precision; the standard error is {@code 1 / sqrt(precision)}
+ */
+public record AbilityEstimate(double theta, double precision) {
+
+    public static final double THETA_LIMIT = 4.0;
+
+    /** The standard normal prior every adaptive exam starts from. */
+    public static AbilityEstimate prior() {
+        return new AbilityEstimate(0.0, 1.0);
+    }
+
+    /** The estimate after one more answer to {@code item}. */
+    public AbilityEstimate update(ItemParameters item, boolean correct) {
+        double step = item.score(theta, correct) / (precision + item.information(theta));
+        double next = Math.max(-THETA_LIMIT, Math.min(THETA_LIMIT, theta + step));
+        return new AbilityEstimate(next, precision + item.information(next));
+    }
+
+    public double standardError() {
+        return 1.0 / Math.sqrt(precision);
+    }
+}
@@ -0,0 +1,55 @@
+package com.pastudyhub.exam.engine;
+
+import com.pastudyhub.exam.model.DifficultyLevel;
+
+/**
+ * Three-parameter logistic (3PL) IRT parameters of one question, on the logistic metric
+ * (no 1.7 scaling constant). With {@code guessing = 0} this is the 2PL model.
+ *
+ * @param discrimination {@code a}: how sharply the item separates abilities around {@code b}
+ * @param difficulty     {@code b}: the ability at which a correct answer is halfway between
+ *                       {@code c} and certain
+ * @param guessing       {@code c}: lower asymptote, the chance a very weak candidate is correct
+ */
+public record ItemParameters(double discrimination, double difficulty, double guessing) {
+
+    /**
+     * Parameters for a question that has not been calibrated yet: unit discrimination,
+     * no guessing, and a difficulty placed by its authored difficulty level.
+     */
+    public static ItemParameters uncalibrated(DifficultyLevel level) {
+        double b = switch (level == null ? DifficultyLevel.MEDIUM : level) {
+            case EASY -> -1.0;
+            case MEDIUM -> 0.0;
+            case HARD -> 1.0;
+        };
+        return new ItemParameters(1.0, b, 0.0);
+    }
+
+    /** Stored parameters where present, {@link #uncalibrated} values where not. */
+    public static ItemParameters of(Double discrimination, Double difficulty, Double guessing, DifficultyLevel level) {
+        ItemParameters defaults = uncalibrated(level);
+        return new ItemParameters(
+                discrimination != null ? discrimination : defaults.discrimination(),
+                difficulty != null ? difficulty : defaults.difficulty(),
+                guessing != null ? guessing : defaults.guessing());
+    }
+
+    /** Probability of a correct answer at ability {@code theta}. */
+    public double probability(double theta) {
+        return guessing + (1.0 - guessing) / (1.0 + Math.exp(-discrimination * (theta - difficulty)));
+    }
+
+    /** Fisher information of the item at ability {@code theta}. */
+    public double information(double theta) {
+        double p = probability(theta);
+        double ratio = (p - guessing) / (1.0 - guessing);
+        return discrimination * discrimination * ratio * ratio * (1.0 - p) / p;
+    }
+
+    /** Derivative of the response log-likelihood with respect to ability at {@code theta}. */
+    public double score(double theta, boolean correct) {
+        double p = probability(theta);
+        return discrimination * ((correct ? 1.0 : 0.0) - p) * (p - guessing) / (p * (1.0 - guessing));
+    }
+}
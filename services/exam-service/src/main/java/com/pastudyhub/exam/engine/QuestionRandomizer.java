@@ -6,7 +6,10 @@ import com.pastudyhub.exam.model.QuestionCategory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
 
 /**
  * Selects a randomized subset of questions for an exam session.
@@ -14,6 +17,10 @@ import java.util.List;
  * <p>Applies optional category and difficulty filters, then shuffles
  * the result and returns up to the requested count.
  *
+ * <p>{@link #sample} draws from an array of question IDs without touching the rest of
+ * the pool, so exam start cost depends on the number of questions asked for, not the
+ * size of the bank.
+ *
  * <p>Pure domain object — no Spring dependencies.
  */
 public class QuestionRandomizer {
@@ -57,4 +64,33 @@ public class QuestionRandomizer {
                 .filter(Question::isActive)
                 .toList();
     }
+
+    /**
+     * Draws {@code count} distinct elements uniformly at random, in random order.
+     *
+     * <p>A partial Fisher–Yates shuffle over a virtual copy of {@code pool}: only the
+     * positions that get swapped are recorded, in a map, so the pool is never copied and
+     * the cost is O(count) time and space however large the pool is.
+     *
+     * @param pool   candidates; not modified
+     * @param count  how many to draw
+     * @param random source of randomness
+     * @throws IllegalStateException if the pool has fewer than {@code count} elements
+     */
+    public static <T> List<T> sample(T[] pool, int count, RandomGenerator random) {
+        if (pool.length < count) {
+            throw new IllegalStateException(
+                    String.format("Not enough questions: requested %d but only %d available with the given filters",
+                            count, pool.length));
+        }
+        Map<Integer, Integer> swapped = new HashMap<>();
+        List<T> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(pool.length - i);
+            int atJ = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            drawn.add(pool[atJ]);
+        }
+        return drawn;
+    }
 }
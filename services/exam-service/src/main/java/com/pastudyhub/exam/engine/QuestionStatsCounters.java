@@ -0,0 +1,136 @@
+package com.pastudyhub.exam.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Additive response counters for one question, from which its classical item statistics
+ * are derived: difficulty (proportion correct), point-biserial discrimination, mean time
+ * spent and per-option selection counts.
+ *
+ * <p>Every field is a count or a sum, so counters built from disjoint sets of responses
+ * {@link #merge} into the counters of their union — the same totals whether a question's
+ * responses are added one exam at a time or recounted in one pass.
+ *
+ * <p>Discrimination correlates correctness with the examinee's <em>rest score</em>: the
+ * proportion correct on the other questions of the same exam, so the item does not
+ * correlate with itself. Responses from single-question exams have no rest score and
+ * count towards everything but discrimination.
+ *
+ * <p>Not thread-safe.
+ */
+public final class QuestionStatsCounters {
+
+    private long responses;
+    private long correct;
+    private long timedResponses;
+    private long timeSumSeconds;
+    private long scoredResponses;
+    private long scoredCorrect;
+    private double restScoreSum;
+    private double restScoreSquareSum;
+    private double restScoreCorrectSum;
+    private final Map<UUID, Long> optionSelections = new HashMap<>();
+
+    /**
+     * Adds one response.
+     *
+     * @param selectedOptionId the chosen option, or null if skipped
+     * @param isCorrect        whether the response was correct
+     * @param timeSpentSeconds time spent, or null if not reported
+     * @param examCorrect      correct answers in the whole exam, this one included
+     * @param examAnswered     answers in the whole exam, this one included
+     */
+    public void accept(UUID selectedOptionId, boolean isCorrect, Integer timeSpentSeconds,
+                       int examCorrect, int examAnswered) {
+        responses++;
+        if (isCorrect) correct++;
+        if (timeSpentSeconds != null) {
+            timedResponses++;
+            timeSumSeconds += timeSpentSeconds;
+        }
+        if (selectedOptionId != null) {
+            optionSelections.merge(selectedOptionId, 1L, Long::sum);
+        }
+        if (examAnswered > 1) {
+            double rest = (double) (examCorrect - (isCorrect ? 1 : 0)) / (examAnswered - 1);
+            scoredResponses++;
+            restScoreSum += rest;
+            restScoreSquareSum += rest * rest;
+            if (isCorrect) {
+                scoredCorrect++;
+                restScoreCorrectSum += rest;
+            }
+        }
+    }
+
+    /** Adds {@code other}'s responses to these counters. */
+    public void merge(QuestionStatsCounters other) {
+        responses += other.responses;
+        correct += other.correct;
+        timedResponses += other.timedResponses;
+        timeSumSeconds += other.timeSumSeconds;
+        scoredResponses += other.scoredResponses;
+        scoredCorrect += other.scoredCorrect;
+        restScoreSum += other.restScoreSum;
+        restScoreSquareSum += other.restScoreSquareSum;
+        restScoreCorrectSum += other.restScoreCorrectSum;
+        other.optionSelections.forEach((option, count) -> optionSelections.merge(option, count, Long::sum));
+    }
+
+    public long responses() { return responses; }
+
+    public long correct() { return correct; }
+
+    public long timedResponses() { return timedResponses; }
+
+    public long timeSumSeconds() { return timeSumSeconds; }
+
+    /** Responses with a rest score. */
+    public long scoredResponses() { return scoredResponses; }
+
+    /** Correct responses with a rest score. */
+    public long scoredCorrect() { return scoredCorrect; }
+
+    public double restScoreSum() { return restScoreSum; }
+
+    public double restScoreSquareSum() { return restScoreSquareSum; }
+
+    /** Sum of rest scores over correct responses. */
+    public double restScoreCorrectSum() { return restScoreCorrectSum; }
+
+    /** Selections per option ID; skipped responses are not counted. */
+    public Map<UUID, Long> optionSelections() { return optionSelections; }
+
+    /** Proportion of responses that were correct (the classical p-value), or null without responses. */
+    public static Double proportionCorrect(long responses, long correct) {
+        return responses == 0 ? null : (double) correct / responses;
+    }
+
+    /** Mean seconds spent, or null if no response reported its time. */
+    public static Double meanTimeSeconds(long timedResponses, long timeSumSeconds) {
+        return timedResponses == 0 ? null : (double) timeSumSeconds / timedResponses;
+    }
+
+    /**
+     * Point-biserial correlation between correctness and rest score:
+     * {@code (M1 - M) / S * sqrt(p / (1 - p))}, with {@code M1} the mean rest score of
+     * correct responses, {@code M} and {@code S} the mean and standard deviation of all
+     * rest scores, and {@code p} the proportion correct among them.
+     *
+     * @return the correlation, or null when it is undefined — fewer than two scored
+     *         responses, all correct or all wrong, or every rest score the same
+     */
+    public static Double discrimination(long scoredResponses, long scoredCorrect, double restScoreSum,
+                                        double restScoreSquareSum, double restScoreCorrectSum) {
+        if (scoredResponses < 2 || scoredCorrect == 0 || scoredCorrect == scoredResponses) return null;
+        double mean = restScoreSum / scoredResponses;
+        double variance = restScoreSquareSum / scoredResponses - mean * mean;
+        if (variance <= 1e-12) return null;
+        double p = (double) scoredCorrect / scoredResponses;
+        double meanCorrect = restScoreCorrectSum / scoredCorrect;
+        double r = (meanCorrect - mean) / Math.sqrt(variance) * Math.sqrt(p / (1.0 - p));
+        return Math.max(-1.0, Math.min(1.0, r));
+    }
+}
@@ -1,109 +1,174 @@
 package com.pastudyhub.exam.engine;
 
 import com.pastudyhub.exam.model.ExamAnswer;
-import com.pastudyhub.exam.model.ExamSession;
 import com.pastudyhub.exam.model.QuestionCategory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 /**
- * Calculates exam scores from a completed set of exam answers.
+ * Calculates exam scores from a set of exam answers.
+ *
+ * <p>Answers are folded into primitive counters as they are accepted — totals, per-category
+ * counts indexed by {@link QuestionCategory#ordinal()}, and time spent — so every result is
+ * derived from the counters without walking the answers again. Answers can be fed all at
+ * once through the list constructor or one by one with {@link #accept}.
  *
  * <p>This is a pure domain object — no Spring dependencies, fully testable
  * with plain JUnit without a Spring context.
  */
 public class ScoringEngine {
 
-    private final List<ExamAnswer> answers;
+    private static final QuestionCategory[] CATEGORIES = QuestionCategory.values();
+
+    private int total;
+    private int correct;
+    private final int[] categoryTotal = new int[CATEGORIES.length];
+    private final int[] categoryCorrect = new int[CATEGORIES.length];
+    private long timeSpentSeconds;
+    private int timedAnswers;
+    private final List<UUID> incorrectQuestionIds;
+
+    /** An empty engine for incremental scoring with {@link #accept}. */
+    public ScoringEngine() {
+        this.incorrectQuestionIds = new ArrayList<>();
+    }
 
     public ScoringEngine(List<ExamAnswer> answers) {
         if (answers == null || answers.isEmpty()) {
             throw new IllegalArgumentException("Cannot score an exam with no answers");
         }
-        this.answers = answers;
+        this.incorrectQuestionIds = new ArrayList<>(answers.size());
+        for (ExamAnswer answer : answers) {
+            accept(answer);
+        }
+    }
+
+    /**
+     * Adds one answer to the running totals.
+     *
+     * @return this engine, for chaining
+     */
+    public ScoringEngine accept(ExamAnswer answer) {
+        return accept(answer.getQuestion().getCategory(), answer.getQuestion().getId(),
+                answer.isCorrect(), answer.getTimeSpentSeconds());
+    }
+
+    /**
+     * Adds one answer to the running totals without needing the answer entity.
+     *
+     * @param category         the question's category
+     * @param questionId       the question's ID, recorded if the answer is incorrect
+     * @param isCorrect        whether the answer is correct
+     * @param timeSpentSeconds seconds spent on the question, or null if not reported
+     * @return this engine, for chaining
+     */
+    public ScoringEngine accept(QuestionCategory category, UUID questionId, boolean isCorrect,
+                                Integer timeSpentSeconds) {
+        int c = category.ordinal();
+        total++;
+        categoryTotal[c]++;
+        if (isCorrect) {
+            correct++;
+            categoryCorrect[c]++;
+        } else {
+            incorrectQuestionIds.add(questionId);
+        }
+        if (timeSpentSeconds != null) {
+            this.timeSpentSeconds += timeSpentSeconds;
+            timedAnswers++;
+        }
+        return this;
+    }
+
+    /** Number of answers accepted so far. */
+    public int answerCount() {
+        return total;
     }
 
     /**
      * Calculates the total number of correct answers.
      */
     public int calculateRawScore() {
-        return (int) answers.stream().filter(ExamAnswer::isCorrect).count();
+        return correct;
     }
 
     /**
      * Calculates score as a percentage (0.0–100.0), rounded to 1 decimal.
      */
     public double calculateScorePercent() {
-        if (answers.isEmpty()) return 0.0;
-        double percent = (double) calculateRawScore() / answers.size() * 100.0;
-        return Math.round(percent * 10.0) / 10.0;
+        return percent(correct, total);
     }
 
     /**
-     * Returns a map of category -> percentage correct for that category.
+     * Returns a map of category -> percentage correct for that category, in category order.
      * Only includes categories that appear in the answer set.
      */
     public Map<String, Double> calculateCategoryBreakdown() {
-        Map<QuestionCategory, List<ExamAnswer>> byCategory = answers.stream()
-                .collect(Collectors.groupingBy(a -> a.getQuestion().getCategory()));
-
-        return byCategory.entrySet().stream()
-                .collect(Collectors.toMap(
-                        e -> e.getKey().name(),
-                        e -> {
-                            long correct = e.getValue().stream().filter(ExamAnswer::isCorrect).count();
-                            double pct = (double) correct / e.getValue().size() * 100.0;
-                            return Math.round(pct * 10.0) / 10.0;
-                        }
-                ));
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            if (categoryTotal[c] > 0) {
+                breakdown.put(CATEGORIES[c].name(), percent(categoryCorrect[c], categoryTotal[c]));
+            }
+        }
+        return breakdown;
     }
 
     /**
      * Returns a human-readable performance band.
      */
     public PerformanceBand getPerformanceBand() {
-        double pct = calculateScorePercent();
-        if (pct >= 80) return PerformanceBand.EXCELLENT;
-        if (pct >= 70) return PerformanceBand.GOOD;
-        if (pct >= 60) return PerformanceBand.PASSING;
-        return PerformanceBand.NEEDS_IMPROVEMENT;
+        return band(calculateScorePercent());
     }
 
     /**
      * Calculates the average time spent per question in seconds.
      */
     public double calculateAvgTimePerQuestion() {
-        return answers.stream()
-                .filter(a -> a.getTimeSpentSeconds() != null)
-                .mapToInt(ExamAnswer::getTimeSpentSeconds)
-                .average()
-                .orElse(0.0);
+        return timedAnswers == 0 ? 0.0 : (double) timeSpentSeconds / timedAnswers;
     }
 
     /**
      * Returns IDs of questions answered incorrectly, for AI explanation feature.
      */
-    public List<java.util.UUID> getIncorrectQuestionIds() {
-        return answers.stream()
-                .filter(a -> !a.isCorrect())
-                .map(a -> a.getQuestion().getId())
-                .collect(Collectors.toList());
+    public List<UUID> getIncorrectQuestionIds() {
+        return List.copyOf(incorrectQuestionIds);
     }
 
     /**
-     * Builds a complete ScoreResult record from all calculations.
+     * Builds a complete ScoreResult record from the accumulated counters.
+     *
+     * @throws IllegalStateException if no answers have been accepted
      */
     public ScoreResult calculate() {
+        if (total == 0) {
+            throw new IllegalStateException("Cannot score an exam with no answers");
+        }
+        double scorePercent = calculateScorePercent();
         return new ScoreResult(
-                calculateRawScore(),
-                answers.size(),
-                calculateScorePercent(),
+                correct,
+                total,
+                scorePercent,
                 calculateCategoryBreakdown(),
-                getPerformanceBand(),
+                band(scorePercent),
                 calculateAvgTimePerQuestion(),
                 getIncorrectQuestionIds()
         );
     }
+
+    private static PerformanceBand band(double pct) {
+        if (pct >= 80) return PerformanceBand.EXCELLENT;
+        if (pct >= 70) return PerformanceBand.GOOD;
+        if (pct >= 60) return PerformanceBand.PASSING;
+        return PerformanceBand.NEEDS_IMPROVEMENT;
+    }
+
+    private static double percent(int part, int whole) {
+        if (whole == 0) return 0.0;
+        double percent = (double) part / whole * 100.0;
+        return Math.round(percent * 10.0) / 10.0;
+    }
 }
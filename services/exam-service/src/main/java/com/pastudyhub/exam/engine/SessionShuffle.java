@@ -0,0 +1,63 @@
+package com.pastudyhub.exam.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reproducible per-session shuffles derived from a 64-bit session seed, so a shuffled
+ * order never has to be stored: it is recomputed whenever the session is shown.
+ *
+ * <p>The order of one question's items is a Fisher–Yates shuffle driven by a
+ * counter-based generator — the SplitMix64 finalizer applied to a key mixed from the
+ * seed and the question ID, plus the step number. Every step is a pure function of
+ * (seed, questionId, step), so the same session always gets the same order, different
+ * questions of a session get independent orders, and no generator state is kept.
+ */
+public final class SessionShuffle {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SessionShuffle() {}
+
+    /**
+     * A permutation of {@code 0 … size-1}: position {@code i} of the shuffled order holds
+     * the item at index {@code permutation[i]} of the original order.
+     */
+    public static int[] permutation(long seed, UUID key, int size) {
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        long stream = mix(seed ^ mix(key.getMostSignificantBits() + GOLDEN_GAMMA) ^ key.getLeastSignificantBits());
+        for (int i = size - 1; i > 0; i--) {
+            int j = bounded(mix(stream + i * GOLDEN_GAMMA), i + 1);
+            int swap = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = swap;
+        }
+        return permutation;
+    }
+
+    /** The items in the order given by {@link #permutation} for this seed and key. */
+    public static <T> List<T> shuffle(List<T> items, long seed, UUID key) {
+        int[] permutation = permutation(seed, key, items.size());
+        List<T> shuffled = new ArrayList<>(items.size());
+        for (int index : permutation) {
+            shuffled.add(items.get(index));
+        }
+        return shuffled;
+    }
+
+    /** SplitMix64 finalizer: a bijective 64-bit mix with full avalanche. */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Maps 64 random bits to {@code [0, bound)} by multiplying their high half. */
+    private static int bounded(long bits, int bound) {
+        return (int) (((bits >>> 32) * bound) >>> 32);
+    }
+}
@@ -0,0 +1,9 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AdminRoleRequiredException extends StudyHubException {
+    public AdminRoleRequiredException() {
+        super("This operation requires the ADMIN role", HttpStatus.FORBIDDEN);
+    }
+}
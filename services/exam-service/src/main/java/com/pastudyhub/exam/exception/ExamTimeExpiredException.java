@@ -0,0 +1,11 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class ExamTimeExpiredException extends StudyHubException {
+    public ExamTimeExpiredException(UUID sessionId) {
+        super("Time limit has run out for exam session: " + sessionId, HttpStatus.CONFLICT);
+    }
+}
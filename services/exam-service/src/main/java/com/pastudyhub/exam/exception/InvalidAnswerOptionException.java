@@ -0,0 +1,11 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class InvalidAnswerOptionException extends StudyHubException {
+    public InvalidAnswerOptionException(UUID optionId, UUID questionId) {
+        super("Answer option " + optionId + " does not belong to question " + questionId, HttpStatus.BAD_REQUEST);
+    }
+}
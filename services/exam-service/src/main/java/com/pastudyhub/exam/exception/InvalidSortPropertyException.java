@@ -0,0 +1,11 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Collection;
+
+public class InvalidSortPropertyException extends StudyHubException {
+    public InvalidSortPropertyException(String property, Collection<String> allowed) {
+        super("Cannot sort by '" + property + "'; expected one of " + allowed, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class NoMoreQuestionsException extends StudyHubException {
+    public NoMoreQuestionsException(UUID sessionId) {
+        super("Every question has been answered — exam session is ready to complete: " + sessionId,
+                HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,9 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class QuestionImportException extends StudyHubException {
+    public QuestionImportException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,11 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class QuestionNotInSessionException extends StudyHubException {
+    public QuestionNotInSessionException(UUID sessionId, UUID questionId) {
+        super("Question " + questionId + " is not part of exam session " + sessionId, HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,11 @@
+package com.pastudyhub.exam.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class QuestionStatsNotFoundException extends StudyHubException {
+    public QuestionStatsNotFoundException(UUID questionId) {
+        super("No statistics recorded for question: " + questionId, HttpStatus.NOT_FOUND);
+    }
+}
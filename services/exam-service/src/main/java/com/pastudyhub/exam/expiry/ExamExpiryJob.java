@@ -0,0 +1,84 @@
+package com.pastudyhub.exam.expiry;
+
+import com.pastudyhub.exam.model.ExamSession;
+import com.pastudyhub.exam.repository.ExamSessionRepository;
+import com.pastudyhub.exam.service.ExamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Times out in-progress exams whose time limit has run out.
+ *
+ * <p>Every {@code exam.expiry.tick-ms} the {@link ExamExpiryScheduler} wheel advances and
+ * each session it returns is scored and closed by {@link ExamService#expireExam}. The
+ * cost of a tick depends on the sessions expiring, not on how many are running.
+ *
+ * <p>The wheel lives in memory, so deadlines of sessions started before a restart or on
+ * another instance are recovered by a sweep every {@code exam.expiry.sweep-interval-ms},
+ * starting at startup: it walks in-progress timed sessions in ID order, a page at a time,
+ * and schedules each. Expiring a session twice is harmless — the second attempt finds it
+ * closed.
+ */
+@Slf4j
+@Component
+public class ExamExpiryJob {
+
+    /** Sessions read per sweep query. */
+    private static final int SWEEP_PAGE = 500;
+
+    private final ExamExpiryScheduler examExpiryScheduler;
+    private final ExamSessionRepository examSessionRepository;
+    private final ExamService examService;
+
+    public ExamExpiryJob(ExamExpiryScheduler examExpiryScheduler,
+                         ExamSessionRepository examSessionRepository,
+                         ExamService examService) {
+        this.examExpiryScheduler = examExpiryScheduler;
+        this.examSessionRepository = examSessionRepository;
+        this.examService = examService;
+    }
+
+    /** Expires the sessions whose deadline passed since the last tick. */
+    @Scheduled(fixedDelayString = "${exam.expiry.tick-ms:1000}")
+    public void tick() {
+        List<UUID> due = examExpiryScheduler.due(System.currentTimeMillis());
+        int expired = 0;
+        for (UUID sessionId : due) {
+            try {
+                if (examService.expireExam(sessionId)) expired++;
+            } catch (RuntimeException ex) {
+                // Left in progress; the next sweep schedules it again
+                log.warn("Could not expire exam session {}: {}", sessionId, ex.getMessage());
+            }
+        }
+        if (expired > 0) {
+            log.info("Exam sessions timed out: {}", expired);
+        }
+    }
+
+    /** Schedules the deadline of every in-progress timed session. */
+    @Scheduled(fixedDelayString = "${exam.expiry.sweep-interval-ms:600000}")
+    public void sweep() {
+        long started = System.nanoTime();
+        int scheduled = 0;
+        UUID after = new UUID(0L, 0L);
+        for (List<ExamSession> page = nextPage(after); !page.isEmpty(); page = nextPage(after)) {
+            for (ExamSession session : page) {
+                examExpiryScheduler.schedule(session.getId(), session.expiresAt());
+            }
+            scheduled += page.size();
+            after = page.get(page.size() - 1).getId();
+        }
+        log.info("Exam expiry sweep: scheduled={}, took={}ms", scheduled, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<ExamSession> nextPage(UUID after) {
+        return examSessionRepository.findTimedInProgressAfter(after, PageRequest.ofSize(SWEEP_PAGE));
+    }
+}
@@ -0,0 +1,79 @@
+package com.pastudyhub.exam.expiry;
+
+import com.pastudyhub.exam.model.ExamSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deadlines of this instance's in-progress timed exams, kept in a {@link TimingWheel}
+ * with {@code exam.expiry.tick-ms} ticks. {@link ExamExpiryJob} advances it and expires
+ * the sessions it returns.
+ *
+ * <p>Sessions are scheduled and cancelled only once the transaction that started or
+ * finished them commits, so a rolled-back start never expires and a rolled-back
+ * completion keeps its deadline.
+ */
+@Component
+public class ExamExpiryScheduler {
+
+    /** Slots per wheel level: 64³ ticks, about three days at one-second ticks. */
+    private static final int WHEEL_SIZE = 64;
+
+    private final TimingWheel<UUID> wheel;
+
+    public ExamExpiryScheduler(@Value("${exam.expiry.tick-ms:1000}") long tickMillis) {
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /** Schedules the session's deadline after the current transaction commits; untimed sessions are ignored. */
+    public void examStarted(ExamSession session) {
+        LocalDateTime expiresAt = session.expiresAt();
+        if (expiresAt == null) return;
+        UUID sessionId = session.getId();
+        afterCommit(() -> schedule(sessionId, expiresAt));
+    }
+
+    /** Drops the session's deadline after the current transaction commits. */
+    public void examFinished(UUID sessionId) {
+        afterCommit(() -> cancel(sessionId));
+    }
+
+    /** Schedules or reschedules a deadline; one already passed expires on the next tick. */
+    public synchronized void schedule(UUID sessionId, LocalDateTime expiresAt) {
+        wheel.schedule(sessionId, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public synchronized void cancel(UUID sessionId) {
+        wheel.cancel(sessionId);
+    }
+
+    /** Sessions whose deadline has passed since the last call. */
+    public synchronized List<UUID> due(long nowMillis) {
+        return wheel.advance(nowMillis);
+    }
+
+    /** Number of sessions waiting for their deadline. */
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package com.pastudyhub.exam.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: {@value #LEVELS} wheels of {@code wheelSize} slots, each
+ * slot of a level spanning a full turn of the level below. A key is placed in the
+ * coarsest level its delay needs and moves down a level each time the wheel below it
+ * wraps, reaching the finest level in its last turn.
+ *
+ * <p>Scheduling and cancelling are O(1); slots are intrusive doubly linked lists and keys
+ * are found through a hash map. Each tick touches one slot of the finest wheel, plus one
+ * slot of a coarser wheel when the one below wraps — independent of how many keys are
+ * scheduled. Delays beyond the top level's range are parked in its farthest slot and
+ * re-placed from there.
+ *
+ * <p>Not thread-safe.
+ */
+public final class TimingWheel<K> {
+
+    static final int LEVELS = 3;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    /** Ticks per slot of each level: 1, wheelSize, wheelSize². */
+    private final long[] span = new long[LEVELS];
+    private final Node<K>[][] slots;
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    /** Keys scheduled at or before the current tick, returned by the next {@link #advance}. */
+    private final List<K> overdue = new ArrayList<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        @SuppressWarnings("unchecked")
+        Node<K>[][] slots = (Node<K>[][]) new Node<?>[LEVELS][wheelSize];
+        this.slots = slots;
+        span[0] = 1;
+        for (int level = 1; level < LEVELS; level++) {
+            span[level] = span[level - 1] * wheelSize;
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /** Schedules the key to expire at the given time, replacing any earlier schedule. */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        Node<K> node = new Node<>(key, deadlineTick);
+        nodes.put(key, node);
+        place(node);
+    }
+
+    /** @return whether the key was scheduled */
+    public boolean cancel(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) return false;
+        if (node.level < 0) {
+            overdue.remove(key);
+        } else {
+            unlink(node);
+        }
+        return true;
+    }
+
+    /** Moves the wheel up to the given time and returns the keys that expired, each once. */
+    public List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>(overdue);
+        overdue.clear();
+        expired.forEach(nodes::remove);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade coarser slots whose turn starts now, top level first
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if (currentTick % span[level] == 0) {
+                    for (Node<K> node : drain(level, slotIndex(level, currentTick))) {
+                        place(node);
+                    }
+                }
+            }
+            for (Node<K> node : drain(0, slotIndex(0, currentTick))) {
+                nodes.remove(node.key);
+                expired.add(node.key);
+            }
+            // Keys placed back in the overdue list while cascading
+            if (!overdue.isEmpty()) {
+                overdue.forEach(nodes::remove);
+                expired.addAll(overdue);
+                overdue.clear();
+            }
+        }
+        return expired;
+    }
+
+    /** Number of scheduled keys. */
+    public int size() {
+        return nodes.size();
+    }
+
+    private void place(Node<K> node) {
+        long delay = node.deadlineTick - currentTick;
+        if (delay <= 0) {
+            node.level = -1;
+            overdue.add(node.key);
+            return;
+        }
+        long tick = node.deadlineTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= span[level + 1]) {
+            level++;
+        }
+        if (delay >= span[LEVELS - 1] * wheelSize) {
+            tick = currentTick + span[LEVELS - 1] * wheelSize - 1;
+        }
+        link(node, level, slotIndex(level, tick));
+    }
+
+    private int slotIndex(int level, long tick) {
+        return (int) Math.floorMod(tick / span[level], (long) wheelSize);
+    }
+
+    private void link(Node<K> node, int level, int slot) {
+        node.level = level;
+        node.slot = slot;
+        node.prev = null;
+        node.next = slots[level][slot];
+        if (node.next != null) node.next.prev = node;
+        slots[level][slot] = node;
+    }
+
+    private void unlink(Node<K> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[node.level][node.slot] = node.next;
+        }
+        if (node.next != null) node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    private List<Node<K>> drain(int level, int slot) {
+        List<Node<K>> drained = new ArrayList<>();
+        for (Node<K> node = slots[level][slot]; node != null; ) {
+            Node<K> next = node.next;
+            node.prev = null;
+            node.next = null;
+            drained.add(node);
+            node = next;
+        }
+        slots[level][slot] = null;
+        return drained;
+    }
+
+    private static final class Node<K> {
+        final K key;
+        final long deadlineTick;
+        int level;
+        int slot;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
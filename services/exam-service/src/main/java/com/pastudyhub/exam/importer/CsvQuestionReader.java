@@ -0,0 +1,125 @@
+package com.pastudyhub.exam.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row. Columns are found by name, in any order:
+ * {@code external_key, stem, clinical_vignette, category, difficulty, explanation},
+ * {@code option_a} … {@code option_e} (blank or missing options are left out) and
+ * {@code correct_option}, the letter of the correct option. Quoted fields may contain
+ * commas, doubled quotes and line breaks.
+ */
+public class CsvQuestionReader implements QuestionRecordReader {
+
+    private static final String[] OPTION_COLUMNS = {"option_a", "option_b", "option_c", "option_d", "option_e"};
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    /** Line the reader is on, from 1. */
+    private long line = 1;
+
+    public CsvQuestionReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public ParsedQuestion next() throws IOException {
+        if (columns == null) {
+            List<String> header = readRow();
+            if (header == null) return null;
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        List<String> row;
+        long start;
+        do {
+            start = line;
+            row = readRow();
+            if (row == null) return null;
+        } while (row.size() == 1 && row.get(0).isBlank());
+        return ParsedQuestion.parsed(start, toRecord(row));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private QuestionImportRecord toRecord(List<String> row) {
+        String correct = field(row, "correct_option");
+        List<QuestionImportRecord.Option> options = new ArrayList<>();
+        for (int i = 0; i < OPTION_COLUMNS.length; i++) {
+            String text = field(row, OPTION_COLUMNS[i]);
+            if (text == null || text.isBlank()) continue;
+            boolean isCorrect = correct != null && correct.strip().equalsIgnoreCase(String.valueOf((char) ('A' + i)));
+            options.add(new QuestionImportRecord.Option(text, isCorrect));
+        }
+        return new QuestionImportRecord(
+                field(row, "external_key"),
+                field(row, "stem"),
+                field(row, "clinical_vignette"),
+                field(row, "category"),
+                field(row, "difficulty"),
+                field(row, "explanation"),
+                options);
+    }
+
+    private String field(List<String> row, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= row.size() ? null : row.get(index);
+    }
+
+    /** The fields of the next row, or null at the end of the input. */
+    private List<String> readRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    break; // unterminated quote: keep what was read
+                } else if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                if (c != -1) line++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
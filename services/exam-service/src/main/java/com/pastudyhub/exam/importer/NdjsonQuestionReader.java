@@ -0,0 +1,46 @@
+package com.pastudyhub.exam.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Newline-delimited JSON: one {@link QuestionImportRecord} object per line, options as
+ * {@code [{"text": ..., "correct": true}, ...]}. Blank lines are skipped; a line that is
+ * not a valid object is reported and reading continues with the next.
+ */
+public class NdjsonQuestionReader implements QuestionRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long line;
+
+    public NdjsonQuestionReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.objectReader = objectMapper.readerFor(QuestionImportRecord.class);
+    }
+
+    @Override
+    public ParsedQuestion next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) return null;
+            line++;
+        } while (text.isBlank());
+        try {
+            return ParsedQuestion.parsed(line, objectReader.readValue(text));
+        } catch (JsonProcessingException ex) {
+            return ParsedQuestion.malformed(line, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.pastudyhub.exam.importer;
+
+/**
+ * A record read from an import file: either the question or why it could not be parsed.
+ *
+ * @param line   line of the file the record starts on, from 1
+ * @param record the question, or null if the record was malformed
+ * @param error  the parse error, or null
+ */
+public record ParsedQuestion(long line, QuestionImportRecord record, String error) {
+
+    static ParsedQuestion parsed(long line, QuestionImportRecord record) {
+        return new ParsedQuestion(line, record, null);
+    }
+
+    static ParsedQuestion malformed(long line, String error) {
+        return new ParsedQuestion(line, null, error);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pastudyhub.exam.importer;
+
+import com.pastudyhub.exam.model.AnswerOption;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.Question;
+import com.pastudyhub.exam.model.QuestionCategory;
+
+import java.util.List;
+
+/**
+ * One question as it appears in an import file, before validation. Category and
+ * difficulty are kept as text so an unknown value is reported, not a parse failure.
+ *
+ * @param externalKey the importing program's stable ID for the question
+ * @param options     answer options in display order
+ */
+public record QuestionImportRecord(
+        String externalKey,
+        String stem,
+        String clinicalVignette,
+        String category,
+        String difficulty,
+        String explanation,
+        List<Option> options) {
+
+    public record Option(String text, boolean correct) {}
+
+    /** A new active question with its options. Call only for a record that passed validation. */
+    public Question toQuestion() {
+        Question question = Question.builder()
+                .externalKey(externalKey.strip())
+                .stem(stem)
+                .clinicalVignette(clinicalVignette == null || clinicalVignette.isBlank() ? null : clinicalVignette)
+                .category(QuestionCategory.valueOf(category.strip()))
+                .difficulty(DifficultyLevel.valueOf(difficulty.strip()))
+                .explanation(explanation)
+                .isActive(true)
+                .build();
+        for (int i = 0; i < options.size(); i++) {
+            question.getAnswerOptions().add(AnswerOption.builder()
+                    .question(question)
+                    .text(options.get(i).text())
+                    .isCorrect(options.get(i).correct())
+                    .orderIndex(i)
+                    .build());
+        }
+        return question;
+    }
+}
@@ -0,0 +1,74 @@
+package com.pastudyhub.exam.importer;
+
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks an import record against the constraints of {@code Question} and
+ * {@code AnswerOption}: required fields, column lengths, known category and difficulty,
+ * two to five options with exactly one correct.
+ *
+ * <p>Stateless and thread-safe, so a batch of records can be validated in parallel.
+ */
+public final class QuestionImportValidator {
+
+    static final int EXTERNAL_KEY_LENGTH = 100;
+    static final int STEM_LENGTH = 3000;
+    static final int VIGNETTE_LENGTH = 1000;
+    static final int EXPLANATION_LENGTH = 2000;
+    static final int OPTION_LENGTH = 1000;
+    static final int MIN_OPTIONS = 2;
+    static final int MAX_OPTIONS = 5;
+
+    private QuestionImportValidator() {}
+
+    /** @return every problem with the record; empty if it can be imported */
+    public static List<String> validate(QuestionImportRecord record) {
+        List<String> errors = new ArrayList<>();
+        required(errors, "externalKey", record.externalKey(), EXTERNAL_KEY_LENGTH);
+        required(errors, "stem", record.stem(), STEM_LENGTH);
+        required(errors, "explanation", record.explanation(), EXPLANATION_LENGTH);
+        if (record.clinicalVignette() != null && record.clinicalVignette().length() > VIGNETTE_LENGTH) {
+            errors.add("clinicalVignette is longer than " + VIGNETTE_LENGTH + " characters");
+        }
+        enumValue(errors, "category", record.category(), QuestionCategory.class);
+        enumValue(errors, "difficulty", record.difficulty(), DifficultyLevel.class);
+
+        List<QuestionImportRecord.Option> options = record.options() == null ? List.of() : record.options();
+        if (options.size() < MIN_OPTIONS || options.size() > MAX_OPTIONS) {
+            errors.add("expected " + MIN_OPTIONS + " to " + MAX_OPTIONS + " options, got " + options.size());
+        }
+        long correct = options.stream().filter(QuestionImportRecord.Option::correct).count();
+        if (correct != 1) {
+            errors.add("expected exactly one correct option, got " + correct);
+        }
+        for (int i = 0; i < options.size(); i++) {
+            required(errors, "options[" + i + "].text", options.get(i).text(), OPTION_LENGTH);
+        }
+        return errors;
+    }
+
+    private static void required(List<String> errors, String field, String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            errors.add(field + " is required");
+        } else if (value.length() > maxLength) {
+            errors.add(field + " is longer than " + maxLength + " characters");
+        }
+    }
+
+    private static <E extends Enum<E>> void enumValue(List<String> errors, String field, String value, Class<E> type) {
+        if (value == null || value.isBlank()) {
+            errors.add(field + " is required");
+            return;
+        }
+        try {
+            Enum.valueOf(type, value.strip());
+        } catch (IllegalArgumentException ex) {
+            errors.add(field + " must be one of " + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.pastudyhub.exam.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** Reads import records one at a time, so a file is never held in memory whole. */
+public interface QuestionRecordReader extends Closeable {
+
+    /** The next record, or null at the end of the input. */
+    ParsedQuestion next() throws IOException;
+}
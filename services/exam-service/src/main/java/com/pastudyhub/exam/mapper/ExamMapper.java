@@ -1,43 +1,124 @@
 package com.pastudyhub.exam.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pastudyhub.exam.bank.BankedOption;
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.bank.QuestionBankCache;
 import com.pastudyhub.exam.dto.*;
 import com.pastudyhub.exam.engine.PerformanceBand;
 import com.pastudyhub.exam.engine.ScoreResult;
+import com.pastudyhub.exam.engine.SessionShuffle;
 import com.pastudyhub.exam.model.*;
+import com.pastudyhub.exam.search.Highlighter;
+import com.pastudyhub.exam.search.QuestionSearchIndex;
+import com.pastudyhub.exam.search.SearchQuery;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Manual mapper for exam domain objects. No MapStruct to keep dependencies minimal.
+ *
+ * <p>Question content comes from the in-memory {@link QuestionBankCache}, not from the
+ * {@code Question} entities, so mapping never loads questions or options.
  */
 @Component
+@RequiredArgsConstructor
 public class ExamMapper {
 
-    public AnswerOptionResponse toAnswerOptionResponse(AnswerOption option, boolean revealAnswer) {
+    private static final TypeReference<List<QuestionResponse>> QUESTION_LIST = new TypeReference<>() {};
+    /** Approximate characters of source text per search highlight fragment. */
+    private static final int HIGHLIGHT_LENGTH = 160;
+
+    private final ObjectMapper objectMapper;
+    private final QuestionBankCache questionBankCache;
+
+    public AnswerOptionResponse toAnswerOptionResponse(BankedOption option, boolean revealAnswer) {
         return AnswerOptionResponse.builder()
-                .id(option.getId())
-                .text(option.getText())
-                .orderIndex(option.getOrderIndex())
-                .isCorrect(revealAnswer ? option.isCorrect() : null)
+                .id(option.id())
+                .text(option.text())
+                .orderIndex(option.orderIndex())
+                .isCorrect(revealAnswer ? option.correct() : null)
                 .build();
     }
 
-    public QuestionResponse toQuestionResponse(Question question, boolean revealAnswer) {
+    public QuestionResponse toQuestionResponse(BankedQuestion question, boolean revealAnswer) {
         return QuestionResponse.builder()
-                .id(question.getId())
-                .stem(question.getStem())
-                .clinicalVignette(question.getClinicalVignette())
-                .category(question.getCategory())
-                .difficulty(question.getDifficulty())
-                .explanation(revealAnswer ? question.getExplanation() : null)
-                .answerOptions(question.getAnswerOptions().stream()
+                .id(question.id())
+                .stem(question.stem())
+                .clinicalVignette(question.clinicalVignette())
+                .category(question.category())
+                .difficulty(question.difficulty())
+                .explanation(revealAnswer ? question.explanation() : null)
+                .answerOptions(question.options().stream()
                         .map(opt -> toAnswerOptionResponse(opt, revealAnswer))
                         .toList())
                 .build();
     }
 
-    public ExamSessionResponse toSessionResponse(ExamSession session, List<Question> questions, int answeredCount) {
+    /** Questions as shown during an exam — correct answers and explanations never included. */
+    public List<QuestionResponse> toExamQuestions(List<BankedQuestion> questions) {
+        return questions.stream()
+                .map(q -> toQuestionResponse(q, false))
+                .toList();
+    }
+
+    /** Serializes an exam's question set for {@link ExamSessionSnapshot}. */
+    public String writeSnapshot(List<QuestionResponse> questions) {
+        try {
+            return objectMapper.writeValueAsString(questions);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize exam question snapshot", ex);
+        }
+    }
+
+    public List<QuestionResponse> readSnapshot(ExamSessionSnapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.getQuestionsJson(), QUESTION_LIST);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(
+                    "Corrupt question snapshot for exam session " + snapshot.getExamSessionId(), ex);
+        }
+    }
+
+    /**
+     * Serializes and gzips a finished exam's result for {@link ExamResultSnapshot}. The ETag
+     * is derived from the compressed bytes, so it changes only if the stored payload does.
+     */
+    public StoredExamResult writeResult(ExamResultResponse result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, result);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not serialize result of exam session " + result.getSessionId(), ex);
+        }
+        byte[] payload = bytes.toByteArray();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(payload);
+            return new StoredExamResult(HexFormat.of().formatHex(digest, 0, 16), payload);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public ExamSessionResponse toSessionResponse(ExamSession session, List<QuestionResponse> questions,
+                                                 int answeredCount) {
         return ExamSessionResponse.builder()
                 .id(session.getId())
                 .userId(session.getUserId())
@@ -49,24 +130,64 @@ public class ExamMapper {
                 .startedAt(session.getStartedAt())
                 .completedAt(session.getCompletedAt())
                 .questions(questions.stream()
-                        .map(q -> toQuestionResponse(q, false))  // never reveal during exam
+                        .map(question -> inSessionOrder(session, question))
                         .toList())
                 .answeredCount(answeredCount)
+                .adaptive(session.isAdaptive())
+                .abilityEstimate(session.getAbilityEstimate())
+                .abilityStandardError(session.getAbilityPrecision() != null
+                        ? 1.0 / Math.sqrt(session.getAbilityPrecision()) : null)
+                .build();
+    }
+
+    /** Feedback for one answer plus the running score — no other questions included. */
+    public AnswerResponse toAnswerResponse(ExamSession session, BankedQuestion question, boolean correct,
+                                           NextQuestionResponse next) {
+        BankedOption correctOption = question.correctOption();
+        return AnswerResponse.builder()
+                .questionId(question.id())
+                .isCorrect(correct)
+                .correctOptionId(correctOption != null ? correctOption.id() : null)
+                .explanation(question.explanation())
+                .runningScore(new RunningScore(session.getCorrectCount(), session.getAnsweredCount()))
+                .answeredCount(session.getAnsweredCount())
+                .questionCount(session.getQuestionCount())
+                .next(next)
                 .build();
     }
 
-    public ExamAnswerDetailResponse toAnswerDetail(ExamAnswer answer) {
-        Question q = answer.getQuestion();
+    /**
+     * @param position zero-based position of the question in the exam
+     * @param now      current time, for the remaining time of timed exams
+     */
+    public NextQuestionResponse toNextQuestionResponse(ExamSession session, BankedQuestion question, int position,
+                                                       LocalDateTime now) {
+        Integer remaining = null;
+        if (session.getTimeLimitMinutes() > 0) {
+            long elapsed = ChronoUnit.SECONDS.between(session.getStartedAt(), now);
+            remaining = (int) Math.max(0, session.getTimeLimitMinutes() * 60L - elapsed);
+        }
+        return NextQuestionResponse.builder()
+                .question(inSessionOrder(session, toQuestionResponse(question, false)))
+                .questionNumber(position + 1)
+                .totalQuestions(session.getQuestionCount())
+                .timeRemainingSeconds(remaining)
+                .build();
+    }
+
+    /** One answer of a finished exam, options in the order the session showed them. */
+    public ExamAnswerDetailResponse toAnswerDetail(ExamSession session, ExamAnswer answer) {
+        BankedQuestion q = bankedQuestion(answer.getQuestion());
         return ExamAnswerDetailResponse.builder()
-                .questionId(q.getId())
-                .stem(q.getStem())
-                .clinicalVignette(q.getClinicalVignette())
-                .answerOptions(q.getAnswerOptions().stream()
+                .questionId(q.id())
+                .stem(q.stem())
+                .clinicalVignette(q.clinicalVignette())
+                .answerOptions(inSessionOrder(session, q.id(), q.options().stream()
                         .map(opt -> toAnswerOptionResponse(opt, true))
-                        .toList())
+                        .toList()))
                 .selectedOptionId(answer.getSelectedOption() != null ? answer.getSelectedOption().getId() : null)
                 .isCorrect(answer.isCorrect())
-                .explanation(q.getExplanation())
+                .explanation(q.explanation())
                 .timeSpentSeconds(answer.getTimeSpentSeconds())
                 .build();
     }
@@ -86,11 +207,137 @@ public class ExamMapper {
                 .durationSeconds(session.getDurationSeconds())
                 .completedAt(session.getCompletedAt())
                 .answerDetails(answers.stream()
-                        .map(this::toAnswerDetail)
+                        .map(answer -> toAnswerDetail(session, answer))
                         .toList())
                 .build();
     }
 
+    /**
+     * The question with its options in the session's shuffled order. Questions are stored
+     * and snapshotted in authored order; the order shown is recomputed from the session
+     * seed every time, so it is the same on every reload.
+     */
+    private static QuestionResponse inSessionOrder(ExamSession session, QuestionResponse question) {
+        if (session.getShuffleSeed() == null || question.getAnswerOptions() == null) return question;
+        return question.toBuilder()
+                .answerOptions(inSessionOrder(session, question.getId(), question.getAnswerOptions()))
+                .build();
+    }
+
+    private static List<AnswerOptionResponse> inSessionOrder(ExamSession session, UUID questionId,
+                                                             List<AnswerOptionResponse> options) {
+        if (session.getShuffleSeed() == null) return options;
+        List<AnswerOptionResponse> shuffled = SessionShuffle.shuffle(options, session.getShuffleSeed(), questionId);
+        List<AnswerOptionResponse> numbered = new ArrayList<>(shuffled.size());
+        for (int i = 0; i < shuffled.size(); i++) {
+            AnswerOptionResponse option = shuffled.get(i);
+            numbered.add(new AnswerOptionResponse(option.getId(), option.getText(), i, option.getIsCorrect()));
+        }
+        return numbered;
+    }
+
+    /**
+     * The banked copy of a question. Reading the ID does not initialize the lazy
+     * reference; only a question added on another instance since this bank was
+     * loaded falls back to the entity.
+     */
+    public BankedQuestion bankedQuestion(Question question) {
+        BankedQuestion banked = questionBankCache.current().question(question.getId());
+        return banked != null ? banked : BankedQuestion.from(question);
+    }
+
+    public ExamStatsResponse toStatsResponse(UserExamStats stats) {
+        List<Double> recent = stats.getRecentScoreList();
+        Double average = round(stats.getAverageScorePercent());
+        Double recentAverage = recent.isEmpty() ? null
+                : round(recent.stream().mapToDouble(Double::doubleValue).average().orElse(0));
+        Map<String, CategoryStatsResponse> breakdown = new LinkedHashMap<>();
+        new TreeMap<>(stats.getCategoryStats()).forEach((category, tally) ->
+                breakdown.put(category.name(), CategoryStatsResponse.builder()
+                        .correct(tally.getCorrect())
+                        .total(tally.getAnswered())
+                        .percentCorrect(tally.getAnswered() == 0 ? 0.0
+                                : round(100.0 * tally.getCorrect() / tally.getAnswered()))
+                        .build()));
+        return ExamStatsResponse.builder()
+                .userId(stats.getUserId())
+                .attempts(stats.getAttempts())
+                .completedCount(stats.getCompletedCount())
+                .averageScorePercent(average)
+                .bestScorePercent(stats.getBestScorePercent())
+                .recentScores(recent)
+                .recentAverageScorePercent(recentAverage)
+                .trend(average == null ? null : round(recentAverage - average))
+                .categoryBreakdown(breakdown)
+                .build();
+    }
+
+    /**
+     * Item statistics of a question; stem and options come from the bank, so a question
+     * deleted since it was answered has neither.
+     *
+     * @param withOptions whether to include per-option selection rates
+     */
+    public QuestionStatsResponse toQuestionStatsResponse(QuestionStats stats, boolean withOptions) {
+        BankedQuestion question = questionBankCache.current().question(stats.getQuestionId());
+        List<OptionStatsResponse> options = null;
+        if (withOptions && question != null) {
+            options = question.options().stream()
+                    .map(option -> {
+                        long selections = stats.getOptionSelections().getOrDefault(option.id(), 0L);
+                        return OptionStatsResponse.builder()
+                                .optionId(option.id())
+                                .text(option.text())
+                                .correct(option.correct())
+                                .selections(selections)
+                                .selectionRate(stats.getResponses() == 0 ? 0.0
+                                        : roundRate((double) selections / stats.getResponses()))
+                                .build();
+                    })
+                    .toList();
+        }
+        return QuestionStatsResponse.builder()
+                .questionId(stats.getQuestionId())
+                .stem(question == null ? null : question.stem())
+                .category(stats.getCategory())
+                .responses(stats.getResponses())
+                .proportionCorrect(roundRate(stats.getProportionCorrect()))
+                .discrimination(roundRate(stats.getDiscrimination()))
+                .meanTimeSeconds(round(stats.getMeanTimeSeconds()))
+                .options(options)
+                .build();
+    }
+
+    /** A search hit with highlighted fragments of the fields that match. */
+    public QuestionSearchHitResponse toSearchHitResponse(QuestionSearchIndex.Hit hit, SearchQuery query) {
+        BankedQuestion question = hit.question();
+        Map<String, String> highlights = new LinkedHashMap<>();
+        putFragment(highlights, "stem", question.stem(), query);
+        putFragment(highlights, "clinicalVignette", question.clinicalVignette(), query);
+        putFragment(highlights, "explanation", question.explanation(), query);
+        return QuestionSearchHitResponse.builder()
+                .questionId(question.id())
+                .category(question.category())
+                .difficulty(question.difficulty())
+                .active(question.active())
+                .score(roundRate(hit.score()))
+                .highlights(highlights)
+                .build();
+    }
+
+    private static void putFragment(Map<String, String> highlights, String field, String text, SearchQuery query) {
+        String fragment = Highlighter.fragment(text, query, HIGHLIGHT_LENGTH);
+        if (fragment != null) highlights.put(field, fragment);
+    }
+
+    private static Double round(Double value) {
+        return value == null ? null : Math.round(value * 10.0) / 10.0;
+    }
+
+    private static Double roundRate(Double value) {
+        return value == null ? null : Math.round(value * 1000.0) / 1000.0;
+    }
+
     public ExamHistorySummary toHistorySummary(ExamSession session) {
         PerformanceBand band = null;
         if (session.getScorePercent() != null) {
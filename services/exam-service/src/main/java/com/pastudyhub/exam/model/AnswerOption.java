@@ -1,5 +1,6 @@
 package com.pastudyhub.exam.model;
 
+import com.pastudyhub.exam.bank.QuestionBankChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,6 +11,7 @@ import java.util.UUID;
  * Exactly one option per question should have isCorrect = true.
  */
 @Entity
+@EntityListeners(QuestionBankChangeListener.class)
 @Table(name = "answer_options",
         indexes = {
                 @Index(name = "idx_answer_options_question_id", columnList = "question_id")
@@ -0,0 +1,20 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/** Running answered/correct counts for one category of an exam session. */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTally {
+
+    @Column(nullable = false)
+    private int answered;
+
+    @Column(nullable = false)
+    private int correct;
+}
@@ -0,0 +1,43 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The scored result of a finished exam session, written once when the session ends.
+ * A finished session never changes, so result reads serve these stored bytes — one
+ * primary-key read — instead of rescoring and remapping every answer.
+ */
+@Entity
+@Table(name = "exam_result_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamResultSnapshot {
+
+    /** Same as the session's id — one result per session. */
+    @Id
+    private UUID examSessionId;
+
+    /** Copied from the session so ownership is checked on the same row. */
+    @Column(nullable = false)
+    private UUID userId;
+
+    /** Strong ETag of the payload, unquoted. */
+    @Column(nullable = false, length = 64)
+    private String etag;
+
+    /** Gzip-compressed JSON of {@code ExamResultResponse}. */
+    @Column(nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -6,7 +6,9 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -76,7 +78,71 @@ public class ExamSession {
     @Column
     private Integer durationSeconds;
 
+    /**
+     * Seed of the session's question draw and option order; the shuffled order is
+     * recomputed from it rather than stored. NULL for sessions started before shuffling,
+     * which show options in authored order.
+     */
+    @Column
+    private Long shuffleSeed;
+
+    /** Adaptive exams choose each question from the current ability estimate instead of a fixed draw. */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean adaptive = false;
+
+    /** Adaptive exams: current ability estimate (IRT theta). */
+    @Column
+    private Double abilityEstimate;
+
+    /** Adaptive exams: precision (inverse variance) of {@link #abilityEstimate}. */
+    @Column
+    private Double abilityPrecision;
+
+    /** Running count of distinct questions answered, maintained by {@link #recordAnswer}. */
+    @Column(nullable = false)
+    @Builder.Default
+    private int answeredCount = 0;
+
+    /** Running count of questions currently answered correctly. */
+    @Column(nullable = false)
+    @Builder.Default
+    private int correctCount = 0;
+
+    /** Running answered/correct counts per category. */
+    @ElementCollection
+    @CollectionTable(name = "exam_session_category_tallies",
+            joinColumns = @JoinColumn(name = "exam_session_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "category", length = 50)
+    @Builder.Default
+    private Map<QuestionCategory, CategoryTally> categoryTallies = new EnumMap<>(QuestionCategory.class);
+
     @OneToMany(mappedBy = "examSession", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ExamAnswer> answers = new ArrayList<>();
+
+    /** When the time limit runs out, or null for untimed sessions. */
+    public LocalDateTime expiresAt() {
+        return timeLimitMinutes > 0 && startedAt != null ? startedAt.plusMinutes(timeLimitMinutes) : null;
+    }
+
+    /**
+     * Updates the running tallies for one submitted answer.
+     *
+     * @param category        the question's category
+     * @param previousCorrect whether the question's earlier answer was correct, or null
+     *                        if this is the first answer to it
+     * @param correct         whether this answer is correct
+     */
+    public void recordAnswer(QuestionCategory category, Boolean previousCorrect, boolean correct) {
+        CategoryTally tally = categoryTallies.computeIfAbsent(category, c -> new CategoryTally(0, 0));
+        if (previousCorrect == null) {
+            answeredCount++;
+            tally.setAnswered(tally.getAnswered() + 1);
+        }
+        int delta = (correct ? 1 : 0) - (Boolean.TRUE.equals(previousCorrect) ? 1 : 0);
+        correctCount += delta;
+        tally.setCorrect(tally.getCorrect() + delta);
+    }
 }
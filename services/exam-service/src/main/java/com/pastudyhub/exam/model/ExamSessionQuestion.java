@@ -0,0 +1,45 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * One question selected for an exam session, in presentation order.
+ * Written once, in a single batch, when the session starts.
+ */
+@Entity
+@Table(name = "exam_session_questions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_exam_session_questions_position", columnNames = {"exam_session_id", "position"}),
+                @UniqueConstraint(name = "uq_exam_session_questions_question", columnNames = {"exam_session_id", "question_id"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamSessionQuestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exam_session_id", nullable = false)
+    private ExamSession examSession;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_id", nullable = false)
+    private Question question;
+
+    /** Zero-based position of the question in the exam. */
+    @Column(nullable = false)
+    private int position;
+
+    /** Set when the question is first answered; the next question is the first unanswered one. */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean answered = false;
+}
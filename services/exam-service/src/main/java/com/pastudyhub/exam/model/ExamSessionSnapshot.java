@@ -0,0 +1,41 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The question set of an exam session as served to the candidate, serialized once at
+ * start: stems, vignettes and options in exam order, with correct answers and
+ * explanations stripped. Reads of an in-progress session return this one row instead
+ * of loading questions and options.
+ */
+@Entity
+@Table(name = "exam_session_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamSessionSnapshot {
+
+    /** Same as the session's id — one snapshot per session. */
+    @Id
+    private UUID examSessionId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exam_session_id")
+    private ExamSession examSession;
+
+    /** JSON array of {@code QuestionResponse}. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String questionsJson;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
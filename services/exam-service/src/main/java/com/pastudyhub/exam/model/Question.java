@@ -1,8 +1,10 @@
 package com.pastudyhub.exam.model;
 
+import com.pastudyhub.exam.bank.QuestionBankChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -15,6 +17,7 @@ import java.util.UUID;
  * Questions are reused across exam sessions — they are never user-specific.
  */
 @Entity
+@EntityListeners(QuestionBankChangeListener.class)
 @Table(name = "questions",
         indexes = {
                 @Index(name = "idx_questions_category", columnList = "category"),
@@ -32,6 +35,20 @@ public class Question {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    /**
+     * Dense integer assigned by the database on insert, for compact per-user bitmaps of
+     * seen questions. Read back after the insert, so entities still cached in the
+     * persistence context carry it too.
+     */
+    @Generated
+    @Column(unique = true, insertable = false, updatable = false,
+            columnDefinition = "INTEGER GENERATED BY DEFAULT AS IDENTITY")
+    private Integer ordinal;
+
+    /** Stable ID from the program a question was imported from; null for authored questions. */
+    @Column(unique = true, length = 100)
+    private String externalKey;
+
     @Column(nullable = false, length = 3000)
     private String stem;  // The question text
 
@@ -53,6 +70,18 @@ public class Question {
     @Builder.Default
     private boolean isActive = true;
 
+    /** IRT discrimination ({@code a}); null until calibrated. */
+    @Column
+    private Double irtDiscrimination;
+
+    /** IRT difficulty ({@code b}); null until calibrated. */
+    @Column
+    private Double irtDifficulty;
+
+    /** IRT guessing ({@code c}); null means 2PL (no guessing). */
+    @Column
+    private Double irtGuessing;
+
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     @OrderBy("orderIndex ASC")
     @Builder.Default
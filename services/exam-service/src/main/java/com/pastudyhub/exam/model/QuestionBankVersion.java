@@ -0,0 +1,26 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Single-row counter bumped whenever questions or answer options change. Every
+ * instance polls it and reloads its in-memory question bank when it moves.
+ */
+@Entity
+@Table(name = "question_bank_version")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionBankVersion {
+
+    /** The only row. */
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long version;
+}
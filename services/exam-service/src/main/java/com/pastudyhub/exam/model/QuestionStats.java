@@ -0,0 +1,110 @@
+package com.pastudyhub.exam.model;
+
+import com.pastudyhub.exam.engine.QuestionStatsCounters;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Classical item statistics for one question across completed exams: the additive
+ * counters of {@link QuestionStatsCounters} plus the statistics derived from them.
+ *
+ * <p>The derived columns are recomputed whenever counters are merged in, so authoring
+ * views can filter and sort on them (indexed) without reading the counters.
+ */
+@Entity
+@Table(name = "question_stats",
+        indexes = {
+                @Index(name = "idx_question_stats_discrimination", columnList = "discrimination"),
+                @Index(name = "idx_question_stats_proportion_correct", columnList = "proportion_correct")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionStats {
+
+    @Id
+    private UUID questionId;
+
+    /** Copied from the question so stats can be filtered without a join. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private QuestionCategory category;
+
+    @Column(nullable = false)
+    private long responses;
+
+    @Column(nullable = false)
+    private long correctCount;
+
+    @Column(nullable = false)
+    private long timedResponses;
+
+    @Column(nullable = false)
+    private long timeSumSeconds;
+
+    @Column(nullable = false)
+    private long scoredResponses;
+
+    @Column(nullable = false)
+    private long scoredCorrect;
+
+    @Column(nullable = false)
+    private double restScoreSum;
+
+    @Column(nullable = false)
+    private double restScoreSquareSum;
+
+    @Column(nullable = false)
+    private double restScoreCorrectSum;
+
+    /** Difficulty as the proportion of responses that were correct; null without responses. */
+    @Column
+    private Double proportionCorrect;
+
+    /** Point-biserial discrimination; null while undefined. */
+    @Column
+    private Double discrimination;
+
+    @Column
+    private Double meanTimeSeconds;
+
+    /** Selections per option ID. */
+    @ElementCollection
+    @CollectionTable(name = "question_option_stats",
+            joinColumns = @JoinColumn(name = "question_id"))
+    @MapKeyColumn(name = "option_id")
+    @Column(name = "selections", nullable = false)
+    @Builder.Default
+    private Map<UUID, Long> optionSelections = new HashMap<>();
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** Adds {@code delta}'s responses and recomputes the derived statistics. */
+    public void merge(QuestionStatsCounters delta) {
+        responses += delta.responses();
+        correctCount += delta.correct();
+        timedResponses += delta.timedResponses();
+        timeSumSeconds += delta.timeSumSeconds();
+        scoredResponses += delta.scoredResponses();
+        scoredCorrect += delta.scoredCorrect();
+        restScoreSum += delta.restScoreSum();
+        restScoreSquareSum += delta.restScoreSquareSum();
+        restScoreCorrectSum += delta.restScoreCorrectSum();
+        delta.optionSelections().forEach((option, count) -> optionSelections.merge(option, count, Long::sum));
+
+        proportionCorrect = QuestionStatsCounters.proportionCorrect(responses, correctCount);
+        discrimination = QuestionStatsCounters.discrimination(scoredResponses, scoredCorrect,
+                restScoreSum, restScoreSquareSum, restScoreCorrectSum);
+        meanTimeSeconds = QuestionStatsCounters.meanTimeSeconds(timedResponses, timeSumSeconds);
+    }
+}
@@ -0,0 +1,107 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Running exam summary for one user: attempts, completed exams, score sum and best,
+ * per-category answered/correct counters and the scores of the most recent completed
+ * exams. Kept current as exams start and complete, so the stats endpoint reads one row
+ * instead of aggregating the user's sessions.
+ */
+@Entity
+@Table(name = "user_exam_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserExamStats {
+
+    /** Number of completed exams kept in {@link #recentScores}. */
+    public static final int RECENT_WINDOW = 10;
+
+    @Id
+    private UUID userId;
+
+    /** Exams started, whatever their outcome. */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private int completedCount;
+
+    /** Sum of completed exams' score percentages, for the mean. */
+    @Column(nullable = false)
+    private double scorePercentSum;
+
+    @Column
+    private Double bestScorePercent;
+
+    /** Comma-separated score percentages of the last {@link #RECENT_WINDOW} completed exams, oldest first. */
+    @Column(nullable = false)
+    @Builder.Default
+    private String recentScores = "";
+
+    /** Answered/correct counts per category across completed exams. */
+    @ElementCollection
+    @CollectionTable(name = "user_exam_category_stats",
+            joinColumns = @JoinColumn(name = "user_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "category", length = 50)
+    @Builder.Default
+    private Map<QuestionCategory, CategoryTally> categoryStats = new EnumMap<>(QuestionCategory.class);
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Adds one completed exam.
+     *
+     * @param scorePercent the exam's score percentage
+     * @param tallies      the exam's per-category answered/correct counts
+     */
+    public void recordCompletion(double scorePercent, Map<QuestionCategory, CategoryTally> tallies) {
+        completedCount++;
+        scorePercentSum += scorePercent;
+        if (bestScorePercent == null || scorePercent > bestScorePercent) {
+            bestScorePercent = scorePercent;
+        }
+        List<Double> recent = new ArrayList<>(getRecentScoreList());
+        recent.add(scorePercent);
+        setRecentScoreList(recent);
+        tallies.forEach((category, tally) -> {
+            CategoryTally total = categoryStats.computeIfAbsent(category, c -> new CategoryTally(0, 0));
+            total.setAnswered(total.getAnswered() + tally.getAnswered());
+            total.setCorrect(total.getCorrect() + tally.getCorrect());
+        });
+    }
+
+    /** Mean score percentage of completed exams, or null if there are none. */
+    public Double getAverageScorePercent() {
+        return completedCount == 0 ? null : scorePercentSum / completedCount;
+    }
+
+    public List<Double> getRecentScoreList() {
+        if (recentScores.isEmpty()) return List.of();
+        return Arrays.stream(recentScores.split(",")).map(Double::valueOf).toList();
+    }
+
+    /** Stores the last {@link #RECENT_WINDOW} of {@code scores}. */
+    public void setRecentScoreList(List<Double> scores) {
+        recentScores = scores.subList(Math.max(0, scores.size() - RECENT_WINDOW), scores.size()).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
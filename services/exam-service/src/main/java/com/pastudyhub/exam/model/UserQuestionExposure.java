@@ -0,0 +1,40 @@
+package com.pastudyhub.exam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The questions one user has answered in finished exams, and those they last answered
+ * wrong, as serialized {@code OrdinalBitmap}s over question ordinals — a few bytes per
+ * question for a sparse history, one bit per question in the bank for a dense one.
+ */
+@Entity
+@Table(name = "user_question_exposure")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserQuestionExposure {
+
+    @Id
+    private UUID userId;
+
+    @Column(nullable = false, columnDefinition = "BYTEA")
+    private byte[] seen;
+
+    @Column(nullable = false, columnDefinition = "BYTEA")
+    private byte[] missed;
+
+    /** Number of questions in {@link #seen}. */
+    @Column(nullable = false)
+    private int seenCount;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
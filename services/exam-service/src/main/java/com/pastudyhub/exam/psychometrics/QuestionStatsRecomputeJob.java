@@ -0,0 +1,105 @@
+package com.pastudyhub.exam.psychometrics;
+
+import com.pastudyhub.exam.engine.QuestionStatsCounters;
+import com.pastudyhub.exam.repository.ExamAnswerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Recounts {@code question_stats} from every answer of every completed exam — backfill
+ * after the table is introduced, or repair after lost buffered deltas or manual data
+ * changes.
+ *
+ * <p>The question ID space is split into {@code exam.question-stats.recompute.partitions}
+ * contiguous ranges. Each range streams its answers on its own thread and read-only
+ * transaction; the ranges share no question, so their counters are simply combined and
+ * written by {@link QuestionStatsRecorder#replaceAll}.
+ *
+ * <p>Runs on {@code exam.question-stats.recompute.cron}, disabled ({@code -}) by default.
+ */
+@Slf4j
+@Component
+public class QuestionStatsRecomputeJob {
+
+    private final ExamAnswerRepository examAnswerRepository;
+    private final QuestionStatsRecorder questionStatsRecorder;
+    private final TransactionTemplate readTransaction;
+    private final int partitions;
+
+    public QuestionStatsRecomputeJob(ExamAnswerRepository examAnswerRepository,
+                                     QuestionStatsRecorder questionStatsRecorder,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${exam.question-stats.recompute.partitions:4}") int partitions) {
+        this.examAnswerRepository = examAnswerRepository;
+        this.questionStatsRecorder = questionStatsRecorder;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.partitions = Math.max(1, Math.min(256, partitions));
+    }
+
+    /** Recounts and replaces every question's stats. */
+    @Scheduled(cron = "${exam.question-stats.recompute.cron:-}")
+    public void recompute() {
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        Map<UUID, QuestionStatsCounters> totals = new HashMap<>();
+        try {
+            List<CompletableFuture<Map<UUID, QuestionStatsCounters>>> scans = new ArrayList<>();
+            for (UUID[] range : ranges(partitions)) {
+                scans.add(CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> {
+                    try (Stream<Object[]> rows = examAnswerRepository.streamCompletedResponses(range[0], range[1])) {
+                        return count(rows);
+                    }
+                }), executor));
+            }
+            scans.forEach(scan -> totals.putAll(scan.join()));
+        } finally {
+            executor.shutdown();
+        }
+
+        questionStatsRecorder.replaceAll(totals);
+        log.info("Question stats recomputed: questions={}, partitions={}, took={}ms",
+                totals.size(), partitions, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static Map<UUID, QuestionStatsCounters> count(Stream<Object[]> rows) {
+        Map<UUID, QuestionStatsCounters> counters = new HashMap<>();
+        for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+            Object[] row = it.next();
+            counters.computeIfAbsent((UUID) row[0], id -> new QuestionStatsCounters())
+                    .accept((UUID) row[1], (Boolean) row[2], (Integer) row[3],
+                            ((Number) row[4]).intValue(), ((Number) row[5]).intValue());
+        }
+        return counters;
+    }
+
+    /**
+     * Inclusive {@code [from, to]} UUID ranges covering the whole ID space, split on the
+     * leading byte. UUIDs compare as unsigned bytes in the database, so the ranges are
+     * contiguous there.
+     */
+    static List<UUID[]> ranges(int count) {
+        List<UUID[]> ranges = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            long from = (long) (k * 256 / count) << 56;
+            long to = ((long) ((k + 1) * 256 / count) << 56) - 1; // wraps to all ones for the last range
+            ranges.add(new UUID[] {new UUID(from, 0L), new UUID(to, -1L)});
+        }
+        return ranges;
+    }
+}
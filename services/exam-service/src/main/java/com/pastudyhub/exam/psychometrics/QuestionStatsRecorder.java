@@ -0,0 +1,163 @@
+package com.pastudyhub.exam.psychometrics;
+
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.bank.QuestionBankCache;
+import com.pastudyhub.exam.engine.QuestionStatsCounters;
+import com.pastudyhub.exam.model.ExamAnswer;
+import com.pastudyhub.exam.model.ExamSession;
+import com.pastudyhub.exam.model.QuestionStats;
+import com.pastudyhub.exam.repository.QuestionStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@code question_stats} current as exams complete.
+ *
+ * <p>A completed exam's answers become per-question {@link QuestionStatsCounters} deltas,
+ * merged into an in-memory buffer once the completing transaction commits. The buffer is
+ * flushed every {@code exam.question-stats.flush-interval-ms}: one transaction locks the
+ * touched rows in ID order, merges the deltas and recomputes the derived columns. Popular
+ * questions are therefore written once per flush rather than once per completed exam, and
+ * completing an exam never waits on another exam's stats rows.
+ *
+ * <p>Deltas of a failed flush go back into the buffer for the next one. Deltas still
+ * buffered when the process dies are lost; {@link QuestionStatsRecomputeJob} restores
+ * exact totals.
+ */
+@Slf4j
+@Component
+public class QuestionStatsRecorder {
+
+    /** Rows locked per statement during a flush. */
+    private static final int FLUSH_CHUNK = 500;
+
+    private final QuestionStatsRepository questionStatsRepository;
+    private final QuestionBankCache questionBankCache;
+    private final TransactionTemplate writeTransaction;
+    private final Map<UUID, QuestionStatsCounters> pending = new ConcurrentHashMap<>();
+
+    public QuestionStatsRecorder(QuestionStatsRepository questionStatsRepository,
+                                 QuestionBankCache questionBankCache,
+                                 PlatformTransactionManager transactionManager) {
+        this.questionStatsRepository = questionStatsRepository;
+        this.questionBankCache = questionBankCache;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Records a completed session's answers. Inside a transaction they are buffered only
+     * after it commits, so a rolled-back completion is never counted.
+     */
+    public void examCompleted(ExamSession session, List<ExamAnswer> answers) {
+        Map<UUID, QuestionStatsCounters> deltas = new HashMap<>();
+        for (ExamAnswer answer : answers) {
+            deltas.computeIfAbsent(answer.getQuestion().getId(), id -> new QuestionStatsCounters())
+                    .accept(answer.getSelectedOption() == null ? null : answer.getSelectedOption().getId(),
+                            answer.isCorrect(), answer.getTimeSpentSeconds(),
+                            session.getCorrectCount(), session.getAnsweredCount());
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(deltas);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(deltas);
+            }
+        });
+    }
+
+    /** Writes every buffered delta. */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${exam.question-stats.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+        // Take entries one by one: a merge racing with the drain lands in a fresh entry
+        Map<UUID, QuestionStatsCounters> batch = new HashMap<>();
+        for (UUID questionId : pending.keySet()) {
+            QuestionStatsCounters delta = pending.remove(questionId);
+            if (delta != null) batch.put(questionId, delta);
+        }
+        try {
+            writeTransaction.executeWithoutResult(status -> write(batch));
+        } catch (RuntimeException ex) {
+            log.warn("Question stats flush failed, {} questions kept for the next flush", batch.size(), ex);
+            buffer(batch);
+        }
+    }
+
+    /**
+     * Replaces every stats row with {@code totals}, holding off flushes meanwhile. Buffered
+     * deltas are written first, so only exams completed during the recompute itself may
+     * be counted by both.
+     */
+    public synchronized void replaceAll(Map<UUID, QuestionStatsCounters> totals) {
+        flush();
+        writeTransaction.executeWithoutResult(status -> {
+            questionStatsRepository.deleteAllOptionSelections();
+            questionStatsRepository.deleteAllStats();
+            QuestionBank bank = questionBankCache.current();
+            List<QuestionStats> rows = new ArrayList<>(totals.size());
+            totals.forEach((questionId, counters) -> {
+                QuestionStats row = newRow(bank, questionId);
+                if (row == null) return;
+                row.merge(counters);
+                rows.add(row);
+            });
+            questionStatsRepository.saveAll(rows);
+        });
+    }
+
+    private void buffer(Map<UUID, QuestionStatsCounters> deltas) {
+        deltas.forEach((questionId, delta) -> pending.merge(questionId, delta, (current, added) -> {
+            current.merge(added);
+            return current;
+        }));
+    }
+
+    private void write(Map<UUID, QuestionStatsCounters> batch) {
+        QuestionBank bank = questionBankCache.current();
+        List<UUID> ids = batch.keySet().stream().sorted().toList();
+        for (int from = 0; from < ids.size(); from += FLUSH_CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + FLUSH_CHUNK));
+            Map<UUID, QuestionStats> rows = new HashMap<>();
+            questionStatsRepository.findAllByIdForUpdate(chunk).forEach(row -> rows.put(row.getQuestionId(), row));
+            for (UUID questionId : chunk) {
+                QuestionStats row = rows.computeIfAbsent(questionId, id -> newRow(bank, id));
+                if (row == null) continue;
+                row.merge(batch.get(questionId));
+            }
+            questionStatsRepository.saveAll(rows.values());
+        }
+    }
+
+    /** A zeroed row for the question, or null if the question is no longer in the bank. */
+    private static QuestionStats newRow(QuestionBank bank, UUID questionId) {
+        BankedQuestion question = bank.question(questionId);
+        if (question == null) {
+            log.debug("Skipping stats of deleted question {}", questionId);
+            return null;
+        }
+        return QuestionStats.builder()
+                .questionId(questionId)
+                .category(question.category())
+                .build();
+    }
+}
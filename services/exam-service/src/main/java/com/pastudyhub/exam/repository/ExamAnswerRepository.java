@@ -1,13 +1,17 @@
 package com.pastudyhub.exam.repository;
 
 import com.pastudyhub.exam.model.ExamAnswer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ExamAnswerRepository extends JpaRepository<ExamAnswer, UUID> {
 
@@ -17,4 +21,41 @@ public interface ExamAnswerRepository extends JpaRepository<ExamAnswer, UUID> {
 
     @Query("SELECT COUNT(a) FROM ExamAnswer a WHERE a.examSession.id = :sessionId AND a.isCorrect = true")
     long countCorrectBySessionId(@Param("sessionId") UUID sessionId);
+
+    /** (category, answered, correct) over the user's completed exams (stats rebuild). */
+    @Query("SELECT q.category, COUNT(a), SUM(CASE WHEN a.isCorrect = true THEN 1 ELSE 0 END) " +
+           "FROM ExamAnswer a JOIN a.question q JOIN a.examSession e " +
+           "WHERE e.userId = :userId AND e.status IN ('COMPLETED', 'TIMED_OUT') " +
+           "GROUP BY q.category")
+    List<Object[]> countByCategoryForUser(@Param("userId") UUID userId);
+
+    /**
+     * (questionId, isCorrect) of the user's answers in finished exams, oldest exam first,
+     * so the last row per question is its latest answer (question exposure rebuild).
+     */
+    @Query("SELECT a.question.id, a.isCorrect FROM ExamAnswer a JOIN a.examSession e " +
+           "WHERE e.userId = :userId AND e.status IN ('COMPLETED', 'TIMED_OUT') " +
+           "ORDER BY e.completedAt ASC")
+    List<Object[]> findFinishedAnswersForUser(@Param("userId") UUID userId);
+
+    /**
+     * (sessionId, questionId, isCorrect) of every answer, grouped by session. Scalar rows
+     * streamed with a fetch size, so IRT calibration never holds all answers at once.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.examSession.id, a.question.id, a.isCorrect FROM ExamAnswer a ORDER BY a.examSession.id")
+    Stream<Object[]> streamResponses();
+
+    /**
+     * (questionId, selectedOptionId, isCorrect, timeSpentSeconds, examCorrect, examAnswered)
+     * of every answer in a completed or timed-out exam whose question ID lies in {@code [from, to]},
+     * streamed with a fetch size for the question stats recompute. Must be consumed inside
+     * a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.question.id, o.id, a.isCorrect, a.timeSpentSeconds, e.correctCount, e.answeredCount " +
+           "FROM ExamAnswer a JOIN a.examSession e LEFT JOIN a.selectedOption o " +
+           "WHERE e.status IN ('COMPLETED', 'TIMED_OUT') AND a.question.id BETWEEN :from AND :to")
+    Stream<Object[]> streamCompletedResponses(@Param("from") UUID from, @Param("to") UUID to);
 }
@@ -0,0 +1,12 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.ExamResultSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ExamResultSnapshotRepository extends JpaRepository<ExamResultSnapshot, UUID> {
+
+    Optional<ExamResultSnapshot> findByExamSessionIdAndUserId(UUID examSessionId, UUID userId);
+}
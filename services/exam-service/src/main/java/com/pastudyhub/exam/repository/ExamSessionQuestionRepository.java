@@ -0,0 +1,37 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.ExamSessionQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ExamSessionQuestionRepository extends JpaRepository<ExamSessionQuestion, UUID> {
+
+    /**
+     * Marks a session question answered. Returns 0 if the question is not part of the
+     * session, so this doubles as the membership check.
+     */
+    @Modifying
+    @Query("UPDATE ExamSessionQuestion q SET q.answered = true " +
+           "WHERE q.examSession.id = :sessionId AND q.question.id = :questionId")
+    int markAnswered(@Param("sessionId") UUID sessionId, @Param("questionId") UUID questionId);
+
+    /** Marks several session questions answered in one statement; returns how many matched. */
+    @Modifying
+    @Query("UPDATE ExamSessionQuestion q SET q.answered = true " +
+           "WHERE q.examSession.id = :sessionId AND q.question.id IN :questionIds")
+    int markAllAnswered(@Param("sessionId") UUID sessionId, @Param("questionIds") Collection<UUID> questionIds);
+
+    /** The lowest-position unanswered question — one probe of the (session, position) index. */
+    Optional<ExamSessionQuestion> findFirstByExamSessionIdAndAnsweredFalseOrderByPositionAsc(UUID examSessionId);
+
+    /** IDs of the session's questions in exam order. */
+    @Query("SELECT q.question.id FROM ExamSessionQuestion q WHERE q.examSession.id = :sessionId ORDER BY q.position")
+    List<UUID> findQuestionIds(@Param("sessionId") UUID sessionId);
+}
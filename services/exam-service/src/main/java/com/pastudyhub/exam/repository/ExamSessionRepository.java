@@ -2,12 +2,15 @@ package com.pastudyhub.exam.repository;
 
 import com.pastudyhub.exam.model.ExamSession;
 import com.pastudyhub.exam.model.ExamStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,9 +20,33 @@ public interface ExamSessionRepository extends JpaRepository<ExamSession, UUID>
 
     Optional<ExamSession> findByIdAndUserId(UUID id, UUID userId);
 
-    @Query("SELECT AVG(e.scorePercent) FROM ExamSession e " +
-           "WHERE e.userId = :userId AND e.status = 'COMPLETED'")
-    Double findAverageScoreForUser(@Param("userId") UUID userId);
+    /** Locks the session row so concurrent answers cannot lose tally updates. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ExamSession e WHERE e.id = :id AND e.userId = :userId")
+    Optional<ExamSession> findByIdAndUserIdForUpdate(@Param("id") UUID id, @Param("userId") UUID userId);
 
     long countByUserIdAndStatus(UUID userId, ExamStatus status);
+
+    long countByUserId(UUID userId);
+
+    /** Score percentages of the user's completed exams, oldest first (stats rebuild). */
+    @Query("SELECT e.scorePercent FROM ExamSession e " +
+           "WHERE e.userId = :userId AND e.status IN ('COMPLETED', 'TIMED_OUT') AND e.scorePercent IS NOT NULL " +
+           "ORDER BY e.completedAt ASC")
+    List<Double> findCompletedScorePercents(@Param("userId") UUID userId);
+
+    /** Locks the session row for a caller that does not know its user (expiry). */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ExamSession e WHERE e.id = :id")
+    Optional<ExamSession> findByIdForUpdate(@Param("id") UUID id);
+
+    /** In-progress timed sessions with an ID after {@code after}, in ID order (expiry sweep). */
+    @Query("SELECT e FROM ExamSession e " +
+           "WHERE e.status = 'IN_PROGRESS' AND e.timeLimitMinutes > 0 AND e.id > :after " +
+           "ORDER BY e.id")
+    List<ExamSession> findTimedInProgressAfter(@Param("after") UUID after, Pageable pageable);
+
+    /** Every user with at least one session, in ID order (stats rebuild). */
+    @Query("SELECT DISTINCT e.userId FROM ExamSession e ORDER BY e.userId")
+    List<UUID> findUserIds(Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.ExamSessionSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface ExamSessionSnapshotRepository extends JpaRepository<ExamSessionSnapshot, UUID> {
+}
@@ -0,0 +1,19 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.QuestionBankVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface QuestionBankVersionRepository extends JpaRepository<QuestionBankVersion, Integer> {
+
+    @Query("SELECT v.version FROM QuestionBankVersion v WHERE v.id = 1")
+    Optional<Long> findCurrentVersion();
+
+    /** Returns 0 if the row does not exist yet. */
+    @Modifying
+    @Query("UPDATE QuestionBankVersion v SET v.version = v.version + 1 WHERE v.id = 1")
+    int increment();
+}
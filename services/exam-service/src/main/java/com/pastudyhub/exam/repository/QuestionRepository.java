@@ -4,9 +4,11 @@ import com.pastudyhub.exam.model.DifficultyLevel;
 import com.pastudyhub.exam.model.Question;
 import com.pastudyhub.exam.model.QuestionCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,9 +21,25 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
             @Param("category") QuestionCategory category,
             @Param("difficulty") DifficultyLevel difficulty);
 
+    /** Every question, active or not, with its options — loads the in-memory question bank. */
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.answerOptions")
+    List<Question> findAllWithOptions();
+
     @Query("SELECT COUNT(q) FROM Question q WHERE q.isActive = true " +
            "AND (:category IS NULL OR q.category = :category)")
     long countActiveByCategory(@Param("category") QuestionCategory category);
 
     List<Question> findByCategoryAndIsActiveTrue(QuestionCategory category);
+
+    /** Stores calibrated IRT parameters. A bulk update — entity listeners do not see it. */
+    @Modifying
+    @Query("UPDATE Question q SET q.irtDiscrimination = :discrimination, q.irtDifficulty = :difficulty " +
+           "WHERE q.id = :id")
+    int updateIrtParameters(@Param("id") UUID id,
+                            @Param("discrimination") double discrimination,
+                            @Param("difficulty") double difficulty);
+
+    /** Which of {@code externalKeys} already belong to a question (import idempotency). */
+    @Query("SELECT q.externalKey FROM Question q WHERE q.externalKey IN :externalKeys")
+    List<String> findExistingExternalKeys(@Param("externalKeys") Collection<String> externalKeys);
 }
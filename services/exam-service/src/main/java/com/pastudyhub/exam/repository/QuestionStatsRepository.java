@@ -0,0 +1,39 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.model.QuestionStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface QuestionStatsRepository extends JpaRepository<QuestionStats, UUID> {
+
+    /** Locks the rows in ID order, so concurrent flushes cannot deadlock or lose updates. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuestionStats s WHERE s.questionId IN :ids ORDER BY s.questionId")
+    List<QuestionStats> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT s FROM QuestionStats s " +
+           "WHERE (:category IS NULL OR s.category = :category) AND s.responses >= :minResponses")
+    Page<QuestionStats> findByFilters(@Param("category") QuestionCategory category,
+                                      @Param("minResponses") long minResponses,
+                                      Pageable pageable);
+
+    /** Bulk delete of every option counter — element collection rows are not cascaded by JPQL. */
+    @Modifying
+    @Query(value = "DELETE FROM question_option_stats", nativeQuery = true)
+    void deleteAllOptionSelections();
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM QuestionStats")
+    void deleteAllStats();
+}
@@ -0,0 +1,35 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.UserExamStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserExamStatsRepository extends JpaRepository<UserExamStats, UUID> {
+
+    /** Locks the user's stats row so concurrent completions cannot lose updates. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserExamStats s WHERE s.userId = :userId")
+    Optional<UserExamStats> findByUserIdForUpdate(@Param("userId") UUID userId);
+
+    /**
+     * Creates an empty row for the user unless one exists. Safe to race with another
+     * first exam: the loser inserts nothing.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_exam_stats " +
+                   "(user_id, attempts, completed_count, score_percent_sum, recent_scores, updated_at) " +
+                   "VALUES (:userId, 0, 0, 0, '', CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId);
+
+    /** Returns 0 if the user has no row yet. */
+    @Modifying
+    @Query("UPDATE UserExamStats s SET s.attempts = s.attempts + 1 WHERE s.userId = :userId")
+    int incrementAttempts(@Param("userId") UUID userId);
+}
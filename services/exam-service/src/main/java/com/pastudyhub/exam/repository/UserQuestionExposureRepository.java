@@ -0,0 +1,29 @@
+package com.pastudyhub.exam.repository;
+
+import com.pastudyhub.exam.model.UserQuestionExposure;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserQuestionExposureRepository extends JpaRepository<UserQuestionExposure, UUID> {
+
+    /**
+     * Creates the user's row with the given (empty) bitmaps unless it exists. Safe to
+     * race with another first exam: the loser inserts nothing and returns 0.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_question_exposure (user_id, seen, missed, seen_count, updated_at) " +
+                   "VALUES (:userId, :empty, :empty, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("empty") byte[] empty);
+
+    /** Locks the user's row so concurrent completions cannot lose each other's questions. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT x FROM UserQuestionExposure x WHERE x.userId = :userId")
+    Optional<UserQuestionExposure> findByUserIdForUpdate(@Param("userId") UUID userId);
+}
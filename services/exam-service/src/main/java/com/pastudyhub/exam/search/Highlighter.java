@@ -0,0 +1,65 @@
+package com.pastudyhub.exam.search;
+
+import java.util.List;
+
+/**
+ * Cuts a fragment of question text around the first match of a query, HTML-escaped,
+ * with every matching word wrapped in {@code <mark>…</mark>}.
+ */
+public final class Highlighter {
+
+    static final String OPEN = "<mark>";
+    static final String CLOSE = "</mark>";
+    private static final String ELLIPSIS = "…";
+    /** Characters of context kept before the first match. */
+    private static final int LEAD = 40;
+
+    private Highlighter() {}
+
+    /**
+     * @param maxLength approximate length of the fragment in characters of the source text
+     * @return the fragment, or null if the text does not match the query
+     */
+    public static String fragment(String text, SearchQuery query, int maxLength) {
+        if (text == null || query.isEmpty()) return null;
+        List<Tokenizer.Token> matches = Tokenizer.tokens(text).stream()
+                .filter(token -> query.matches(token.term()))
+                .toList();
+        if (matches.isEmpty()) return null;
+
+        int start = Math.max(0, matches.get(0).start() - LEAD);
+        while (start > 0 && !Character.isWhitespace(text.charAt(start - 1))) start--;
+        int end = Math.min(text.length(), start + maxLength);
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) end++;
+
+        StringBuilder fragment = new StringBuilder();
+        if (start > 0) fragment.append(ELLIPSIS);
+        int at = start;
+        for (Tokenizer.Token match : matches) {
+            if (match.start() < start) continue;
+            if (match.end() > end) break;
+            escape(text, at, match.start(), fragment);
+            fragment.append(OPEN);
+            escape(text, match.start(), match.end(), fragment);
+            fragment.append(CLOSE);
+            at = match.end();
+        }
+        escape(text, at, end, fragment);
+        if (end < text.length()) fragment.append(ELLIPSIS);
+        return fragment.toString();
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder out) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.pastudyhub.exam.search;
+
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index over the stem, clinical vignette and explanation of every question in
+ * a bank.
+ *
+ * <p>Terms are kept sorted, each with the ascending indexes of the questions containing
+ * it and a per-question weight: the saturated term frequency in each field, weighted
+ * {@value #STEM_WEIGHT} for the stem, {@value #VIGNETTE_WEIGHT} for the vignette and
+ * {@value #EXPLANATION_WEIGHT} for the explanation. A search walks only the postings of
+ * its terms — the last one expanded by binary search over the sorted terms when it is
+ * a prefix — and ranks questions containing every term by the sum of weight × inverse
+ * document frequency.
+ *
+ * <p>Immutable once built.
+ */
+public final class QuestionSearchIndex {
+
+    static final float STEM_WEIGHT = 2.0f;
+    static final float VIGNETTE_WEIGHT = 1.0f;
+    static final float EXPLANATION_WEIGHT = 0.5f;
+    private static final float SATURATION = 1.2f;
+
+    private final BankedQuestion[] questions;
+    private final String[] terms;
+    /** Question indexes per term, ascending. */
+    private final int[][] postings;
+    private final float[][] weights;
+    private final float[] idf;
+
+    private QuestionSearchIndex(BankedQuestion[] questions, String[] terms, int[][] postings,
+                                float[][] weights, float[] idf) {
+        this.questions = questions;
+        this.terms = terms;
+        this.postings = postings;
+        this.weights = weights;
+        this.idf = idf;
+    }
+
+    public static QuestionSearchIndex of(Collection<BankedQuestion> bankQuestions) {
+        BankedQuestion[] questions = bankQuestions.stream()
+                .sorted(Comparator.comparing(BankedQuestion::id))
+                .toArray(BankedQuestion[]::new);
+        Map<String, Postings> byTerm = new HashMap<>();
+        float[] fieldWeights = {STEM_WEIGHT, VIGNETTE_WEIGHT, EXPLANATION_WEIGHT};
+        for (int doc = 0; doc < questions.length; doc++) {
+            BankedQuestion question = questions[doc];
+            String[] fields = {question.stem(), question.clinicalVignette(), question.explanation()};
+            Map<String, int[]> counts = new HashMap<>();
+            for (int f = 0; f < fields.length; f++) {
+                for (Tokenizer.Token token : Tokenizer.tokens(fields[f])) {
+                    counts.computeIfAbsent(token.term(), t -> new int[fields.length])[f]++;
+                }
+            }
+            for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+                float weight = 0;
+                for (int f = 0; f < fields.length; f++) {
+                    int tf = entry.getValue()[f];
+                    weight += fieldWeights[f] * tf / (tf + SATURATION);
+                }
+                byTerm.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, weight);
+            }
+        }
+
+        String[] terms = byTerm.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+        int[][] postings = new int[terms.length][];
+        float[][] weights = new float[terms.length][];
+        float[] idf = new float[terms.length];
+        for (int t = 0; t < terms.length; t++) {
+            Postings list = byTerm.get(terms[t]);
+            postings[t] = Arrays.copyOf(list.docs, list.size);
+            weights[t] = Arrays.copyOf(list.weights, list.size);
+            idf[t] = (float) Math.log(1.0 + (questions.length - list.size + 0.5) / (list.size + 0.5));
+        }
+        return new QuestionSearchIndex(questions, terms, postings, weights, idf);
+    }
+
+    /** Number of indexed questions. */
+    public int size() {
+        return questions.length;
+    }
+
+    /** Number of distinct terms. */
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Questions containing every query term, best match first (ties by ID).
+     *
+     * @param category   only this category, or null for all
+     * @param difficulty only this difficulty, or null for all
+     */
+    public List<Hit> search(SearchQuery query, QuestionCategory category, DifficultyLevel difficulty) {
+        if (query.isEmpty()) return List.of();
+        float[] scores = new float[questions.length];
+        // Number of leading query terms each question contains
+        int[] matched = new int[questions.length];
+        List<String> queryTerms = query.terms();
+        for (int q = 0; q < queryTerms.size(); q++) {
+            String term = queryTerms.get(q);
+            int from = lowerBound(term);
+            int to = query.prefixLast() && q == queryTerms.size() - 1
+                    ? lowerBound(term + Character.MAX_VALUE)
+                    : (from < terms.length && terms[from].equals(term) ? from + 1 : from);
+            if (from == to) return List.of();
+            for (int t = from; t < to; t++) {
+                int[] docs = postings[t];
+                float[] termWeights = weights[t];
+                for (int i = 0; i < docs.length; i++) {
+                    int doc = docs[i];
+                    if (matched[doc] == q) matched[doc] = q + 1;
+                    if (matched[doc] == q + 1) scores[doc] += termWeights[i] * idf[t];
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int doc = 0; doc < questions.length; doc++) {
+            if (matched[doc] != queryTerms.size()) continue;
+            BankedQuestion question = questions[doc];
+            if (category != null && question.category() != category) continue;
+            if (difficulty != null && question.difficulty() != difficulty) continue;
+            hits.add(new Hit(question, scores[doc]));
+        }
+        // Questions are in ID order, and the sort is stable
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return hits;
+    }
+
+    private int lowerBound(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /** A matching question and its relevance score. */
+    public record Hit(BankedQuestion question, double score) {}
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
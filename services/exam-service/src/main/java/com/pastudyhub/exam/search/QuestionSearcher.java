@@ -0,0 +1,63 @@
+package com.pastudyhub.exam.search;
+
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.bank.QuestionBankCache;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Full-text search over the question bank. A {@link QuestionSearchIndex} is built from
+ * the current {@link QuestionBank} the first time it is searched and rebuilt when the
+ * bank is replaced, so searches never touch the database.
+ */
+@Slf4j
+@Component
+public class QuestionSearcher {
+
+    private final QuestionBankCache questionBankCache;
+
+    private volatile Indexed indexed;
+
+    public QuestionSearcher(QuestionBankCache questionBankCache) {
+        this.questionBankCache = questionBankCache;
+    }
+
+    /**
+     * Questions, active or not, containing every term of the query, best match first.
+     *
+     * @param category   only this category, or null for all
+     * @param difficulty only this difficulty, or null for all
+     */
+    public List<QuestionSearchIndex.Hit> search(SearchQuery query, QuestionCategory category,
+                                                DifficultyLevel difficulty) {
+        return index().search(query, category, difficulty);
+    }
+
+    private QuestionSearchIndex index() {
+        QuestionBank bank = questionBankCache.current();
+        Indexed current = indexed;
+        if (current == null || current.bank() != bank) {
+            current = build(bank);
+        }
+        return current.index();
+    }
+
+    private synchronized Indexed build(QuestionBank bank) {
+        Indexed current = indexed;
+        if (current != null && current.bank() == bank) return current;
+
+        long started = System.nanoTime();
+        current = new Indexed(bank, QuestionSearchIndex.of(bank.questions()));
+        indexed = current;
+        log.info("Question search index built: bankVersion={}, questions={}, terms={}, took={}ms",
+                bank.version(), current.index().size(), current.index().termCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        return current;
+    }
+
+    private record Indexed(QuestionBank bank, QuestionSearchIndex index) {}
+}
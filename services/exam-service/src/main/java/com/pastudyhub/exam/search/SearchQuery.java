@@ -0,0 +1,43 @@
+package com.pastudyhub.exam.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A parsed search: the distinct terms of the query text, all of which a question must
+ * contain. The last term also matches longer words it begins, so results follow the
+ * author's typing ("pneumo" finds "pneumonia").
+ *
+ * @param terms      normalized terms in query order
+ * @param prefixLast whether the last term matches as a prefix
+ */
+public record SearchQuery(List<String> terms, boolean prefixLast) {
+
+    /** Shortest last term that is expanded as a prefix. */
+    static final int MIN_PREFIX = 2;
+
+    public static SearchQuery parse(String text) {
+        List<String> terms = new ArrayList<>();
+        for (Tokenizer.Token token : Tokenizer.tokens(text)) {
+            if (!terms.contains(token.term())) terms.add(token.term());
+        }
+        boolean prefixLast = !terms.isEmpty() && terms.get(terms.size() - 1).length() >= MIN_PREFIX;
+        return new SearchQuery(List.copyOf(terms), prefixLast);
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    /** Whether an indexed term satisfies any query term. */
+    boolean matches(String term) {
+        int last = terms.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            String queryTerm = terms.get(i);
+            if (term.equals(queryTerm) || (prefixLast && i == last && term.startsWith(queryTerm))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
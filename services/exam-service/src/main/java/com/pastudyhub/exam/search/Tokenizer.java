@@ -0,0 +1,56 @@
+package com.pastudyhub.exam.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits question text into search terms: runs of letters and digits, lower-cased with
+ * accents removed, common English stop words dropped. Each token keeps its character
+ * range in the original text for highlighting.
+ */
+final class Tokenizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "which", "with");
+
+    /** A term and where it occurs: {@code text.substring(start, end)}. */
+    record Token(String term, int start, int end) {}
+
+    private Tokenizer() {}
+
+    static List<Token> tokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) i++;
+            if (i > start) {
+                String term = normalize(text.substring(start, i));
+                if (!STOP_WORDS.contains(term)) {
+                    tokens.add(new Token(term, start, i));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    static String normalize(String word) {
+        String lower = word.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) > 0x7f) {
+                return DIACRITICS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lower;
+    }
+}
@@ -0,0 +1,114 @@
+package com.pastudyhub.exam.selection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws exam questions from a pool of ordinals, preferring questions the user has not
+ * seen, then questions they last got wrong.
+ *
+ * <p>The pool is split with three bitmap operations into unseen, missed and
+ * seen-and-correct questions. Each draw picks a class with probability proportional to
+ * its weight times the questions it has left, then a question uniformly within it —
+ * successive weighted sampling without replacement, where every question's chance is
+ * proportional to its class weight. A class is drawn from by a partial Fisher–Yates
+ * shuffle over its ranks, mapped to ordinals with {@link OrdinalBitmap#select}, so the
+ * cost depends on the number drawn and the bitmap chunks, not on the pool size.
+ */
+public final class ExposureWeightedSampler {
+
+    private ExposureWeightedSampler() {}
+
+    /**
+     * Relative chance of a question in each class being drawn; zero excludes a class
+     * until the others are exhausted.
+     */
+    public record Weights(double unseen, double missed, double seen) {
+        public Weights {
+            if (!(unseen >= 0 && missed >= 0 && seen >= 0)) {
+                throw new IllegalArgumentException("Selection weights must be non-negative");
+            }
+        }
+    }
+
+    /**
+     * Draws {@code count} distinct ordinals of {@code pool}, in draw order.
+     *
+     * @throws IllegalStateException if the pool has fewer than {@code count} ordinals
+     */
+    public static int[] sample(OrdinalBitmap pool, QuestionExposure exposure, int count, Weights weights,
+                               RandomGenerator random) {
+        int available = pool.cardinality();
+        if (available < count) {
+            throw new IllegalStateException(
+                    String.format("Not enough questions: requested %d but only %d available with the given filters",
+                            count, available));
+        }
+        OrdinalBitmap seenInPool = pool.and(exposure.seen());
+        OrdinalBitmap missedInPool = seenInPool.and(exposure.missed());
+        Draw[] classes = {
+                new Draw(pool.andNot(exposure.seen()), weights.unseen()),
+                new Draw(missedInPool, weights.missed()),
+                new Draw(seenInPool.andNot(missedInPool), weights.seen())
+        };
+
+        int[] drawn = new int[count];
+        for (int i = 0; i < count; i++) {
+            drawn[i] = pick(classes, random).next(random);
+        }
+        return drawn;
+    }
+
+    private static Draw pick(Draw[] classes, RandomGenerator random) {
+        double total = 0;
+        for (Draw draw : classes) {
+            total += draw.weight * draw.remaining();
+        }
+        if (total > 0) {
+            double target = random.nextDouble() * total;
+            for (Draw draw : classes) {
+                target -= draw.weight * draw.remaining();
+                if (target < 0 && draw.remaining() > 0) return draw;
+            }
+        }
+        // Only zero-weight classes left, or rounding at the top end: any class with questions
+        int remaining = 0;
+        for (Draw draw : classes) {
+            remaining += draw.remaining();
+        }
+        int target = random.nextInt(remaining);
+        for (Draw draw : classes) {
+            if (target < draw.remaining()) return draw;
+            target -= draw.remaining();
+        }
+        throw new IllegalStateException("No questions left to draw");
+    }
+
+    /** Partial Fisher–Yates shuffle over the ranks of one class's bitmap. */
+    private static final class Draw {
+        final OrdinalBitmap members;
+        final int size;
+        final double weight;
+        final Map<Integer, Integer> swapped = new HashMap<>();
+        int taken;
+
+        Draw(OrdinalBitmap members, double weight) {
+            this.members = members;
+            this.size = members.cardinality();
+            this.weight = weight;
+        }
+
+        int remaining() {
+            return size - taken;
+        }
+
+        int next(RandomGenerator random) {
+            int j = taken + random.nextInt(size - taken);
+            int rank = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(taken, taken));
+            taken++;
+            return members.select(rank);
+        }
+    }
+}
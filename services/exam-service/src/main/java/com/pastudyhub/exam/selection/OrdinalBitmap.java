@@ -0,0 +1,494 @@
+package com.pastudyhub.exam.selection;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative ints — question ordinals — in the Roaring layout.
+ *
+ * <p>Values are grouped by their high 16 bits into chunks of 65 536. A chunk with at
+ * most {@value #ARRAY_LIMIT} values is a sorted {@code char[]}; a fuller one is a
+ * 1024-word bitset. Sparse sets cost two bytes a value, dense ones one bit, and
+ * intersections and differences work a chunk at a time — on whole words when either
+ * side is a bitset.
+ *
+ * <p>Mutable through {@link #add} and {@link #remove}; the set operations return new
+ * bitmaps and leave their operands alone. Not thread-safe.
+ */
+public final class OrdinalBitmap {
+
+    /** Largest chunk kept as a sorted array. */
+    static final int ARRAY_LIMIT = 4096;
+    private static final int WORDS = 1024;
+    private static final byte FORMAT = 1;
+    private static final byte ARRAY = 0;
+    private static final byte BITSET = 1;
+
+    /** High 16 bits of each chunk, ascending. */
+    private char[] keys;
+    private Chunk[] chunks;
+    private int size;
+
+    public OrdinalBitmap() {
+        this(new char[4], new Chunk[4], 0);
+    }
+
+    private OrdinalBitmap(char[] keys, Chunk[] chunks, int size) {
+        this.keys = keys;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static OrdinalBitmap of(int... values) {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public boolean contains(int value) {
+        int index = indexOf(high(value));
+        return index >= 0 && chunks[index].contains(low(value));
+    }
+
+    /** @return whether the value was added */
+    public boolean add(int value) {
+        if (value < 0) throw new IllegalArgumentException("Ordinals are non-negative: " + value);
+        char high = high(value);
+        int index = indexOf(high);
+        if (index < 0) {
+            insertChunk(-index - 1, high, new ArrayChunk(new char[] {low(value)}, 1));
+            return true;
+        }
+        int before = chunks[index].cardinality();
+        chunks[index] = chunks[index].add(low(value));
+        return chunks[index].cardinality() > before;
+    }
+
+    /** @return whether the value was present */
+    public boolean remove(int value) {
+        int index = value < 0 ? -1 : indexOf(high(value));
+        if (index < 0) return false;
+        int before = chunks[index].cardinality();
+        Chunk chunk = chunks[index].remove(low(value));
+        if (chunk == null) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(chunks, index + 1, chunks, index, size - index - 1);
+            chunks[--size] = null;
+            return true;
+        }
+        chunks[index] = chunk;
+        return chunk.cardinality() < before;
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The value at the given rank, counting from 0 in ascending order.
+     *
+     * @throws IndexOutOfBoundsException if {@code rank} is not below the cardinality
+     */
+    public int select(int rank) {
+        int remaining = rank;
+        for (int i = 0; i < size; i++) {
+            int cardinality = chunks[i].cardinality();
+            if (remaining < cardinality) {
+                return keys[i] << 16 | chunks[i].select(remaining);
+            }
+            remaining -= cardinality;
+        }
+        throw new IndexOutOfBoundsException("Rank " + rank + " of a bitmap with " + cardinality() + " values");
+    }
+
+    /** Values in both bitmaps. */
+    public OrdinalBitmap and(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (int i = 0, j = 0; i < size && j < other.size; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].and(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** Values in this bitmap and not in the other. */
+    public OrdinalBitmap andNot(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) j++;
+            boolean shared = j < other.size && other.keys[j] == keys[i];
+            result.appendChunk(keys[i], shared ? chunks[i].andNot(other.chunks[j]) : chunks[i].copy());
+        }
+        return result;
+    }
+
+    /** Values in either bitmap. */
+    public OrdinalBitmap or(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i++].copy());
+            } else if (i == size || other.keys[j] < keys[i]) {
+                result.appendChunk(other.keys[j], other.chunks[j++].copy());
+            } else {
+                result.appendChunk(keys[i], chunks[i++].or(other.chunks[j++]));
+            }
+        }
+        return result;
+    }
+
+    public OrdinalBitmap copy() {
+        Chunk[] copied = new Chunk[Math.max(size, 4)];
+        for (int i = 0; i < size; i++) {
+            copied[i] = chunks[i].copy();
+        }
+        return new OrdinalBitmap(Arrays.copyOf(keys, copied.length), copied, size);
+    }
+
+    /** The values in ascending order. */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            n = chunks[i].copyTo(values, n, keys[i] << 16);
+        }
+        return values;
+    }
+
+    /** Compact binary form, read back by {@link #deserialize}. */
+    public byte[] serialize() {
+        int length = 1 + 4;
+        for (int i = 0; i < size; i++) {
+            length += 2 + 1 + 4 + (chunks[i] instanceof ArrayChunk a ? 2 * a.cardinality : 8 * WORDS);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(FORMAT).putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putChar(keys[i]);
+            if (chunks[i] instanceof ArrayChunk a) {
+                buffer.put(ARRAY).putInt(a.cardinality);
+                for (int k = 0; k < a.cardinality; k++) buffer.putChar(a.values[k]);
+            } else {
+                BitsetChunk b = (BitsetChunk) chunks[i];
+                buffer.put(BITSET).putInt(b.cardinality);
+                for (long word : b.words) buffer.putLong(word);
+            }
+        }
+        return buffer.array();
+    }
+
+    /** @throws IllegalArgumentException if the bytes are not a serialized bitmap */
+    public static OrdinalBitmap deserialize(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get() != FORMAT) throw new IllegalArgumentException("Unknown ordinal bitmap format");
+            int count = buffer.getInt();
+            OrdinalBitmap bitmap = new OrdinalBitmap(new char[Math.max(count, 4)], new Chunk[Math.max(count, 4)], 0);
+            for (int i = 0; i < count; i++) {
+                char key = buffer.getChar();
+                byte type = buffer.get();
+                int cardinality = buffer.getInt();
+                if (type == ARRAY) {
+                    char[] values = new char[cardinality];
+                    for (int k = 0; k < cardinality; k++) values[k] = buffer.getChar();
+                    bitmap.appendChunk(key, new ArrayChunk(values, cardinality));
+                } else {
+                    long[] words = new long[WORDS];
+                    for (int w = 0; w < WORDS; w++) words[w] = buffer.getLong();
+                    bitmap.appendChunk(key, new BitsetChunk(words, cardinality));
+                }
+            }
+            return bitmap;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated ordinal bitmap", ex);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof OrdinalBitmap other && Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return "OrdinalBitmap" + Arrays.toString(toArray());
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertChunk(int index, char key, Chunk chunk) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            chunks = Arrays.copyOf(chunks, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(chunks, index, chunks, index + 1, size - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        size++;
+    }
+
+    /** Adds a chunk after every existing one; empty (null) chunks are dropped. */
+    private void appendChunk(char key, Chunk chunk) {
+        if (chunk != null) insertChunk(size, key, chunk);
+    }
+
+    /** The values of one 65 536-value chunk, by their low 16 bits. */
+    private abstract static sealed class Chunk permits ArrayChunk, BitsetChunk {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        /** This chunk or its replacement with the value added. */
+        abstract Chunk add(char value);
+
+        /** This chunk or its replacement with the value removed; null once empty. */
+        abstract Chunk remove(char value);
+
+        abstract char select(int rank);
+
+        abstract long[] toWords();
+
+        abstract Chunk copy();
+
+        /** Writes the values, ORed with {@code high}, from {@code at}; returns the next free index. */
+        abstract int copyTo(int[] out, int at, int high);
+
+        Chunk and(Chunk other) {
+            if (this instanceof ArrayChunk a) return a.filter(other, true);
+            if (other instanceof ArrayChunk b) return b.filter(this, true);
+            long[] words = toWords();
+            long[] others = ((BitsetChunk) other).words;
+            for (int w = 0; w < WORDS; w++) words[w] &= others[w];
+            return fromWords(words);
+        }
+
+        Chunk andNot(Chunk other) {
+            if (this instanceof ArrayChunk a) return a.filter(other, false);
+            long[] words = toWords();
+            if (other instanceof ArrayChunk b) {
+                for (int k = 0; k < b.cardinality; k++) words[b.values[k] >>> 6] &= ~(1L << b.values[k]);
+            } else {
+                long[] others = ((BitsetChunk) other).words;
+                for (int w = 0; w < WORDS; w++) words[w] &= ~others[w];
+            }
+            return fromWords(words);
+        }
+
+        Chunk or(Chunk other) {
+            long[] words = toWords();
+            if (other instanceof ArrayChunk b) {
+                for (int k = 0; k < b.cardinality; k++) words[b.values[k] >>> 6] |= 1L << b.values[k];
+            } else {
+                long[] others = ((BitsetChunk) other).words;
+                for (int w = 0; w < WORDS; w++) words[w] |= others[w];
+            }
+            return fromWords(words);
+        }
+
+        /** The smallest chunk for the bits: null if none are set, an array up to {@value #ARRAY_LIMIT}. */
+        static Chunk fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) cardinality += Long.bitCount(word);
+            if (cardinality == 0) return null;
+            if (cardinality > ARRAY_LIMIT) return new BitsetChunk(words, cardinality);
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    values[n++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayChunk(values, cardinality);
+        }
+    }
+
+    private static final class ArrayChunk extends Chunk {
+        char[] values;
+        int cardinality;
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) return this;
+            if (cardinality == ARRAY_LIMIT) {
+                long[] words = toWords();
+                words[value >>> 6] |= 1L << value;
+                return new BitsetChunk(words, cardinality + 1);
+            }
+            int at = -index - 1;
+            if (cardinality == values.length) values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+            System.arraycopy(values, at, values, at + 1, cardinality - at);
+            values[at] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) return this;
+            if (cardinality == 1) return null;
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        char select(int rank) {
+            return values[rank];
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[WORDS];
+            for (int k = 0; k < cardinality; k++) words[values[k] >>> 6] |= 1L << values[k];
+            return words;
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        int copyTo(int[] out, int at, int high) {
+            for (int k = 0; k < cardinality; k++) out[at++] = high | values[k];
+            return at;
+        }
+
+        /** Values that are ({@code keep}) or are not in the other chunk. */
+        Chunk filter(Chunk other, boolean keep) {
+            char[] kept = new char[cardinality];
+            int n = 0;
+            for (int k = 0; k < cardinality; k++) {
+                if (other.contains(values[k]) == keep) kept[n++] = values[k];
+            }
+            return n == 0 ? null : new ArrayChunk(kept, n);
+        }
+    }
+
+    private static final class BitsetChunk extends Chunk {
+        final long[] words;
+        int cardinality;
+
+        BitsetChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & 1L << value) != 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            if (!contains(value)) {
+                words[value >>> 6] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            if (!contains(value)) return this;
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            return cardinality <= ARRAY_LIMIT ? fromWords(words) : this;
+        }
+
+        @Override
+        char select(int rank) {
+            int remaining = rank;
+            for (int w = 0; w < WORDS; w++) {
+                int count = Long.bitCount(words[w]);
+                if (remaining < count) {
+                    long word = words[w];
+                    for (int k = 0; k < remaining; k++) word &= word - 1;
+                    return (char) (w << 6 | Long.numberOfTrailingZeros(word));
+                }
+                remaining -= count;
+            }
+            throw new IndexOutOfBoundsException("Rank " + rank + " of a chunk with " + cardinality + " values");
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitsetChunk(words.clone(), cardinality);
+        }
+
+        @Override
+        int copyTo(int[] out, int at, int high) {
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    out[at++] = high | w << 6 | Long.numberOfTrailingZeros(word);
+                }
+            }
+            return at;
+        }
+    }
+}
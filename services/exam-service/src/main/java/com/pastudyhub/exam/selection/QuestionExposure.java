@@ -0,0 +1,41 @@
+package com.pastudyhub.exam.selection;
+
+import java.util.Map;
+
+/**
+ * One user's history over question ordinals: every question they have answered in a
+ * finished exam, and the subset whose latest answer was wrong.
+ *
+ * <p>Treated as immutable once built — {@link #withAnswers} returns a changed copy — so
+ * cached instances can be shared between threads.
+ */
+public record QuestionExposure(OrdinalBitmap seen, OrdinalBitmap missed) {
+
+    public static QuestionExposure empty() {
+        return new QuestionExposure(new OrdinalBitmap(), new OrdinalBitmap());
+    }
+
+    public boolean isEmpty() {
+        return seen.isEmpty();
+    }
+
+    /**
+     * A copy with the latest answer to each question applied: the question becomes seen,
+     * and missed exactly when that answer is wrong.
+     *
+     * @param correctByOrdinal whether the latest answer to each question ordinal is correct
+     */
+    public QuestionExposure withAnswers(Map<Integer, Boolean> correctByOrdinal) {
+        OrdinalBitmap newSeen = seen.copy();
+        OrdinalBitmap newMissed = missed.copy();
+        correctByOrdinal.forEach((ordinal, correct) -> {
+            newSeen.add(ordinal);
+            if (correct) {
+                newMissed.remove(ordinal);
+            } else {
+                newMissed.add(ordinal);
+            }
+        });
+        return new QuestionExposure(newSeen, newMissed);
+    }
+}
@@ -0,0 +1,125 @@
+package com.pastudyhub.exam.selection;
+
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.bank.QuestionBankCache;
+import com.pastudyhub.exam.model.ExamAnswer;
+import com.pastudyhub.exam.model.ExamSession;
+import com.pastudyhub.exam.model.UserQuestionExposure;
+import com.pastudyhub.exam.repository.ExamAnswerRepository;
+import com.pastudyhub.exam.repository.UserQuestionExposureRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps each user's {@link QuestionExposure} in {@code user_question_exposure}, with the
+ * most recently used ones deserialized in memory.
+ *
+ * <p>A finished exam folds its answers into the user's row under a row lock, in the
+ * finishing transaction, and refreshes this instance's cache entry once that commits. A
+ * missing row is inserted before the lock is taken, so there is always one to lock.
+ * Entries are reread after {@code exam.selection.exposure-cache.ttl-ms}, which bounds how
+ * long exams finished on another instance go unnoticed here. A user without a row —
+ * their exams predate the table — is rebuilt from their answers.
+ */
+@Component
+public class QuestionExposureStore {
+
+    private final UserQuestionExposureRepository exposureRepository;
+    private final ExamAnswerRepository examAnswerRepository;
+    private final QuestionBankCache questionBankCache;
+    private final long ttlMillis;
+    private final Map<UUID, Cached> cache;
+
+    public QuestionExposureStore(UserQuestionExposureRepository exposureRepository,
+                                 ExamAnswerRepository examAnswerRepository,
+                                 QuestionBankCache questionBankCache,
+                                 @Value("${exam.selection.exposure-cache.size:10000}") int cacheSize,
+                                 @Value("${exam.selection.exposure-cache.ttl-ms:300000}") long ttlMillis) {
+        this.exposureRepository = exposureRepository;
+        this.examAnswerRepository = examAnswerRepository;
+        this.questionBankCache = questionBankCache;
+        this.ttlMillis = ttlMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Cached> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /** The user's exposure; empty for a user who has not finished an exam. */
+    public QuestionExposure exposure(UUID userId) {
+        Cached cached = cache.get(userId);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < ttlMillis) {
+            return cached.exposure();
+        }
+        QuestionExposure exposure = exposureRepository.findById(userId)
+                .map(row -> new QuestionExposure(
+                        OrdinalBitmap.deserialize(row.getSeen()), OrdinalBitmap.deserialize(row.getMissed())))
+                .orElseGet(() -> rebuild(userId));
+        cache.put(userId, new Cached(exposure, System.currentTimeMillis()));
+        return exposure;
+    }
+
+    /**
+     * Records a finished session's answers. Joins the caller's transaction; call after the
+     * session is saved with its final status.
+     */
+    public void examFinished(ExamSession session, List<ExamAnswer> answers) {
+        QuestionBank bank = questionBankCache.current();
+        Map<Integer, Boolean> correctByOrdinal = new HashMap<>();
+        for (ExamAnswer answer : answers) {
+            Integer ordinal = bank.ordinal(answer.getQuestion().getId());
+            if (ordinal != null) correctByOrdinal.put(ordinal, answer.isCorrect());
+        }
+
+        UUID userId = session.getUserId();
+        // Create the row before locking it, so two first exams queue on the same row
+        // instead of both inserting one. Whoever creates it rebuilds from the answers,
+        // which already include this session's.
+        boolean created = exposureRepository.insertIfAbsent(userId, new OrdinalBitmap().serialize()) == 1;
+        UserQuestionExposure row = exposureRepository.findByUserIdForUpdate(userId).orElseThrow();
+        QuestionExposure exposure = created
+                ? rebuild(userId)
+                : new QuestionExposure(OrdinalBitmap.deserialize(row.getSeen()), OrdinalBitmap.deserialize(row.getMissed()))
+                        .withAnswers(correctByOrdinal);
+        row.setSeen(exposure.seen().serialize());
+        row.setMissed(exposure.missed().serialize());
+        row.setSeenCount(exposure.seen().cardinality());
+        exposureRepository.save(row);
+
+        Cached updated = new Cached(exposure, System.currentTimeMillis());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(userId, updated);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(userId, updated);
+            }
+        });
+    }
+
+    /** The user's exposure recomputed from their answers in finished exams. */
+    private QuestionExposure rebuild(UUID userId) {
+        QuestionBank bank = questionBankCache.current();
+        Map<Integer, Boolean> latest = new HashMap<>();
+        for (Object[] row : examAnswerRepository.findFinishedAnswersForUser(userId)) {
+            Integer ordinal = bank.ordinal((UUID) row[0]);
+            if (ordinal != null) latest.put(ordinal, (Boolean) row[1]);
+        }
+        return QuestionExposure.empty().withAnswers(latest);
+    }
+
+    private record Cached(QuestionExposure exposure, long loadedAt) {}
+}
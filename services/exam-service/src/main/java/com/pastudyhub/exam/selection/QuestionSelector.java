@@ -0,0 +1,49 @@
+package com.pastudyhub.exam.selection;
+
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.engine.QuestionRandomizer;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws the questions of a fixed exam for a user, preferring questions they have not
+ * seen, then questions they last got wrong, by the {@code exam.selection.weights.*}.
+ * A user with no finished exams gets a uniform draw.
+ */
+@Component
+public class QuestionSelector {
+
+    private final QuestionExposureStore questionExposureStore;
+    private final ExposureWeightedSampler.Weights weights;
+
+    public QuestionSelector(QuestionExposureStore questionExposureStore,
+                            @Value("${exam.selection.weights.unseen:8}") double unseen,
+                            @Value("${exam.selection.weights.missed:4}") double missed,
+                            @Value("${exam.selection.weights.seen:1}") double seen) {
+        this.questionExposureStore = questionExposureStore;
+        this.weights = new ExposureWeightedSampler.Weights(unseen, missed, seen);
+    }
+
+    /**
+     * IDs of {@code count} distinct active questions matching the filters, in exam order.
+     *
+     * @throws IllegalStateException if fewer questions match
+     */
+    public List<UUID> select(UUID userId, QuestionBank bank, QuestionCategory category,
+                             DifficultyLevel difficulty, int count, RandomGenerator random) {
+        QuestionExposure exposure = questionExposureStore.exposure(userId);
+        if (exposure.isEmpty()) {
+            return QuestionRandomizer.sample(bank.activeIds(category, difficulty), count, random);
+        }
+        int[] ordinals = ExposureWeightedSampler.sample(
+                bank.activeOrdinals(category, difficulty), exposure, count, weights, random);
+        return Arrays.stream(ordinals).mapToObj(bank::questionId).toList();
+    }
+}
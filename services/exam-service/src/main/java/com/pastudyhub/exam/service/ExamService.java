@@ -8,9 +8,12 @@ import java.util.UUID;
 public interface ExamService {
     ExamSessionResponse startExam(StartExamRequest request, UUID userId);
     ExamSessionResponse getExamSession(UUID sessionId, UUID userId);
-    ExamSessionResponse submitAnswer(UUID sessionId, UUID questionId, SubmitAnswerRequest request, UUID userId);
+    AnswerResponse submitAnswer(UUID sessionId, UUID questionId, SubmitAnswerRequest request, UUID userId);
+    BulkAnswerResponse submitAnswers(UUID sessionId, BulkAnswerRequest request, UUID userId);
+    NextQuestionResponse getNextQuestion(UUID sessionId, UUID userId);
     ExamResultResponse completeExam(UUID sessionId, UUID userId);
     void abandonExam(UUID sessionId, UUID userId);
-    ExamResultResponse getExamResult(UUID sessionId, UUID userId);
+    boolean expireExam(UUID sessionId);
+    StoredExamResult getExamResult(UUID sessionId, UUID userId);
     Page<ExamHistorySummary> getExamHistory(UUID userId, int page, int size);
 }
@@ -1,18 +1,33 @@
 package com.pastudyhub.exam.service;
 
+import com.pastudyhub.exam.adaptive.AdaptiveItemSelector;
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.bank.QuestionBank;
+import com.pastudyhub.exam.bank.QuestionBankCache;
 import com.pastudyhub.exam.dto.*;
-import com.pastudyhub.exam.engine.QuestionRandomizer;
+import com.pastudyhub.exam.engine.AbilityEstimate;
 import com.pastudyhub.exam.engine.ScoreResult;
 import com.pastudyhub.exam.engine.ScoringEngine;
 import com.pastudyhub.exam.exception.ExamAlreadyCompletedException;
 import com.pastudyhub.exam.exception.ExamSessionNotFoundException;
+import com.pastudyhub.exam.exception.ExamTimeExpiredException;
 import com.pastudyhub.exam.exception.InsufficientQuestionsException;
+import com.pastudyhub.exam.exception.InvalidAnswerOptionException;
+import com.pastudyhub.exam.exception.NoMoreQuestionsException;
+import com.pastudyhub.exam.exception.QuestionNotInSessionException;
+import com.pastudyhub.exam.expiry.ExamExpiryScheduler;
 import com.pastudyhub.exam.mapper.ExamMapper;
 import com.pastudyhub.exam.model.*;
+import com.pastudyhub.exam.psychometrics.QuestionStatsRecorder;
 import com.pastudyhub.exam.repository.AnswerOptionRepository;
 import com.pastudyhub.exam.repository.ExamAnswerRepository;
+import com.pastudyhub.exam.repository.ExamResultSnapshotRepository;
+import com.pastudyhub.exam.repository.ExamSessionQuestionRepository;
 import com.pastudyhub.exam.repository.ExamSessionRepository;
+import com.pastudyhub.exam.repository.ExamSessionSnapshotRepository;
 import com.pastudyhub.exam.repository.QuestionRepository;
+import com.pastudyhub.exam.selection.QuestionExposureStore;
+import com.pastudyhub.exam.selection.QuestionSelector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,8 +37,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -34,25 +59,30 @@ public class ExamServiceImpl implements ExamService {
     private final ExamSessionRepository examSessionRepository;
     private final ExamAnswerRepository examAnswerRepository;
     private final AnswerOptionRepository answerOptionRepository;
+    private final ExamSessionQuestionRepository examSessionQuestionRepository;
+    private final ExamSessionSnapshotRepository examSessionSnapshotRepository;
+    private final ExamResultSnapshotRepository examResultSnapshotRepository;
     private final ExamMapper examMapper;
+    private final QuestionBankCache questionBankCache;
+    private final ExamStatsService examStatsService;
+    private final AdaptiveItemSelector adaptiveItemSelector;
+    private final QuestionStatsRecorder questionStatsRecorder;
+    private final ExamExpiryScheduler examExpiryScheduler;
+    private final QuestionSelector questionSelector;
+    private final QuestionExposureStore questionExposureStore;
 
     @Override
     @Transactional
     public ExamSessionResponse startExam(StartExamRequest request, UUID userId) {
-        List<Question> pool = questionRepository.findActiveByFilters(
-                request.getCategoryFilter(), request.getDifficultyFilter());
-
-        QuestionRandomizer randomizer = new QuestionRandomizer(pool);
-        List<Question> selected;
-        try {
-            selected = randomizer.select(request.getQuestionCount(),
-                    request.getCategoryFilter(), request.getDifficultyFilter());
-        } catch (IllegalStateException ex) {
-            throw new InsufficientQuestionsException(request.getQuestionCount(), pool.size());
+        if (request.isAdaptive()) {
+            return startAdaptiveExam(request, userId);
         }
+        long seed = ThreadLocalRandom.current().nextLong();
+        List<BankedQuestion> selected = selectQuestions(request, seed, userId);
 
         ExamSession session = ExamSession.builder()
                 .userId(userId)
+                .shuffleSeed(seed)
                 .questionCount(request.getQuestionCount())
                 .timeLimitMinutes(request.getTimeLimitMinutes())
                 .categoryFilter(request.getCategoryFilter())
@@ -61,93 +91,248 @@ public class ExamServiceImpl implements ExamService {
                 .build();
 
         ExamSession saved = examSessionRepository.save(session);
+        examStatsService.examStarted(userId);
+
+        // Freeze the question set: ordered rows (one JDBC batch) plus the answer-stripped payload
+        examSessionQuestionRepository.saveAll(IntStream.range(0, selected.size())
+                .mapToObj(i -> ExamSessionQuestion.builder()
+                        .examSession(saved)
+                        .question(questionRepository.getReferenceById(selected.get(i).id()))
+                        .position(i)
+                        .build())
+                .toList());
+        List<QuestionResponse> questions = examMapper.toExamQuestions(selected);
+        examSessionSnapshotRepository.save(ExamSessionSnapshot.builder()
+                .examSession(saved)
+                .questionsJson(examMapper.writeSnapshot(questions))
+                .build());
+
+        examExpiryScheduler.examStarted(saved);
+
         log.info("Exam started: sessionId={}, userId={}, questionCount={}", saved.getId(), userId, selected.size());
+        return examMapper.toSessionResponse(saved, questions, 0);
+    }
 
-        return examMapper.toSessionResponse(saved, selected, 0);
+    /**
+     * Adaptive exams start from the prior ability estimate with only the first question
+     * served; each answer serves the next. There is no frozen question set or snapshot.
+     */
+    private ExamSessionResponse startAdaptiveExam(StartExamRequest request, UUID userId) {
+        int available = adaptiveItemSelector.poolSize(request.getCategoryFilter());
+        if (available < request.getQuestionCount()) {
+            throw new InsufficientQuestionsException(request.getQuestionCount(), available);
+        }
+        AbilityEstimate prior = AbilityEstimate.prior();
+        ExamSession session = examSessionRepository.save(ExamSession.builder()
+                .userId(userId)
+                .shuffleSeed(ThreadLocalRandom.current().nextLong())
+                .questionCount(request.getQuestionCount())
+                .timeLimitMinutes(request.getTimeLimitMinutes())
+                .categoryFilter(request.getCategoryFilter())
+                .status(ExamStatus.IN_PROGRESS)
+                .adaptive(true)
+                .abilityEstimate(prior.theta())
+                .abilityPrecision(prior.precision())
+                .build());
+        examStatsService.examStarted(userId);
+
+        BankedQuestion first = adaptiveItemSelector.next(request.getCategoryFilter(), prior.theta(), Set.of());
+        serve(session, first, 0);
+        examExpiryScheduler.examStarted(session);
+
+        log.info("Adaptive exam started: sessionId={}, userId={}, questionCount={}",
+                session.getId(), userId, request.getQuestionCount());
+        return examMapper.toSessionResponse(session, examMapper.toExamQuestions(List.of(first)), 0);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ExamSessionResponse getExamSession(UUID sessionId, UUID userId) {
         ExamSession session = findSessionForUser(sessionId, userId);
-
-        // Rebuild the question list from existing answers + ordering
-        List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
-        List<Question> questions = answers.stream()
-                .map(ExamAnswer::getQuestion)
-                .distinct()
-                .toList();
-
-        return examMapper.toSessionResponse(session, questions, answers.size());
+        return examMapper.toSessionResponse(session, sessionQuestions(session), session.getAnsweredCount());
     }
 
     @Override
     @Transactional
-    public ExamSessionResponse submitAnswer(UUID sessionId, UUID questionId,
-                                             SubmitAnswerRequest request, UUID userId) {
-        ExamSession session = findSessionForUser(sessionId, userId);
+    public AnswerResponse submitAnswer(UUID sessionId, UUID questionId,
+                                       SubmitAnswerRequest request, UUID userId) {
+        ExamSession session = examSessionRepository.findByIdAndUserIdForUpdate(sessionId, userId)
+                .orElseThrow(() -> new ExamSessionNotFoundException(sessionId));
 
-        if (session.getStatus() != ExamStatus.IN_PROGRESS) {
-            throw new ExamAlreadyCompletedException(sessionId);
+        requireAnswerable(session);
+
+        // Membership check and progress cursor in one indexed UPDATE
+        QuestionBank bank = questionBankCache.current();
+        if (examSessionQuestionRepository.markAnswered(sessionId, questionId) == 0) {
+            if (session.isAdaptive() || examSessionSnapshotRepository.existsById(sessionId)) {
+                throw new QuestionNotInSessionException(sessionId, questionId);
+            }
+            // Session started before question sets were stored — any existing question is accepted
+            if (bank.question(questionId) == null && !questionRepository.existsById(questionId)) {
+                throw new ExamSessionNotFoundException(questionId);
+            }
         }
+        Question question = questionRepository.getReferenceById(questionId);
+        BankedQuestion banked = examMapper.bankedQuestion(question);
 
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new ExamSessionNotFoundException(questionId));
-
+        // Correctness comes from the bank; the entities are only referenced by ID
         AnswerOption selectedOption = null;
         boolean correct = false;
 
         if (request.getSelectedOptionId() != null) {
-            selectedOption = answerOptionRepository.findById(request.getSelectedOptionId())
-                    .orElseThrow(() -> new ExamSessionNotFoundException(request.getSelectedOptionId()));
-            correct = selectedOption.isCorrect();
+            UUID optionId = request.getSelectedOptionId();
+            correct = resolveOption(bank, optionId, questionId).correct();
+            selectedOption = answerOptionRepository.getReferenceById(optionId);
         }
 
         // Upsert — allow re-answering a question during the same session
-        ExamAnswer answer = examAnswerRepository
-                .findByExamSessionIdAndQuestionId(sessionId, questionId)
-                .orElseGet(() -> ExamAnswer.builder()
-                        .examSession(session)
-                        .question(question)
-                        .build());
+        Optional<ExamAnswer> existing = examAnswerRepository.findByExamSessionIdAndQuestionId(sessionId, questionId);
+        Boolean previousCorrect = existing.map(ExamAnswer::isCorrect).orElse(null);
+        ExamAnswer answer = existing.orElseGet(() -> ExamAnswer.builder()
+                .examSession(session)
+                .question(question)
+                .build());
 
         answer.setSelectedOption(selectedOption);
         answer.setCorrect(correct);
         answer.setTimeSpentSeconds(request.getTimeSpentSeconds());
         examAnswerRepository.save(answer);
+        session.recordAnswer(banked.category(), previousCorrect, correct);
+        if (session.isAdaptive() && previousCorrect == null) {
+            advanceAdaptiveExam(session, banked, correct);
+        }
 
-        List<ExamAnswer> allAnswers = examAnswerRepository.findByExamSessionId(sessionId);
-        List<Question> questions = allAnswers.stream().map(ExamAnswer::getQuestion).distinct().toList();
-
-        return examMapper.toSessionResponse(session, questions, allAnswers.size());
+        return examMapper.toAnswerResponse(session, banked, correct, nextQuestion(session).orElse(null));
     }
 
+    /**
+     * Validates every answer against the session before writing any, then upserts them
+     * in one pass: inserts and updates go out as JDBC batches and the session questions
+     * are marked answered by a single statement. For adaptive sessions only questions
+     * already served can be answered; each first answer still advances the exam.
+     */
     @Override
     @Transactional
-    public ExamResultResponse completeExam(UUID sessionId, UUID userId) {
-        ExamSession session = findSessionForUser(sessionId, userId);
+    public BulkAnswerResponse submitAnswers(UUID sessionId, BulkAnswerRequest request, UUID userId) {
+        ExamSession session = examSessionRepository.findByIdAndUserIdForUpdate(sessionId, userId)
+                .orElseThrow(() -> new ExamSessionNotFoundException(sessionId));
+        requireAnswerable(session);
+
+        // Last answer per question wins
+        Map<UUID, AnswerRequest> submitted = new LinkedHashMap<>();
+        for (AnswerRequest answer : request.getAnswers()) {
+            submitted.remove(answer.getQuestionId());
+            submitted.put(answer.getQuestionId(), answer);
+        }
+
+        QuestionBank bank = questionBankCache.current();
+        Set<UUID> sessionQuestionIds = new HashSet<>(examSessionQuestionRepository.findQuestionIds(sessionId));
+        // Session started before question sets were stored — any existing question is accepted
+        boolean legacy = sessionQuestionIds.isEmpty() && !session.isAdaptive()
+                && !examSessionSnapshotRepository.existsById(sessionId);
+        Map<UUID, Boolean> correctness = new HashMap<>();
+        for (AnswerRequest answer : submitted.values()) {
+            UUID questionId = answer.getQuestionId();
+            if (legacy) {
+                if (bank.question(questionId) == null && !questionRepository.existsById(questionId)) {
+                    throw new ExamSessionNotFoundException(questionId);
+                }
+            } else if (!sessionQuestionIds.contains(questionId)) {
+                throw new QuestionNotInSessionException(sessionId, questionId);
+            }
+            correctness.put(questionId, resolveOption(bank, answer.getSelectedOptionId(), questionId).correct());
+        }
 
+        Map<UUID, ExamAnswer> answers = new LinkedHashMap<>();
+        examAnswerRepository.findByExamSessionId(sessionId)
+                .forEach(answer -> answers.put(answer.getQuestion().getId(), answer));
+        List<ExamAnswer> written = new ArrayList<>(submitted.size());
+        for (AnswerRequest submittedAnswer : submitted.values()) {
+            UUID questionId = submittedAnswer.getQuestionId();
+            boolean correct = correctness.get(questionId);
+            Question question = questionRepository.getReferenceById(questionId);
+            ExamAnswer existing = answers.get(questionId);
+            Boolean previousCorrect = existing == null ? null : existing.isCorrect();
+            ExamAnswer answer = existing != null ? existing : ExamAnswer.builder()
+                    .examSession(session)
+                    .question(question)
+                    .build();
+            answer.setSelectedOption(
+                    answerOptionRepository.getReferenceById(submittedAnswer.getSelectedOptionId()));
+            answer.setCorrect(correct);
+            answer.setTimeSpentSeconds(submittedAnswer.getTimeSpentSeconds());
+            answers.put(questionId, answer);
+            written.add(answer);
+
+            BankedQuestion banked = examMapper.bankedQuestion(question);
+            session.recordAnswer(banked.category(), previousCorrect, correct);
+            if (session.isAdaptive() && previousCorrect == null) {
+                advanceAdaptiveExam(session, banked, correct);
+            }
+        }
+        examAnswerRepository.saveAll(written);
+        examSessionQuestionRepository.markAllAnswered(sessionId, submitted.keySet());
+
+        ExamResultResponse result = request.isComplete()
+                ? complete(session, new ArrayList<>(answers.values()), ExamStatus.COMPLETED)
+                : null;
+        log.info("Bulk answers submitted: sessionId={}, userId={}, answers={}, completed={}",
+                sessionId, userId, submitted.size(), result != null);
+        return BulkAnswerResponse.builder()
+                .accepted(submitted.size())
+                .runningScore(new RunningScore(session.getCorrectCount(), session.getAnsweredCount()))
+                .answeredCount(session.getAnsweredCount())
+                .questionCount(session.getQuestionCount())
+                .result(result)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NextQuestionResponse getNextQuestion(UUID sessionId, UUID userId) {
+        ExamSession session = findSessionForUser(sessionId, userId);
         if (session.getStatus() != ExamStatus.IN_PROGRESS) {
             throw new ExamAlreadyCompletedException(sessionId);
         }
+        return nextQuestion(session).orElseThrow(() -> new NoMoreQuestionsException(sessionId));
+    }
 
-        List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
-        ScoringEngine engine = new ScoringEngine(answers);
-        ScoreResult result = engine.calculate();
-
-        session.setStatus(ExamStatus.COMPLETED);
-        session.setScore(result.rawScore());
-        session.setScorePercent(result.scorePercent());
-        session.setCompletedAt(LocalDateTime.now());
-        session.setDurationSeconds(
-                (int) ChronoUnit.SECONDS.between(session.getStartedAt(), session.getCompletedAt()));
+    @Override
+    @Transactional
+    public ExamResultResponse completeExam(UUID sessionId, UUID userId) {
+        ExamSession session = examSessionRepository.findByIdAndUserIdForUpdate(sessionId, userId)
+                .orElseThrow(() -> new ExamSessionNotFoundException(sessionId));
 
-        examSessionRepository.save(session);
+        if (session.getStatus() != ExamStatus.IN_PROGRESS) {
+            throw new ExamAlreadyCompletedException(sessionId);
+        }
 
-        log.info("Exam completed: sessionId={}, userId={}, score={}/{}  ({:.1f}%)",
-                sessionId, userId, result.rawScore(), result.totalQuestions(), result.scorePercent());
+        // Completing after the deadline, before the expiry job got to it, still counts as timed out
+        ExamStatus status = isExpired(session) ? ExamStatus.TIMED_OUT : ExamStatus.COMPLETED;
+        return complete(session, examAnswerRepository.findByExamSessionId(sessionId), status);
+    }
 
-        return examMapper.toResultResponse(session, result, answers);
+    /**
+     * Closes an in-progress session whose time limit has run out: scored as
+     * {@link ExamStatus#TIMED_OUT}, or {@link ExamStatus#ABANDONED} if nothing was answered.
+     * Sessions already closed or not yet due are left alone.
+     *
+     * @return whether the session was closed
+     */
+    @Override
+    @Transactional
+    public boolean expireExam(UUID sessionId) {
+        ExamSession session = examSessionRepository.findByIdForUpdate(sessionId).orElse(null);
+        if (session == null || session.getStatus() != ExamStatus.IN_PROGRESS || !isExpired(session)) {
+            return false;
+        }
+        List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
+        if (answers.isEmpty()) {
+            abandon(session);
+        } else {
+            complete(session, answers, ExamStatus.TIMED_OUT);
+        }
+        return true;
     }
 
     @Override
@@ -155,23 +340,42 @@ public class ExamServiceImpl implements ExamService {
     public void abandonExam(UUID sessionId, UUID userId) {
         ExamSession session = findSessionForUser(sessionId, userId);
         if (session.getStatus() == ExamStatus.IN_PROGRESS) {
-            session.setStatus(ExamStatus.ABANDONED);
-            session.setCompletedAt(LocalDateTime.now());
-            examSessionRepository.save(session);
+            abandon(session);
         }
     }
 
+    private void abandon(ExamSession session) {
+        session.setStatus(ExamStatus.ABANDONED);
+        session.setCompletedAt(LocalDateTime.now());
+        examSessionRepository.save(session);
+        examExpiryScheduler.examFinished(session.getId());
+    }
+
+    /**
+     * Serves the stored result snapshot. Sessions finished before snapshots existed are
+     * scored once under the session lock, and their snapshot is stored for later reads.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public ExamResultResponse getExamResult(UUID sessionId, UUID userId) {
-        ExamSession session = findSessionForUser(sessionId, userId);
+    @Transactional
+    public StoredExamResult getExamResult(UUID sessionId, UUID userId) {
+        Optional<ExamResultSnapshot> stored = examResultSnapshotRepository.findByExamSessionIdAndUserId(sessionId, userId);
+        if (stored.isPresent()) {
+            return new StoredExamResult(stored.get().getEtag(), stored.get().getPayload());
+        }
+
+        ExamSession session = examSessionRepository.findByIdAndUserIdForUpdate(sessionId, userId)
+                .orElseThrow(() -> new ExamSessionNotFoundException(sessionId));
         if (session.getStatus() == ExamStatus.IN_PROGRESS) {
             throw new ExamAlreadyCompletedException(sessionId);
         }
-        List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
-        ScoringEngine engine = new ScoringEngine(answers);
-        ScoreResult result = engine.calculate();
-        return examMapper.toResultResponse(session, result, answers);
+        // Another request may have stored it while this one waited for the lock
+        return examResultSnapshotRepository.findById(sessionId)
+                .map(snapshot -> new StoredExamResult(snapshot.getEtag(), snapshot.getPayload()))
+                .orElseGet(() -> {
+                    List<ExamAnswer> answers = examAnswerRepository.findByExamSessionId(sessionId);
+                    ScoreResult result = score(answers);
+                    return storeResult(session, examMapper.toResultResponse(session, result, answers));
+                });
     }
 
     @Override
@@ -181,6 +385,156 @@ public class ExamServiceImpl implements ExamService {
                 .map(examMapper::toHistorySummary);
     }
 
+    /**
+     * Draws the requested number of questions from the bank's active pool for the
+     * filters, preferring ones the user has not seen or last missed, with SplitMix64
+     * seeded from the session seed. Questions and options come from the bank.
+     */
+    private List<BankedQuestion> selectQuestions(StartExamRequest request, long seed, UUID userId) {
+        QuestionBank bank = questionBankCache.current();
+        try {
+            return questionSelector.select(userId, bank, request.getCategoryFilter(), request.getDifficultyFilter(),
+                            request.getQuestionCount(), new SplittableRandom(seed)).stream()
+                    .map(bank::question)
+                    .toList();
+        } catch (IllegalStateException ex) {
+            throw new InsufficientQuestionsException(request.getQuestionCount(),
+                    bank.activeIds(request.getCategoryFilter(), request.getDifficultyFilter()).length);
+        }
+    }
+
+    /**
+     * Scores a locked in-progress session from its answers, closes it with the given
+     * status ({@code COMPLETED} or {@code TIMED_OUT}) and stores the result.
+     */
+    private ExamResultResponse complete(ExamSession session, List<ExamAnswer> answers, ExamStatus status) {
+        ScoreResult result = score(answers);
+
+        session.setStatus(status);
+        session.setScore(result.rawScore());
+        session.setScorePercent(result.scorePercent());
+        session.setCompletedAt(LocalDateTime.now());
+        session.setDurationSeconds(
+                (int) ChronoUnit.SECONDS.between(session.getStartedAt(), session.getCompletedAt()));
+
+        examSessionRepository.save(session);
+        examStatsService.examCompleted(session);
+        questionExposureStore.examFinished(session, answers);
+        examExpiryScheduler.examFinished(session.getId());
+        questionStatsRecorder.examCompleted(session, answers);
+
+        ExamResultResponse response = examMapper.toResultResponse(session, result, answers);
+        storeResult(session, response);
+
+        log.info("Exam {}: sessionId={}, userId={}, score={}/{}  ({:.1f}%)",
+                status == ExamStatus.TIMED_OUT ? "timed out" : "completed", session.getId(), session.getUserId(),
+                result.rawScore(), result.totalQuestions(), result.scorePercent());
+        return response;
+    }
+
+    /** Rejects answers to a closed session or one whose time limit has run out. */
+    private static void requireAnswerable(ExamSession session) {
+        if (session.getStatus() != ExamStatus.IN_PROGRESS) {
+            throw new ExamAlreadyCompletedException(session.getId());
+        }
+        if (isExpired(session)) {
+            throw new ExamTimeExpiredException(session.getId());
+        }
+    }
+
+    private static boolean isExpired(ExamSession session) {
+        LocalDateTime expiresAt = session.expiresAt();
+        return expiresAt != null && !LocalDateTime.now().isBefore(expiresAt);
+    }
+
+    /** Scores answers with categories from the bank, so question references stay uninitialized. */
+    private ScoreResult score(List<ExamAnswer> answers) {
+        ScoringEngine engine = new ScoringEngine();
+        for (ExamAnswer answer : answers) {
+            engine.accept(examMapper.bankedQuestion(answer.getQuestion()).category(), answer.getQuestion().getId(),
+                    answer.isCorrect(), answer.getTimeSpentSeconds());
+        }
+        return engine.calculate();
+    }
+
+    /** The option's owner and correctness, from the bank or, failing that, the database. */
+    private QuestionBank.OptionRef resolveOption(QuestionBank bank, UUID optionId, UUID questionId) {
+        QuestionBank.OptionRef option = Optional.ofNullable(bank.option(optionId))
+                .or(() -> answerOptionRepository.findById(optionId)
+                        .map(o -> new QuestionBank.OptionRef(o.getQuestion().getId(), o.isCorrect())))
+                .orElseThrow(() -> new ExamSessionNotFoundException(optionId));
+        if (!option.questionId().equals(questionId)) {
+            throw new InvalidAnswerOptionException(optionId, questionId);
+        }
+        return option;
+    }
+
+    private StoredExamResult storeResult(ExamSession session, ExamResultResponse response) {
+        StoredExamResult stored = examMapper.writeResult(response);
+        examResultSnapshotRepository.save(ExamResultSnapshot.builder()
+                .examSessionId(session.getId())
+                .userId(session.getUserId())
+                .etag(stored.etag())
+                .payload(stored.gzippedJson())
+                .build());
+        return stored;
+    }
+
+    /**
+     * Updates the ability estimate with a first answer and serves the most informative
+     * unseen question at the new estimate, until the exam has its full length. Re-answers
+     * do not move the estimate.
+     */
+    private void advanceAdaptiveExam(ExamSession session, BankedQuestion answered, boolean correct) {
+        AbilityEstimate estimate = new AbilityEstimate(session.getAbilityEstimate(), session.getAbilityPrecision())
+                .update(answered.irt(), correct);
+        session.setAbilityEstimate(estimate.theta());
+        session.setAbilityPrecision(estimate.precision());
+
+        if (session.getAnsweredCount() >= session.getQuestionCount()) return;
+        Set<UUID> served = new HashSet<>(examSessionQuestionRepository.findQuestionIds(session.getId()));
+        BankedQuestion next = adaptiveItemSelector.next(session.getCategoryFilter(), estimate.theta(), served);
+        if (next != null) {
+            serve(session, next, served.size());
+        }
+    }
+
+    private void serve(ExamSession session, BankedQuestion question, int position) {
+        examSessionQuestionRepository.save(ExamSessionQuestion.builder()
+                .examSession(session)
+                .question(questionRepository.getReferenceById(question.id()))
+                .position(position)
+                .build());
+    }
+
+    /** The first unanswered question in exam order, with the time left; empty once all are answered. */
+    private Optional<NextQuestionResponse> nextQuestion(ExamSession session) {
+        return examSessionQuestionRepository
+                .findFirstByExamSessionIdAndAnsweredFalseOrderByPositionAsc(session.getId())
+                .map(next -> examMapper.toNextQuestionResponse(session,
+                        examMapper.bankedQuestion(next.getQuestion()), next.getPosition(), LocalDateTime.now()));
+    }
+
+    /**
+     * The session's question set, read from its snapshot row. Sessions started before
+     * snapshots existed fall back to the questions they have answers for.
+     */
+    private List<QuestionResponse> sessionQuestions(ExamSession session) {
+        UUID sessionId = session.getId();
+        if (session.isAdaptive()) {
+            // Questions served so far, in order
+            return examMapper.toExamQuestions(examSessionQuestionRepository.findQuestionIds(sessionId).stream()
+                    .map(id -> examMapper.bankedQuestion(questionRepository.getReferenceById(id)))
+                    .toList());
+        }
+        return examSessionSnapshotRepository.findById(sessionId)
+                .map(examMapper::readSnapshot)
+                .orElseGet(() -> examMapper.toExamQuestions(examAnswerRepository.findByExamSessionId(sessionId).stream()
+                        .map(answer -> examMapper.bankedQuestion(answer.getQuestion()))
+                        .distinct()
+                        .toList()));
+    }
+
     private ExamSession findSessionForUser(UUID sessionId, UUID userId) {
         return examSessionRepository.findByIdAndUserId(sessionId, userId)
                 .orElseThrow(() -> new ExamSessionNotFoundException(sessionId));
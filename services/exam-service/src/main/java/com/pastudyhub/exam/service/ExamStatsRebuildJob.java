@@ -0,0 +1,60 @@
+package com.pastudyhub.exam.service;
+
+import com.pastudyhub.exam.repository.ExamSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds every user's {@code user_exam_stats} row from their sessions — backfill after
+ * the table is introduced, or repair after manual data changes. Users are processed in
+ * pages, each user in its own transaction, so a long run holds no lock for long.
+ *
+ * <p>Runs on {@code exam.stats.rebuild-cron}, which is disabled ({@code -}) by default:
+ * users without a row are rebuilt on their next exam or stats read anyway.
+ */
+@Slf4j
+@Component
+public class ExamStatsRebuildJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ExamSessionRepository examSessionRepository;
+    private final ExamStatsService examStatsService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public ExamStatsRebuildJob(ExamSessionRepository examSessionRepository,
+                               ExamStatsService examStatsService,
+                               PlatformTransactionManager transactionManager) {
+        this.examSessionRepository = examSessionRepository;
+        this.examStatsService = examStatsService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** Rebuilds all users' stats. */
+    @Scheduled(cron = "${exam.stats.rebuild-cron:-}")
+    public void rebuildAll() {
+        int rebuilt = 0;
+        for (int page = 0; ; page++) {
+            PageRequest request = PageRequest.of(page, PAGE_SIZE);
+            List<UUID> userIds = readTransaction.execute(status -> examSessionRepository.findUserIds(request));
+            for (UUID userId : userIds) {
+                writeTransaction.executeWithoutResult(status -> examStatsService.rebuild(userId));
+                rebuilt++;
+            }
+            if (userIds.size() < PAGE_SIZE) break;
+        }
+        log.info("Exam stats rebuilt: users={}", rebuilt);
+    }
+}
@@ -0,0 +1,92 @@
+package com.pastudyhub.exam.service;
+
+import com.pastudyhub.exam.dto.ExamStatsResponse;
+import com.pastudyhub.exam.mapper.ExamMapper;
+import com.pastudyhub.exam.model.CategoryTally;
+import com.pastudyhub.exam.model.ExamSession;
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.model.UserExamStats;
+import com.pastudyhub.exam.repository.ExamAnswerRepository;
+import com.pastudyhub.exam.repository.ExamSessionRepository;
+import com.pastudyhub.exam.repository.UserExamStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains {@link UserExamStats}, the per-user exam summary behind {@code GET /exams/stats}.
+ *
+ * <p>Starting an exam bumps the attempt counter; completing one folds the session's
+ * running category tallies into the user's counters, so neither walks earlier sessions.
+ * A user without a row — their exams predate the table — is rebuilt from their sessions
+ * the first time any of these runs; {@link ExamStatsRebuildJob} does the same for every
+ * user in bulk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamStatsService {
+
+    private final UserExamStatsRepository userExamStatsRepository;
+    private final ExamSessionRepository examSessionRepository;
+    private final ExamAnswerRepository examAnswerRepository;
+    private final ExamMapper examMapper;
+
+    /** The user's summary: one primary-key read once the row exists. */
+    @Transactional
+    public ExamStatsResponse getStats(UUID userId) {
+        UserExamStats stats = userExamStatsRepository.findById(userId)
+                .orElseGet(() -> rebuild(userId));
+        return examMapper.toStatsResponse(stats);
+    }
+
+    /** Records a new session. Joins the caller's transaction; call after the session is saved. */
+    @Transactional
+    public void examStarted(UUID userId) {
+        if (userExamStatsRepository.incrementAttempts(userId) == 0) {
+            rebuild(userId);
+        }
+    }
+
+    /** Records a completed session. Joins the caller's transaction; call after the session is saved. */
+    @Transactional
+    public void examCompleted(ExamSession session) {
+        userExamStatsRepository.findByUserIdForUpdate(session.getUserId())
+                .ifPresentOrElse(
+                        stats -> stats.recordCompletion(session.getScorePercent(), session.getCategoryTallies()),
+                        () -> rebuild(session.getUserId()));
+    }
+
+    /**
+     * Recomputes a user's summary from their sessions and answers and stores it.
+     * Reads every session of the user — for backfill, not the request path. A missing
+     * row is inserted empty before the lock is taken, so two first exams queue on it
+     * instead of both inserting one.
+     */
+    @Transactional
+    public UserExamStats rebuild(UUID userId) {
+        userExamStatsRepository.insertIfAbsent(userId);
+        UserExamStats stats = userExamStatsRepository.findByUserIdForUpdate(userId).orElseThrow();
+
+        List<Double> scores = examSessionRepository.findCompletedScorePercents(userId);
+        stats.setAttempts((int) examSessionRepository.countByUserId(userId));
+        stats.setCompletedCount(scores.size());
+        stats.setScorePercentSum(scores.stream().mapToDouble(Double::doubleValue).sum());
+        stats.setBestScorePercent(scores.stream().max(Double::compare).orElse(null));
+        stats.setRecentScoreList(scores);
+
+        stats.getCategoryStats().clear();
+        for (Object[] row : examAnswerRepository.countByCategoryForUser(userId)) {
+            stats.getCategoryStats().put((QuestionCategory) row[0],
+                    new CategoryTally(((Number) row[1]).intValue(), ((Number) row[2]).intValue()));
+        }
+
+        log.debug("Rebuilt exam stats: userId={}, attempts={}, completed={}",
+                userId, stats.getAttempts(), stats.getCompletedCount());
+        return userExamStatsRepository.save(stats);
+    }
+}
@@ -0,0 +1,190 @@
+package com.pastudyhub.exam.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pastudyhub.exam.bank.QuestionBankCache;
+import com.pastudyhub.exam.dto.ImportErrorResponse;
+import com.pastudyhub.exam.dto.QuestionImportResponse;
+import com.pastudyhub.exam.exception.QuestionImportException;
+import com.pastudyhub.exam.importer.CsvQuestionReader;
+import com.pastudyhub.exam.importer.NdjsonQuestionReader;
+import com.pastudyhub.exam.importer.ParsedQuestion;
+import com.pastudyhub.exam.importer.QuestionImportValidator;
+import com.pastudyhub.exam.importer.QuestionRecordReader;
+import com.pastudyhub.exam.model.Question;
+import com.pastudyhub.exam.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports questions with their answer options from NDJSON or CSV.
+ *
+ * <p>The body is streamed in chunks of {@code exam.import.batch-size} records. Each chunk
+ * is validated in parallel, then written in its own transaction: external keys that
+ * already exist are skipped, so re-running an import is harmless, and the remaining
+ * questions are inserted in JDBC batches with IDs generated by Hibernate. The question
+ * bank version is bumped once, after the last chunk.
+ *
+ * <p>Chunks written before a failure stay imported; running the same file again picks
+ * up the rest.
+ */
+@Slf4j
+@Service
+public class QuestionImportService {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final QuestionRepository questionRepository;
+    private final QuestionBankCache questionBankCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    public QuestionImportService(QuestionRepository questionRepository,
+                                 QuestionBankCache questionBankCache,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${exam.import.batch-size:500}") int batchSize) {
+        this.questionRepository = questionRepository;
+        this.questionBankCache = questionBankCache;
+        this.objectMapper = objectMapper;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports one JSON question per line.
+     *
+     * @param role the caller's role; anything but ADMIN is refused with 403
+     */
+    public QuestionImportResponse importNdjson(InputStream body, String role) {
+        Roles.requireAdmin(role);
+        return importQuestions(new NdjsonQuestionReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8), objectMapper));
+    }
+
+    /**
+     * Imports a CSV file with a header row.
+     *
+     * @param role the caller's role; anything but ADMIN is refused with 403
+     */
+    public QuestionImportResponse importCsv(InputStream body, String role) {
+        Roles.requireAdmin(role);
+        return importQuestions(new CsvQuestionReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    private QuestionImportResponse importQuestions(QuestionRecordReader reader) {
+        long started = System.nanoTime();
+        Report report = new Report();
+        Set<String> seenKeys = new HashSet<>();
+        questionBankCache.batchChanges(() -> {
+            try (reader) {
+                for (List<ParsedQuestion> chunk = read(reader); !chunk.isEmpty(); chunk = read(reader)) {
+                    report.received += chunk.size();
+                    importChunk(chunk, seenKeys, report);
+                }
+            } catch (IOException ex) {
+                throw new QuestionImportException("Could not read the import body after " + report.received
+                        + " records: " + ex.getMessage());
+            }
+            return null;
+        });
+
+        log.info("Questions imported: received={}, created={}, skipped={}, rejected={}, took={}ms",
+                report.received, report.created, report.skipped, report.rejected,
+                (System.nanoTime() - started) / 1_000_000);
+        return QuestionImportResponse.builder()
+                .received(report.received)
+                .created(report.created)
+                .skipped(report.skipped)
+                .rejected(report.rejected)
+                .errors(report.errors)
+                .build();
+    }
+
+    private List<ParsedQuestion> read(QuestionRecordReader reader) throws IOException {
+        List<ParsedQuestion> chunk = new ArrayList<>(batchSize);
+        ParsedQuestion parsed;
+        while (chunk.size() < batchSize && (parsed = reader.next()) != null) {
+            chunk.add(parsed);
+        }
+        return chunk;
+    }
+
+    private void importChunk(List<ParsedQuestion> chunk, Set<String> seenKeys, Report report) {
+        List<List<String>> problems = chunk.parallelStream()
+                .map(parsed -> parsed.record() == null
+                        ? List.of(parsed.error())
+                        : QuestionImportValidator.validate(parsed.record()))
+                .toList();
+
+        List<ParsedQuestion> valid = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ParsedQuestion parsed = chunk.get(i);
+            if (!problems.get(i).isEmpty()) {
+                report.reject(parsed, String.join("; ", problems.get(i)));
+            } else if (!seenKeys.add(key(parsed))) {
+                report.reject(parsed, "externalKey appears earlier in this file");
+            } else {
+                valid.add(parsed);
+            }
+        }
+        if (valid.isEmpty()) return;
+
+        try {
+            int created = writeTransaction.execute(status -> {
+                Set<String> existing = new HashSet<>(questionRepository.findExistingExternalKeys(
+                        valid.stream().map(QuestionImportService::key).toList()));
+                List<Question> questions = valid.stream()
+                        .filter(parsed -> !existing.contains(key(parsed)))
+                        .map(parsed -> parsed.record().toQuestion())
+                        .toList();
+                questionRepository.saveAll(questions);
+                return questions.size();
+            });
+            report.created += created;
+            report.skipped += valid.size() - created;
+        } catch (DataIntegrityViolationException ex) {
+            // Another import created one of these keys between the check and the insert
+            valid.forEach(parsed -> report.reject(parsed, "externalKey was imported concurrently; import again"));
+        }
+    }
+
+    private static String key(ParsedQuestion parsed) {
+        return parsed.record().externalKey().strip();
+    }
+
+    /** Running totals of one import. */
+    private static final class Report {
+        int received;
+        int created;
+        int skipped;
+        int rejected;
+        final List<ImportErrorResponse> errors = new ArrayList<>();
+
+        void reject(ParsedQuestion parsed, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportErrorResponse.builder()
+                        .line(parsed.line())
+                        .externalKey(parsed.record() == null ? null : parsed.record().externalKey())
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.pastudyhub.exam.service;
+
+import com.pastudyhub.exam.dto.QuestionSearchHitResponse;
+import com.pastudyhub.exam.mapper.ExamMapper;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.search.QuestionSearchIndex;
+import com.pastudyhub.exam.search.QuestionSearcher;
+import com.pastudyhub.exam.search.SearchQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Full-text search of question stems, vignettes and explanations for authors and review
+ * mode, served from the in-memory {@link QuestionSearcher} index. Only the requested page
+ * is highlighted.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionSearchService {
+
+    private final QuestionSearcher questionSearcher;
+    private final ExamMapper examMapper;
+
+    public Page<QuestionSearchHitResponse> search(String text, QuestionCategory category, DifficultyLevel difficulty,
+                                                  int page, int size) {
+        PageRequest request = PageRequest.of(page, size);
+        SearchQuery query = SearchQuery.parse(text);
+        List<QuestionSearchIndex.Hit> hits = questionSearcher.search(query, category, difficulty);
+        int from = (int) Math.min(request.getOffset(), hits.size());
+        int to = Math.min(from + size, hits.size());
+        return new PageImpl<>(hits.subList(from, to).stream()
+                .map(hit -> examMapper.toSearchHitResponse(hit, query))
+                .toList(), request, hits.size());
+    }
+}
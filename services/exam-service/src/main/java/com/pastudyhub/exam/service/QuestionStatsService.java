@@ -0,0 +1,69 @@
+package com.pastudyhub.exam.service;
+
+import com.pastudyhub.exam.dto.QuestionStatsResponse;
+import com.pastudyhub.exam.exception.InvalidSortPropertyException;
+import com.pastudyhub.exam.exception.QuestionStatsNotFoundException;
+import com.pastudyhub.exam.mapper.ExamMapper;
+import com.pastudyhub.exam.model.QuestionCategory;
+import com.pastudyhub.exam.repository.QuestionStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the per-question item statistics kept by
+ * {@link com.pastudyhub.exam.psychometrics.QuestionStatsRecorder} for question authors.
+ * Sorting is done by the database on the stored, indexed statistic columns. The stats
+ * name the correct options, so only ADMIN callers may read them.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionStatsService {
+
+    /** Properties the stats list can be sorted by. */
+    static final List<String> SORTABLE = List.of("discrimination", "proportionCorrect", "responses", "meanTimeSeconds");
+
+    private final QuestionStatsRepository questionStatsRepository;
+    private final ExamMapper examMapper;
+
+    /**
+     * One page of question stats. Questions whose statistic is undefined sort last in
+     * either direction; ties are broken by question ID so pages are stable.
+     *
+     * @param category     only this category, or null for all
+     * @param minResponses only questions with at least this many responses
+     * @param role         the caller's role; anything but ADMIN is refused with 403
+     */
+    @Transactional(readOnly = true)
+    public Page<QuestionStatsResponse> getStats(QuestionCategory category, long minResponses,
+                                                String sort, Sort.Direction direction, int page, int size,
+                                                String role) {
+        Roles.requireAdmin(role);
+        if (!SORTABLE.contains(sort)) {
+            throw new InvalidSortPropertyException(sort, SORTABLE);
+        }
+        Sort order = Sort.by(new Sort.Order(direction, sort, Sort.NullHandling.NULLS_LAST))
+                .and(Sort.by("questionId"));
+        return questionStatsRepository.findByFilters(category, minResponses, PageRequest.of(page, size, order))
+                .map(stats -> examMapper.toQuestionStatsResponse(stats, false));
+    }
+
+    /**
+     * One question's stats with per-option selection rates.
+     *
+     * @param role the caller's role; anything but ADMIN is refused with 403
+     */
+    @Transactional(readOnly = true)
+    public QuestionStatsResponse getStats(UUID questionId, String role) {
+        Roles.requireAdmin(role);
+        return questionStatsRepository.findById(questionId)
+                .map(stats -> examMapper.toQuestionStatsResponse(stats, true))
+                .orElseThrow(() -> new QuestionStatsNotFoundException(questionId));
+    }
+}
@@ -0,0 +1,26 @@
+package com.pastudyhub.exam.service;
+
+import com.pastudyhub.exam.exception.AdminRoleRequiredException;
+
+/**
+ * Method-level role checks against the X-User-Role header the API Gateway forwards
+ * from the caller's JWT. The gateway replaces any role header the client sends, so the
+ * value can be trusted like X-User-Id.
+ */
+final class Roles {
+
+    static final String ADMIN = "ADMIN";
+
+    private Roles() {}
+
+    static boolean isAdmin(String role) {
+        return ADMIN.equals(role);
+    }
+
+    /** @throws AdminRoleRequiredException (403) unless {@code role} is ADMIN */
+    static void requireAdmin(String role) {
+        if (!isAdmin(role)) {
+            throw new AdminRoleRequiredException();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- ============================================================
+-- In-progress timed sessions, walked in ID order by the expiry
+-- sweep. Partial, so finished and untimed sessions cost nothing
+-- ============================================================
+
+CREATE INDEX idx_exam_sessions_timed_in_progress ON exam_sessions(id)
+    WHERE status = 'IN_PROGRESS' AND time_limit_minutes > 0;
@@ -0,0 +1,8 @@
+-- ============================================================
+-- Per-session shuffle seed: question draw and option order are
+-- recomputed from it, so shuffled orders are never stored.
+-- NULL for existing sessions, which keep authored order
+-- ============================================================
+
+ALTER TABLE exam_sessions
+    ADD COLUMN shuffle_seed BIGINT;
@@ -0,0 +1,19 @@
+-- ============================================================
+-- Dense question ordinals and per-user bitmaps of the questions
+-- each user has answered and last answered wrong, so exams can
+-- prefer questions the user has not seen. Rows are created as
+-- users finish exams, rebuilt from their answers when missing.
+-- ============================================================
+
+ALTER TABLE questions
+    ADD COLUMN ordinal INTEGER GENERATED BY DEFAULT AS IDENTITY;
+
+CREATE UNIQUE INDEX uq_questions_ordinal ON questions(ordinal);
+
+CREATE TABLE user_question_exposure (
+    user_id     UUID      NOT NULL PRIMARY KEY,
+    seen        BYTEA     NOT NULL,
+    missed      BYTEA     NOT NULL,
+    seen_count  INT       NOT NULL DEFAULT 0,
+    updated_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,24 @@
+-- ============================================================
+-- Frozen question set per exam session
+-- ============================================================
+
+-- -------------------------------------------------------
+-- Questions selected for a session, in presentation order
+-- -------------------------------------------------------
+CREATE TABLE exam_session_questions (
+    id               UUID NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    exam_session_id  UUID NOT NULL REFERENCES exam_sessions(id) ON DELETE CASCADE,
+    question_id      UUID NOT NULL REFERENCES questions(id),
+    position         INT  NOT NULL,
+    CONSTRAINT uq_exam_session_questions_position UNIQUE (exam_session_id, position),
+    CONSTRAINT uq_exam_session_questions_question UNIQUE (exam_session_id, question_id)
+);
+
+-- -------------------------------------------------------
+-- Answer-stripped question payload, serialized at start
+-- -------------------------------------------------------
+CREATE TABLE exam_session_snapshots (
+    exam_session_id  UUID      NOT NULL PRIMARY KEY REFERENCES exam_sessions(id) ON DELETE CASCADE,
+    questions_json   TEXT      NOT NULL,
+    created_at       TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,11 @@
+-- ============================================================
+-- Question bank version — bumped on every question/option change,
+-- polled by each instance to reload its in-memory question bank
+-- ============================================================
+
+CREATE TABLE question_bank_version (
+    id       INT    NOT NULL PRIMARY KEY,
+    version  BIGINT NOT NULL
+);
+
+INSERT INTO question_bank_version (id, version) VALUES (1, 1);
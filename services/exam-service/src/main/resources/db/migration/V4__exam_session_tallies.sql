@@ -0,0 +1,54 @@
+-- ============================================================
+-- Running answer tallies per exam session, so submitting an
+-- answer never re-reads the session's earlier answers
+-- ============================================================
+
+ALTER TABLE exam_sessions
+    ADD COLUMN answered_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN correct_count  INT NOT NULL DEFAULT 0;
+
+UPDATE exam_sessions s
+SET answered_count = t.answered,
+    correct_count  = t.correct
+FROM (
+    SELECT exam_session_id,
+           COUNT(*)                                  AS answered,
+           COUNT(*) FILTER (WHERE is_correct = TRUE) AS correct
+    FROM exam_answers
+    GROUP BY exam_session_id
+) t
+WHERE s.id = t.exam_session_id;
+
+-- -------------------------------------------------------
+-- Per-category tallies
+-- -------------------------------------------------------
+CREATE TABLE exam_session_category_tallies (
+    exam_session_id  UUID        NOT NULL REFERENCES exam_sessions(id) ON DELETE CASCADE,
+    category         VARCHAR(50) NOT NULL,
+    answered         INT         NOT NULL DEFAULT 0,
+    correct          INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (exam_session_id, category)
+);
+
+INSERT INTO exam_session_category_tallies (exam_session_id, category, answered, correct)
+SELECT a.exam_session_id,
+       q.category,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE a.is_correct = TRUE)
+FROM exam_answers a
+JOIN questions q ON q.id = a.question_id
+GROUP BY a.exam_session_id, q.category;
+
+-- -------------------------------------------------------
+-- Progress cursor: first unanswered position is the next question
+-- -------------------------------------------------------
+ALTER TABLE exam_session_questions
+    ADD COLUMN answered BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE exam_session_questions sq
+SET answered = TRUE
+WHERE EXISTS (
+    SELECT 1 FROM exam_answers a
+    WHERE a.exam_session_id = sq.exam_session_id
+      AND a.question_id = sq.question_id
+);
@@ -0,0 +1,12 @@
+-- ============================================================
+-- Scored result of each finished exam, gzip-compressed JSON,
+-- written once when the session ends and served as stored
+-- ============================================================
+
+CREATE TABLE exam_result_snapshots (
+    exam_session_id  UUID        NOT NULL PRIMARY KEY REFERENCES exam_sessions(id) ON DELETE CASCADE,
+    user_id          UUID        NOT NULL,
+    etag             VARCHAR(64) NOT NULL,
+    payload          BYTEA       NOT NULL,
+    created_at       TIMESTAMP   NOT NULL DEFAULT NOW()
+);
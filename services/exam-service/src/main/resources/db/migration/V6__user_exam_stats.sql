@@ -0,0 +1,23 @@
+-- ============================================================
+-- Per-user exam summary, updated as exams start and complete.
+-- Rows are created on a user's next exam or stats read, or in
+-- bulk by the stats rebuild job (exam.stats.rebuild-cron).
+-- ============================================================
+
+CREATE TABLE user_exam_stats (
+    user_id             UUID             NOT NULL PRIMARY KEY,
+    attempts            INT              NOT NULL DEFAULT 0,
+    completed_count     INT              NOT NULL DEFAULT 0,
+    score_percent_sum   DOUBLE PRECISION NOT NULL DEFAULT 0,
+    best_score_percent  DOUBLE PRECISION,
+    recent_scores       VARCHAR(255)     NOT NULL DEFAULT '',
+    updated_at          TIMESTAMP        NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE user_exam_category_stats (
+    user_id   UUID        NOT NULL REFERENCES user_exam_stats(user_id) ON DELETE CASCADE,
+    category  VARCHAR(50) NOT NULL,
+    answered  INT         NOT NULL DEFAULT 0,
+    correct   INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, category)
+);
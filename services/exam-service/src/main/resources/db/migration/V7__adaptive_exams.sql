@@ -0,0 +1,15 @@
+-- ============================================================
+-- Adaptive exams: IRT item parameters per question and the
+-- running ability estimate per session
+-- ============================================================
+
+-- NULL until calibrated; defaults are derived from the difficulty level
+ALTER TABLE questions
+    ADD COLUMN irt_discrimination DOUBLE PRECISION,
+    ADD COLUMN irt_difficulty     DOUBLE PRECISION,
+    ADD COLUMN irt_guessing       DOUBLE PRECISION;
+
+ALTER TABLE exam_sessions
+    ADD COLUMN adaptive           BOOLEAN NOT NULL DEFAULT FALSE,
+    ADD COLUMN ability_estimate   DOUBLE PRECISION,
+    ADD COLUMN ability_precision  DOUBLE PRECISION;
@@ -0,0 +1,34 @@
+-- ============================================================
+-- Per-question item statistics: additive counters merged in as
+-- exams complete, plus the statistics derived from them.
+-- Filled for existing answers by the recompute job
+-- (exam.question-stats.recompute.cron).
+-- ============================================================
+
+CREATE TABLE question_stats (
+    question_id             UUID             NOT NULL PRIMARY KEY REFERENCES questions(id) ON DELETE CASCADE,
+    category                VARCHAR(50)      NOT NULL,
+    responses               BIGINT           NOT NULL DEFAULT 0,
+    correct_count           BIGINT           NOT NULL DEFAULT 0,
+    timed_responses         BIGINT           NOT NULL DEFAULT 0,
+    time_sum_seconds        BIGINT           NOT NULL DEFAULT 0,
+    scored_responses        BIGINT           NOT NULL DEFAULT 0,
+    scored_correct          BIGINT           NOT NULL DEFAULT 0,
+    rest_score_sum          DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rest_score_square_sum   DOUBLE PRECISION NOT NULL DEFAULT 0,
+    rest_score_correct_sum  DOUBLE PRECISION NOT NULL DEFAULT 0,
+    proportion_correct      DOUBLE PRECISION,
+    discrimination          DOUBLE PRECISION,
+    mean_time_seconds       DOUBLE PRECISION,
+    updated_at              TIMESTAMP        NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_question_stats_discrimination     ON question_stats(discrimination);
+CREATE INDEX idx_question_stats_proportion_correct ON question_stats(proportion_correct);
+
+CREATE TABLE question_option_stats (
+    question_id  UUID   NOT NULL REFERENCES question_stats(question_id) ON DELETE CASCADE,
+    option_id    UUID   NOT NULL,
+    selections   BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (question_id, option_id)
+);
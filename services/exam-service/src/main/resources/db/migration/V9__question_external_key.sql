@@ -0,0 +1,9 @@
+-- ============================================================
+-- Stable key of imported questions, so re-running an import
+-- skips the questions it already created
+-- ============================================================
+
+ALTER TABLE questions
+    ADD COLUMN external_key VARCHAR(100);
+
+CREATE UNIQUE INDEX uq_questions_external_key ON questions(external_key);
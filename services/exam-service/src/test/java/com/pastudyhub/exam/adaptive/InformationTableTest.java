@@ -0,0 +1,54 @@
+package com.pastudyhub.exam.adaptive;
+
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.Question;
+import com.pastudyhub.exam.model.QuestionCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InformationTable unit tests")
+class InformationTableTest {
+
+    private static BankedQuestion item(double difficulty) {
+        return BankedQuestion.from(Question.builder()
+                .id(UUID.randomUUID())
+                .stem("Stem")
+                .category(QuestionCategory.CARDIOLOGY)
+                .difficulty(DifficultyLevel.MEDIUM)
+                .explanation("Explanation")
+                .irtDiscrimination(1.5)
+                .irtDifficulty(difficulty)
+                .build());
+    }
+
+    @Test
+    @DisplayName("select: picks the item whose difficulty is closest to the ability")
+    void select_mostInformativeAtTheta() {
+        List<BankedQuestion> items = IntStream.rangeClosed(-3, 3).mapToObj(b -> item(b)).toList();
+        InformationTable table = InformationTable.of(items, 3);
+
+        assertThat(table.select(-2.1, id -> false).irt().difficulty()).isEqualTo(-2.0);
+        assertThat(table.select(0.9, id -> false).irt().difficulty()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("select: skips served items and falls back to a full scan past the ranked depth")
+    void select_skipsServedItems() {
+        List<BankedQuestion> items = IntStream.rangeClosed(-3, 3).mapToObj(b -> item(b)).toList();
+        InformationTable table = InformationTable.of(items, 2);
+        Set<UUID> served = Set.of(items.get(3).id(), items.get(4).id(), items.get(2).id());
+
+        BankedQuestion next = table.select(0.0, served::contains);
+
+        assertThat(Math.abs(next.irt().difficulty())).isEqualTo(2.0);
+        assertThat(table.select(0.0, id -> true)).isNull();
+    }
+}
@@ -0,0 +1,64 @@
+package com.pastudyhub.exam.adaptive;
+
+import com.pastudyhub.exam.engine.ItemParameters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IrtCalibrator unit tests")
+class IrtCalibratorTest {
+
+    @Test
+    @DisplayName("EM recovers the difficulty ordering and rough values of simulated items")
+    void calibrate_recoversSimulatedDifficulties() {
+        ItemParameters[] truth = {
+                new ItemParameters(1.0, -1.5, 0.0),
+                new ItemParameters(1.5, 0.0, 0.0),
+                new ItemParameters(1.2, 1.5, 0.0)
+        };
+        ItemParameters[] start = {
+                new ItemParameters(1.0, 0.0, 0.0),
+                new ItemParameters(1.0, 0.0, 0.0),
+                new ItemParameters(1.0, 0.0, 0.0)
+        };
+        Random random = new Random(11);
+        int examinees = 3000;
+        boolean[][] responses = new boolean[examinees][truth.length];
+        for (int e = 0; e < examinees; e++) {
+            double theta = random.nextGaussian();
+            for (int i = 0; i < truth.length; i++) {
+                responses[e][i] = random.nextDouble() < truth[i].probability(theta);
+            }
+        }
+
+        IrtCalibrator calibrator = new IrtCalibrator(start);
+        int[] items = {0, 1, 2};
+        ItemParameters[] fitted = start;
+        for (int iteration = 0; iteration < 30; iteration++) {
+            calibrator.beginIteration();
+            for (boolean[] examinee : responses) {
+                calibrator.acceptExaminee(items, examinee, items.length);
+            }
+            assertThat(calibrator.responses(0)).isCloseTo(examinees, within(1e-6));
+            fitted = calibrator.maximize(100);
+        }
+
+        assertThat(fitted[0].difficulty()).isCloseTo(-1.5, within(0.4));
+        assertThat(fitted[1].difficulty()).isCloseTo(0.0, within(0.4));
+        assertThat(fitted[2].difficulty()).isCloseTo(1.5, within(0.4));
+    }
+
+    @Test
+    @DisplayName("maximize: items below the response minimum keep their parameters")
+    void maximize_keepsSparseItems() {
+        ItemParameters start = new ItemParameters(1.0, 0.3, 0.2);
+        IrtCalibrator calibrator = new IrtCalibrator(new ItemParameters[]{start});
+        calibrator.beginIteration();
+        calibrator.acceptExaminee(new int[]{0}, new boolean[]{true}, 1);
+
+        assertThat(calibrator.maximize(10)[0]).isEqualTo(start);
+    }
+}
@@ -0,0 +1,66 @@
+package com.pastudyhub.exam.bank;
+
+import com.pastudyhub.exam.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuestionBank unit tests")
+class QuestionBankTest {
+
+    private static Question question(QuestionCategory category, DifficultyLevel difficulty, boolean active) {
+        Question q = Question.builder()
+                .id(UUID.randomUUID())
+                .stem("Stem")
+                .category(category)
+                .difficulty(difficulty)
+                .explanation("Explanation")
+                .isActive(active)
+                .build();
+        q.getAnswerOptions().add(AnswerOption.builder().id(UUID.randomUUID()).question(q)
+                .text("Wrong").isCorrect(false).orderIndex(1).build());
+        q.getAnswerOptions().add(AnswerOption.builder().id(UUID.randomUUID()).question(q)
+                .text("Right").isCorrect(true).orderIndex(0).build());
+        return q;
+    }
+
+    @Test
+    @DisplayName("activeIds: indexes active questions under every matching filter combination")
+    void activeIds_indexesByCategoryAndDifficulty() {
+        Question cardioEasy = question(QuestionCategory.CARDIOLOGY, DifficultyLevel.EASY, true);
+        Question cardioHard = question(QuestionCategory.CARDIOLOGY, DifficultyLevel.HARD, true);
+        Question pulmEasy = question(QuestionCategory.PULMONOLOGY, DifficultyLevel.EASY, true);
+        Question inactive = question(QuestionCategory.CARDIOLOGY, DifficultyLevel.EASY, false);
+
+        QuestionBank bank = QuestionBank.of(3, List.of(cardioEasy, cardioHard, pulmEasy, inactive));
+
+        assertThat(bank.version()).isEqualTo(3);
+        assertThat(bank.activeIds(null, null)).hasSize(3).isSorted();
+        assertThat(bank.activeIds(QuestionCategory.CARDIOLOGY, null))
+                .containsExactlyInAnyOrder(cardioEasy.getId(), cardioHard.getId());
+        assertThat(bank.activeIds(null, DifficultyLevel.EASY))
+                .containsExactlyInAnyOrder(cardioEasy.getId(), pulmEasy.getId());
+        assertThat(bank.activeIds(QuestionCategory.PULMONOLOGY, DifficultyLevel.HARD)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("question and option lookups cover inactive questions and expose correctness")
+    void lookups_resolveQuestionsAndOptions() {
+        Question inactive = question(QuestionCategory.NEUROLOGY, DifficultyLevel.MEDIUM, false);
+        QuestionBank bank = QuestionBank.of(1, List.of(inactive));
+
+        BankedQuestion banked = bank.question(inactive.getId());
+        assertThat(banked.active()).isFalse();
+        assertThat(banked.options()).extracting(BankedOption::text).containsExactly("Right", "Wrong");
+        assertThat(banked.correctOption().text()).isEqualTo("Right");
+
+        UUID rightId = banked.correctOption().id();
+        assertThat(bank.option(rightId)).isEqualTo(new QuestionBank.OptionRef(inactive.getId(), true));
+        assertThat(bank.option(UUID.randomUUID())).isNull();
+        assertThat(bank.question(UUID.randomUUID())).isNull();
+    }
+}
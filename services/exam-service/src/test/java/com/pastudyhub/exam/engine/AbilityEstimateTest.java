@@ -0,0 +1,61 @@
+package com.pastudyhub.exam.engine;
+
+import com.pastudyhub.exam.model.DifficultyLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AbilityEstimate / ItemParameters unit tests")
+class AbilityEstimateTest {
+
+    @Test
+    @DisplayName("ItemParameters: 3PL probability spans guessing to 1 and information peaks near b")
+    void itemParameters_probabilityAndInformation() {
+        ItemParameters item = new ItemParameters(1.5, 0.5, 0.2);
+
+        assertThat(item.probability(-10)).isCloseTo(0.2, within(1e-3));
+        assertThat(item.probability(10)).isCloseTo(1.0, within(1e-3));
+        assertThat(item.probability(0.5)).isCloseTo(0.6, within(1e-9));
+        assertThat(item.information(0.6)).isGreaterThan(item.information(-1.5));
+        assertThat(item.information(0.6)).isGreaterThan(item.information(2.5));
+    }
+
+    @Test
+    @DisplayName("ItemParameters.of: missing parameters default by difficulty level")
+    void itemParameters_defaultsFromDifficultyLevel() {
+        assertThat(ItemParameters.of(null, null, null, DifficultyLevel.HARD))
+                .isEqualTo(new ItemParameters(1.0, 1.0, 0.0));
+        assertThat(ItemParameters.of(2.0, null, 0.25, DifficultyLevel.EASY))
+                .isEqualTo(new ItemParameters(2.0, -1.0, 0.25));
+    }
+
+    @Test
+    @DisplayName("update: correct answers raise the estimate, wrong ones lower it, precision grows")
+    void update_movesTowardResponses() {
+        ItemParameters item = new ItemParameters(1.2, 0.0, 0.0);
+        AbilityEstimate prior = AbilityEstimate.prior();
+
+        AbilityEstimate up = prior.update(item, true);
+        AbilityEstimate down = prior.update(item, false);
+
+        assertThat(up.theta()).isPositive();
+        assertThat(down.theta()).isNegative();
+        assertThat(up.precision()).isGreaterThan(prior.precision());
+        assertThat(up.standardError()).isLessThan(prior.standardError());
+    }
+
+    @Test
+    @DisplayName("update: converges toward the ability that generated the responses")
+    void update_convergesOnSimulatedCandidate() {
+        java.util.Random random = new java.util.Random(7);
+        double trueTheta = 1.2;
+        AbilityEstimate estimate = AbilityEstimate.prior();
+        for (int i = 0; i < 200; i++) {
+            ItemParameters item = new ItemParameters(1.0 + random.nextDouble(), estimate.theta(), 0.0);
+            estimate = estimate.update(item, random.nextDouble() < item.probability(trueTheta));
+        }
+        assertThat(estimate.theta()).isCloseTo(trueTheta, within(0.4));
+        assertThat(estimate.standardError()).isLessThan(0.2);
+    }
+}
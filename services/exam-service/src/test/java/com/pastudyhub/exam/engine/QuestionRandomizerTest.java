@@ -0,0 +1,67 @@
+package com.pastudyhub.exam.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuestionRandomizer unit tests")
+class QuestionRandomizerTest {
+
+    private static final Integer[] POOL = IntStream.range(0, 1000).boxed().toArray(Integer[]::new);
+
+    @Test
+    @DisplayName("sample: draws the requested number of distinct elements and leaves the pool untouched")
+    void sample_drawsDistinctElements() {
+        Integer[] before = POOL.clone();
+
+        List<Integer> drawn = QuestionRandomizer.sample(POOL, 50, new SplittableRandom(1));
+
+        assertThat(drawn).hasSize(50).doesNotHaveDuplicates();
+        assertThat(POOL).containsExactly(before);
+    }
+
+    @Test
+    @DisplayName("sample: drawing the whole pool yields a permutation")
+    void sample_wholePool_isPermutation() {
+        Integer[] small = {1, 2, 3, 4, 5};
+
+        assertThat(QuestionRandomizer.sample(small, 5, new SplittableRandom(7)))
+                .containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("sample: every element is about equally likely to be drawn")
+    void sample_isUniform() {
+        Integer[] pool = IntStream.range(0, 20).boxed().toArray(Integer[]::new);
+        int[] hits = new int[pool.length];
+        SplittableRandom random = new SplittableRandom(42);
+        int trials = 20_000;
+
+        for (int t = 0; t < trials; t++) {
+            QuestionRandomizer.sample(pool, 5, random).forEach(i -> hits[i]++);
+        }
+
+        double expected = trials * 5.0 / pool.length;
+        for (int count : hits) {
+            assertThat((double) count).isCloseTo(expected, within(expected * 0.06));
+        }
+    }
+
+    @Test
+    @DisplayName("sample: throws when the pool is smaller than the request")
+    void sample_poolTooSmall_throws() {
+        assertThatThrownBy(() -> QuestionRandomizer.sample(new Integer[]{1, 2}, 3, new SplittableRandom()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("sample: zero draws return an empty list")
+    void sample_zero_returnsEmpty() {
+        assertThat(QuestionRandomizer.sample(POOL, 0, new SplittableRandom())).isEmpty();
+    }
+}
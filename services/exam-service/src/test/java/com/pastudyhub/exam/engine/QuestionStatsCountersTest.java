@@ -0,0 +1,123 @@
+package com.pastudyhub.exam.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuestionStatsCounters unit tests")
+class QuestionStatsCountersTest {
+
+    private static final UUID OPTION_A = UUID.randomUUID();
+    private static final UUID OPTION_B = UUID.randomUUID();
+
+    @Test
+    @DisplayName("accept: counts responses, correct answers, time and option selections")
+    void accept_countsResponses() {
+        QuestionStatsCounters counters = new QuestionStatsCounters();
+        counters.accept(OPTION_A, true, 30, 8, 10);
+        counters.accept(OPTION_B, false, null, 3, 10);
+        counters.accept(null, false, 10, 5, 10);
+
+        assertThat(counters.responses()).isEqualTo(3);
+        assertThat(counters.correct()).isEqualTo(1);
+        assertThat(QuestionStatsCounters.proportionCorrect(counters.responses(), counters.correct()))
+                .isCloseTo(1.0 / 3, within(1e-12));
+        assertThat(QuestionStatsCounters.meanTimeSeconds(counters.timedResponses(), counters.timeSumSeconds()))
+                .isEqualTo(20.0);
+        assertThat(counters.optionSelections()).containsEntry(OPTION_A, 1L).containsEntry(OPTION_B, 1L).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("accept: the rest score leaves the item out; single-question exams are not scored")
+    void accept_restScoreExcludesItem() {
+        QuestionStatsCounters counters = new QuestionStatsCounters();
+        counters.accept(OPTION_A, true, null, 5, 5);   // rest: 4 of 4
+        counters.accept(OPTION_A, true, null, 1, 1);   // no other questions
+
+        assertThat(counters.scoredResponses()).isEqualTo(1);
+        assertThat(counters.restScoreSum()).isEqualTo(1.0);
+        assertThat(counters.restScoreCorrectSum()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("merge: counters of disjoint response sets add up to the counters of their union")
+    void merge_equalsSinglePass() {
+        Random random = new Random(7);
+        QuestionStatsCounters all = new QuestionStatsCounters();
+        QuestionStatsCounters first = new QuestionStatsCounters();
+        QuestionStatsCounters second = new QuestionStatsCounters();
+        for (int i = 0; i < 200; i++) {
+            boolean correct = random.nextBoolean();
+            int answered = 20;
+            int examCorrect = random.nextInt(answered) + (correct ? 1 : 0);
+            UUID option = correct ? OPTION_A : OPTION_B;
+            all.accept(option, correct, i, examCorrect, answered);
+            (i % 3 == 0 ? first : second).accept(option, correct, i, examCorrect, answered);
+        }
+        first.merge(second);
+
+        assertThat(first.responses()).isEqualTo(all.responses());
+        assertThat(first.correct()).isEqualTo(all.correct());
+        assertThat(first.timeSumSeconds()).isEqualTo(all.timeSumSeconds());
+        assertThat(first.restScoreSquareSum()).isCloseTo(all.restScoreSquareSum(), within(1e-9));
+        assertThat(first.optionSelections()).isEqualTo(all.optionSelections());
+    }
+
+    @Test
+    @DisplayName("discrimination: equals the Pearson correlation of correctness with the rest score")
+    void discrimination_matchesPearsonCorrelation() {
+        Random random = new Random(42);
+        int n = 500;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        QuestionStatsCounters counters = new QuestionStatsCounters();
+        for (int i = 0; i < n; i++) {
+            int rest = random.nextInt(40);
+            boolean correct = random.nextDouble() < rest / 40.0;
+            counters.accept(OPTION_A, correct, null, rest + (correct ? 1 : 0), 41);
+            x[i] = rest / 40.0;
+            y[i] = correct ? 1 : 0;
+        }
+
+        Double r = QuestionStatsCounters.discrimination(counters.scoredResponses(), counters.scoredCorrect(),
+                counters.restScoreSum(), counters.restScoreSquareSum(), counters.restScoreCorrectSum());
+
+        assertThat(r).isCloseTo(pearson(x, y), within(1e-9));
+        assertThat(r).isGreaterThan(0.3);
+    }
+
+    @Test
+    @DisplayName("discrimination: null when all answers agree or rest scores do not vary")
+    void discrimination_undefinedCases() {
+        QuestionStatsCounters allCorrect = new QuestionStatsCounters();
+        allCorrect.accept(OPTION_A, true, null, 3, 5);
+        allCorrect.accept(OPTION_A, true, null, 5, 5);
+        QuestionStatsCounters flat = new QuestionStatsCounters();
+        flat.accept(OPTION_A, true, null, 3, 5);
+        flat.accept(OPTION_B, false, null, 2, 5);
+
+        assertThat(QuestionStatsCounters.discrimination(allCorrect.scoredResponses(), allCorrect.scoredCorrect(),
+                allCorrect.restScoreSum(), allCorrect.restScoreSquareSum(), allCorrect.restScoreCorrectSum())).isNull();
+        assertThat(QuestionStatsCounters.discrimination(flat.scoredResponses(), flat.scoredCorrect(),
+                flat.restScoreSum(), flat.restScoreSquareSum(), flat.restScoreCorrectSum())).isNull();
+        assertThat(QuestionStatsCounters.proportionCorrect(0, 0)).isNull();
+    }
+
+    private static double pearson(double[] x, double[] y) {
+        double mx = 0, my = 0;
+        for (int i = 0; i < x.length; i++) { mx += x[i]; my += y[i]; }
+        mx /= x.length;
+        my /= y.length;
+        double sxy = 0, sxx = 0, syy = 0;
+        for (int i = 0; i < x.length; i++) {
+            sxy += (x[i] - mx) * (y[i] - my);
+            sxx += (x[i] - mx) * (x[i] - mx);
+            syy += (y[i] - my) * (y[i] - my);
+        }
+        return sxy / Math.sqrt(sxx * syy);
+    }
+}
@@ -248,4 +248,30 @@ class ScoringEngineTest {
         assertThat(result.incorrectQuestionIds()).containsExactlyInAnyOrder(wrongId1, wrongId2);
         assertThat(result.incorrectQuestionIds()).doesNotContain(correctId);
     }
+
+    // ---- accept (incremental) ----------------------------------------------
+
+    @Test
+    @DisplayName("accept: incremental scoring matches scoring the full list")
+    void accept_matchesListScoring() {
+        List<ExamAnswer> answers = List.of(
+                answerWithTime(QuestionCategory.CARDIOLOGY, true, 20),
+                answerWithTime(QuestionCategory.PHARMACOLOGY, false, 40),
+                answerWithTime(QuestionCategory.CARDIOLOGY, false, 60),
+                answerWithTime(QuestionCategory.NEUROLOGY, true, 80)
+        );
+
+        ScoringEngine incremental = new ScoringEngine();
+        answers.forEach(incremental::accept);
+
+        assertThat(incremental.answerCount()).isEqualTo(4);
+        assertThat(incremental.calculate()).isEqualTo(new ScoringEngine(answers).calculate());
+    }
+
+    @Test
+    @DisplayName("calculate: throws when no answers were accepted")
+    void calculate_noAnswers_throws() {
+        assertThatThrownBy(() -> new ScoringEngine().calculate())
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
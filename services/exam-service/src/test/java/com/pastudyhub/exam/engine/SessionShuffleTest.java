@@ -0,0 +1,71 @@
+package com.pastudyhub.exam.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SessionShuffle unit tests")
+class SessionShuffleTest {
+
+    private static final UUID QUESTION = UUID.fromString("3f2b8c1e-7d4a-4e0b-9c6f-1a2b3c4d5e6f");
+
+    @Test
+    @DisplayName("permutation: a reproducible permutation of every index")
+    void permutation_isReproduciblePermutation() {
+        int[] first = SessionShuffle.permutation(42L, QUESTION, 5);
+        int[] again = SessionShuffle.permutation(42L, QUESTION, 5);
+
+        assertThat(first).isEqualTo(again);
+        assertThat(Arrays.stream(first).sorted().toArray()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(SessionShuffle.permutation(42L, QUESTION, 0)).isEmpty();
+        assertThat(SessionShuffle.permutation(42L, QUESTION, 1)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("permutation: every order of four items is about equally likely across seeds")
+    void permutation_isUniformAcrossSeeds() {
+        int[] counts = new int[24];
+        int trials = 48_000;
+        for (long seed = 0; seed < trials; seed++) {
+            int[] p = SessionShuffle.permutation(seed, QUESTION, 4);
+            // Lehmer code of the permutation, 0..23
+            int rank = 0;
+            for (int i = 0; i < 4; i++) {
+                int smaller = 0;
+                for (int j = i + 1; j < 4; j++) {
+                    if (p[j] < p[i]) smaller++;
+                }
+                rank = rank * (4 - i) + smaller;
+            }
+            counts[rank]++;
+        }
+        // Expected 2000 each; 4.5 standard deviations either way
+        assertThat(Arrays.stream(counts).min().getAsInt()).isGreaterThan(1800);
+        assertThat(Arrays.stream(counts).max().getAsInt()).isLessThan(2200);
+    }
+
+    @Test
+    @DisplayName("shuffle: different questions and seeds get independent orders")
+    void shuffle_dependsOnSeedAndKey() {
+        List<Integer> items = IntStream.range(0, 5).boxed().toList();
+        long differentByKey = IntStream.range(0, 200)
+                .filter(i -> !SessionShuffle.shuffle(items, i, QUESTION)
+                        .equals(SessionShuffle.shuffle(items, i, UUID.randomUUID())))
+                .count();
+        long differentBySeed = IntStream.range(0, 200)
+                .filter(i -> !SessionShuffle.shuffle(items, i, QUESTION)
+                        .equals(SessionShuffle.shuffle(items, i + 1_000_000L, QUESTION)))
+                .count();
+
+        // Two independent orders of five items coincide with probability 1/120
+        assertThat(differentByKey).isGreaterThan(190);
+        assertThat(differentBySeed).isGreaterThan(190);
+        assertThat(SessionShuffle.shuffle(items, 7L, QUESTION)).containsExactlyInAnyOrderElementsOf(items);
+    }
+}
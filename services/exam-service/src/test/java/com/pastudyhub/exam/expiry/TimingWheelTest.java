@@ -0,0 +1,74 @@
+package com.pastudyhub.exam.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimingWheel unit tests")
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("advance: each key expires on the first tick at or after its deadline, across every level")
+    void advance_expiresEachKeyOnTime() {
+        // 4 slots per level: levels span 4, 16 and 64 ticks, so most keys cascade
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 4, 0);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int key = 0; key < 500; key++) {
+            long deadline = 1 + random.nextInt(1500); // beyond the 640 ms the levels cover
+            deadlines.put(key, deadline);
+            wheel.schedule(key, deadline);
+        }
+
+        Map<Integer, Long> expiredAt = new HashMap<>();
+        for (long now = 0; now <= 1600; now += 10) {
+            for (Integer key : wheel.advance(now)) {
+                assertThat(expiredAt.put(key, now)).as("key %d expired twice", key).isNull();
+            }
+        }
+
+        assertThat(expiredAt).hasSize(deadlines.size());
+        deadlines.forEach((key, deadline) ->
+                assertThat(expiredAt.get(key)).as("key %d", key).isEqualTo((deadline + 9) / 10 * 10));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance: a late call returns everything due since the last one")
+    void advance_catchesUpAfterPause() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 64, 5_000);
+        wheel.schedule("a", 6_000);
+        wheel.schedule("b", 3_600_000);
+        wheel.schedule("c", 7_200_000);
+
+        assertThat(wheel.advance(5_500)).isEmpty();
+        assertThat(wheel.advance(4_000_000)).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("schedule/cancel: rescheduling replaces, cancelling removes, past deadlines expire next")
+    void scheduleAndCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 64, 0);
+        wheel.schedule("moved", 10_000);
+        wheel.schedule("moved", 20_000);
+        wheel.schedule("cancelled", 10_000);
+        wheel.schedule("overdue", -5_000);
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("unknown")).isFalse();
+
+        assertThat(wheel.advance(0)).containsExactly("overdue");
+        List<String> expired = new ArrayList<>(wheel.advance(10_000));
+        assertThat(expired).isEmpty();
+        assertThat(wheel.advance(20_000)).containsExactly("moved");
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,53 @@
+package com.pastudyhub.exam.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CsvQuestionReader unit tests")
+class CsvQuestionReaderTest {
+
+    @Test
+    @DisplayName("next: maps columns by header name and marks the lettered option correct")
+    void next_mapsColumnsByName() throws IOException {
+        String csv = """
+                difficulty,external_key,category,stem,explanation,option_a,option_b,option_c,correct_option
+                EASY,k-1,CARDIOLOGY,Stem one,Because,A1,B1,,b
+                """;
+        try (CsvQuestionReader reader = new CsvQuestionReader(new StringReader(csv))) {
+            ParsedQuestion parsed = reader.next();
+
+            assertThat(parsed.line()).isEqualTo(2);
+            assertThat(parsed.record().externalKey()).isEqualTo("k-1");
+            assertThat(parsed.record().category()).isEqualTo("CARDIOLOGY");
+            assertThat(parsed.record().clinicalVignette()).isNull();
+            assertThat(parsed.record().options()).containsExactly(
+                    new QuestionImportRecord.Option("A1", false),
+                    new QuestionImportRecord.Option("B1", true));
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("next: quoted fields keep commas, doubled quotes and line breaks; line numbers follow")
+    void next_handlesQuotedFields() throws IOException {
+        String csv = "external_key,stem,option_a,option_b,correct_option\r\n"
+                + "k-1,\"A \"\"quoted\"\", multi\nline stem\",x,y,A\r\n"
+                + "\r\n"
+                + "k-2,plain,x,y,B\r\n";
+        try (CsvQuestionReader reader = new CsvQuestionReader(new StringReader(csv))) {
+            ParsedQuestion first = reader.next();
+            ParsedQuestion second = reader.next();
+
+            assertThat(first.record().stem()).isEqualTo("A \"quoted\", multi\nline stem");
+            assertThat(first.line()).isEqualTo(2);
+            assertThat(second.record().externalKey()).isEqualTo("k-2");
+            assertThat(second.line()).isEqualTo(5);
+            assertThat(reader.next()).isNull();
+        }
+    }
+}
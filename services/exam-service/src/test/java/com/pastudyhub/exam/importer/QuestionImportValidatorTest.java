@@ -0,0 +1,52 @@
+package com.pastudyhub.exam.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuestionImportValidator unit tests")
+class QuestionImportValidatorTest {
+
+    private static QuestionImportRecord record(String category, List<QuestionImportRecord.Option> options) {
+        return new QuestionImportRecord("key-1", "Stem", null, category, "MEDIUM", "Explanation", options);
+    }
+
+    @Test
+    @DisplayName("validate: a complete record has no errors and converts to a question")
+    void validate_validRecord() {
+        QuestionImportRecord record = record("NEUROLOGY", List.of(
+                new QuestionImportRecord.Option("A", false),
+                new QuestionImportRecord.Option("B", true)));
+
+        assertThat(QuestionImportValidator.validate(record)).isEmpty();
+        assertThat(record.toQuestion().getCorrectOption().getText()).isEqualTo("B");
+        assertThat(record.toQuestion().getAnswerOptions()).extracting("orderIndex").containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("validate: reports unknown enums, wrong correct-option count and over-long text")
+    void validate_reportsEveryProblem() {
+        QuestionImportRecord record = new QuestionImportRecord(" ", "x".repeat(3001), null, "ONCOLOGYX", "MEDIUM",
+                "Explanation", List.of(
+                        new QuestionImportRecord.Option("A", true),
+                        new QuestionImportRecord.Option("B", true)));
+
+        assertThat(QuestionImportValidator.validate(record)).containsExactlyInAnyOrder(
+                "externalKey is required",
+                "stem is longer than 3000 characters",
+                "category must be one of " + java.util.Arrays.toString(
+                        com.pastudyhub.exam.model.QuestionCategory.values()),
+                "expected exactly one correct option, got 2");
+    }
+
+    @Test
+    @DisplayName("validate: fewer than two options is rejected")
+    void validate_tooFewOptions() {
+        QuestionImportRecord record = record("NEUROLOGY", List.of(new QuestionImportRecord.Option("A", true)));
+
+        assertThat(QuestionImportValidator.validate(record)).containsExactly("expected 2 to 5 options, got 1");
+    }
+}
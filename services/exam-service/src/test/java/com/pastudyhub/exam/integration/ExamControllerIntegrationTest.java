@@ -3,18 +3,29 @@ package com.pastudyhub.exam.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pastudyhub.exam.dto.StartExamRequest;
 import com.pastudyhub.exam.dto.SubmitAnswerRequest;
+import com.pastudyhub.exam.expiry.ExamExpiryJob;
+import com.pastudyhub.exam.expiry.ExamExpiryScheduler;
 import com.pastudyhub.exam.model.*;
+import com.pastudyhub.exam.psychometrics.QuestionStatsRecomputeJob;
+import com.pastudyhub.exam.psychometrics.QuestionStatsRecorder;
 import com.pastudyhub.exam.repository.AnswerOptionRepository;
 import com.pastudyhub.exam.repository.QuestionRepository;
+import com.pastudyhub.exam.repository.UserQuestionExposureRepository;
+import com.pastudyhub.exam.selection.OrdinalBitmap;
+import com.pastudyhub.exam.selection.QuestionExposure;
+import com.pastudyhub.exam.selection.QuestionExposureStore;
+import com.pastudyhub.exam.service.ExamStatsService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +44,14 @@ class ExamControllerIntegrationTest {
     @Autowired private ObjectMapper objectMapper;
     @Autowired private QuestionRepository questionRepository;
     @Autowired private AnswerOptionRepository answerOptionRepository;
+    @Autowired private QuestionStatsRecorder questionStatsRecorder;
+    @Autowired private QuestionStatsRecomputeJob questionStatsRecomputeJob;
+    @Autowired private ExamExpiryScheduler examExpiryScheduler;
+    @Autowired private ExamExpiryJob examExpiryJob;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private QuestionExposureStore questionExposureStore;
+    @Autowired private UserQuestionExposureRepository userQuestionExposureRepository;
+    @Autowired private ExamStatsService examStatsService;
 
     private static final UUID USER = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
     private static String sessionId;
@@ -131,7 +150,25 @@ class ExamControllerIntegrationTest {
                         .header("X-User-Id", USER.toString()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(sessionId))
-                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.questions", hasSize(1)))
+                .andExpect(jsonPath("$.questions[0].id").value(questionId))
+                .andExpect(jsonPath("$.questions[0].answerOptions[0].isCorrect").doesNotExist())
+                .andExpect(jsonPath("$.answeredCount").value(0));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("GET /exams/{sessionId}/next: 200 OK with the first unanswered question")
+    void getNextQuestion_returns200() throws Exception {
+        mockMvc.perform(get("/api/v1/exams/{sessionId}/next", sessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.question.id").value(questionId))
+                .andExpect(jsonPath("$.question.explanation").doesNotExist())
+                .andExpect(jsonPath("$.questionNumber").value(1))
+                .andExpect(jsonPath("$.totalQuestions").value(1))
+                .andExpect(jsonPath("$.timeRemainingSeconds").doesNotExist());
     }
 
     @Test
@@ -160,13 +197,64 @@ class ExamControllerIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.answeredCount").value(1));
+                .andExpect(jsonPath("$.answeredCount").value(1))
+                .andExpect(jsonPath("$.isCorrect").value(true))
+                .andExpect(jsonPath("$.correctOptionId").value(correctOptionId))
+                .andExpect(jsonPath("$.runningScore.correct").value(1))
+                .andExpect(jsonPath("$.runningScore.total").value(1))
+                .andExpect(jsonPath("$.questions").doesNotExist())
+                .andExpect(jsonPath("$.next").doesNotExist());
     }
 
-    // ---- POST /api/v1/exams/{sessionId}/complete ---------------------------
+    @Test
+    @Order(6)
+    @DisplayName("POST /answer: 404 when the question is not part of the session")
+    void submitAnswer_questionNotInSession_returns404() throws Exception {
+        SubmitAnswerRequest request = SubmitAnswerRequest.builder()
+                .selectedOptionId(UUID.fromString(correctOptionId))
+                .timeSpentSeconds(5)
+                .build();
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/questions/{questionId}/answer",
+                        sessionId, UUID.randomUUID())
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
 
     @Test
     @Order(7)
+    @DisplayName("POST /answer: re-answering replaces the earlier answer in the running score")
+    void answer_reanswer_updatesRunningScore() throws Exception {
+        String wrongOptionId = answerOptionRepository.findAll().stream()
+                .filter(o -> !o.isCorrect()).findFirst().get().getId().toString();
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answer", sessionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":10}
+                                """.formatted(questionId, wrongOptionId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isCorrect").value(false))
+                .andExpect(jsonPath("$.runningScore.correct").value(0))
+                .andExpect(jsonPath("$.runningScore.total").value(1));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("GET /exams/{sessionId}/next: 404 once every question is answered")
+    void getNextQuestion_allAnswered_returns404() throws Exception {
+        mockMvc.perform(get("/api/v1/exams/{sessionId}/next", sessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    // ---- POST /api/v1/exams/{sessionId}/complete ---------------------------
+
+    @Test
+    @Order(8)
     @DisplayName("POST /complete: 200 OK with score results and answer details")
     void completeExam_returns200WithResults() throws Exception {
         mockMvc.perform(post("/api/v1/exams/{sessionId}/complete", sessionId)
@@ -181,7 +269,7 @@ class ExamControllerIntegrationTest {
     }
 
     @Test
-    @Order(8)
+    @Order(9)
     @DisplayName("POST /complete: 409 Conflict when exam already completed")
     void completeExam_alreadyCompleted_returns409() throws Exception {
         mockMvc.perform(post("/api/v1/exams/{sessionId}/complete", sessionId)
@@ -189,10 +277,37 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().isConflict());
     }
 
-    // ---- GET /api/v1/exams/history -----------------------------------------
+    // ---- GET /api/v1/exams/{sessionId}/result ------------------------------
 
     @Test
     @Order(9)
+    @DisplayName("GET /result: 200 OK from the stored snapshot, 304 for a matching ETag")
+    void getExamResult_servesSnapshotWithETag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/exams/{sessionId}/result", sessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(jsonPath("$.sessionId").value(sessionId))
+                .andExpect(jsonPath("$.answerDetails", hasSize(1)))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v1/exams/{sessionId}/result", sessionId)
+                        .header("X-User-Id", USER.toString())
+                        .header("If-None-Match", result.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/v1/exams/{sessionId}/result", sessionId)
+                        .header("X-User-Id", USER.toString())
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    // ---- GET /api/v1/exams/history -----------------------------------------
+
+    @Test
+    @Order(10)
     @DisplayName("GET /exams/history: 200 OK with paginated exam history")
     void getExamHistory_returns200() throws Exception {
         mockMvc.perform(get("/api/v1/exams/history")
@@ -203,4 +318,512 @@ class ExamControllerIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))));
     }
+
+    // ---- GET /api/v1/exams/stats -------------------------------------------
+
+    @Test
+    @Order(10)
+    @DisplayName("GET /exams/stats: 200 OK with the user's running exam summary")
+    void getExamStats_returns200() throws Exception {
+        mockMvc.perform(get("/api/v1/exams/stats")
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attempts").value(1))
+                .andExpect(jsonPath("$.completedCount").value(1))
+                .andExpect(jsonPath("$.averageScorePercent").value(0.0))
+                .andExpect(jsonPath("$.recentScores", hasSize(1)))
+                .andExpect(jsonPath("$.categoryBreakdown.PULMONOLOGY.total").value(1))
+                .andExpect(jsonPath("$.categoryBreakdown.PULMONOLOGY.correct").value(0));
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Exam stats: a rebuild fills the empty row another first exam already inserted")
+    void rebuildExamStats_existingEmptyRow_isFilled() throws Exception {
+        UUID user = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", user.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(1)
+                                .categoryFilter(QuestionCategory.PULMONOLOGY)
+                                .build())))
+                .andExpect(status().isCreated());
+
+        // Leave the row as a concurrent first exam would have inserted it
+        jdbcTemplate.update("UPDATE user_exam_stats SET attempts = 0 WHERE user_id = ?", user);
+        examStatsService.rebuild(user);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_exam_stats WHERE user_id = ?", Integer.class, user)).isEqualTo(1);
+        mockMvc.perform(get("/api/v1/exams/stats")
+                        .header("X-User-Id", user.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attempts").value(1))
+                .andExpect(jsonPath("$.completedCount").value(0));
+    }
+
+    // ---- Adaptive exams ----------------------------------------------------
+
+    @Test
+    @Order(11)
+    @DisplayName("Adaptive exam: serves one question at a time and updates the ability estimate")
+    void adaptiveExam_servesQuestionsAndEstimatesAbility() throws Exception {
+        StartExamRequest request = StartExamRequest.builder()
+                .questionCount(1)
+                .adaptive(true)
+                .build();
+
+        MvcResult started = mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.adaptive").value(true))
+                .andExpect(jsonPath("$.abilityEstimate").value(0.0))
+                .andExpect(jsonPath("$.questions", hasSize(1)))
+                .andReturn();
+        String adaptiveSessionId = objectMapper.readTree(started.getResponse().getContentAsString())
+                .get("id").asText();
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answer", adaptiveSessionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":10}
+                                """.formatted(questionId, correctOptionId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isCorrect").value(true))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/exams/{sessionId}", adaptiveSessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.abilityEstimate", greaterThan(0.0)))
+                .andExpect(jsonPath("$.abilityStandardError", lessThan(1.0)));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Adaptive exam: 422 when the pool is smaller than the exam")
+    void adaptiveExam_insufficientQuestions_returns422() throws Exception {
+        StartExamRequest request = StartExamRequest.builder()
+                .questionCount(5)
+                .adaptive(true)
+                .build();
+
+        mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    // ---- Question statistics -----------------------------------------------
+
+    @Test
+    @Order(12)
+    @DisplayName("GET /questions/stats: counts the completed exam's answer once flushed")
+    void getQuestionStats_afterFlush() throws Exception {
+        questionStatsRecorder.flush();
+
+        mockMvc.perform(get("/api/v1/questions/stats").param("sort", "discrimination")
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].questionId").value(questionId))
+                .andExpect(jsonPath("$.content[0].responses").value(1))
+                .andExpect(jsonPath("$.content[0].proportionCorrect").value(0.0))
+                .andExpect(jsonPath("$.content[0].discrimination").doesNotExist())
+                .andExpect(jsonPath("$.content[0].meanTimeSeconds").value(10.0))
+                .andExpect(jsonPath("$.content[0].options").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/questions/{questionId}/stats", questionId)
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.options", hasSize(4)))
+                .andExpect(jsonPath("$.options[?(@.correct == true)].selections").value(contains(0)))
+                .andExpect(jsonPath("$.options[?(@.selections == 1)].selectionRate").value(contains(1.0)));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Question stats recompute: rebuilds the same totals from all answers")
+    void recomputeQuestionStats_matchesIncrementalTotals() throws Exception {
+        questionStatsRecomputeJob.recompute();
+
+        mockMvc.perform(get("/api/v1/questions/{questionId}/stats", questionId)
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responses").value(1))
+                .andExpect(jsonPath("$.proportionCorrect").value(0.0))
+                .andExpect(jsonPath("$.options[?(@.selections == 1)]", hasSize(1)));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("GET /questions/stats: 400 for an unknown sort property, 404 for a question without stats")
+    void getQuestionStats_invalidRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/questions/stats").param("sort", "stem")
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/questions/{questionId}/stats", UUID.randomUUID())
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("GET /questions/stats: 403 Forbidden for a student, so the answer key stays hidden")
+    void getQuestionStats_student_returns403() throws Exception {
+        mockMvc.perform(get("/api/v1/questions/{questionId}/stats", questionId)
+                        .header("X-User-Role", "STUDENT"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.options").doesNotExist());
+        mockMvc.perform(get("/api/v1/questions/stats"))
+                .andExpect(status().isForbidden());
+    }
+
+    // ---- POST /api/v1/exams/{sessionId}/answers ----------------------------
+
+    @Test
+    @Order(14)
+    @DisplayName("POST /answers: validates the whole batch, keeps the last answer per question and completes")
+    void submitAnswers_bulkAndComplete() throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder().questionCount(1).build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String bulkSessionId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+        String wrongOptionId = answerOptionRepository.findAll().stream()
+                .filter(o -> !o.isCorrect()).findFirst().get().getId().toString();
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answers", bulkSessionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"answers":[
+                                  {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":5},
+                                  {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":5}
+                                ]}
+                                """.formatted(questionId, correctOptionId, UUID.randomUUID(), correctOptionId)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answers", bulkSessionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"complete":true,"answers":[
+                                  {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":5},
+                                  {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":7}
+                                ]}
+                                """.formatted(questionId, wrongOptionId, questionId, correctOptionId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.runningScore.correct").value(1))
+                .andExpect(jsonPath("$.runningScore.total").value(1))
+                .andExpect(jsonPath("$.result.rawScore").value(1))
+                .andExpect(jsonPath("$.result.answerDetails[0].timeSpentSeconds").value(7));
+
+        mockMvc.perform(get("/api/v1/exams/{sessionId}", bulkSessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("POST /answers: 400 Bad Request for an empty batch")
+    void submitAnswers_empty_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answers", sessionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ---- POST /api/v1/questions/import -------------------------------------
+
+    @Test
+    @Order(15)
+    @DisplayName("POST /questions/import: imports valid NDJSON records once and refreshes the bank")
+    void importNdjson_isIdempotentAndRefreshesBank() throws Exception {
+        String ndjson = """
+                {"externalKey":"imp-1","stem":"S1","category":"CARDIOLOGY","difficulty":"EASY","explanation":"E","options":[{"text":"a","correct":true},{"text":"b"}]}
+                {"externalKey":"imp-2","stem":"S2","category":"CARDIOLOGY","difficulty":"HARD","explanation":"E","options":[{"text":"a"},{"text":"b","correct":true}]}
+                {"externalKey":"imp-3","stem":"S3","category":"CARDIOLOGY","difficulty":"HARD","explanation":"E","options":[{"text":"a","correct":true},{"text":"b","correct":true}]}
+                {not json
+                """;
+
+        mockMvc.perform(post("/api/v1/questions/import")
+                        .header("X-User-Role", "ADMIN")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(4))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].externalKey").value("imp-3"))
+                .andExpect(jsonPath("$.errors[1].line").value(4));
+
+        mockMvc.perform(post("/api/v1/questions/import")
+                        .header("X-User-Role", "ADMIN")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.skipped").value(2));
+
+        mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(2).categoryFilter(QuestionCategory.CARDIOLOGY).build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.questions", hasSize(2)));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("POST /questions/import: imports CSV with a header row")
+    void importCsv_createsQuestions() throws Exception {
+        String csv = """
+                external_key,stem,category,difficulty,explanation,option_a,option_b,option_c,correct_option
+                imp-csv-1,"Which drug, if any?",NEUROLOGY,MEDIUM,Because,Yes,No,Maybe,C
+                imp-1,Duplicate of an NDJSON key,NEUROLOGY,MEDIUM,Because,Yes,No,,A
+                """;
+
+        mockMvc.perform(post("/api/v1/questions/import")
+                        .header("X-User-Role", "ADMIN")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.skipped").value(1));
+        assertThat(questionRepository.findAll())
+                .filteredOn(q -> "imp-csv-1".equals(q.getExternalKey()))
+                .singleElement()
+                .satisfies(q -> assertThat(q.getCorrectOption().getText()).isEqualTo("Maybe"));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("POST /questions/import: 403 Forbidden for a student or a caller without a role")
+    void import_nonAdmin_returns403() throws Exception {
+        String ndjson = """
+                {"externalKey":"imp-student","stem":"S","category":"CARDIOLOGY","difficulty":"EASY","explanation":"E","options":[{"text":"a","correct":true},{"text":"b"}]}
+                """;
+        long questions = questionRepository.count();
+
+        mockMvc.perform(post("/api/v1/questions/import")
+                        .header("X-User-Role", "STUDENT")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/questions/import")
+                        .contentType("text/csv")
+                        .content("external_key,stem\n"))
+                .andExpect(status().isForbidden());
+
+        assertThat(questionRepository.count()).isEqualTo(questions);
+    }
+
+    // ---- GET /api/v1/questions/search --------------------------------------
+
+    @Test
+    @Order(17)
+    @DisplayName("GET /questions/search: finds questions by prefix with highlights and filters")
+    void searchQuestions_returnsHighlightedHits() throws Exception {
+        mockMvc.perform(get("/api/v1/questions/search").param("q", "common pneumo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].questionId").value(questionId))
+                .andExpect(jsonPath("$.content[0].highlights.stem")
+                        .value("What is the most <mark>common</mark> cause of CAP?"))
+                .andExpect(jsonPath("$.content[0].highlights.explanation",
+                        containsString("<mark>common</mark> cause")));
+
+        mockMvc.perform(get("/api/v1/questions/search")
+                        .param("q", "pneumoniae")
+                        .param("category", "CARDIOLOGY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    // ---- Timed exam expiry -------------------------------------------------
+
+    @Test
+    @Order(18)
+    @DisplayName("Expiry: a timed exam past its limit is scored, closed as TIMED_OUT and refuses answers")
+    void timedExam_expiresAfterSweep() throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(1)
+                                .categoryFilter(QuestionCategory.PULMONOLOGY)
+                                .timeLimitMinutes(1)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String timedSessionId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+
+        SubmitAnswerRequest answer = SubmitAnswerRequest.builder()
+                .selectedOptionId(UUID.fromString(correctOptionId)).timeSpentSeconds(5).build();
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/questions/{questionId}/answer",
+                                timedSessionId, questionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(answer)))
+                .andExpect(status().isOk());
+
+        // Simulate a restart: the deadline passed while no timer was holding it
+        jdbcTemplate.update("UPDATE exam_sessions SET started_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(2), UUID.fromString(timedSessionId));
+        examExpiryScheduler.cancel(UUID.fromString(timedSessionId));
+        examExpiryJob.sweep();
+        examExpiryJob.tick();
+
+        mockMvc.perform(get("/api/v1/exams/{sessionId}", timedSessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TIMED_OUT"));
+        mockMvc.perform(get("/api/v1/exams/{sessionId}/result", timedSessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rawScore").value(1));
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/questions/{questionId}/answer",
+                                timedSessionId, questionId)
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(answer)))
+                .andExpect(status().isConflict());
+    }
+
+    // ---- Seeded option shuffling -------------------------------------------
+
+    @Test
+    @Order(19)
+    @DisplayName("Shuffle: options come in the same session-specific order on every reload")
+    void sessionOptionOrder_isReproducible() throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", USER.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(1)
+                                .categoryFilter(QuestionCategory.PULMONOLOGY)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var startedOptions = objectMapper.readTree(started.getResponse().getContentAsString())
+                .get("questions").get(0).get("answerOptions");
+        String shuffledSessionId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+
+        for (int reload = 0; reload < 2; reload++) {
+            MvcResult reloaded = mockMvc.perform(get("/api/v1/exams/{sessionId}", shuffledSessionId)
+                            .header("X-User-Id", USER.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.questions[0].answerOptions[*].orderIndex", contains(0, 1, 2, 3)))
+                    .andReturn();
+            assertThat(objectMapper.readTree(reloaded.getResponse().getContentAsString())
+                    .get("questions").get(0).get("answerOptions")).isEqualTo(startedOptions);
+        }
+
+        mockMvc.perform(get("/api/v1/exams/{sessionId}/next", shuffledSessionId)
+                        .header("X-User-Id", USER.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.question.answerOptions[0].id").value(startedOptions.get(0).get("id").asText()))
+                .andExpect(jsonPath("$.question.answerOptions[3].id").value(startedOptions.get(3).get("id").asText()));
+    }
+
+    // ---- Prefer-unseen selection -------------------------------------------
+
+    @Test
+    @Order(20)
+    @DisplayName("Selection: finishing an exam records the user's seen and missed questions")
+    void finishedExam_recordsQuestionExposure() throws Exception {
+        UUID user = UUID.randomUUID();
+        MvcResult started = mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", user.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(1)
+                                .categoryFilter(QuestionCategory.PULMONOLOGY)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String exposureSessionId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+        String wrongOptionId = answerOptionRepository.findAll().stream()
+                .filter(o -> !o.isCorrect() && o.getQuestion().getId().toString().equals(questionId))
+                .findFirst().get().getId().toString();
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answers", exposureSessionId)
+                        .header("X-User-Id", user.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"complete":true,"answers":[
+                                  {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":5}
+                                ]}
+                                """.formatted(questionId, wrongOptionId)))
+                .andExpect(status().isOk());
+
+        int ordinal = questionRepository.findById(UUID.fromString(questionId)).get().getOrdinal();
+        QuestionExposure exposure = questionExposureStore.exposure(user);
+        assertThat(exposure.seen().toArray()).containsExactly(ordinal);
+        assertThat(exposure.missed().toArray()).containsExactly(ordinal);
+        assertThat(userQuestionExposureRepository.findById(user).get().getSeenCount()).isEqualTo(1);
+
+        // The only PULMONOLOGY question is seen; it is still drawn once nothing else is left
+        mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", user.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(1)
+                                .categoryFilter(QuestionCategory.PULMONOLOGY)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.questions[0].id").value(questionId));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Selection: a first exam whose row another exam already created adds to that row")
+    void finishedExam_existingExposureRow_isMerged() throws Exception {
+        UUID user = UUID.randomUUID();
+        // The row a concurrent first exam inserted and filled while this one was running
+        jdbcTemplate.update("INSERT INTO user_question_exposure (user_id, seen, missed, seen_count, updated_at) "
+                        + "VALUES (?, ?, ?, 1, CURRENT_TIMESTAMP)",
+                user, OrdinalBitmap.of(999_999).serialize(), new OrdinalBitmap().serialize());
+
+        MvcResult started = mockMvc.perform(post("/api/v1/exams")
+                        .header("X-User-Id", user.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(StartExamRequest.builder()
+                                .questionCount(1)
+                                .categoryFilter(QuestionCategory.PULMONOLOGY)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String mergedSessionId = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asText();
+
+        mockMvc.perform(post("/api/v1/exams/{sessionId}/answers", mergedSessionId)
+                        .header("X-User-Id", user.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"complete":true,"answers":[
+                                  {"questionId":"%s","selectedOptionId":"%s","timeSpentSeconds":5}
+                                ]}
+                                """.formatted(questionId, correctOptionId)))
+                .andExpect(status().isOk());
+
+        int ordinal = questionRepository.findById(UUID.fromString(questionId)).get().getOrdinal();
+        assertThat(questionExposureStore.exposure(user).seen().toArray()).containsExactly(ordinal, 999_999);
+        assertThat(userQuestionExposureRepository.findAll()).filteredOn(x -> x.getUserId().equals(user))
+                .singleElement()
+                .satisfies(x -> assertThat(x.getSeenCount()).isEqualTo(2));
+    }
 }
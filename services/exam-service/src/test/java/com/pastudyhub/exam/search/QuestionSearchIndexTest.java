@@ -0,0 +1,84 @@
+package com.pastudyhub.exam.search;
+
+import com.pastudyhub.exam.bank.BankedQuestion;
+import com.pastudyhub.exam.engine.ItemParameters;
+import com.pastudyhub.exam.model.DifficultyLevel;
+import com.pastudyhub.exam.model.QuestionCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuestionSearchIndex / Highlighter unit tests")
+class QuestionSearchIndexTest {
+
+    private static BankedQuestion question(QuestionCategory category, String stem, String vignette, String explanation) {
+        return new BankedQuestion(UUID.randomUUID(), stem, vignette, category, DifficultyLevel.MEDIUM, explanation,
+                true, ItemParameters.uncalibrated(DifficultyLevel.MEDIUM), List.of());
+    }
+
+    private static final BankedQuestion CAP = question(QuestionCategory.PULMONOLOGY,
+            "What is the most common cause of community-acquired pneumonia?", null,
+            "Streptococcus pneumoniae causes most cases.");
+    private static final BankedQuestion PE = question(QuestionCategory.PULMONOLOGY,
+            "Which test best confirms pulmonary embolism?", "A 54-year-old with sudden dyspnea after a flight.",
+            "CT angiography is the test of choice; pneumonia is on the differential.");
+    private static final BankedQuestion MI = question(QuestionCategory.CARDIOLOGY,
+            "First-line treatment of STEMI?", "Chest pain radiating to the left arm.",
+            "Primary PCI. Émile's café sign is irrelevant.");
+
+    private final QuestionSearchIndex index = QuestionSearchIndex.of(List.of(CAP, PE, MI));
+
+    private List<BankedQuestion> search(String text, QuestionCategory category) {
+        return index.search(SearchQuery.parse(text), category, null).stream()
+                .map(QuestionSearchIndex.Hit::question)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("search: every term must match; a stem match outranks an explanation match")
+    void search_requiresAllTermsAndRanksStemFirst() {
+        assertThat(search("pneumonia", null)).containsExactly(CAP, PE);
+        assertThat(search("pneumonia embolism", null)).containsExactly(PE);
+        assertThat(search("pneumonia stemi", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search: the last term matches as a prefix; case, accents and stop words are ignored")
+    void search_prefixAndNormalization() {
+        assertThat(search("the PULMON", null)).containsExactly(PE);
+        assertThat(search("emile cafe", null)).containsExactly(MI);
+        assertThat(search("of the", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search: category filter")
+    void search_filtersByCategory() {
+        assertThat(search("test", QuestionCategory.CARDIOLOGY)).isEmpty();
+        assertThat(search("test", QuestionCategory.PULMONOLOGY)).containsExactly(PE);
+    }
+
+    @Test
+    @DisplayName("Highlighter: marks every matching word and escapes HTML")
+    void highlighter_marksMatchesAndEscapes() {
+        SearchQuery query = SearchQuery.parse("pneumo");
+
+        assertThat(Highlighter.fragment("Pneumonia <b>vs</b> pneumothorax", query, 160))
+                .isEqualTo("<mark>Pneumonia</mark> &lt;b&gt;vs&lt;/b&gt; <mark>pneumothorax</mark>");
+        assertThat(Highlighter.fragment("No match here", query, 160)).isNull();
+    }
+
+    @Test
+    @DisplayName("Highlighter: long text is cut around the first match")
+    void highlighter_cutsLongText() {
+        String text = "word ".repeat(50) + "embolism " + "word ".repeat(50);
+
+        String fragment = Highlighter.fragment(text, SearchQuery.parse("embolism"), 60);
+
+        assertThat(fragment).startsWith("…").endsWith("…").contains("<mark>embolism</mark>");
+        assertThat(fragment.length()).isLessThan(100);
+    }
+}
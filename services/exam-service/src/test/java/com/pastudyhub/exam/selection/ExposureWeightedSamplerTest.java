@@ -0,0 +1,68 @@
+package com.pastudyhub.exam.selection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExposureWeightedSampler unit tests")
+class ExposureWeightedSamplerTest {
+
+    /** Pool 0..99: 0..49 seen, of which 0..9 last answered wrong. */
+    private static final OrdinalBitmap POOL = OrdinalBitmap.of(IntStream.range(0, 100).toArray());
+    private static final QuestionExposure EXPOSURE = QuestionExposure.empty().withAnswers(
+            IntStream.range(0, 50).boxed().collect(Collectors.toMap(i -> i, i -> i >= 10)));
+
+    @Test
+    @DisplayName("sample: distinct pool members; zero-weight classes only once the others run out")
+    void sample_ordersClassesByWeight() {
+        var unseenOnly = new ExposureWeightedSampler.Weights(1, 0, 0);
+        int[] drawn = ExposureWeightedSampler.sample(POOL, EXPOSURE, 100, unseenOnly, new SplittableRandom(1));
+
+        assertThat(Arrays.stream(drawn).distinct().sorted().toArray()).isEqualTo(POOL.toArray());
+        assertThat(Arrays.stream(drawn, 0, 50)).allMatch(o -> o >= 50);
+        assertThat(Arrays.stream(drawn, 50, 100)).allMatch(o -> o < 50);
+
+        var missedOnly = new ExposureWeightedSampler.Weights(0, 1, 0);
+        assertThat(Arrays.stream(ExposureWeightedSampler.sample(POOL, EXPOSURE, 10, missedOnly, new SplittableRandom(2))))
+                .allMatch(o -> o < 10);
+    }
+
+    @Test
+    @DisplayName("sample: chance per question follows its class weight")
+    void sample_followsWeights() {
+        var weights = new ExposureWeightedSampler.Weights(8, 4, 1);
+        int[] firstDraws = new int[3];
+        SplittableRandom random = new SplittableRandom(5);
+        for (int trial = 0; trial < 20_000; trial++) {
+            int o = ExposureWeightedSampler.sample(POOL, EXPOSURE, 1, weights, random)[0];
+            firstDraws[o >= 50 ? 0 : o < 10 ? 1 : 2]++;
+        }
+        // Class mass: unseen 50×8 = 400, missed 10×4 = 40, seen 40×1 = 40 (of 480)
+        assertThat(firstDraws[0] / 20_000.0).isCloseTo(400 / 480.0, within(0.015));
+        assertThat(firstDraws[1] / 20_000.0).isCloseTo(40 / 480.0, within(0.01));
+        assertThat(firstDraws[2] / 20_000.0).isCloseTo(40 / 480.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("sample: rejects a pool smaller than the count; the exposure is left unchanged")
+    void sample_rejectsSmallPool() {
+        var weights = new ExposureWeightedSampler.Weights(8, 4, 1);
+        assertThatThrownBy(() -> ExposureWeightedSampler.sample(POOL, EXPOSURE, 101, weights, new SplittableRandom(3)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ExposureWeightedSampler.Weights(-1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        QuestionExposure updated = EXPOSURE.withAnswers(Map.of(0, true, 99, false));
+        assertThat(updated.missed().contains(0)).isFalse();
+        assertThat(updated.missed().contains(99)).isTrue();
+        assertThat(EXPOSURE.missed().contains(0)).isTrue();
+        assertThat(EXPOSURE.seen().contains(99)).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+package com.pastudyhub.exam.selection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrdinalBitmap unit tests")
+class OrdinalBitmapTest {
+
+    /** Random values spread over three chunks; the dense chunk becomes a bitset. */
+    private static TreeSet<Integer> randomValues(Random random, int sparse, int dense) {
+        TreeSet<Integer> values = new TreeSet<>();
+        while (values.size() < sparse) values.add(random.nextInt(3 * 65_536));
+        for (int i = 0; i < dense; i++) values.add(65_536 + random.nextInt(20_000));
+        return values;
+    }
+
+    private static OrdinalBitmap bitmap(TreeSet<Integer> values) {
+        return OrdinalBitmap.of(values.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static int[] array(TreeSet<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    @DisplayName("add/remove/contains/select agree with a sorted set through array ↔ bitset changes")
+    void mutationsMatchSortedSet() {
+        Random random = new Random(7);
+        TreeSet<Integer> expected = new TreeSet<>();
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (int i = 0; i < 30_000; i++) {
+            int value = random.nextInt(2 * 65_536);
+            boolean add = i < 20_000 || random.nextBoolean();
+            assertThat(add ? bitmap.add(value) : bitmap.remove(value))
+                    .isEqualTo(add ? expected.add(value) : expected.remove(value));
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertThat(bitmap.toArray()).containsExactly(array(expected));
+        assertThat(bitmap.contains(expected.first())).isTrue();
+        assertThat(bitmap.contains(-1)).isFalse();
+        int rank = 0;
+        for (int value : expected) {
+            if (rank % 97 == 0) assertThat(bitmap.select(rank)).isEqualTo(value);
+            rank++;
+        }
+        assertThatThrownBy(() -> bitmap.select(expected.size())).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> bitmap.add(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("and/andNot/or match set operations for array and bitset chunks")
+    void setOperationsMatchSortedSets() {
+        Random random = new Random(11);
+        TreeSet<Integer> a = randomValues(random, 3_000, 8_000);
+        TreeSet<Integer> b = randomValues(random, 3_000, 0);
+        b.addAll(a.stream().filter(v -> v % 3 == 0).toList());
+
+        TreeSet<Integer> and = new TreeSet<>(a);
+        and.retainAll(b);
+        TreeSet<Integer> andNot = new TreeSet<>(a);
+        andNot.removeAll(b);
+        TreeSet<Integer> or = new TreeSet<>(a);
+        or.addAll(b);
+
+        OrdinalBitmap left = bitmap(a);
+        OrdinalBitmap right = bitmap(b);
+        assertThat(left.and(right).toArray()).containsExactly(array(and));
+        assertThat(right.and(left).toArray()).containsExactly(array(and));
+        assertThat(left.andNot(right).toArray()).containsExactly(array(andNot));
+        assertThat(left.or(right).toArray()).containsExactly(array(or));
+        assertThat(left.andNot(left).isEmpty()).isTrue();
+        assertThat(left.toArray()).containsExactly(array(a));
+    }
+
+    @Test
+    @DisplayName("serialize/deserialize round-trips, and sparse sets stay small")
+    void serializationRoundTrips() {
+        TreeSet<Integer> values = randomValues(new Random(3), 1_000, 10_000);
+        OrdinalBitmap bitmap = bitmap(values);
+
+        assertThat(OrdinalBitmap.deserialize(bitmap.serialize())).isEqualTo(bitmap);
+        assertThat(OrdinalBitmap.deserialize(new OrdinalBitmap().serialize()).isEmpty()).isTrue();
+        assertThat(OrdinalBitmap.of(5, 70_000, 1_000_000).serialize()).hasSizeLessThan(40);
+        assertThatThrownBy(() -> OrdinalBitmap.deserialize(new byte[] {1, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,224 @@
+package com.pastudyhub.flashcard.compaction;
+
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckClosureRepository;
+import com.pastudyhub.flashcard.repository.DeckPopularityRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
+import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hard-deletes decks and cards that have been soft-deleted for longer than the
+ * retention period, so table and index sizes track live data.
+ *
+ * <p>Work is done in small keyset-paged batches ({@code id > lastId ORDER BY id}),
+ * each in its own short transaction, with a pause between batches so the job never
+ * holds locks for long or saturates the database. Every batch cascades explicitly:
+ * review schedules first, then cards, then notes, then decks (and their popularity and
+ * closure rows).
+ *
+ * <p>Progress is published as Micrometer meters under {@code flashcard.compaction.*}
+ * (rows deleted per table, batches run, running flag, last completed run).
+ * Running the job on several instances at once is safe — deletes are idempotent —
+ * but wasteful; in production schedule it on one instance only.
+ */
+@Slf4j
+@Component
+public class SoftDeleteCompactor {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final DeckRepository deckRepository;
+    private final CardRepository cardRepository;
+    private final ReviewScheduleRepository reviewScheduleRepository;
+    private final DeckPopularityRepository deckPopularityRepository;
+    private final DeckClosureRepository deckClosureRepository;
+    private final NoteRepository noteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration retention;
+    private final int batchSize;
+    private final long throttleMs;
+
+    private final Counter decksDeleted;
+    private final Counter cardsDeleted;
+    private final Counter notesDeleted;
+    private final Counter schedulesDeleted;
+    private final Counter batches;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastCompletedEpochSeconds = new AtomicLong();
+
+    @Autowired
+    public SoftDeleteCompactor(
+            DeckRepository deckRepository,
+            CardRepository cardRepository,
+            ReviewScheduleRepository reviewScheduleRepository,
+            DeckPopularityRepository deckPopularityRepository,
+            DeckClosureRepository deckClosureRepository,
+            NoteRepository noteRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${flashcard.compaction.retention-days:30}") int retentionDays,
+            @Value("${flashcard.compaction.batch-size:500}") int batchSize,
+            @Value("${flashcard.compaction.throttle-ms:200}") long throttleMs) {
+        this(deckRepository, cardRepository, reviewScheduleRepository, deckPopularityRepository,
+                deckClosureRepository, noteRepository, new TransactionTemplate(transactionManager), meterRegistry,
+                Clock.systemDefaultZone(), Duration.ofDays(retentionDays), batchSize, throttleMs);
+    }
+
+    SoftDeleteCompactor(DeckRepository deckRepository, CardRepository cardRepository,
+                        ReviewScheduleRepository reviewScheduleRepository,
+                        DeckPopularityRepository deckPopularityRepository,
+                        DeckClosureRepository deckClosureRepository, NoteRepository noteRepository,
+                        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, Clock clock,
+                        Duration retention, int batchSize, long throttleMs) {
+        this.deckRepository = deckRepository;
+        this.cardRepository = cardRepository;
+        this.reviewScheduleRepository = reviewScheduleRepository;
+        this.deckPopularityRepository = deckPopularityRepository;
+        this.deckClosureRepository = deckClosureRepository;
+        this.noteRepository = noteRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.throttleMs = throttleMs;
+
+        this.decksDeleted = rowsCounter(meterRegistry, "decks");
+        this.cardsDeleted = rowsCounter(meterRegistry, "cards");
+        this.notesDeleted = rowsCounter(meterRegistry, "notes");
+        this.schedulesDeleted = rowsCounter(meterRegistry, "review_schedules");
+        this.batches = Counter.builder("flashcard.compaction.batches")
+                .description("Compaction transactions committed")
+                .register(meterRegistry);
+        meterRegistry.gauge("flashcard.compaction.running", running, flag -> flag.get() ? 1 : 0);
+        meterRegistry.gauge("flashcard.compaction.last.completed", lastCompletedEpochSeconds, AtomicLong::get);
+    }
+
+    /**
+     * Runs one full compaction pass. Skipped if a pass is already in progress.
+     */
+    @Scheduled(cron = "${flashcard.compaction.cron:0 30 3 * * *}")
+    public void compact() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Compaction already running, skipping");
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+            long cards = compactCards(cutoff);
+            long notes = compactNotes(cutoff);
+            long decks = compactDecks(cutoff);
+            lastCompletedEpochSeconds.set(clock.instant().getEpochSecond());
+            log.info("Compaction finished: cutoff={}, cards={}, notes={}, decks={}", cutoff, cards, notes, decks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Compaction interrupted");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** Soft-deleted cards (in live or deleted decks), keyset-paged by id. */
+    private long compactCards(LocalDateTime cutoff) throws InterruptedException {
+        long total = 0;
+        UUID afterId = FIRST_ID;
+        while (true) {
+            List<UUID> ids = cardRepository.findCompactableIds(cutoff, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return total;
+            deleteCards(ids);
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            pause();
+        }
+    }
+
+    /**
+     * Soft-deleted notes in live decks, keyset-paged by id. A note's cards were
+     * soft-deleted with it; any still present are removed in the same transaction.
+     */
+    private long compactNotes(LocalDateTime cutoff) throws InterruptedException {
+        long total = 0;
+        UUID afterId = FIRST_ID;
+        while (true) {
+            List<UUID> ids = noteRepository.findCompactableIds(cutoff, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return total;
+            transactionTemplate.executeWithoutResult(status -> {
+                schedulesDeleted.increment(reviewScheduleRepository.deleteByNoteIds(ids));
+                cardsDeleted.increment(cardRepository.deleteByNoteIds(ids));
+                notesDeleted.increment(noteRepository.deleteByIds(ids));
+            });
+            batches.increment();
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            pause();
+        }
+    }
+
+    /**
+     * Soft-deleted decks, keyset-paged by id. Each deck's remaining cards are drained
+     * in their own batches first so no single transaction grows with deck size.
+     */
+    private long compactDecks(LocalDateTime cutoff) throws InterruptedException {
+        long total = 0;
+        UUID afterId = FIRST_ID;
+        while (true) {
+            List<UUID> deckIds = deckRepository.findCompactableIds(cutoff, afterId, PageRequest.of(0, batchSize));
+            if (deckIds.isEmpty()) return total;
+            for (UUID deckId : deckIds) {
+                List<UUID> cardIds;
+                while (!(cardIds = cardRepository.findAllIdsByDeckId(deckId, PageRequest.of(0, batchSize))).isEmpty()) {
+                    deleteCards(cardIds);
+                    pause();
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                deckPopularityRepository.deleteAllByIdInBatch(deckIds);
+                deckClosureRepository.deleteByDeckIds(deckIds);
+                notesDeleted.increment(noteRepository.deleteByDeckIds(deckIds));
+                decksDeleted.increment(deckRepository.deleteByIds(deckIds));
+            });
+            batches.increment();
+            total += deckIds.size();
+            afterId = deckIds.get(deckIds.size() - 1);
+            pause();
+        }
+    }
+
+    private void deleteCards(List<UUID> cardIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            schedulesDeleted.increment(reviewScheduleRepository.deleteByCardIds(cardIds));
+            cardsDeleted.increment(cardRepository.deleteByIds(cardIds));
+        });
+        batches.increment();
+    }
+
+    private void pause() throws InterruptedException {
+        if (throttleMs > 0) Thread.sleep(throttleMs);
+    }
+
+    private static Counter rowsCounter(MeterRegistry registry, String table) {
+        return Counter.builder("flashcard.compaction.rows.deleted")
+                .description("Rows hard-deleted by soft-delete compaction")
+                .tag("table", table)
+                .register(registry);
+    }
+}
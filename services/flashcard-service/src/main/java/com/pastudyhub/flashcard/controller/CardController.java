@@ -1,8 +1,11 @@
 package com.pastudyhub.flashcard.controller;
 
+import com.pastudyhub.flashcard.dto.BulkCardRequest;
+import com.pastudyhub.flashcard.dto.BulkCardResponse;
 import com.pastudyhub.flashcard.dto.CardResponse;
 import com.pastudyhub.flashcard.dto.CreateCardRequest;
 import com.pastudyhub.flashcard.service.CardServiceImpl;
+import com.pastudyhub.flashcard.service.DeckVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -26,6 +30,7 @@ import java.util.UUID;
 public class CardController {
 
     private final CardServiceImpl cardService;
+    private final DeckVersionService deckVersionService;
 
     @GetMapping("/decks/{deckId}/cards")
     @Operation(summary = "List all cards in a deck")
@@ -33,7 +38,11 @@ public class CardController {
             @PathVariable UUID deckId,
             @RequestHeader("X-User-Id") UUID userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "50") int size) {
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(deckVersionService.deckETag(deckId, userId))) {
+            return null;
+        }
         return cardService.getCardsForDeck(deckId, userId, page, size);
     }
 
@@ -64,4 +73,14 @@ public class CardController {
             @RequestHeader("X-User-Id") UUID userId) {
         cardService.deleteCard(cardId, userId);
     }
+
+    @PostMapping("/cards:bulk")
+    @Operation(summary = "Move, retag, delete or reset the schedule of many cards at once",
+               description = "Cards are selected by cardIds or by a deck filter (optionally one tag). "
+                       + "Every selected card must be in a deck owned by the caller.")
+    public BulkCardResponse bulkUpdate(
+            @Valid @RequestBody BulkCardRequest request,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return cardService.bulkUpdate(request, userId);
+    }
 }
@@ -2,7 +2,10 @@ package com.pastudyhub.flashcard.controller;
 
 import com.pastudyhub.flashcard.dto.*;
 import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.search.CardCountRange;
+import com.pastudyhub.flashcard.search.DeckSearchQuery;
 import com.pastudyhub.flashcard.service.DeckService;
+import com.pastudyhub.flashcard.service.DeckVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,12 +14,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for flashcard deck operations.
  * userId is extracted from the X-User-Id header forwarded by the API Gateway.
+ *
+ * <p>Single-deck reads carry a strong ETag from {@link DeckVersionService}; a matching
+ * If-None-Match is answered with 304 before any card or schedule query runs.
  */
 @RestController
 @RequestMapping("/api/v1")
@@ -26,6 +37,7 @@ import java.util.UUID;
 public class DeckController {
 
     private final DeckService deckService;
+    private final DeckVersionService deckVersionService;
 
     @GetMapping("/decks")
     @Operation(summary = "List user's decks")
@@ -41,7 +53,11 @@ public class DeckController {
     @Operation(summary = "Get a specific deck")
     public DeckResponse getDeck(
             @PathVariable UUID deckId,
-            @RequestHeader("X-User-Id") UUID userId) {
+            @RequestHeader("X-User-Id") UUID userId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(deckVersionService.deckETag(deckId, userId))) {
+            return null;
+        }
         return deckService.getDeck(deckId, userId);
     }
 
@@ -63,6 +79,15 @@ public class DeckController {
         return deckService.updateDeck(deckId, request, userId);
     }
 
+    @PutMapping("/decks/{deckId}/parent")
+    @Operation(summary = "Move a deck and its sub-decks under another deck (null parentId = top level)")
+    public DeckResponse moveDeck(
+            @PathVariable UUID deckId,
+            @RequestBody MoveDeckRequest request,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return deckService.moveDeck(deckId, request.getParentId(), userId);
+    }
+
     @DeleteMapping("/decks/{deckId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a deck (soft delete)")
@@ -73,12 +98,34 @@ public class DeckController {
     }
 
     @GetMapping("/decks/public")
-    @Operation(summary = "Browse public decks")
+    @Operation(summary = "Browse public decks (sort: recent, trending or popular)")
     public Page<DeckResponse> getPublicDecks(
             @RequestParam(required = false) MedicalCategory category,
+            @RequestParam(defaultValue = "recent") String sort,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        return deckService.getPublicDecks(category, page, size);
+        return deckService.getPublicDecks(category, PublicDeckSort.fromParam(sort), page, size);
+    }
+
+    @GetMapping("/decks/public/search")
+    @Operation(summary = "Faceted search over public decks (text, categories, card-count ranges, tags) with facet counts")
+    public FacetedDeckSearchResponse searchPublicDecks(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<MedicalCategory> category,
+            @RequestParam(required = false) List<String> cardCount,
+            @RequestParam(required = false) List<String> tag,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        DeckSearchQuery query = new DeckSearchQuery(
+                q,
+                category == null ? Set.of() : Set.copyOf(category),
+                cardCount == null ? Set.of() : cardCount.stream().map(CardCountRange::fromLabel).collect(Collectors.toSet()),
+                tag == null ? Set.of() : tag.stream()
+                        .map(t -> t.trim().toLowerCase(Locale.ROOT))
+                        .filter(t -> !t.isEmpty())
+                        .collect(Collectors.toSet()),
+                page, size);
+        return deckService.searchPublicDecks(query);
     }
 
     @PostMapping("/decks/{deckId}/clone")
@@ -94,7 +141,11 @@ public class DeckController {
     @Operation(summary = "Get deck review statistics")
     public DeckStatsResponse getDeckStats(
             @PathVariable UUID deckId,
-            @RequestHeader("X-User-Id") UUID userId) {
+            @RequestHeader("X-User-Id") UUID userId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(deckVersionService.deckETag(deckId, userId))) {
+            return null;
+        }
         return deckService.getDeckStats(deckId, userId);
     }
 }
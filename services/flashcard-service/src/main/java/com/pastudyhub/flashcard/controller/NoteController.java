@@ -0,0 +1,65 @@
+package com.pastudyhub.flashcard.controller;
+
+import com.pastudyhub.flashcard.dto.CreateNoteRequest;
+import com.pastudyhub.flashcard.dto.NoteResponse;
+import com.pastudyhub.flashcard.service.NoteServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for notes — content shared by the cards generated from it
+ * (basic, basic-and-reversed and cloze).
+ * userId is extracted from the X-User-Id header forwarded by the API Gateway.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Notes", description = "Create notes that generate reversed and cloze cards from one piece of content")
+@SecurityRequirement(name = "bearerAuth")
+public class NoteController {
+
+    private final NoteServiceImpl noteService;
+
+    @PostMapping("/decks/{deckId}/notes")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Add a note to a deck and generate its cards")
+    public NoteResponse createNote(
+            @PathVariable UUID deckId,
+            @Valid @RequestBody CreateNoteRequest request,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return noteService.createNote(deckId, request, userId);
+    }
+
+    @GetMapping("/notes/{noteId}")
+    @Operation(summary = "Get a note with its generated cards")
+    public NoteResponse getNote(
+            @PathVariable UUID noteId,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return noteService.getNote(noteId, userId);
+    }
+
+    @PutMapping("/notes/{noteId}")
+    @Operation(summary = "Update a note; cards are added or removed to match its templates or cloze deletions")
+    public NoteResponse updateNote(
+            @PathVariable UUID noteId,
+            @Valid @RequestBody CreateNoteRequest request,
+            @RequestHeader("X-User-Id") UUID userId) {
+        return noteService.updateNote(noteId, request, userId);
+    }
+
+    @DeleteMapping("/notes/{noteId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete a note and all its cards (soft delete)")
+    public void deleteNote(
+            @PathVariable UUID noteId,
+            @RequestHeader("X-User-Id") UUID userId) {
+        noteService.deleteNote(noteId, userId);
+    }
+}
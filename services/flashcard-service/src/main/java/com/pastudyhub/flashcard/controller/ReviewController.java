@@ -1,8 +1,10 @@
 package com.pastudyhub.flashcard.controller;
 
 import com.pastudyhub.flashcard.dto.CardResponse;
+import com.pastudyhub.flashcard.dto.ReviewQueueResponse;
 import com.pastudyhub.flashcard.dto.ReviewRequest;
 import com.pastudyhub.flashcard.dto.ReviewResponse;
+import com.pastudyhub.flashcard.model.MedicalCategory;
 import com.pastudyhub.flashcard.service.ReviewServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -35,6 +37,15 @@ public class ReviewController {
         return reviewService.getCardsForReview(deckId, userId);
     }
 
+    @GetMapping("/review/queue")
+    @Operation(summary = "Get the most overdue cards across all decks, then today's new cards (max 200)")
+    public ReviewQueueResponse getReviewQueue(
+            @RequestHeader("X-User-Id") UUID userId,
+            @RequestParam(required = false) MedicalCategory category,
+            @RequestParam(defaultValue = "50") int limit) {
+        return reviewService.getReviewQueue(userId, category, Math.max(1, Math.min(limit, 200)));
+    }
+
     @PostMapping("/cards/{cardId}/review")
     @Operation(summary = "Submit a review result for a card (runs SM-2 algorithm)")
     public ReviewResponse submitReview(
@@ -0,0 +1,19 @@
+package com.pastudyhub.flashcard.dto;
+
+/**
+ * Operations supported by POST /api/v1/cards:bulk.
+ *
+ * <ul>
+ *   <li>{@code MOVE} — move cards to {@code targetDeckId}; note-backed cards take their whole note along</li>
+ *   <li>{@code ADD_TAGS} / {@code REMOVE_TAGS} — add or remove each of {@code tags}</li>
+ *   <li>{@code DELETE} — soft-delete the cards</li>
+ *   <li>{@code RESET_SCHEDULE} — forget the caller's review history so the cards are new again</li>
+ * </ul>
+ */
+public enum BulkCardOperation {
+    MOVE,
+    ADD_TAGS,
+    REMOVE_TAGS,
+    DELETE,
+    RESET_SCHEDULE
+}
@@ -0,0 +1,48 @@
+package com.pastudyhub.flashcard.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request body for POST /api/v1/cards:bulk.
+ *
+ * <p>Cards are selected either by {@code cardIds} or by {@code filter} (every live card
+ * in a deck, optionally only those with a tag) — exactly one of the two.
+ */
+@Data
+public class BulkCardRequest {
+
+    @NotNull(message = "Operation is required")
+    private BulkCardOperation operation;
+
+    @Size(max = 10000, message = "At most 10000 card IDs per request")
+    private List<UUID> cardIds;
+
+    @Valid
+    private Filter filter;
+
+    /** Destination deck for {@code MOVE}. */
+    private UUID targetDeckId;
+
+    /** Tags for {@code ADD_TAGS} / {@code REMOVE_TAGS}. */
+    @Size(max = 20, message = "At most 20 tags per request")
+    private List<@NotNull @Size(min = 1, max = 100) @Pattern(regexp = "[^,]+", message = "Tags must not contain commas") String> tags;
+
+    /** Selects the live cards of one deck. */
+    @Data
+    public static class Filter {
+
+        @NotNull(message = "Filter deckId is required")
+        private UUID deckId;
+
+        /** Only cards carrying this tag (exact match). */
+        @Pattern(regexp = "[^,]+", message = "Tags must not contain commas")
+        private String tag;
+    }
+}
@@ -0,0 +1,19 @@
+package com.pastudyhub.flashcard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Response body for POST /api/v1/cards:bulk. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCardResponse {
+    private BulkCardOperation operation;
+    /** Cards selected by the request (including note siblings pulled in by a move). */
+    private int matched;
+    /** Rows actually changed — cards that already had a tag, for example, are not counted. */
+    private int updated;
+}
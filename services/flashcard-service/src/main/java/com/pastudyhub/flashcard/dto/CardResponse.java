@@ -18,6 +18,9 @@ import java.util.UUID;
 public class CardResponse {
     private UUID id;
     private UUID deckId;
+    /** The note this card is rendered from, or null for a standalone card. */
+    private UUID noteId;
+    private Integer ordinal;
     private String front;
     private String back;
     private String hint;
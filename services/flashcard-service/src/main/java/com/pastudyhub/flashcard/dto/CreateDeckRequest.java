@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.util.UUID;
+
 /** Request body for POST /api/v1/decks. */
 @Data
 public class CreateDeckRequest {
@@ -21,4 +23,7 @@ public class CreateDeckRequest {
     private MedicalCategory category;
 
     private boolean isPublic = false;
+
+    /** Optional parent deck (must be owned by the same user). Only read on create. */
+    private UUID parentId;
 }
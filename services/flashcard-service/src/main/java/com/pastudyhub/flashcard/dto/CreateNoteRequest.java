@@ -0,0 +1,38 @@
+package com.pastudyhub.flashcard.dto;
+
+import com.pastudyhub.flashcard.model.NoteType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request body for POST /api/v1/decks/{deckId}/notes and PUT /api/v1/notes/{noteId}.
+ *
+ * <p>For {@code CLOZE} notes {@code front} holds the text with deletions
+ * ({@code {{c1::answer}}}) and {@code back} is optional extra information.
+ */
+@Data
+public class CreateNoteRequest {
+
+    @NotNull(message = "Note type is required")
+    private NoteType type;
+
+    @NotBlank(message = "Note front is required")
+    @Size(max = 2000, message = "Front must not exceed 2000 characters")
+    private String front;
+
+    @Size(max = 5000, message = "Back must not exceed 5000 characters")
+    private String back;
+
+    @Size(max = 500, message = "Hint must not exceed 500 characters")
+    private String hint;
+
+    @Size(max = 500, message = "Image URL must not exceed 500 characters")
+    private String imageUrl;
+
+    /** Applied to every card generated from the note. */
+    private List<String> tags;
+}
@@ -21,6 +21,9 @@ public class DeckResponse {
     private String description;
     private MedicalCategory category;
     private boolean isPublic;
+    private UUID parentId;
+    /** Direct sub-decks. When non-zero, cardCount and cardsToReview cover the whole subtree. */
+    private int childCount;
     private int cardCount;
     private int cardsToReview;
     private LocalDateTime createdAt;
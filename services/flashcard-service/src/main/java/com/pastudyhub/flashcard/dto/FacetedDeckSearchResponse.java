@@ -0,0 +1,31 @@
+package com.pastudyhub.flashcard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response body for GET /api/v1/decks/public/search.
+ *
+ * <p>Each facet map is value → number of matching decks. A facet's counts ignore
+ * that facet's own filter (but honour all others), so the UI can show how many
+ * decks selecting another value would add.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedDeckSearchResponse {
+    private List<DeckResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Long> categoryFacets;
+    private Map<String, Long> cardCountFacets;
+    /** Most common card tags among the matching decks. */
+    private Map<String, Long> tagFacets;
+}
@@ -0,0 +1,11 @@
+package com.pastudyhub.flashcard.dto;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+/** Request body for PUT /api/v1/decks/{deckId}/parent. A null parentId moves the deck to the top level. */
+@Data
+public class MoveDeckRequest {
+    private UUID parentId;
+}
@@ -0,0 +1,30 @@
+package com.pastudyhub.flashcard.dto;
+
+import com.pastudyhub.flashcard.model.NoteType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** Response DTO for note endpoints, with the cards currently generated from the note. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteResponse {
+    private UUID id;
+    private UUID deckId;
+    private NoteType type;
+    private String front;
+    private String back;
+    private String hint;
+    private String imageUrl;
+    private List<String> tags;
+    private List<CardResponse> cards;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
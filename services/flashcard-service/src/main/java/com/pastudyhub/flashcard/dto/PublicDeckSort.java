@@ -0,0 +1,34 @@
+package com.pastudyhub.flashcard.dto;
+
+import com.pastudyhub.flashcard.exception.InvalidSortException;
+
+import java.util.Locale;
+
+/**
+ * Orderings supported by GET /api/v1/decks/public.
+ *
+ * <ul>
+ *   <li>{@code recent} — most recently updated first (default)</li>
+ *   <li>{@code trending} — highest time-decayed view/review/clone score</li>
+ *   <li>{@code popular} — highest all-time clone, then review count</li>
+ * </ul>
+ */
+public enum PublicDeckSort {
+    RECENT,
+    TRENDING,
+    POPULAR;
+
+    /**
+     * Parses the {@code sort} query parameter (case-insensitive).
+     *
+     * @throws InvalidSortException if the value is not a known ordering
+     */
+    public static PublicDeckSort fromParam(String value) {
+        if (value == null || value.isBlank()) return RECENT;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidSortException(value);
+        }
+    }
+}
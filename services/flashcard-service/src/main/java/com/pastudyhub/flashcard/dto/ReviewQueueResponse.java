@@ -0,0 +1,25 @@
+package com.pastudyhub.flashcard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response body for GET /api/v1/review/queue — learning cards whose step has elapsed,
+ * then due cards, then today's new cards.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewQueueResponse {
+    private List<CardResponse> cards;
+    private int learningCount;
+    private int dueCount;
+    private int newCount;
+    /** New cards still allowed today after this queue, under the per-day budget. */
+    private int newCardsRemainingToday;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /** Response body after submitting a card review. */
@@ -19,4 +20,10 @@ public class ReviewResponse {
     private int repetitions;
     /** Human-readable description of when the card will be reviewed next. */
     private String message;
+    /** True while the card is in minute-level learning steps (nothing persisted yet). */
+    private boolean learning;
+    /** Current learning step (0-based), or null once the card is day-scheduled. */
+    private Integer learningStep;
+    /** When the learning card re-enters the review queue. */
+    private Instant learningDueAt;
 }
@@ -0,0 +1,112 @@
+package com.pastudyhub.flashcard.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled card template: the template source split once into literal text and
+ * field references, so rendering is a single pass that appends segments.
+ *
+ * <p>Syntax:
+ * <ul>
+ *   <li>{@code {{Field}}} — the field's value</li>
+ *   <li>{@code {{cloze:Field}}} — the field's value with cloze deletions
+ *       ({@code {{c1::answer}}} or {@code {{c1::answer::hint}}}) rendered for one card:
+ *       the card's own deletion becomes {@code [...]} (or {@code [hint]}) on the question
+ *       and its answer on the answer side; every other deletion shows its answer.
+ *       Cloze numbers have one to three digits; longer ones are left as plain text</li>
+ * </ul>
+ * Unknown fields render as empty text; the rendered output is trimmed.
+ */
+public final class CardTemplate {
+
+    private static final Pattern FIELD = Pattern.compile("\\{\\{(cloze:)?([A-Za-z][A-Za-z0-9_]*)}}");
+    private static final Pattern CLOZE = Pattern.compile("\\{\\{c(\\d{1,3})::(.*?)(?:::(.*?))?}}", Pattern.DOTALL);
+
+    private final List<Segment> segments;
+
+    private CardTemplate(List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Parses template source into segments.
+     *
+     * @param source template text, e.g. {@code "{{cloze:Front}}\n\n{{Back}}"}
+     * @return the compiled template
+     */
+    public static CardTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = FIELD.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                segments.add(new Segment(SegmentKind.LITERAL, source.substring(last, matcher.start())));
+            }
+            SegmentKind kind = matcher.group(1) != null ? SegmentKind.CLOZE_FIELD : SegmentKind.FIELD;
+            segments.add(new Segment(kind, matcher.group(2)));
+            last = matcher.end();
+        }
+        if (last < source.length()) {
+            segments.add(new Segment(SegmentKind.LITERAL, source.substring(last)));
+        }
+        return new CardTemplate(List.copyOf(segments));
+    }
+
+    /**
+     * Renders one face of a card.
+     *
+     * @param fields      field name → value
+     * @param clozeNumber the card's cloze number (ignored by templates without cloze fields)
+     * @param answer      true for the answer side, false for the question side
+     * @return the rendered, trimmed text
+     */
+    public String render(Map<String, String> fields, int clozeNumber, boolean answer) {
+        StringBuilder out = new StringBuilder();
+        for (Segment segment : segments) {
+            switch (segment.kind()) {
+                case LITERAL -> out.append(segment.text());
+                case FIELD -> out.append(fields.getOrDefault(segment.text(), ""));
+                case CLOZE_FIELD -> appendCloze(out, fields.getOrDefault(segment.text(), ""), clozeNumber, answer);
+            }
+        }
+        return out.toString().strip();
+    }
+
+    /** Distinct cloze numbers in {@code text}, ascending — one card per number. */
+    public static SortedSet<Integer> clozeNumbers(String text) {
+        SortedSet<Integer> numbers = new TreeSet<>();
+        if (text == null) return numbers;
+        Matcher matcher = CLOZE.matcher(text);
+        while (matcher.find()) {
+            numbers.add(Integer.parseInt(matcher.group(1)));
+        }
+        return numbers;
+    }
+
+    private static void appendCloze(StringBuilder out, String text, int clozeNumber, boolean answer) {
+        Matcher matcher = CLOZE.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            out.append(text, last, matcher.start());
+            boolean own = Integer.parseInt(matcher.group(1)) == clozeNumber;
+            if (own && !answer) {
+                String hint = matcher.group(3);
+                out.append('[').append(hint != null ? hint : "...").append(']');
+            } else {
+                out.append(matcher.group(2));
+            }
+            last = matcher.end();
+        }
+        out.append(text, last, text.length());
+    }
+
+    private enum SegmentKind { LITERAL, FIELD, CLOZE_FIELD }
+
+    private record Segment(SegmentKind kind, String text) {}
+}
@@ -0,0 +1,105 @@
+package com.pastudyhub.flashcard.engine;
+
+import java.time.LocalDate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Spreads SM-2 due dates so cards learned together do not all come due on the same day.
+ *
+ * <p>SM-2 produces an exact interval. This class widens it into a fuzz window
+ * ({@link #fuzz(int)} days either side) and picks the day in the window with the fewest
+ * cards already due for the user, so review load — and the morning request peak it
+ * drives — is flattened instead of amplified. Ties go to the day closest to the original
+ * interval, then the earlier day, so an empty schedule keeps SM-2's exact dates.
+ *
+ * <p>Days further out always look emptier — fewer cards have been scheduled that far
+ * yet — so comparing raw counts would push intervals steadily longer and quietly cut the
+ * amount of review. Each day's load is therefore compared with the load expected at its
+ * distance: a least-squares line through the loads around the window. Scaling loads by
+ * distance instead would break every tie towards the shortest day, and since SM-2 grows
+ * the next interval from the stored one, that cut would compound into extra reviews.
+ *
+ * <p>Short intervals are left alone: moving a 1-day review has a large relative effect
+ * on retention, while moving a 60-day review by a few days does not.
+ */
+public final class DueDateLoadBalancer {
+
+    private DueDateLoadBalancer() {}
+
+    /**
+     * Days the interval may move in either direction.
+     *
+     * @param interval SM-2 interval in days
+     * @return 0 for intervals of 2 days or less, then roughly 15% (short) to 5% (long) of the interval
+     */
+    public static int fuzz(int interval) {
+        if (interval <= 2) return 0;
+        if (interval < 7) return 1;
+        if (interval < 30) return Math.max(2, (int) Math.round(interval * 0.15));
+        return Math.max(4, (int) Math.round(interval * 0.05));
+    }
+
+    /**
+     * Chooses the interval in the fuzz window around {@code interval} whose load lies
+     * furthest below the trend of the loads within twice the fuzz. A flat or evenly
+     * sloping load keeps the original interval. Scores are kept in integers, so ties are
+     * exact.
+     *
+     * @param interval      SM-2 interval in days
+     * @param dueOnDayAfter projected number of cards due {@code n} days from today
+     * @return the balanced interval (at least 1)
+     */
+    public static int balance(int interval, IntUnaryOperator dueOnDayAfter) {
+        int fuzz = fuzz(interval);
+        if (fuzz == 0) return interval;
+
+        // Fit y = mean + slope × offset over a symmetric range that stays after today
+        int range = Math.min(2 * fuzz, interval - 1);
+        int days = 2 * range + 1;
+        long[] load = new long[days];
+        long sum = 0;
+        long moment = 0;
+        long squares = 0;
+        for (int offset = -range; offset <= range; offset++) {
+            long due = dueOnDayAfter.applyAsInt(interval + offset);
+            load[offset + range] = due;
+            sum += due;
+            moment += offset * due;
+            squares += (long) offset * offset;
+        }
+
+        int best = interval;
+        long bestScore = aboveTrend(0, load[range], days, sum, moment, squares);
+        for (int distance = 1; distance <= fuzz; distance++) {
+            for (int offset : new int[]{-distance, distance}) {
+                long score = aboveTrend(offset, load[offset + range], days, sum, moment, squares);
+                if (score < bestScore) {
+                    best = interval + offset;
+                    bestScore = score;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** How far {@code load} lies above the fitted line at {@code offset}, times {@code days × squares}. */
+    private static long aboveTrend(int offset, long load, int days, long sum, long moment, long squares) {
+        return days * squares * load - squares * sum - days * offset * moment;
+    }
+
+    /**
+     * Returns {@code result} with its interval and next review date moved to the
+     * least-loaded day of its fuzz window. Ease factor and repetitions are unchanged.
+     *
+     * @param result      the SM-2 result
+     * @param today       the review date
+     * @param projectedDue number of the user's cards already due on a date
+     * @return the balanced result
+     */
+    public static ReviewResult balance(ReviewResult result, LocalDate today, ToIntFunction<LocalDate> projectedDue) {
+        int interval = balance(result.newInterval(), days -> projectedDue.applyAsInt(today.plusDays(days)));
+        if (interval == result.newInterval()) return result;
+        return ReviewResult.of(interval, result.newEaseFactor(), result.newRepetitions(), today.plusDays(interval));
+    }
+}
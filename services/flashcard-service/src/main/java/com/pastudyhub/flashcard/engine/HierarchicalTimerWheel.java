@@ -0,0 +1,134 @@
+package com.pastudyhub.flashcard.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for short-lived timers (seconds to hours).
+ *
+ * <p>Four wheels of 64 slots each cover {@code 64}, {@code 64²}, {@code 64³} and
+ * {@code 64⁴} ticks. A timer goes into the lowest wheel whose span covers its delay and
+ * is cascaded down one wheel each time the clock crosses that wheel's slot boundary, so
+ * scheduling is {@code O(1)} and each timer is moved at most three times before it fires.
+ * Delays beyond the top wheel's span are clamped to it.
+ *
+ * <p>The wheel has no thread of its own: it is advanced lazily by {@link #advance(long)}
+ * with the caller's current time, and jumps straight to that time when it holds no timers.
+ * Not thread-safe — callers synchronize. Timers cannot be cancelled; callers that need
+ * to cancel should ignore stale items when they fire.
+ *
+ * @param <T> item delivered when its timer fires
+ */
+public final class HierarchicalTimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final ArrayDeque<Timer<T>>[][] wheels;
+    private final List<T> expired = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis resolution of the wheel in milliseconds
+     * @param nowMillis  current time, in the same epoch as later {@link #advance} calls
+     */
+    public HierarchicalTimerWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive, got: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        this.wheels = newWheels();
+    }
+
+    /**
+     * Schedules {@code item} to fire at {@code dueMillis}, rounded up to the next tick.
+     * An item already due fires on the next {@link #advance} call.
+     */
+    public void schedule(T item, long dueMillis) {
+        long dueTick = Math.floorDiv(dueMillis + tickMillis - 1, tickMillis);
+        size++;
+        if (dueTick <= currentTick) {
+            expired.add(item);
+            return;
+        }
+        place(new Timer<>(item, Math.min(dueTick, currentTick + MAX_DELAY_TICKS)));
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and returns every item whose timer
+     * fired, in firing order.
+     */
+    public List<T> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (size == expired.size()) {
+            // Nothing pending in the wheels — skip the idle ticks entirely.
+            currentTick = Math.max(currentTick, nowTick);
+        }
+        while (currentTick < nowTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            ArrayDeque<Timer<T>> slot = wheels[0][(int) (currentTick & SLOT_MASK)];
+            while (!slot.isEmpty()) {
+                expired.add(slot.poll().item());
+            }
+            if (size == expired.size()) {
+                currentTick = nowTick;
+            }
+        }
+        if (expired.isEmpty()) return List.of();
+        List<T> fired = new ArrayList<>(expired);
+        size -= fired.size();
+        expired.clear();
+        return fired;
+    }
+
+    /** Number of timers scheduled and not yet returned by {@link #advance}. */
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        ArrayDeque<Timer<T>> slot = wheels[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        int count = slot.size();
+        for (int i = 0; i < count; i++) {
+            place(slot.poll());
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long delay = timer.dueTick() - currentTick;
+        if (delay <= 0) {
+            wheels[0][(int) (currentTick & SLOT_MASK)].add(timer);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        wheels[level][(int) ((timer.dueTick() >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ArrayDeque<Timer<T>>[][] newWheels() {
+        ArrayDeque<Timer<T>>[][] wheels = (ArrayDeque<Timer<T>>[][]) new ArrayDeque<?>[LEVELS][SLOTS];
+        for (ArrayDeque<Timer<T>>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = new ArrayDeque<>();
+            }
+        }
+        return wheels;
+    }
+
+    private record Timer<T>(T item, long dueTick) {}
+}
@@ -0,0 +1,54 @@
+package com.pastudyhub.flashcard.engine;
+
+import java.util.*;
+
+/**
+ * K-way merge of per-deck review streams into one global review queue.
+ *
+ * <p>Each input stream is one deck's cards, already sorted by the caller's key (e.g.
+ * next review date). A min-heap holds the head of every stream, so producing {@code n}
+ * items from {@code k} decks costs {@code O(n log k)}.
+ *
+ * <p>Ties on the key are broken by how many cards each deck has already contributed,
+ * so when many cards share the same due date the queue rotates through decks instead
+ * of draining one deck before starting the next.
+ */
+public final class ReviewQueueMerger {
+
+    private ReviewQueueMerger() {}
+
+    /**
+     * Merges sorted streams into a single list of at most {@code limit} items.
+     *
+     * @param streams per-deck streams, each sorted ascending by {@code key}
+     * @param key     ordering of items across streams
+     * @param limit   maximum number of items to return
+     * @param <T>     item type
+     * @return merged items, ascending by key with round-robin tie-breaking
+     */
+    public static <T> List<T> merge(Collection<? extends List<T>> streams, Comparator<? super T> key, int limit) {
+        List<List<T>> sources = new ArrayList<>(streams);
+        Comparator<Cursor> order = Comparator
+                .<Cursor, T>comparing(c -> sources.get(c.stream).get(c.position), key)
+                .thenComparingInt(c -> c.position)
+                .thenComparingInt(c -> c.stream);
+
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, sources.size()), order);
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) heap.add(new Cursor(i, 0));
+        }
+
+        List<T> merged = new ArrayList<>(Math.min(limit, 256));
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Cursor head = heap.poll();
+            List<T> source = sources.get(head.stream);
+            merged.add(source.get(head.position));
+            if (head.position + 1 < source.size()) {
+                heap.add(new Cursor(head.stream, head.position + 1));
+            }
+        }
+        return merged;
+    }
+
+    private record Cursor(int stream, int position) {}
+}
@@ -0,0 +1,9 @@
+package com.pastudyhub.flashcard.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidBulkOperationException extends StudyHubException {
+    public InvalidBulkOperationException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package com.pastudyhub.flashcard.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidNoteException extends StudyHubException {
+    public InvalidNoteException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
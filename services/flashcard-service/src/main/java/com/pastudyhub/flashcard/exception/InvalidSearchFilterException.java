@@ -0,0 +1,9 @@
+package com.pastudyhub.flashcard.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidSearchFilterException extends StudyHubException {
+    public InvalidSearchFilterException(String filter, String value) {
+        super("Unsupported value for search filter '" + filter + "': " + value, HttpStatus.BAD_REQUEST);
+    }
+}
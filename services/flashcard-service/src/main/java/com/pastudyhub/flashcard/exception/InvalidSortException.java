@@ -0,0 +1,9 @@
+package com.pastudyhub.flashcard.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidSortException extends StudyHubException {
+    public InvalidSortException(String sort) {
+        super("Unsupported sort order: " + sort + " (expected recent, trending or popular)", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pastudyhub.flashcard.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class NoteBackedCardException extends StudyHubException {
+    public NoteBackedCardException(UUID cardId, UUID noteId) {
+        super("Card " + cardId + " is generated from note " + noteId + "; edit the note instead",
+                HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,11 @@
+package com.pastudyhub.flashcard.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public class NoteNotFoundException extends StudyHubException {
+    public NoteNotFoundException(UUID id) {
+        super("Note not found: " + id, HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,73 @@
+package com.pastudyhub.flashcard.learning;
+
+import com.pastudyhub.flashcard.engine.HierarchicalTimerWheel;
+import com.pastudyhub.flashcard.engine.ReviewResult;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * One user's learning cards: pending step timers plus the cards whose timers have fired.
+ *
+ * <p>Re-scheduling a card bumps its generation, so a timer from an earlier step that
+ * fires later is recognised as stale and dropped instead of being cancelled in the wheel.
+ */
+class LearningSession {
+
+    private final HierarchicalTimerWheel<Timer> wheel;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Set<UUID> ready = new LinkedHashSet<>();
+    private long generation;
+    private volatile Instant lastActive;
+
+    LearningSession(long tickMillis, Instant now) {
+        this.wheel = new HierarchicalTimerWheel<>(tickMillis, now.toEpochMilli());
+        this.lastActive = now;
+    }
+
+    synchronized Instant schedule(UUID cardId, int step, ReviewResult graduation, Instant dueAt, Instant now) {
+        long gen = ++generation;
+        entries.put(cardId, new Entry(step, graduation, gen));
+        ready.remove(cardId);
+        wheel.schedule(new Timer(cardId, gen), dueAt.toEpochMilli());
+        lastActive = now;
+        return dueAt;
+    }
+
+    synchronized Entry get(UUID cardId) {
+        return entries.get(cardId);
+    }
+
+    synchronized boolean contains(UUID cardId) {
+        return entries.containsKey(cardId);
+    }
+
+    synchronized void remove(UUID cardId) {
+        entries.remove(cardId);
+        ready.remove(cardId);
+    }
+
+    synchronized List<UUID> due(Instant now) {
+        for (Timer timer : wheel.advance(now.toEpochMilli())) {
+            Entry entry = entries.get(timer.cardId());
+            if (entry != null && entry.generation() == timer.generation()) {
+                ready.add(timer.cardId());
+            }
+        }
+        lastActive = now;
+        return List.copyOf(ready);
+    }
+
+    synchronized Set<UUID> cardIds() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    Instant lastActive() {
+        return lastActive;
+    }
+
+    /** A card's current step and the SM-2 result held back until it graduates. */
+    record Entry(int step, ReviewResult graduation, long generation) {}
+
+    private record Timer(UUID cardId, long generation) {}
+}
@@ -0,0 +1,158 @@
+package com.pastudyhub.flashcard.learning;
+
+import com.pastudyhub.flashcard.engine.HierarchicalTimerWheel;
+import com.pastudyhub.flashcard.engine.ReviewResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minute-level learning steps for cards a user fails during a review session.
+ *
+ * <p>A lapsed card enters step 0 and comes back after {@code steps[0]}; answering it
+ * correctly moves it to the next step, failing it restarts at step 0, and answering
+ * "Easy" or passing the last step graduates it back to day-based SM-2 scheduling.
+ *
+ * <p>Step timers live in a per-user {@link HierarchicalTimerWheel} that is advanced
+ * lazily whenever the user's queue is read — nothing is persisted or polled while a
+ * card is learning. The SM-2 result computed at the lapse is held in memory and is
+ * only written when the card graduates, so the card's persisted schedule stays due
+ * until then. If a session is evicted after {@code session-idle-minutes} (or the
+ * instance restarts) its learning cards simply fall back to that due schedule.
+ *
+ * <p>In production with several instances, sessions are per instance; route a user's
+ * review requests to one instance or move the sessions to Redis.
+ */
+@Slf4j
+@Component
+public class LearningStepScheduler {
+
+    private static final long TICK_MILLIS = 1_000;
+
+    private final Clock clock;
+    private final List<Duration> steps;
+    private final Duration sessionIdleTimeout;
+
+    private final Map<UUID, LearningSession> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LearningStepScheduler(
+            @Value("${flashcard.learning.steps-minutes:1,10}") List<Integer> stepMinutes,
+            @Value("${flashcard.learning.session-idle-minutes:120}") long sessionIdleMinutes) {
+        this(Clock.systemDefaultZone(),
+                stepMinutes.stream().map(Duration::ofMinutes).toList(),
+                Duration.ofMinutes(sessionIdleMinutes));
+    }
+
+    LearningStepScheduler(Clock clock, List<Duration> steps, Duration sessionIdleTimeout) {
+        this.clock = clock;
+        this.steps = List.copyOf(steps);
+        this.sessionIdleTimeout = sessionIdleTimeout;
+    }
+
+    /** False when no steps are configured — lapses then go straight to SM-2's next-day interval. */
+    public boolean isEnabled() {
+        return !steps.isEmpty();
+    }
+
+    public boolean isLearning(UUID userId, UUID cardId) {
+        LearningSession session = sessions.get(userId);
+        return session != null && session.contains(cardId);
+    }
+
+    /**
+     * Puts a lapsed card into learning step 0.
+     *
+     * @param graduation the SM-2 result to persist once the card graduates
+     * @return when the card is due again
+     */
+    public Instant startLearning(UUID userId, UUID cardId, ReviewResult graduation) {
+        Instant now = clock.instant();
+        return session(userId, now).schedule(cardId, 0, graduation, now.plus(steps.get(0)), now);
+    }
+
+    /**
+     * Applies an answer to a card that is in learning.
+     *
+     * @return the graduated SM-2 result to persist, or the time of the card's next step
+     * @throws IllegalStateException if the card is not in learning for this user
+     */
+    public StepOutcome answer(UUID userId, UUID cardId, int quality) {
+        Instant now = clock.instant();
+        LearningSession session = session(userId, now);
+        LearningSession.Entry entry = session.get(cardId);
+        if (entry == null) {
+            throw new IllegalStateException("Card " + cardId + " is not in learning for user " + userId);
+        }
+
+        int nextStep = quality < 3 ? 0 : entry.step() + 1;
+        if (quality >= 5 || nextStep >= steps.size()) {
+            session.remove(cardId);
+            ReviewResult stashed = entry.graduation();
+            LocalDate nextReviewDate = LocalDate.now(clock).plusDays(stashed.newInterval());
+            return StepOutcome.graduated(ReviewResult.of(
+                    stashed.newInterval(), stashed.newEaseFactor(), stashed.newRepetitions(), nextReviewDate));
+        }
+        Instant dueAt = now.plus(steps.get(nextStep));
+        session.schedule(cardId, nextStep, entry.graduation(), dueAt, now);
+        return StepOutcome.learning(nextStep, dueAt);
+    }
+
+    /** Learning cards whose step delay has elapsed, in the order they became due. */
+    public List<UUID> dueCards(UUID userId) {
+        LearningSession session = sessions.get(userId);
+        if (session == null) return List.of();
+        Instant now = clock.instant();
+        return session.due(now);
+    }
+
+    /** Every card currently in learning for the user, due or not. */
+    public Set<UUID> learningCards(UUID userId) {
+        LearningSession session = sessions.get(userId);
+        return session == null ? Set.of() : session.cardIds();
+    }
+
+    /** Drops sessions with no activity for the idle timeout. */
+    @Scheduled(fixedDelayString = "${flashcard.learning.sweep-interval-ms:300000}")
+    public void evictIdleSessions() {
+        Instant cutoff = clock.instant().minus(sessionIdleTimeout);
+        int before = sessions.size();
+        sessions.values().removeIf(session -> session.lastActive().isBefore(cutoff));
+        int evicted = before - sessions.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle learning sessions", evicted);
+        }
+    }
+
+    private LearningSession session(UUID userId, Instant now) {
+        return sessions.computeIfAbsent(userId, id -> new LearningSession(TICK_MILLIS, now));
+    }
+
+    /**
+     * Result of answering a learning card: either graduated (persist {@code graduation})
+     * or still learning at {@code step}, due again at {@code dueAt}.
+     */
+    public record StepOutcome(ReviewResult graduation, int step, Instant dueAt) {
+
+        static StepOutcome graduated(ReviewResult graduation) {
+            return new StepOutcome(graduation, -1, null);
+        }
+
+        static StepOutcome learning(int step, Instant dueAt) {
+            return new StepOutcome(null, step, dueAt);
+        }
+
+        public boolean isGraduated() {
+            return graduation != null;
+        }
+    }
+}
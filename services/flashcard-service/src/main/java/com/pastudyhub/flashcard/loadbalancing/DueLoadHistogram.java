@@ -0,0 +1,116 @@
+package com.pastudyhub.flashcard.loadbalancing;
+
+import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user count of cards due on each future date, used by
+ * {@link com.pastudyhub.flashcard.engine.DueDateLoadBalancer} to pick the quietest day.
+ *
+ * <p>A user's histogram is loaded with one grouped query over the
+ * {@code (user_id, next_review_date)} index the first time it is needed, then kept
+ * current in memory as reviews move cards between dates. Entries are reloaded after
+ * {@code histogram-ttl-minutes} so drift from deletions, or from reviews served by other
+ * instances, is bounded; a stale count only makes the balancing slightly less even.
+ */
+@Slf4j
+@Component
+public class DueLoadHistogram {
+
+    private final ReviewScheduleRepository reviewScheduleRepository;
+    private final Clock clock;
+    private final Duration ttl;
+
+    private final Map<UUID, UserHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DueLoadHistogram(
+            ReviewScheduleRepository reviewScheduleRepository,
+            @Value("${flashcard.review.load-balance.histogram-ttl-minutes:60}") long ttlMinutes) {
+        this(reviewScheduleRepository, Clock.systemDefaultZone(), Duration.ofMinutes(ttlMinutes));
+    }
+
+    DueLoadHistogram(ReviewScheduleRepository reviewScheduleRepository, Clock clock, Duration ttl) {
+        this.reviewScheduleRepository = reviewScheduleRepository;
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    /** Number of the user's cards currently due on {@code date}. */
+    public int dueOn(UUID userId, LocalDate date) {
+        return histogram(userId).get(date);
+    }
+
+    /**
+     * Records that one of the user's cards moved from {@code from} (null for a card
+     * reviewed for the first time) to {@code to}.
+     */
+    public void moved(UUID userId, LocalDate from, LocalDate to) {
+        UserHistogram histogram = histograms.get(userId);
+        if (histogram == null) return; // not loaded yet — the next load reads the new date
+        histogram.move(from, to);
+    }
+
+    /** Drops histograms past their TTL. */
+    @Scheduled(fixedDelayString = "${flashcard.review.load-balance.sweep-interval-ms:600000}")
+    public void evictExpired() {
+        Instant now = clock.instant();
+        histograms.values().removeIf(histogram -> histogram.isExpired(now, ttl));
+    }
+
+    private UserHistogram histogram(UUID userId) {
+        Instant now = clock.instant();
+        UserHistogram histogram = histograms.get(userId);
+        if (histogram == null || histogram.isExpired(now, ttl)) {
+            histogram = load(userId, now);
+            histograms.put(userId, histogram);
+        }
+        return histogram;
+    }
+
+    private UserHistogram load(UUID userId, Instant now) {
+        Map<LocalDate, Integer> counts = new HashMap<>();
+        for (Object[] row : reviewScheduleRepository.countDueByDate(userId, LocalDate.now(clock))) {
+            counts.put((LocalDate) row[0], ((Number) row[1]).intValue());
+        }
+        log.debug("Loaded due histogram: userId={}, dates={}", userId, counts.size());
+        return new UserHistogram(counts, now);
+    }
+
+    /** Date → due count for one user. */
+    private static final class UserHistogram {
+        private final Map<LocalDate, Integer> counts;
+        private final Instant loadedAt;
+
+        UserHistogram(Map<LocalDate, Integer> counts, Instant loadedAt) {
+            this.counts = counts;
+            this.loadedAt = loadedAt;
+        }
+
+        synchronized int get(LocalDate date) {
+            return counts.getOrDefault(date, 0);
+        }
+
+        synchronized void move(LocalDate from, LocalDate to) {
+            if (from != null) counts.computeIfPresent(from, (d, n) -> n > 1 ? n - 1 : null);
+            if (to != null) counts.merge(to, 1, Integer::sum);
+        }
+
+        boolean isExpired(Instant now, Duration ttl) {
+            return loadedAt.plus(ttl).isBefore(now);
+        }
+    }
+}
@@ -4,15 +4,21 @@ import com.pastudyhub.flashcard.dto.CardResponse;
 import com.pastudyhub.flashcard.dto.CreateCardRequest;
 import com.pastudyhub.flashcard.model.Card;
 import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.Note;
 import com.pastudyhub.flashcard.model.ReviewSchedule;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Manually-coded mapper for Card entity ↔ DTO conversion.
+ * Faces of note-backed cards are rendered from the note by {@link CardTemplateRenderer}.
  */
 @Component
+@RequiredArgsConstructor
 public class CardMapper {
 
+    private final CardTemplateRenderer templateRenderer;
+
     /**
      * Converts a Card entity to a CardResponse DTO.
      * Optionally includes the review schedule if provided (null if never reviewed).
@@ -34,13 +40,26 @@ public class CardMapper {
                     .build();
         }
 
-        return CardResponse.builder()
+        CardResponse.CardResponseBuilder response = CardResponse.builder()
                 .id(card.getId())
-                .deckId(card.getDeck().getId())
-                .front(card.getFront())
-                .back(card.getBack())
-                .hint(card.getHint())
-                .imageUrl(card.getImageUrl())
+                .deckId(card.getDeck().getId());
+        Note note = card.getNote();
+        if (note != null) {
+            CardTemplateRenderer.Faces faces = templateRenderer.render(note, card.getOrdinal());
+            response.noteId(note.getId())
+                    .ordinal(card.getOrdinal())
+                    .front(faces.front())
+                    .back(faces.back())
+                    .hint(note.getHint())
+                    .imageUrl(note.getImageUrl());
+        } else {
+            response.front(card.getFront())
+                    .back(card.getBack())
+                    .hint(card.getHint())
+                    .imageUrl(card.getImageUrl());
+        }
+
+        return response
                 .tags(card.getTagsList())
                 .reviewSchedule(scheduleInfo)
                 .createdAt(card.getCreatedAt())
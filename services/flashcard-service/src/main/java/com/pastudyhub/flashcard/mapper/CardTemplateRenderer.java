@@ -0,0 +1,59 @@
+package com.pastudyhub.flashcard.mapper;
+
+import com.pastudyhub.flashcard.engine.CardTemplate;
+import com.pastudyhub.flashcard.model.Note;
+import com.pastudyhub.flashcard.model.NoteType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Renders the faces of note-backed cards.
+ *
+ * <p>Template sources come from {@link NoteType}, so the set is small and fixed; each
+ * is compiled on first use and the {@link CardTemplate} is reused for every later card.
+ * Rendering itself is one pass over the note's fields — nothing is stored per card.
+ */
+@Component
+public class CardTemplateRenderer {
+
+    private final Map<String, CardTemplate> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * Renders one card of a note.
+     *
+     * @param note    the note holding the content
+     * @param ordinal the card's template index (or cloze number for cloze notes)
+     * @return the rendered question and answer
+     */
+    public Faces render(Note note, int ordinal) {
+        NoteType.CardTemplates templates = note.getType().templates(ordinal);
+        Map<String, String> fields = Map.of(
+                "Front", note.getFront() != null ? note.getFront() : "",
+                "Back", note.getBack() != null ? note.getBack() : "");
+        return new Faces(
+                template(templates.question()).render(fields, ordinal, false),
+                template(templates.answer()).render(fields, ordinal, true));
+    }
+
+    /**
+     * The card ordinals a note with this type and front text produces: one per
+     * template, or one per cloze number for cloze notes.
+     */
+    public List<Integer> ordinals(NoteType type, String front) {
+        if (type == NoteType.CLOZE) {
+            return List.copyOf(CardTemplate.clozeNumbers(front));
+        }
+        return IntStream.range(0, type.templateCount()).boxed().toList();
+    }
+
+    private CardTemplate template(String source) {
+        return compiled.computeIfAbsent(source, CardTemplate::compile);
+    }
+
+    /** Rendered question (front) and answer (back) of a card. */
+    public record Faces(String front, String back) {}
+}
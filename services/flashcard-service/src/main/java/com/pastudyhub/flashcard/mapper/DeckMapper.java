@@ -35,6 +35,8 @@ public class DeckMapper {
                 .description(deck.getDescription())
                 .category(deck.getCategory())
                 .isPublic(deck.isPublic())
+                .parentId(deck.getParentId())
+                .childCount(deck.getChildCount())
                 .cardCount(cardCount)
                 .cardsToReview(cardsToReview)
                 .createdAt(deck.getCreatedAt())
@@ -56,6 +58,7 @@ public class DeckMapper {
                 .description(request.getDescription())
                 .category(request.getCategory())
                 .isPublic(request.isPublic())
+                .parentId(request.getParentId())
                 .isDeleted(false)
                 .build();
     }
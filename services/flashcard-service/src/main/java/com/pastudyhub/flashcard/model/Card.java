@@ -20,11 +20,15 @@ import java.util.UUID;
  *
  * <p>Tags are stored as a comma-separated string internally but exposed
  * as a List&lt;String&gt; to callers via the getTagsList()/setTagsList() helpers.
+ *
+ * <p>A card generated from a {@link Note} has {@code note} and {@code ordinal} set and
+ * no front, back, hint or image of its own — those are rendered from the note.
  */
 @Entity
 @Table(name = "cards",
     indexes = {
-        @Index(name = "idx_cards_deck_id", columnList = "deck_id")
+        @Index(name = "idx_cards_deck_id", columnList = "deck_id"),
+        @Index(name = "idx_cards_note_id", columnList = "note_id")
     })
 @Getter
 @Setter
@@ -42,12 +46,22 @@ public class Card {
     @JoinColumn(name = "deck_id", nullable = false)
     private Deck deck;
 
-    /** The question or prompt shown on the front of the card. */
-    @Column(name = "front", nullable = false, length = 2000)
+    /** The note this card is generated from, or null for a standalone card. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "note_id")
+    private Note note;
+
+    /** Which of the note's templates (or cloze number) this card renders. Zero for standalone cards. */
+    @Column(name = "ordinal", nullable = false)
+    @Builder.Default
+    private int ordinal = 0;
+
+    /** The question or prompt shown on the front of the card. Null for note-backed cards. */
+    @Column(name = "front", length = 2000)
     private String front;
 
-    /** The answer or explanation shown on the back of the card. */
-    @Column(name = "back", nullable = false, length = 5000)
+    /** The answer or explanation shown on the back of the card. Null for note-backed cards. */
+    @Column(name = "back", length = 5000)
     private String back;
 
     /** Optional memory aid shown before the card is flipped. */
@@ -69,6 +83,10 @@ public class Card {
     @Builder.Default
     private boolean isDeleted = false;
 
+    /** When the row was soft-deleted; the compaction job hard-deletes it after the retention period. */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -93,14 +111,23 @@ public class Card {
      * @param tagList the list of tag strings (nulls and blanks are filtered out)
      */
     public void setTagsList(List<String> tagList) {
+        this.tags = joinTags(tagList);
+    }
+
+    /**
+     * The comma-separated column value for a tag list, as stored by {@link #setTagsList}.
+     *
+     * @param tagList the list of tag strings (nulls and blanks are filtered out)
+     * @return the column value, or null for an empty list
+     */
+    public static String joinTags(List<String> tagList) {
         if (tagList == null || tagList.isEmpty()) {
-            this.tags = null;
-        } else {
-            this.tags = String.join(",",
-                    tagList.stream()
-                            .filter(t -> t != null && !t.isBlank())
-                            .map(String::trim)
-                            .toList());
+            return null;
         }
+        return String.join(",",
+                tagList.stream()
+                        .filter(t -> t != null && !t.isBlank())
+                        .map(String::trim)
+                        .toList());
     }
 }
@@ -16,13 +16,18 @@ import java.util.UUID;
  * per-category performance analytics.
  *
  * <p>Public decks can be discovered and cloned by other users.
+ *
+ * <p>Decks nest (system → topic → subtopic) via {@code parentId}; the full hierarchy
+ * lives in the {@link DeckClosure} table. {@code childCount} lets flat decks — the
+ * common case — skip the closure table entirely.
  */
 @Entity
 @Table(name = "decks",
     indexes = {
         @Index(name = "idx_decks_user_id", columnList = "user_id"),
         @Index(name = "idx_decks_category", columnList = "category"),
-        @Index(name = "idx_decks_updated_at", columnList = "updated_at")
+        @Index(name = "idx_decks_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_decks_parent_id", columnList = "parent_id")
     })
 @Getter
 @Setter
@@ -50,6 +55,15 @@ public class Deck {
     @Column(name = "category", nullable = false, length = 30)
     private MedicalCategory category;
 
+    /** Direct parent deck, or null for a top-level deck. */
+    @Column(name = "parent_id")
+    private UUID parentId;
+
+    /** Number of live direct sub-decks. Zero means subtree aggregates equal the deck's own. */
+    @Column(name = "child_count", nullable = false)
+    @Builder.Default
+    private int childCount = 0;
+
     /**
      * When true, this deck appears in the public deck browser and can be
      * cloned by other users. The original deck remains unaffected by clones.
@@ -66,6 +80,18 @@ public class Deck {
     @Builder.Default
     private boolean isDeleted = false;
 
+    /** When the row was soft-deleted; the compaction job hard-deletes it after the retention period. */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * Incremented on every change to the deck or its cards. Backs the deck, card-list
+     * and stats ETags so unchanged reads can be answered with 304 from a primary-key lookup.
+     */
+    @Column(name = "content_version", nullable = false)
+    @Builder.Default
+    private long contentVersion = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,49 @@
+package com.pastudyhub.flashcard.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * One ancestor → descendant path in the deck hierarchy (closure table).
+ *
+ * <p>Every deck has a self row ({@code depth = 0}) plus one row per ancestor, so a
+ * deck's whole subtree is {@code WHERE ancestor_id = :deckId} — a single index range
+ * scan regardless of nesting depth (e.g. Cardiology → Arrhythmias → AF).
+ */
+@Entity
+@Table(name = "deck_closure",
+    indexes = {
+        @Index(name = "idx_deck_closure_descendant", columnList = "descendant_id")
+    })
+@IdClass(DeckClosure.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeckClosure {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false, updatable = false)
+    private UUID ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false, updatable = false)
+    private UUID descendantId;
+
+    /** Number of edges between ancestor and descendant; 0 for the self row. */
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    /** Composite primary key (ancestor_id, descendant_id). */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID ancestorId;
+        private UUID descendantId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.pastudyhub.flashcard.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Persisted popularity counters for a public deck.
+ *
+ * <p>Rows are written only by the periodic flush in
+ * {@link com.pastudyhub.flashcard.popularity.PopularityTracker} — never on the request path.
+ * {@code trendingScore} is an exponentially decayed event score as of {@code scoreAt};
+ * the three totals are plain all-time counts used for the "popular" ordering.
+ */
+@Entity
+@Table(name = "deck_popularity",
+    indexes = {
+        @Index(name = "idx_deck_popularity_category", columnList = "category")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeckPopularity {
+
+    @Id
+    @Column(name = "deck_id", updatable = false, nullable = false)
+    private UUID deckId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 30)
+    private MedicalCategory category;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "clone_count", nullable = false)
+    private long cloneCount;
+
+    /** Decayed trending score, valid as of {@link #scoreAt}. */
+    @Column(name = "trending_score", nullable = false)
+    private double trendingScore;
+
+    @Column(name = "score_at", nullable = false)
+    private LocalDateTime scoreAt;
+}
@@ -0,0 +1,76 @@
+package com.pastudyhub.flashcard.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The content of one fact, from which one or more cards are generated.
+ *
+ * <p>A note stores its text exactly once. Its cards ({@link Card} rows with
+ * {@code note} set) hold only a template ordinal, tags and scheduling — their
+ * faces are rendered from the note on read, so a reversed pair or a cloze note
+ * with many deletions costs one content row however many cards it produces.
+ * See {@link NoteType} for how cards are derived.
+ */
+@Entity
+@Table(name = "notes",
+    indexes = {
+        @Index(name = "idx_notes_deck_id", columnList = "deck_id")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Note {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deck_id", nullable = false)
+    private Deck deck;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private NoteType type;
+
+    /** The front field — for cloze notes, the text containing the deletions. */
+    @Column(name = "front", nullable = false, length = 2000)
+    private String front;
+
+    /** The back field — for cloze notes, optional extra information shown on the answer. */
+    @Column(name = "back", length = 5000)
+    private String back;
+
+    /** Optional memory aid shown before any of the note's cards is flipped. */
+    @Column(name = "hint", length = 500)
+    private String hint;
+
+    /** Optional URL to an anatomy diagram or clinical image (S3/CDN URL). */
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    @Column(name = "is_deleted", nullable = false)
+    @Builder.Default
+    private boolean isDeleted = false;
+
+    /** When the row was soft-deleted; the compaction job hard-deletes it after the retention period. */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package com.pastudyhub.flashcard.model;
+
+import java.util.List;
+
+/**
+ * How a {@link Note} is turned into cards.
+ *
+ * <p>Each type lists one question/answer template per generated card; the card's
+ * {@code ordinal} selects the template. Cloze notes are the exception: they have a
+ * single template shared by every card, and one card per cloze number ({@code {{c1::...}}},
+ * {@code {{c2::...}}}) found in the note's text — the ordinal is that cloze number.
+ *
+ * <p>Templates reference the note's fields as {@code {{Front}}} and {@code {{Back}}};
+ * {@code {{cloze:Front}}} renders the text with the card's deletion hidden (question)
+ * or revealed (answer).
+ */
+public enum NoteType {
+    /** One card: front → back. */
+    BASIC(List.of(new CardTemplates("{{Front}}", "{{Back}}"))),
+
+    /** Two cards: front → back and back → front. */
+    BASIC_AND_REVERSED(List.of(
+            new CardTemplates("{{Front}}", "{{Back}}"),
+            new CardTemplates("{{Back}}", "{{Front}}"))),
+
+    /** One card per cloze deletion in the front text; the back holds optional extra notes. */
+    CLOZE(List.of(new CardTemplates("{{cloze:Front}}", "{{cloze:Front}}\n\n{{Back}}")));
+
+    private final List<CardTemplates> templates;
+
+    NoteType(List<CardTemplates> templates) {
+        this.templates = templates;
+    }
+
+    /** Number of fixed templates; for {@link #CLOZE} the card count depends on the text instead. */
+    public int templateCount() {
+        return templates.size();
+    }
+
+    /** Templates for the card with this ordinal. */
+    public CardTemplates templates(int ordinal) {
+        return this == CLOZE ? templates.get(0) : templates.get(ordinal);
+    }
+
+    /** Question and answer template source for one card of a note. */
+    public record CardTemplates(String question, String answer) {}
+}
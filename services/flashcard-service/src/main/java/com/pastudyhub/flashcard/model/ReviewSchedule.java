@@ -2,6 +2,7 @@ package com.pastudyhub.flashcard.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ import java.util.UUID;
         @Index(name = "idx_review_card_id", columnList = "card_id"),
         @Index(name = "idx_review_user_id", columnList = "user_id"),
         @Index(name = "idx_review_next_date", columnList = "next_review_date"),
+        @Index(name = "idx_review_user_next_date", columnList = "user_id, next_review_date"),
         @Index(name = "idx_review_user_card", columnList = "user_id, card_id", unique = true)
     })
 @Getter
@@ -87,4 +89,9 @@ public class ReviewSchedule {
      */
     @Column(name = "last_quality")
     private Integer lastQuality;
+
+    /** When the user first reviewed this card — counts against the daily new-card budget. */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,29 @@
+package com.pastudyhub.flashcard.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-user counter bumped on every review submission.
+ *
+ * <p>Combined with {@link Deck#getContentVersion()} it forms the ETag of the deck,
+ * card-list and stats reads, whose due counts and schedules depend on the user's reviews.
+ */
+@Entity
+@Table(name = "user_review_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserReviewVersion {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private UUID userId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
@@ -0,0 +1,21 @@
+package com.pastudyhub.flashcard.popularity;
+
+/**
+ * Public-deck events that feed the popularity ranking, with their trending weight.
+ *
+ * <p>A clone is a much stronger signal of quality than a single view, so it
+ * contributes proportionally more to the decayed trending score.
+ */
+public enum PopularityEvent {
+    VIEW(1.0),
+    REVIEW(2.0),
+    CLONE(10.0);
+
+    private final double weight;
+
+    PopularityEvent(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() { return weight; }
+}
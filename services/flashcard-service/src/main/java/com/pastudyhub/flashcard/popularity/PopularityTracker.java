@@ -0,0 +1,301 @@
+package com.pastudyhub.flashcard.popularity;
+
+import com.pastudyhub.flashcard.dto.PublicDeckSort;
+import com.pastudyhub.flashcard.model.DeckPopularity;
+import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.repository.DeckPopularityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory popularity counters for public decks, with exponential time decay.
+ *
+ * <p>The request path only ever touches {@link #record}: one map lookup plus a
+ * {@link LongAdder} increment, which is striped across cells so concurrent reviews
+ * of the same deck never contend on a lock or hit the database.
+ *
+ * <p>A scheduled {@link #flush()} drains the pending counts, folds them into each
+ * deck's decayed trending score ({@code score * 2^(-elapsed / halfLife) + weighted events}),
+ * adds them to the rows in {@code deck_popularity}, and rebuilds the top-K lists
+ * per category that back {@code sort=trending|popular} on the public explorer.
+ *
+ * <p>In production with several instances, each instance flushes only the events it
+ * counted since its last flush, as additive updates in one transaction, so the persisted
+ * totals stay correct. Each instance ranks by the totals it loaded at startup plus its
+ * own events.
+ */
+@Slf4j
+@Component
+public class PopularityTracker {
+
+    private final DeckPopularityRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final double halfLifeHours;
+    private final int topK;
+
+    /** Events not yet folded into {@link #state}. Written on the request path. */
+    private final Map<UUID, PendingCounts> pending = new ConcurrentHashMap<>();
+
+    /** Decks deleted or unpublished since the last flush. */
+    private final Queue<UUID> removals = new ConcurrentLinkedQueue<>();
+
+    /** Authoritative counters — only touched while holding this object's monitor. */
+    private final Map<UUID, DeckPopularity> state = new HashMap<>();
+
+    /** Events folded into {@link #state} but not yet persisted; kept for retry if a flush fails. */
+    private final Map<UUID, Delta> unsaved = new HashMap<>();
+
+    private volatile Rankings rankings = Rankings.EMPTY;
+
+    @Autowired
+    public PopularityTracker(
+            DeckPopularityRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${flashcard.popularity.half-life-hours:24}") double halfLifeHours,
+            @Value("${flashcard.popularity.top-k:100}") int topK) {
+        this(repository, new TransactionTemplate(transactionManager), Clock.systemDefaultZone(), halfLifeHours, topK);
+    }
+
+    PopularityTracker(DeckPopularityRepository repository, TransactionTemplate transactionTemplate, Clock clock,
+                      double halfLifeHours, int topK) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.halfLifeHours = halfLifeHours;
+        this.topK = topK;
+    }
+
+    /**
+     * Counts one event for a public deck. Lock-free and never touches the database.
+     *
+     * @param deckId   the public deck
+     * @param category the deck's category (used to bucket the top-K lists)
+     * @param event    what happened
+     */
+    public void record(UUID deckId, MedicalCategory category, PopularityEvent event) {
+        PendingCounts counts = pending.get(deckId);
+        if (counts == null) {
+            counts = pending.computeIfAbsent(deckId, id -> new PendingCounts(category));
+        }
+        counts.add(event);
+    }
+
+    /**
+     * Drops a deck from the rankings (deleted or no longer public).
+     * Applied on the next flush.
+     */
+    public void forget(UUID deckId) {
+        removals.add(deckId);
+    }
+
+    /**
+     * Returns the precomputed ranking for the given ordering, best first.
+     * At most {@code top-k} IDs are returned.
+     *
+     * @param sort     {@link PublicDeckSort#TRENDING} or {@link PublicDeckSort#POPULAR}
+     * @param category optional category filter; null means all categories
+     */
+    public List<UUID> topDecks(PublicDeckSort sort, MedicalCategory category) {
+        Rankings current = rankings;
+        if (sort == PublicDeckSort.POPULAR) {
+            return category == null ? current.popularAll() : current.popular().getOrDefault(category, List.of());
+        }
+        return category == null ? current.trendingAll() : current.trending().getOrDefault(category, List.of());
+    }
+
+    /** Loads persisted counters once the application is up so rankings survive restarts. */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadPersisted() {
+        for (DeckPopularity row : repository.findAll()) {
+            state.put(row.getDeckId(), row);
+        }
+        rankings = buildRankings(LocalDateTime.now(clock));
+        log.info("Popularity tracker warmed with {} decks", state.size());
+    }
+
+    /**
+     * Folds pending events into the decayed scores, persists them and
+     * rebuilds the top-K rankings. Runs off the request path.
+     */
+    @Scheduled(fixedDelayString = "${flashcard.popularity.flush-interval-ms:60000}",
+               initialDelayString = "${flashcard.popularity.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        List<UUID> removed = new ArrayList<>();
+        for (UUID deckId; (deckId = removals.poll()) != null; ) {
+            pending.remove(deckId);
+            state.remove(deckId);
+            unsaved.remove(deckId);
+            removed.add(deckId);
+        }
+
+        for (Map.Entry<UUID, PendingCounts> entry : pending.entrySet()) {
+            PendingCounts counts = entry.getValue();
+            long views = counts.views.sumThenReset();
+            long reviews = counts.reviews.sumThenReset();
+            long clones = counts.clones.sumThenReset();
+            if (views + reviews + clones == 0) continue;
+
+            DeckPopularity row = state.computeIfAbsent(entry.getKey(), id -> DeckPopularity.builder()
+                    .deckId(id)
+                    .category(counts.category)
+                    .scoreAt(now)
+                    .build());
+            row.setViewCount(row.getViewCount() + views);
+            row.setReviewCount(row.getReviewCount() + reviews);
+            row.setCloneCount(row.getCloneCount() + clones);
+            double score = views * PopularityEvent.VIEW.getWeight()
+                    + reviews * PopularityEvent.REVIEW.getWeight()
+                    + clones * PopularityEvent.CLONE.getWeight();
+            row.setTrendingScore(decayedScore(row, now) + score);
+            row.setScoreAt(now);
+            unsaved.merge(row.getDeckId(), new Delta(row.getCategory(), views, reviews, clones, score), Delta::plus);
+        }
+
+        persist(removed, now);
+        rankings = buildRankings(now);
+    }
+
+    private void persist(List<UUID> removed, LocalDateTime now) {
+        if (removed.isEmpty() && unsaved.isEmpty()) return;
+        try {
+            // All or nothing, so a failed flush can be retried without counting anything twice
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!removed.isEmpty()) {
+                    repository.deleteAllByIdInBatch(removed);
+                }
+                unsaved.forEach((deckId, delta) -> {
+                    repository.insertIfAbsent(deckId, delta.category().name(), now);
+                    repository.addCounts(deckId, delta.views(), delta.reviews(), delta.clones(), delta.score(),
+                            now, halfLifeHours * 3600);
+                });
+            });
+            log.debug("Flushed popularity counters for {} decks", unsaved.size());
+            unsaved.clear();
+        } catch (RuntimeException ex) {
+            // Counters stay in memory; unsaved deltas are retried on the next flush
+            log.warn("Failed to flush deck popularity counters: {}", ex.getMessage());
+        }
+    }
+
+    private double decayedScore(DeckPopularity row, LocalDateTime now) {
+        double elapsedHours = Duration.between(row.getScoreAt(), now).toMillis() / 3_600_000.0;
+        if (elapsedHours <= 0) return row.getTrendingScore();
+        return row.getTrendingScore() * Math.pow(0.5, elapsedHours / halfLifeHours);
+    }
+
+    private Rankings buildRankings(LocalDateTime now) {
+        Comparator<Scored> byTrending = Comparator.comparingDouble(Scored::trending);
+        Comparator<Scored> byPopular = Comparator.comparingLong(Scored::clones)
+                .thenComparingLong(Scored::reviews)
+                .thenComparingLong(Scored::views);
+
+        TopK<Scored> trendingAll = new TopK<>(topK, byTrending);
+        TopK<Scored> popularAll = new TopK<>(topK, byPopular);
+        Map<MedicalCategory, TopK<Scored>> trending = new EnumMap<>(MedicalCategory.class);
+        Map<MedicalCategory, TopK<Scored>> popular = new EnumMap<>(MedicalCategory.class);
+
+        for (DeckPopularity row : state.values()) {
+            Scored scored = new Scored(row.getDeckId(), decayedScore(row, now),
+                    row.getCloneCount(), row.getReviewCount(), row.getViewCount());
+            trendingAll.offer(scored);
+            popularAll.offer(scored);
+            trending.computeIfAbsent(row.getCategory(), c -> new TopK<>(topK, byTrending)).offer(scored);
+            popular.computeIfAbsent(row.getCategory(), c -> new TopK<>(topK, byPopular)).offer(scored);
+        }
+
+        Map<MedicalCategory, List<UUID>> trendingIds = new EnumMap<>(MedicalCategory.class);
+        trending.forEach((category, top) -> trendingIds.put(category, top.idsDescending()));
+        Map<MedicalCategory, List<UUID>> popularIds = new EnumMap<>(MedicalCategory.class);
+        popular.forEach((category, top) -> popularIds.put(category, top.idsDescending()));
+
+        return new Rankings(trendingIds, popularIds, trendingAll.idsDescending(), popularAll.idsDescending());
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static final class PendingCounts {
+        private final MedicalCategory category;
+        private final LongAdder views = new LongAdder();
+        private final LongAdder reviews = new LongAdder();
+        private final LongAdder clones = new LongAdder();
+
+        PendingCounts(MedicalCategory category) {
+            this.category = category;
+        }
+
+        void add(PopularityEvent event) {
+            switch (event) {
+                case VIEW -> views.increment();
+                case REVIEW -> reviews.increment();
+                case CLONE -> clones.increment();
+            }
+        }
+    }
+
+    /** Events counted by this instance and not yet added to the persisted row. */
+    private record Delta(MedicalCategory category, long views, long reviews, long clones, double score) {
+
+        Delta plus(Delta other) {
+            return new Delta(category, views + other.views, reviews + other.reviews, clones + other.clones,
+                    score + other.score);
+        }
+    }
+
+    private record Scored(UUID deckId, double trending, long clones, long reviews, long views) {
+    }
+
+    private record Rankings(
+            Map<MedicalCategory, List<UUID>> trending,
+            Map<MedicalCategory, List<UUID>> popular,
+            List<UUID> trendingAll,
+            List<UUID> popularAll) {
+
+        static final Rankings EMPTY = new Rankings(Map.of(), Map.of(), List.of(), List.of());
+    }
+
+    /** Bounded min-heap keeping the K largest elements seen. */
+    private static final class TopK<T extends Scored> {
+        private final int k;
+        private final Comparator<T> order;
+        private final PriorityQueue<T> heap;
+
+        TopK(int k, Comparator<T> order) {
+            this.k = k;
+            this.order = order;
+            this.heap = new PriorityQueue<>(Math.max(1, k), order);
+        }
+
+        void offer(T item) {
+            if (heap.size() < k) {
+                heap.offer(item);
+            } else if (k > 0 && order.compare(item, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(item);
+            }
+        }
+
+        List<UUID> idsDescending() {
+            List<T> items = new ArrayList<>(heap);
+            items.sort(order.reversed());
+            return items.stream().map(Scored::deckId).toList();
+        }
+    }
+}
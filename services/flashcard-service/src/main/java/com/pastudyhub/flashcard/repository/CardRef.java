@@ -0,0 +1,16 @@
+package com.pastudyhub.flashcard.repository;
+
+import java.util.UUID;
+
+/**
+ * The few columns of a card that bulk operations need — ownership, deck, note and
+ * tags — read without loading the entity.
+ *
+ * @param id       card id
+ * @param deckId   the card's deck
+ * @param ownerId  the deck owner's user id
+ * @param isPublic whether the deck is public (its facet counts must be updated)
+ * @param noteId   the note the card is generated from, or null
+ * @param tags     comma-separated tag column
+ */
+public record CardRef(UUID id, UUID deckId, UUID ownerId, boolean isPublic, UUID noteId, String tags) {}
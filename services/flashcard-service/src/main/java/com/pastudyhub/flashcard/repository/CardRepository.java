@@ -1,13 +1,18 @@
 package com.pastudyhub.flashcard.repository;
 
 import com.pastudyhub.flashcard.model.Card;
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.MedicalCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,11 +24,12 @@ import java.util.UUID;
 public interface CardRepository extends JpaRepository<Card, UUID> {
 
     /**
-     * Find all non-deleted cards in a deck (paginated).
+     * Find all non-deleted cards in a deck (paginated), with their notes fetched for rendering.
      *
      * <p>Safe: parameterized JPQL.
      */
-    @Query("SELECT c FROM Card c WHERE c.deck.id = :deckId AND c.isDeleted = false")
+    @Query(value = "SELECT c FROM Card c LEFT JOIN FETCH c.note WHERE c.deck.id = :deckId AND c.isDeleted = false",
+           countQuery = "SELECT COUNT(c) FROM Card c WHERE c.deck.id = :deckId AND c.isDeleted = false")
     Page<Card> findByDeckIdAndNotDeleted(@Param("deckId") UUID deckId, Pageable pageable);
 
     /**
@@ -45,4 +51,150 @@ public interface CardRepository extends JpaRepository<Card, UUID> {
      */
     @Query("SELECT c.id FROM Card c WHERE c.deck.id = :deckId AND c.isDeleted = false")
     List<UUID> findCardIdsByDeckId(@Param("deckId") UUID deckId);
+
+    /**
+     * Non-deleted cards generated from a note, by ordinal.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT c FROM Card c WHERE c.note.id = :noteId AND c.isDeleted = false ORDER BY c.ordinal")
+    List<Card> findByNoteIdAndNotDeleted(@Param("noteId") UUID noteId);
+
+    /**
+     * Non-deleted cards in a deck with their notes fetched (used for deck cloning).
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT c FROM Card c LEFT JOIN FETCH c.note WHERE c.deck.id = :deckId AND c.isDeleted = false")
+    List<Card> findAllByDeckIdWithNotes(@Param("deckId") UUID deckId);
+
+    /**
+     * (deckId, tags) for every non-deleted card in a public deck. Used once at startup
+     * to build the facet index; aggregation happens in memory, not with GROUP BY.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT c.deck.id, c.tags FROM Card c " +
+           "WHERE c.isDeleted = false AND c.deck.isPublic = true AND c.deck.isDeleted = false")
+    List<Object[]> findPublicDeckCardTags();
+
+    /**
+     * Never-reviewed cards in the user's own decks, oldest first, optionally limited to
+     * one category. The NOT EXISTS probe uses the unique (user_id, card_id) index.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT c FROM Card c JOIN FETCH c.deck d " +
+           "WHERE d.userId = :userId AND d.isDeleted = false AND c.isDeleted = false " +
+           "AND (:category IS NULL OR d.category = :category) " +
+           "AND NOT EXISTS (SELECT rs.id FROM ReviewSchedule rs WHERE rs.card.id = c.id AND rs.userId = :userId) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Card> findNewCardsForUser(
+            @Param("userId") UUID userId,
+            @Param("category") MedicalCategory category,
+            Pageable pageable);
+
+    // ---- Bulk operations ---------------------------------------------------------
+
+    /**
+     * Live cards among {@code ids}, with owner and deck, for a single ownership check.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT new com.pastudyhub.flashcard.repository.CardRef(c.id, d.id, d.userId, d.isPublic, n.id, c.tags) " +
+           "FROM Card c JOIN c.deck d LEFT JOIN c.note n " +
+           "WHERE c.id IN :ids AND c.isDeleted = false AND d.isDeleted = false")
+    List<CardRef> findRefsByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Live cards of a deck, optionally only those whose tag column contains
+     * {@code tagPattern} (a LIKE pattern over {@code ,tags,} with {@code !} as escape).
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT new com.pastudyhub.flashcard.repository.CardRef(c.id, d.id, d.userId, d.isPublic, n.id, c.tags) " +
+           "FROM Card c JOIN c.deck d LEFT JOIN c.note n " +
+           "WHERE d.id = :deckId AND c.isDeleted = false " +
+           "AND (:tagPattern IS NULL OR CONCAT(',', c.tags, ',') LIKE :tagPattern ESCAPE '!') " +
+           "ORDER BY c.id")
+    List<CardRef> findRefsByDeck(
+            @Param("deckId") UUID deckId,
+            @Param("tagPattern") String tagPattern,
+            Pageable pageable);
+
+    /**
+     * Live cards generated from any of the given notes — the siblings a move must carry along.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT new com.pastudyhub.flashcard.repository.CardRef(c.id, d.id, d.userId, d.isPublic, n.id, c.tags) " +
+           "FROM Card c JOIN c.deck d JOIN c.note n " +
+           "WHERE n.id IN :noteIds AND c.isDeleted = false")
+    List<CardRef> findRefsByNoteIds(@Param("noteIds") Collection<UUID> noteIds);
+
+    @Modifying
+    @Query("UPDATE Card c SET c.deck = :deck, c.updatedAt = :now WHERE c.id IN :ids AND c.deck <> :deck")
+    int moveToDeck(@Param("ids") Collection<UUID> ids, @Param("deck") Deck deck, @Param("now") LocalDateTime now);
+
+    /**
+     * Appends {@code tag} to every card in {@code ids} that does not already carry it.
+     * {@code tagPattern} is the LIKE pattern for {@code ,tag,}.
+     */
+    @Modifying
+    @Query("UPDATE Card c SET c.updatedAt = :now, c.tags = " +
+           "CASE WHEN c.tags IS NULL OR c.tags = '' THEN :tag ELSE CONCAT(c.tags, ',', :tag) END " +
+           "WHERE c.id IN :ids AND (c.tags IS NULL OR CONCAT(',', c.tags, ',') NOT LIKE :tagPattern ESCAPE '!')")
+    int addTag(@Param("ids") Collection<UUID> ids, @Param("tag") String tag,
+               @Param("tagPattern") String tagPattern, @Param("now") LocalDateTime now);
+
+    /**
+     * Removes {@code tag} from every card in {@code ids} that carries it; a card left
+     * with no tags gets a null column. {@code wrappedTag} is {@code ,tag,}.
+     */
+    @Modifying
+    @Query("UPDATE Card c SET c.updatedAt = :now, c.tags = " +
+           "NULLIF(TRIM(BOTH ',' FROM REPLACE(CONCAT(',', c.tags, ','), :wrappedTag, ',')), '') " +
+           "WHERE c.id IN :ids AND CONCAT(',', c.tags, ',') LIKE :tagPattern ESCAPE '!'")
+    int removeTag(@Param("ids") Collection<UUID> ids, @Param("wrappedTag") String wrappedTag,
+                  @Param("tagPattern") String tagPattern, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Card c SET c.isDeleted = true, c.deletedAt = :now, c.updatedAt = :now " +
+           "WHERE c.id IN :ids AND c.isDeleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Next keyset batch of cards soft-deleted before {@code cutoff}, ordered by id.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT c.id FROM Card c WHERE c.isDeleted = true AND c.deletedAt < :cutoff " +
+           "AND c.id > :afterId ORDER BY c.id")
+    List<UUID> findCompactableIds(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * A batch of card ids in a deck, deleted or not. Used to drain a deck before it is hard-deleted.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT c.id FROM Card c WHERE c.deck.id = :deckId ORDER BY c.id")
+    List<UUID> findAllIdsByDeckId(@Param("deckId") UUID deckId, Pageable pageable);
+
+    /**
+     * Hard-deletes every card generated from the given notes. Callers must remove their
+     * review schedules first.
+     */
+    @Modifying
+    @Query("DELETE FROM Card c WHERE c.note.id IN :noteIds")
+    int deleteByNoteIds(@Param("noteIds") Collection<UUID> noteIds);
+
+    /**
+     * Hard-deletes cards. Callers must remove their review schedules first.
+     */
+    @Modifying
+    @Query("DELETE FROM Card c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,91 @@
+package com.pastudyhub.flashcard.repository;
+
+import com.pastudyhub.flashcard.model.DeckClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data access layer for the {@link DeckClosure} hierarchy table.
+ *
+ * <p>All queries are parameterized JPQL — SQL injection safe.
+ */
+@Repository
+public interface DeckClosureRepository extends JpaRepository<DeckClosure, DeckClosure.Key> {
+
+    /**
+     * IDs of a deck and all its live descendants.
+     */
+    @Query("SELECT dc.descendantId FROM DeckClosure dc, Deck d " +
+           "WHERE dc.ancestorId = :deckId AND d.id = dc.descendantId AND d.isDeleted = false")
+    List<UUID> findSubtreeIds(@Param("deckId") UUID deckId);
+
+    /**
+     * True if {@code descendantId} is {@code ancestorId} or lies below it.
+     */
+    @Query("SELECT COUNT(dc) > 0 FROM DeckClosure dc " +
+           "WHERE dc.ancestorId = :ancestorId AND dc.descendantId = :descendantId")
+    boolean isInSubtree(@Param("ancestorId") UUID ancestorId, @Param("descendantId") UUID descendantId);
+
+    /**
+     * Adds paths from every ancestor of {@code parentId} (including itself) to a new leaf deck.
+     */
+    @Modifying
+    @Query("INSERT INTO DeckClosure (ancestorId, descendantId, depth) " +
+           "SELECT dc.ancestorId, :childId, dc.depth + 1 FROM DeckClosure dc WHERE dc.descendantId = :parentId")
+    int insertPathsToLeaf(@Param("parentId") UUID parentId, @Param("childId") UUID childId);
+
+    /**
+     * Detaches a subtree: removes every path from a strict ancestor of {@code deckId}
+     * into the subtree rooted at {@code deckId}. Paths inside the subtree are kept.
+     */
+    @Modifying
+    @Query("DELETE FROM DeckClosure dc " +
+           "WHERE dc.descendantId IN (SELECT s.descendantId FROM DeckClosure s WHERE s.ancestorId = :deckId) " +
+           "AND dc.ancestorId IN (SELECT a.ancestorId FROM DeckClosure a " +
+           "                      WHERE a.descendantId = :deckId AND a.ancestorId <> :deckId)")
+    int detachSubtree(@Param("deckId") UUID deckId);
+
+    /**
+     * Attaches the subtree rooted at {@code deckId} below {@code parentId}: one path from
+     * every ancestor of the parent to every node of the subtree.
+     */
+    @Modifying
+    @Query("INSERT INTO DeckClosure (ancestorId, descendantId, depth) " +
+           "SELECT a.ancestorId, s.descendantId, a.depth + s.depth + 1 " +
+           "FROM DeckClosure a, DeckClosure s WHERE a.descendantId = :parentId AND s.ancestorId = :deckId")
+    int attachSubtree(@Param("deckId") UUID deckId, @Param("parentId") UUID parentId);
+
+    /**
+     * Card, due, mastered and ease aggregates for a whole subtree in one query.
+     * Walks {@code deck_closure} by ancestor, joins live cards by deck and the
+     * user's schedules by card.
+     */
+    @Query("SELECT new com.pastudyhub.flashcard.repository.SubtreeStats(" +
+           "  COUNT(c), " +
+           "  SUM(CASE WHEN rs.id IS NOT NULL AND (rs.nextReviewDate IS NULL OR rs.nextReviewDate <= :today) THEN 1 ELSE 0 END), " +
+           "  SUM(CASE WHEN rs.interval >= 21 THEN 1 ELSE 0 END), " +
+           "  AVG(rs.easeFactor)) " +
+           "FROM DeckClosure dc " +
+           "JOIN Card c ON c.deck.id = dc.descendantId " +
+           "LEFT JOIN ReviewSchedule rs ON rs.card.id = c.id AND rs.userId = :userId " +
+           "WHERE dc.ancestorId = :deckId AND c.isDeleted = false AND c.deck.isDeleted = false")
+    SubtreeStats findSubtreeStats(
+            @Param("deckId") UUID deckId,
+            @Param("userId") UUID userId,
+            @Param("today") LocalDate today);
+
+    /**
+     * Removes every path touching the given decks (compaction of hard-deleted decks).
+     */
+    @Modifying
+    @Query("DELETE FROM DeckClosure dc WHERE dc.ancestorId IN :ids OR dc.descendantId IN :ids")
+    int deleteByDeckIds(@Param("ids") Collection<UUID> ids);
+}
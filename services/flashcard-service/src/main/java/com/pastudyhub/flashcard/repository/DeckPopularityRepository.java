@@ -0,0 +1,56 @@
+package com.pastudyhub.flashcard.repository;
+
+import com.pastudyhub.flashcard.model.DeckPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data access layer for {@link DeckPopularity} rows.
+ *
+ * <p>Only the popularity flush job writes here; reads happen once at startup
+ * to warm the in-memory counters.
+ */
+@Repository
+public interface DeckPopularityRepository extends JpaRepository<DeckPopularity, UUID> {
+
+    /**
+     * Creates an all-zero row for the deck unless one exists (or the deck is gone).
+     * Safe to race with other instances doing the same.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO deck_popularity " +
+                   "(deck_id, category, view_count, review_count, clone_count, trending_score, score_at) " +
+                   "SELECT d.id, :category, 0, 0, 0, 0, :now FROM decks d WHERE d.id = :deckId " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("deckId") UUID deckId, @Param("category") String category,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Adds one flush worth of events to the persisted counters. The stored trending
+     * score is decayed to {@code now} before the new events are added, so increments
+     * from several instances combine instead of overwriting each other.
+     */
+    @Modifying
+    @Query("UPDATE DeckPopularity p SET " +
+           "p.viewCount = p.viewCount + :views, " +
+           "p.reviewCount = p.reviewCount + :reviews, " +
+           "p.cloneCount = p.cloneCount + :clones, " +
+           "p.trendingScore = :score + CASE WHEN p.scoreAt < :now " +
+           "  THEN p.trendingScore * power(0.5, ((:now - p.scoreAt) by second) / :halfLifeSeconds) " +
+           "  ELSE p.trendingScore END, " +
+           "p.scoreAt = CASE WHEN p.scoreAt < :now THEN :now ELSE p.scoreAt END " +
+           "WHERE p.deckId = :deckId")
+    int addCounts(@Param("deckId") UUID deckId,
+                  @Param("views") long views,
+                  @Param("reviews") long reviews,
+                  @Param("clones") long clones,
+                  @Param("score") double score,
+                  @Param("now") LocalDateTime now,
+                  @Param("halfLifeSeconds") double halfLifeSeconds);
+}
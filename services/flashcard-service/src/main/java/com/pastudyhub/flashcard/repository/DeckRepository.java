@@ -5,10 +5,14 @@ import com.pastudyhub.flashcard.model.MedicalCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,6 +44,39 @@ public interface DeckRepository extends JpaRepository<Deck, UUID> {
     @Query("SELECT d FROM Deck d WHERE d.id = :id AND d.isDeleted = false")
     Optional<Deck> findByIdAndNotDeleted(@Param("id") UUID id);
 
+    /**
+     * Primary-key lookup of a live deck's content version (for ETags).
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT d.contentVersion FROM Deck d WHERE d.id = :id AND d.isDeleted = false")
+    Optional<Long> findContentVersion(@Param("id") UUID id);
+
+    /**
+     * Atomically increments the content version of a deck and all its ancestors after a
+     * change to its cards, since parent decks aggregate their sub-decks' cards.
+     */
+    @Modifying
+    @Query("UPDATE Deck d SET d.contentVersion = d.contentVersion + 1 " +
+           "WHERE d.id = :id OR d.id IN (SELECT dc.ancestorId FROM DeckClosure dc WHERE dc.descendantId = :id)")
+    int incrementContentVersion(@Param("id") UUID id);
+
+    /**
+     * Adjusts a deck's direct child count when a sub-deck is added, moved or deleted.
+     */
+    @Modifying
+    @Query("UPDATE Deck d SET d.childCount = d.childCount + :delta, d.contentVersion = d.contentVersion + 1 " +
+           "WHERE d.id = :id")
+    int adjustChildCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    /**
+     * Soft-deletes a set of decks (a subtree) in one statement.
+     */
+    @Modifying
+    @Query("UPDATE Deck d SET d.isDeleted = true, d.deletedAt = :now, d.contentVersion = d.contentVersion + 1 " +
+           "WHERE d.id IN :ids AND d.isDeleted = false")
+    int softDeleteAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
     /**
      * Browse public decks from all users (for the public deck explorer).
      * Optionally filter by category.
@@ -51,6 +88,23 @@ public interface DeckRepository extends JpaRepository<Deck, UUID> {
            "ORDER BY d.updatedAt DESC")
     Page<Deck> findPublicDecks(@Param("category") MedicalCategory category, Pageable pageable);
 
+    /**
+     * All public, non-deleted decks. Used once at startup to build the facet index.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT d FROM Deck d WHERE d.isPublic = true AND d.isDeleted = false")
+    List<Deck> findAllPublic();
+
+    /**
+     * The IDs among {@code ids} that are still public and not deleted.
+     * Used to page the popularity rankings, which are refreshed only periodically.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT d.id FROM Deck d WHERE d.id IN :ids AND d.isPublic = true AND d.isDeleted = false")
+    List<UUID> findPublicIdsIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * Count non-deleted cards in a deck.
      *
@@ -58,4 +112,24 @@ public interface DeckRepository extends JpaRepository<Deck, UUID> {
      */
     @Query("SELECT COUNT(c) FROM Card c WHERE c.deck.id = :deckId AND c.isDeleted = false")
     int countCardsByDeckId(@Param("deckId") UUID deckId);
+
+    /**
+     * Next keyset batch of decks soft-deleted before {@code cutoff}, ordered by id.
+     * Used by the compaction job; pass the last id of the previous batch (or the nil UUID) as {@code afterId}.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT d.id FROM Deck d WHERE d.isDeleted = true AND d.deletedAt < :cutoff " +
+           "AND d.id > :afterId ORDER BY d.id")
+    List<UUID> findCompactableIds(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Hard-deletes decks. Callers must remove their cards first.
+     */
+    @Modifying
+    @Query("DELETE FROM Deck d WHERE d.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
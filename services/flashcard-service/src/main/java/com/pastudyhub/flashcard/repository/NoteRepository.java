@@ -0,0 +1,64 @@
+package com.pastudyhub.flashcard.repository;
+
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.Note;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Data access layer for {@link Note} entities.
+ */
+@Repository
+public interface NoteRepository extends JpaRepository<Note, UUID> {
+
+    /**
+     * Find a specific non-deleted note with its deck.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT n FROM Note n JOIN FETCH n.deck WHERE n.id = :id AND n.isDeleted = false")
+    Optional<Note> findByIdAndNotDeleted(@Param("id") UUID id);
+
+    /**
+     * Moves notes to another deck (bulk card move of note-backed cards).
+     */
+    @Modifying
+    @Query("UPDATE Note n SET n.deck = :deck, n.updatedAt = :now WHERE n.id IN :ids")
+    int moveToDeck(@Param("ids") Collection<UUID> ids, @Param("deck") Deck deck, @Param("now") LocalDateTime now);
+
+    /**
+     * Next keyset batch of notes soft-deleted before {@code cutoff}, ordered by id.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT n.id FROM Note n WHERE n.isDeleted = true AND n.deletedAt < :cutoff " +
+           "AND n.id > :afterId ORDER BY n.id")
+    List<UUID> findCompactableIds(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Hard-deletes notes. Callers must remove their cards first.
+     */
+    @Modifying
+    @Query("DELETE FROM Note n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Hard-deletes every note in the given decks (compaction cascade, after the decks' cards).
+     */
+    @Modifying
+    @Query("DELETE FROM Note n WHERE n.deck.id IN :deckIds")
+    int deleteByDeckIds(@Param("deckIds") Collection<UUID> deckIds);
+}
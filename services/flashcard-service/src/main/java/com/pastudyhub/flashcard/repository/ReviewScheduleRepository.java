@@ -1,13 +1,17 @@
 package com.pastudyhub.flashcard.repository;
 
+import com.pastudyhub.flashcard.model.MedicalCategory;
 import com.pastudyhub.flashcard.model.ReviewSchedule;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +33,18 @@ public interface ReviewScheduleRepository extends JpaRepository<ReviewSchedule,
             @Param("cardId") UUID cardId,
             @Param("userId") UUID userId);
 
+    /**
+     * The user's schedules for a set of cards, with card and deck fetched.
+     * Cards the user has never reviewed have no row.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT rs FROM ReviewSchedule rs JOIN FETCH rs.card c JOIN FETCH c.deck " +
+           "WHERE rs.userId = :userId AND c.id IN :cardIds")
+    List<ReviewSchedule> findByUserIdAndCardIds(
+            @Param("userId") UUID userId,
+            @Param("cardIds") Collection<UUID> cardIds);
+
     /**
      * Find all cards due for review in a deck for a user.
      * "Due" means: nextReviewDate is today or earlier, OR the card has never been reviewed.
@@ -49,6 +65,58 @@ public interface ReviewScheduleRepository extends JpaRepository<ReviewSchedule,
             @Param("today") LocalDate today,
             Pageable pageable);
 
+    /**
+     * Due cards across a deck and all its sub-decks, merged in due order.
+     * Same semantics as {@link #findDueForReview}, walking the closure table by ancestor.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT rs FROM ReviewSchedule rs " +
+           "JOIN rs.card c " +
+           "JOIN DeckClosure dc ON dc.descendantId = c.deck.id " +
+           "WHERE dc.ancestorId = :deckId " +
+           "AND rs.userId = :userId " +
+           "AND c.isDeleted = false " +
+           "AND c.deck.isDeleted = false " +
+           "AND (rs.nextReviewDate IS NULL OR rs.nextReviewDate <= :today) " +
+           "ORDER BY rs.nextReviewDate ASC NULLS FIRST")
+    List<ReviewSchedule> findDueForReviewInSubtree(
+            @Param("deckId") UUID deckId,
+            @Param("userId") UUID userId,
+            @Param("today") LocalDate today,
+            Pageable pageable);
+
+    /**
+     * Due cards across every deck the user studies, most overdue first, optionally
+     * limited to one category. One range scan of {@code (user_id, next_review_date)}
+     * regardless of how many decks the user has.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT rs FROM ReviewSchedule rs " +
+           "JOIN FETCH rs.card c " +
+           "JOIN FETCH c.deck d " +
+           "LEFT JOIN FETCH c.note " +
+           "WHERE rs.userId = :userId " +
+           "AND rs.nextReviewDate <= :today " +
+           "AND c.isDeleted = false AND d.isDeleted = false " +
+           "AND (:category IS NULL OR d.category = :category) " +
+           "ORDER BY rs.nextReviewDate ASC, rs.id ASC")
+    List<ReviewSchedule> findDueAcrossDecks(
+            @Param("userId") UUID userId,
+            @Param("today") LocalDate today,
+            @Param("category") MedicalCategory category,
+            Pageable pageable);
+
+    /**
+     * Number of cards the user reviewed for the first time since {@code since}
+     * (i.e. new cards already introduced today).
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT COUNT(rs) FROM ReviewSchedule rs WHERE rs.userId = :userId AND rs.createdAt >= :since")
+    int countIntroducedSince(@Param("userId") UUID userId, @Param("since") LocalDateTime since);
+
     /**
      * Count cards due for review in a deck for a user.
      *
@@ -65,6 +133,19 @@ public interface ReviewScheduleRepository extends JpaRepository<ReviewSchedule,
             @Param("userId") UUID userId,
             @Param("today") LocalDate today);
 
+    /**
+     * (nextReviewDate, count) of the user's live cards due on or after {@code from}.
+     * Loads the per-user due histogram used for load balancing; a range scan of
+     * {@code (user_id, next_review_date)}.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT rs.nextReviewDate, COUNT(rs) FROM ReviewSchedule rs " +
+           "JOIN rs.card c " +
+           "WHERE rs.userId = :userId AND rs.nextReviewDate >= :from AND c.isDeleted = false " +
+           "GROUP BY rs.nextReviewDate")
+    List<Object[]> countDueByDate(@Param("userId") UUID userId, @Param("from") LocalDate from);
+
     /**
      * Count mastered cards (interval >= 21 days) in a deck for a user.
      *
@@ -91,4 +172,26 @@ public interface ReviewScheduleRepository extends JpaRepository<ReviewSchedule,
     Double findAverageEaseFactorForDeck(
             @Param("deckId") UUID deckId,
             @Param("userId") UUID userId);
+
+    /**
+     * Deletes one user's schedules for the given cards, so they are new cards again for that user.
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewSchedule rs WHERE rs.userId = :userId AND rs.card.id IN :cardIds")
+    int deleteByUserIdAndCardIds(@Param("userId") UUID userId, @Param("cardIds") Collection<UUID> cardIds);
+
+    /**
+     * Hard-deletes every user's schedule for cards generated from the given notes (compaction cascade).
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewSchedule rs WHERE rs.card.id IN " +
+           "(SELECT c.id FROM Card c WHERE c.note.id IN :noteIds)")
+    int deleteByNoteIds(@Param("noteIds") Collection<UUID> noteIds);
+
+    /**
+     * Hard-deletes every user's schedule for the given cards (compaction cascade).
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewSchedule rs WHERE rs.card.id IN :cardIds")
+    int deleteByCardIds(@Param("cardIds") Collection<UUID> cardIds);
 }
@@ -0,0 +1,17 @@
+package com.pastudyhub.flashcard.repository;
+
+/**
+ * Aggregates over every live card in a deck subtree for one user, produced by a
+ * single closure-table query.
+ *
+ * @param totalCards      non-deleted cards in the subtree
+ * @param cardsDue        cards with a schedule due today or earlier
+ * @param cardsMastered   cards with an interval of 21 days or more
+ * @param avgEaseFactor   mean ease factor over reviewed cards, null if none reviewed
+ */
+public record SubtreeStats(Long totalCards, Long cardsDue, Long cardsMastered, Double avgEaseFactor) {
+
+    public int total() { return totalCards == null ? 0 : totalCards.intValue(); }
+    public int due() { return cardsDue == null ? 0 : cardsDue.intValue(); }
+    public int mastered() { return cardsMastered == null ? 0 : cardsMastered.intValue(); }
+}
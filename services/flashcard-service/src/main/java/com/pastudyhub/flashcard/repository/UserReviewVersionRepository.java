@@ -0,0 +1,42 @@
+package com.pastudyhub.flashcard.repository;
+
+import com.pastudyhub.flashcard.model.UserReviewVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Data access layer for {@link UserReviewVersion} counters.
+ */
+@Repository
+public interface UserReviewVersionRepository extends JpaRepository<UserReviewVersion, UUID> {
+
+    /**
+     * Primary-key lookup of a user's review version.
+     *
+     * <p>Safe: parameterized JPQL.
+     */
+    @Query("SELECT v.version FROM UserReviewVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") UUID userId);
+
+    /**
+     * Creates a user's counter at version 0 unless it exists. Safe to race with
+     * concurrent first reviews: the losers insert nothing.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_review_versions (user_id, version) VALUES (:userId, 0) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId);
+
+    /**
+     * Atomically increments a user's review version. Returns 0 if the user has no row yet.
+     */
+    @Modifying
+    @Query("UPDATE UserReviewVersion v SET v.version = v.version + 1 WHERE v.userId = :userId")
+    int increment(@Param("userId") UUID userId);
+}
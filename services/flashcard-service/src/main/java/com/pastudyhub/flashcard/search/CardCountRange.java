@@ -0,0 +1,45 @@
+package com.pastudyhub.flashcard.search;
+
+import com.pastudyhub.flashcard.exception.InvalidSearchFilterException;
+
+/**
+ * Card-count buckets exposed as a facet on the public deck search.
+ */
+public enum CardCountRange {
+    UNDER_10("0-9", 0, 9),
+    UNDER_50("10-49", 10, 49),
+    UNDER_200("50-199", 50, 199),
+    LARGE("200+", 200, Integer.MAX_VALUE);
+
+    private final String label;
+    private final int min;
+    private final int max;
+
+    CardCountRange(String label, int min, int max) {
+        this.label = label;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getLabel() { return label; }
+
+    /** Returns the bucket a deck with {@code cardCount} cards falls into. */
+    public static CardCountRange of(int cardCount) {
+        for (CardCountRange range : values()) {
+            if (cardCount >= range.min && cardCount <= range.max) return range;
+        }
+        return UNDER_10;
+    }
+
+    /**
+     * Parses a facet label such as {@code "10-49"}.
+     *
+     * @throws InvalidSearchFilterException if the label is not a known bucket
+     */
+    public static CardCountRange fromLabel(String label) {
+        for (CardCountRange range : values()) {
+            if (range.label.equals(label.trim())) return range;
+        }
+        throw new InvalidSearchFilterException("cardCount", label);
+    }
+}
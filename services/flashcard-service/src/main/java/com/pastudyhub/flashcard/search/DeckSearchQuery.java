@@ -0,0 +1,37 @@
+package com.pastudyhub.flashcard.search;
+
+import com.pastudyhub.flashcard.model.MedicalCategory;
+
+import java.util.Set;
+
+/**
+ * A faceted public deck search.
+ *
+ * <p>Values within one facet are OR-ed (any of the categories, any of the ranges);
+ * tags are AND-ed (the deck must contain every tag). Free text must prefix-match
+ * a word of the deck title or description for every query word.
+ *
+ * @param text            free text, may be null or blank
+ * @param categories      category filter, empty means all
+ * @param cardCountRanges card-count bucket filter, empty means all
+ * @param tags            required card tags (lower-cased), empty means none
+ * @param page            zero-based page number
+ * @param size            page size
+ */
+public record DeckSearchQuery(
+        String text,
+        Set<MedicalCategory> categories,
+        Set<CardCountRange> cardCountRanges,
+        Set<String> tags,
+        int page,
+        int size
+) {
+
+    /** True when no filter narrows the result, so precomputed global facet counts apply. */
+    public boolean isUnfiltered() {
+        return (text == null || text.isBlank())
+                && categories.isEmpty()
+                && cardCountRanges.isEmpty()
+                && tags.isEmpty();
+    }
+}
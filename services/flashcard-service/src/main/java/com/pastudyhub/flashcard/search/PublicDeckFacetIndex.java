@@ -0,0 +1,295 @@
+package com.pastudyhub.flashcard.search;
+
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory facet index over public, non-deleted decks.
+ *
+ * <p>Each public deck is held as an immutable {@link DeckDoc} (title/description words,
+ * category, card count and a multiset of its cards' tags). Global facet counts —
+ * decks per category, per card-count bucket and per tag — are kept alongside and
+ * adjusted by the delta between a deck's old and new doc on every mutation, so an
+ * unfiltered search reads them directly and a filtered one only scans the in-memory
+ * docs. No request ever runs a GROUP BY over {@code decks} or {@code cards}.
+ *
+ * <p>The index is rebuilt from the database once at startup. Mutation hooks are
+ * applied after the surrounding transaction commits, so a rolled-back change never
+ * leaks into search results. In production with several instances each instance
+ * keeps its own copy; a missed update only skews facet counts until the next restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicDeckFacetIndex {
+
+    /** Number of tag facet values returned, most common first. */
+    static final int TAG_FACET_LIMIT = 25;
+
+    private final DeckRepository deckRepository;
+    private final CardRepository cardRepository;
+
+    private final Map<UUID, DeckDoc> docs = new ConcurrentHashMap<>();
+
+    // Global facet counts — only touched while holding this object's monitor.
+    private final Map<String, Long> categoryCounts = new HashMap<>();
+    private final Map<String, Long> cardCountCounts = new HashMap<>();
+    private final Map<String, Long> tagCounts = new HashMap<>();
+
+    /**
+     * Loads every public deck and its card tags. Two plain selects; counting and
+     * tag aggregation happen in memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<UUID, Deck> decks = new HashMap<>();
+        deckRepository.findAllPublic().forEach(deck -> decks.put(deck.getId(), deck));
+
+        Map<UUID, int[]> cardCounts = new HashMap<>();
+        Map<UUID, Map<String, Integer>> tagsByDeck = new HashMap<>();
+        for (Object[] row : cardRepository.findPublicDeckCardTags()) {
+            UUID deckId = (UUID) row[0];
+            cardCounts.computeIfAbsent(deckId, id -> new int[1])[0]++;
+            Map<String, Integer> tags = tagsByDeck.computeIfAbsent(deckId, id -> new HashMap<>());
+            normalizeTags((String) row[1]).forEach(tag -> tags.merge(tag, 1, Integer::sum));
+        }
+
+        docs.clear();
+        categoryCounts.clear();
+        cardCountCounts.clear();
+        tagCounts.clear();
+        decks.values().forEach(deck -> {
+            int cards = cardCounts.getOrDefault(deck.getId(), new int[1])[0];
+            DeckDoc doc = DeckDoc.of(deck, cards, tagsByDeck.getOrDefault(deck.getId(), Map.of()));
+            docs.put(doc.id(), doc);
+            adjustCounts(doc, 1);
+        });
+        log.info("Public deck facet index rebuilt: {} decks, {} distinct tags", docs.size(), tagCounts.size());
+    }
+
+    /** Indexes a deck created or edited; unpublished or deleted decks are removed. */
+    public void deckSaved(Deck deck) {
+        UUID deckId = deck.getId();
+        if (!deck.isPublic() || deck.isDeleted()) {
+            deckRemoved(deckId);
+            return;
+        }
+        afterCommit(() -> replace(deckId, old -> old == null
+                ? DeckDoc.of(deck, 0, Map.of())
+                : DeckDoc.of(deck, old.cardCount(), old.tagCounts())));
+    }
+
+    public void deckRemoved(UUID deckId) {
+        afterCommit(() -> replace(deckId, old -> null));
+    }
+
+    public void cardAdded(UUID deckId, String tags) {
+        cardsChanged(deckId, 1, tags, null);
+    }
+
+    public void cardRemoved(UUID deckId, String tags) {
+        cardsChanged(deckId, -1, null, tags);
+    }
+
+    public void cardTagsChanged(UUID deckId, String oldTags, String newTags) {
+        if (Objects.equals(oldTags, newTags)) return;
+        cardsChanged(deckId, 0, newTags, oldTags);
+    }
+
+    /**
+     * Applies many card mutations to one deck's doc in a single update (bulk card
+     * operations), rather than one copy of the doc per card.
+     *
+     * @param cardDelta   change in the deck's card count
+     * @param addedTags   tag columns of cards added, or of cards after a retag
+     * @param removedTags tag columns of cards removed, or of cards before a retag
+     */
+    public void cardsChanged(UUID deckId, int cardDelta, Collection<String> addedTags, Collection<String> removedTags) {
+        if (cardDelta == 0 && addedTags.isEmpty() && removedTags.isEmpty()) return;
+        afterCommit(() -> replace(deckId, old -> {
+            if (old == null) return null;
+            Map<String, Integer> tags = new HashMap<>(old.tagCounts());
+            addedTags.forEach(column -> normalizeTags(column).forEach(tag -> tags.merge(tag, 1, Integer::sum)));
+            removedTags.forEach(column -> normalizeTags(column)
+                    .forEach(tag -> tags.computeIfPresent(tag, (t, n) -> n > 1 ? n - 1 : null)));
+            return old.with(Math.max(0, old.cardCount() + cardDelta), tags);
+        }));
+    }
+
+    /** Applies a card mutation to the deck's doc; a no-op for decks that are not indexed. */
+    private void cardsChanged(UUID deckId, int cardDelta, String addedTags, String removedTags) {
+        cardsChanged(deckId, cardDelta,
+                addedTags != null ? List.of(addedTags) : List.of(),
+                removedTags != null ? List.of(removedTags) : List.of());
+    }
+
+    /**
+     * Runs a faceted search. Returns matching deck IDs ordered most recently updated
+     * first (the page only), the total match count and per-facet counts.
+     *
+     * <p>Each facet's counts honour every filter except that facet's own, so the
+     * values of a facet can be combined with OR by the caller.
+     */
+    public SearchResult search(DeckSearchQuery query) {
+        List<String> words = tokenize(query.text());
+        List<DeckDoc> matched = new ArrayList<>();
+        Map<String, Long> categories = new TreeMap<>();
+        Map<String, Long> cardCounts = new LinkedHashMap<>();
+        Map<String, Long> tags = new HashMap<>();
+
+        for (DeckDoc doc : docs.values()) {
+            if (!doc.matchesAll(words)) continue;
+            boolean categoryOk = query.categories().isEmpty() || query.categories().contains(doc.category());
+            boolean rangeOk = query.cardCountRanges().isEmpty()
+                    || query.cardCountRanges().contains(CardCountRange.of(doc.cardCount()));
+            boolean tagsOk = doc.tagCounts().keySet().containsAll(query.tags());
+
+            if (rangeOk && tagsOk) categories.merge(doc.category().name(), 1L, Long::sum);
+            if (categoryOk && tagsOk) cardCounts.merge(CardCountRange.of(doc.cardCount()).getLabel(), 1L, Long::sum);
+            if (categoryOk && rangeOk && tagsOk) {
+                matched.add(doc);
+                doc.tagCounts().keySet().forEach(tag -> tags.merge(tag, 1L, Long::sum));
+            }
+        }
+
+        matched.sort(Comparator.comparing(DeckDoc::updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(DeckDoc::id));
+        int from = Math.min(query.page() * query.size(), matched.size());
+        int to = Math.min(from + query.size(), matched.size());
+        List<UUID> pageIds = matched.subList(from, to).stream().map(DeckDoc::id).toList();
+        return new SearchResult(pageIds, matched.size(), categories, orderRanges(cardCounts), topTags(tags));
+    }
+
+    /** Precomputed global facet counts, for an explorer page with no filters applied. */
+    public synchronized Facets globalFacets() {
+        return new Facets(new TreeMap<>(categoryCounts), orderRanges(cardCountCounts), topTags(tagCounts));
+    }
+
+    /** Current indexed card count for a deck, or {@code null} if it is not indexed. */
+    public Integer cardCount(UUID deckId) {
+        DeckDoc doc = docs.get(deckId);
+        return doc != null ? doc.cardCount() : null;
+    }
+
+    private synchronized void replace(UUID deckId, UnaryOperator<DeckDoc> update) {
+        DeckDoc old = docs.get(deckId);
+        DeckDoc updated = update.apply(old);
+        if (old != null) adjustCounts(old, -1);
+        if (updated != null) {
+            docs.put(deckId, updated);
+            adjustCounts(updated, 1);
+        } else {
+            docs.remove(deckId);
+        }
+    }
+
+    private void adjustCounts(DeckDoc doc, long delta) {
+        adjust(categoryCounts, doc.category().name(), delta);
+        adjust(cardCountCounts, CardCountRange.of(doc.cardCount()).getLabel(), delta);
+        doc.tagCounts().keySet().forEach(tag -> adjust(tagCounts, tag, delta));
+    }
+
+    private static void adjust(Map<String, Long> counts, String key, long delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static Map<String, Long> orderRanges(Map<String, Long> counts) {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (CardCountRange range : CardCountRange.values()) {
+            Long count = counts.get(range.getLabel());
+            if (count != null) ordered.put(range.getLabel(), count);
+        }
+        return ordered;
+    }
+
+    private static Map<String, Long> topTags(Map<String, Long> counts) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(TAG_FACET_LIMIT)
+                .forEach(e -> top.put(e.getKey(), e.getValue()));
+        return top;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** Splits the comma-separated tag column into lower-cased, trimmed tags. */
+    static List<String> normalizeTags(String tags) {
+        if (tags == null || tags.isBlank()) return List.of();
+        return Arrays.stream(tags.split(","))
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /** Facet value → number of decks. */
+    public record Facets(Map<String, Long> categories, Map<String, Long> cardCounts, Map<String, Long> tags) {}
+
+    public record SearchResult(List<UUID> pageIds, long total,
+                               Map<String, Long> categories, Map<String, Long> cardCounts, Map<String, Long> tags) {}
+
+    /** Immutable search document for one public deck. */
+    record DeckDoc(UUID id, String title, String description, MedicalCategory category,
+                   LocalDateTime updatedAt, Set<String> words, int cardCount, Map<String, Integer> tagCounts) {
+
+        static DeckDoc of(Deck deck, int cardCount, Map<String, Integer> tagCounts) {
+            Set<String> words = new HashSet<>(tokenize(deck.getTitle()));
+            words.addAll(tokenize(deck.getDescription()));
+            return new DeckDoc(deck.getId(), deck.getTitle(), deck.getDescription(), deck.getCategory(),
+                    deck.getUpdatedAt(), Set.copyOf(words), cardCount, Map.copyOf(tagCounts));
+        }
+
+        DeckDoc with(int cardCount, Map<String, Integer> tagCounts) {
+            return new DeckDoc(id, title, description, category, updatedAt, words, cardCount, Map.copyOf(tagCounts));
+        }
+
+        /** Every query word must prefix-match some word of the title or description. */
+        boolean matchesAll(List<String> queryWords) {
+            for (String queryWord : queryWords) {
+                boolean found = false;
+                for (String word : words) {
+                    if (word.startsWith(queryWord)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -1,26 +1,47 @@
 package com.pastudyhub.flashcard.service;
 
+import com.pastudyhub.flashcard.dto.BulkCardOperation;
+import com.pastudyhub.flashcard.dto.BulkCardRequest;
+import com.pastudyhub.flashcard.dto.BulkCardResponse;
 import com.pastudyhub.flashcard.dto.CardResponse;
 import com.pastudyhub.flashcard.dto.CreateCardRequest;
 import com.pastudyhub.flashcard.exception.CardNotFoundException;
 import com.pastudyhub.flashcard.exception.DeckNotFoundException;
+import com.pastudyhub.flashcard.exception.InvalidBulkOperationException;
+import com.pastudyhub.flashcard.exception.NoteBackedCardException;
 import com.pastudyhub.flashcard.exception.UnauthorizedDeckAccessException;
 import com.pastudyhub.flashcard.mapper.CardMapper;
 import com.pastudyhub.flashcard.model.Card;
 import com.pastudyhub.flashcard.model.Deck;
 import com.pastudyhub.flashcard.model.ReviewSchedule;
+import com.pastudyhub.flashcard.repository.CardRef;
 import com.pastudyhub.flashcard.repository.CardRepository;
 import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
 import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import com.pastudyhub.flashcard.search.PublicDeckFacetIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 /**
  * Service for card CRUD operations.
@@ -34,6 +55,16 @@ public class CardServiceImpl {
     private final DeckRepository deckRepository;
     private final ReviewScheduleRepository reviewScheduleRepository;
     private final CardMapper cardMapper;
+    private final PublicDeckFacetIndex facetIndex;
+    private final DeckVersionService deckVersionService;
+    private final NoteRepository noteRepository;
+
+    /** IN-list size for bulk statements; well under every driver's bind-parameter limit. */
+    private static final int IN_CHUNK_SIZE = 500;
+
+    /** Largest selection a bulk operation accepts, whether by IDs or by filter. */
+    @Value("${flashcard.bulk.max-cards:10000}")
+    private int bulkMaxCards;
 
     @Transactional(readOnly = true)
     public Page<CardResponse> getCardsForDeck(UUID deckId, UUID userId, int page, int size) {
@@ -59,6 +90,8 @@ public class CardServiceImpl {
 
         Card card = cardMapper.toEntity(request, deck);
         Card saved = cardRepository.save(card);
+        facetIndex.cardAdded(deckId, saved.getTags());
+        deckVersionService.deckChanged(deckId);
         log.info("Card created: id={}, deckId={}", saved.getId(), deckId);
         return cardMapper.toResponse(saved, null);
     }
@@ -71,14 +104,21 @@ public class CardServiceImpl {
         if (!card.getDeck().getUserId().equals(userId)) {
             throw new UnauthorizedDeckAccessException();
         }
+        // Faces of note-backed cards are rendered from the note — edit the note instead
+        if (card.getNote() != null) {
+            throw new NoteBackedCardException(cardId, card.getNote().getId());
+        }
 
         if (request.getFront() != null) card.setFront(request.getFront().trim());
         if (request.getBack() != null) card.setBack(request.getBack().trim());
         if (request.getHint() != null) card.setHint(request.getHint());
         if (request.getImageUrl() != null) card.setImageUrl(request.getImageUrl());
+        String previousTags = card.getTags();
         if (request.getTags() != null) card.setTagsList(request.getTags());
 
         Card saved = cardRepository.save(card);
+        facetIndex.cardTagsChanged(card.getDeck().getId(), previousTags, saved.getTags());
+        deckVersionService.deckChanged(card.getDeck().getId());
         Optional<ReviewSchedule> schedule = reviewScheduleRepository
                 .findByCardIdAndUserId(cardId, userId);
         return cardMapper.toResponse(saved, schedule.orElse(null));
@@ -94,7 +134,239 @@ public class CardServiceImpl {
         }
 
         card.setDeleted(true);
+        card.setDeletedAt(LocalDateTime.now());
         cardRepository.save(card);
+        facetIndex.cardRemoved(card.getDeck().getId(), card.getTags());
+        deckVersionService.deckChanged(card.getDeck().getId());
         log.info("Card soft-deleted: id={}", cardId);
     }
+
+    /**
+     * Applies one operation to many cards with a handful of set-based statements.
+     *
+     * <p>The selection is resolved to (id, deck, owner, note, tags) rows in one query and
+     * checked for ownership once; the change itself is one UPDATE (or DELETE) per
+     * operation — per tag for retagging — rather than a load and save per card. A move
+     * carries every sibling card of the selected cards' notes, and the notes themselves,
+     * so a note never spans two decks.
+     *
+     * @throws CardNotFoundException          if a listed card does not exist or is deleted
+     * @throws UnauthorizedDeckAccessException if any selected card is in another user's deck
+     * @throws InvalidBulkOperationException  for a malformed request or an oversized selection
+     */
+    @Transactional
+    public BulkCardResponse bulkUpdate(BulkCardRequest request, UUID userId) {
+        long started = System.nanoTime();
+        List<CardRef> cards = selectCards(request, userId);
+        if (request.getOperation() == BulkCardOperation.MOVE) {
+            cards = withNoteSiblings(cards);
+        }
+        for (CardRef card : cards) {
+            if (!card.ownerId().equals(userId)) {
+                throw new UnauthorizedDeckAccessException();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = switch (request.getOperation()) {
+            case MOVE -> bulkMove(cards, request.getTargetDeckId(), userId, now);
+            case ADD_TAGS, REMOVE_TAGS -> bulkRetag(cards, request.getOperation(), request.getTags(), now);
+            case DELETE -> bulkDelete(cards, now);
+            case RESET_SCHEDULE -> bulkResetSchedule(cards, userId);
+        };
+
+        log.info("Bulk {}: userId={}, matched={}, updated={}, tookMs={}", request.getOperation(), userId,
+                cards.size(), updated, (System.nanoTime() - started) / 1_000_000);
+        return BulkCardResponse.builder()
+                .operation(request.getOperation())
+                .matched(cards.size())
+                .updated(updated)
+                .build();
+    }
+
+    /** Resolves the request's card IDs or filter to card refs, without loading entities. */
+    private List<CardRef> selectCards(BulkCardRequest request, UUID userId) {
+        boolean byIds = request.getCardIds() != null && !request.getCardIds().isEmpty();
+        if (byIds == (request.getFilter() != null)) {
+            throw new InvalidBulkOperationException("Provide either cardIds or filter, not both");
+        }
+        if (byIds) {
+            Set<UUID> ids = new LinkedHashSet<>(request.getCardIds());
+            if (ids.size() > bulkMaxCards) {
+                throw new InvalidBulkOperationException("At most " + bulkMaxCards + " cards per request");
+            }
+            List<CardRef> cards = new ArrayList<>();
+            forEachChunk(List.copyOf(ids), chunk -> cards.addAll(cardRepository.findRefsByIds(chunk)));
+            if (cards.size() < ids.size()) {
+                Set<UUID> found = cards.stream().map(CardRef::id).collect(Collectors.toSet());
+                UUID missing = ids.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+                throw new CardNotFoundException(missing);
+            }
+            return cards;
+        }
+
+        Deck deck = deckRepository.findByIdAndNotDeleted(request.getFilter().getDeckId())
+                .orElseThrow(() -> new DeckNotFoundException(request.getFilter().getDeckId()));
+        if (!deck.getUserId().equals(userId)) {
+            throw new UnauthorizedDeckAccessException();
+        }
+        String tag = request.getFilter().getTag();
+        List<CardRef> cards = cardRepository.findRefsByDeck(deck.getId(),
+                tag != null ? tagPattern(tag.trim()) : null, PageRequest.of(0, bulkMaxCards + 1));
+        if (cards.size() > bulkMaxCards) {
+            throw new InvalidBulkOperationException(
+                    "Filter matches more than " + bulkMaxCards + " cards — narrow it with a tag");
+        }
+        return cards;
+    }
+
+    /** Adds the other cards of every note in the selection, so each note moves as a whole. */
+    private List<CardRef> withNoteSiblings(List<CardRef> selected) {
+        List<UUID> noteIds = noteIds(selected);
+        if (noteIds.isEmpty()) return selected;
+        Map<UUID, CardRef> cards = new LinkedHashMap<>();
+        selected.forEach(card -> cards.put(card.id(), card));
+        forEachChunk(noteIds, chunk -> cardRepository.findRefsByNoteIds(chunk)
+                .forEach(sibling -> cards.putIfAbsent(sibling.id(), sibling)));
+        return List.copyOf(cards.values());
+    }
+
+    private int bulkMove(List<CardRef> cards, UUID targetDeckId, UUID userId, LocalDateTime now) {
+        if (targetDeckId == null) {
+            throw new InvalidBulkOperationException("targetDeckId is required for MOVE");
+        }
+        Deck target = deckRepository.findByIdAndNotDeleted(targetDeckId)
+                .orElseThrow(() -> new DeckNotFoundException(targetDeckId));
+        if (!target.getUserId().equals(userId)) {
+            throw new UnauthorizedDeckAccessException();
+        }
+
+        forEachChunk(noteIds(cards), chunk -> noteRepository.moveToDeck(chunk, target, now));
+
+        List<CardRef> moving = cards.stream()
+                .filter(card -> !card.deckId().equals(targetDeckId))
+                .toList();
+        if (moving.isEmpty()) return 0;
+        int updated = sumOverChunks(ids(moving), chunk -> cardRepository.moveToDeck(chunk, target, now));
+
+        Map<UUID, List<CardRef>> bySource = moving.stream().collect(Collectors.groupingBy(CardRef::deckId));
+        bySource.forEach((deckId, deckCards) -> {
+            if (deckCards.get(0).isPublic()) {
+                facetIndex.cardsChanged(deckId, -deckCards.size(), List.of(), tagColumns(deckCards));
+            }
+            deckVersionService.deckChanged(deckId);
+        });
+        if (target.isPublic()) {
+            facetIndex.cardsChanged(targetDeckId, moving.size(), tagColumns(moving), List.of());
+        }
+        deckVersionService.deckChanged(targetDeckId);
+        return updated;
+    }
+
+    private int bulkRetag(List<CardRef> cards, BulkCardOperation operation, List<String> tags, LocalDateTime now) {
+        if (tags == null || tags.isEmpty()) {
+            throw new InvalidBulkOperationException("tags are required for " + operation);
+        }
+        if (cards.isEmpty()) return 0;
+        List<UUID> ids = ids(cards);
+        List<String> distinctTags = tags.stream().map(String::trim).distinct().toList();
+
+        int updated = 0;
+        for (String tag : distinctTags) {
+            updated += operation == BulkCardOperation.ADD_TAGS
+                    ? sumOverChunks(ids, chunk -> cardRepository.addTag(chunk, tag, tagPattern(tag), now))
+                    : sumOverChunks(ids, chunk -> cardRepository.removeTag(chunk, "," + tag + ",", tagPattern(tag), now));
+        }
+
+        // Same edit in memory, for the facet index of public decks
+        Map<UUID, List<String>> before = new HashMap<>();
+        Map<UUID, List<String>> after = new HashMap<>();
+        for (CardRef card : cards) {
+            String retagged = retag(card.tags(), operation, distinctTags);
+            if (card.isPublic() && !Objects.equals(card.tags(), retagged)) {
+                before.computeIfAbsent(card.deckId(), d -> new ArrayList<>()).add(card.tags());
+                after.computeIfAbsent(card.deckId(), d -> new ArrayList<>()).add(retagged);
+            }
+        }
+        before.forEach((deckId, oldTags) -> facetIndex.cardsChanged(deckId, 0, after.get(deckId), oldTags));
+        distinctDecks(cards).forEach(deckVersionService::deckChanged);
+        return updated;
+    }
+
+    private int bulkDelete(List<CardRef> cards, LocalDateTime now) {
+        if (cards.isEmpty()) return 0;
+        int updated = sumOverChunks(ids(cards), chunk -> cardRepository.softDeleteAll(chunk, now));
+        cards.stream().filter(CardRef::isPublic)
+                .collect(Collectors.groupingBy(CardRef::deckId))
+                .forEach((deckId, deckCards) ->
+                        facetIndex.cardsChanged(deckId, -deckCards.size(), List.of(), tagColumns(deckCards)));
+        distinctDecks(cards).forEach(deckVersionService::deckChanged);
+        return updated;
+    }
+
+    /** Forgets the caller's own review history for the cards; other users' schedules are untouched. */
+    private int bulkResetSchedule(List<CardRef> cards, UUID userId) {
+        if (cards.isEmpty()) return 0;
+        int updated = sumOverChunks(ids(cards),
+                chunk -> reviewScheduleRepository.deleteByUserIdAndCardIds(userId, chunk));
+        deckVersionService.reviewsChanged(userId);
+        distinctDecks(cards).forEach(deckVersionService::deckChanged);
+        return updated;
+    }
+
+    /** The tag column after the bulk statements have run — mirrors addTag/removeTag. */
+    private static String retag(String tags, BulkCardOperation operation, List<String> changed) {
+        List<String> list = tags == null || tags.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(List.of(tags.split(",", -1)));
+        if (operation == BulkCardOperation.ADD_TAGS) {
+            changed.stream().filter(tag -> !list.contains(tag)).forEach(list::add);
+        } else {
+            list.removeAll(changed);
+        }
+        return list.isEmpty() ? null : String.join(",", list);
+    }
+
+    /** LIKE pattern matching {@code ,tag,} inside the comma-wrapped tag column, escaped with '!'. */
+    private static String tagPattern(String tag) {
+        String escaped = tag.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%," + escaped + ",%";
+    }
+
+    /**
+     * Runs {@code statement} over {@code ids} in fixed-size IN lists. The last chunk is
+     * padded with a repeated ID, so every call has the same shape and reuses one cached
+     * query plan and prepared statement instead of compiling a new one per list size.
+     */
+    private static void forEachChunk(List<UUID> ids, Consumer<List<UUID>> statement) {
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<UUID> chunk = new ArrayList<>(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size())));
+            while (chunk.size() < IN_CHUNK_SIZE) {
+                chunk.add(chunk.get(chunk.size() - 1));
+            }
+            statement.accept(chunk);
+        }
+    }
+
+    private static int sumOverChunks(List<UUID> ids, ToIntFunction<List<UUID>> statement) {
+        int[] total = {0};
+        forEachChunk(ids, chunk -> total[0] += statement.applyAsInt(chunk));
+        return total[0];
+    }
+
+    private static List<UUID> ids(List<CardRef> cards) {
+        return cards.stream().map(CardRef::id).toList();
+    }
+
+    private static List<UUID> noteIds(List<CardRef> cards) {
+        return cards.stream().map(CardRef::noteId).filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static List<String> tagColumns(List<CardRef> cards) {
+        return cards.stream().map(CardRef::tags).toList();
+    }
+
+    private static Set<UUID> distinctDecks(List<CardRef> cards) {
+        return cards.stream().map(CardRef::deckId).collect(Collectors.toSet());
+    }
 }
@@ -2,6 +2,7 @@ package com.pastudyhub.flashcard.service;
 
 import com.pastudyhub.flashcard.dto.*;
 import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.search.DeckSearchQuery;
 import org.springframework.data.domain.Page;
 
 import java.util.UUID;
@@ -12,8 +13,10 @@ public interface DeckService {
     DeckResponse getDeck(UUID deckId, UUID userId);
     DeckResponse createDeck(CreateDeckRequest request, UUID userId);
     DeckResponse updateDeck(UUID deckId, CreateDeckRequest request, UUID userId);
+    DeckResponse moveDeck(UUID deckId, UUID newParentId, UUID userId);
     void deleteDeck(UUID deckId, UUID userId);
-    Page<DeckResponse> getPublicDecks(MedicalCategory category, int page, int size);
+    Page<DeckResponse> getPublicDecks(MedicalCategory category, PublicDeckSort sort, int page, int size);
+    FacetedDeckSearchResponse searchPublicDecks(DeckSearchQuery query);
     DeckResponse cloneDeck(UUID sourceDeckId, UUID userId);
     DeckStatsResponse getDeckStats(UUID deckId, UUID userId);
 }
@@ -2,19 +2,30 @@ package com.pastudyhub.flashcard.service;
 
 import com.pastudyhub.flashcard.dto.*;
 import com.pastudyhub.flashcard.exception.DeckNotFoundException;
+import com.pastudyhub.flashcard.exception.InvalidDeckHierarchyException;
 import com.pastudyhub.flashcard.exception.UnauthorizedDeckAccessException;
 import com.pastudyhub.flashcard.mapper.CardMapper;
 import com.pastudyhub.flashcard.mapper.DeckMapper;
 import com.pastudyhub.flashcard.model.Card;
 import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.DeckClosure;
 import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.model.Note;
 import com.pastudyhub.flashcard.model.ReviewSchedule;
+import com.pastudyhub.flashcard.popularity.PopularityEvent;
+import com.pastudyhub.flashcard.popularity.PopularityTracker;
 import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckClosureRepository;
 import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
 import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import com.pastudyhub.flashcard.repository.SubtreeStats;
+import com.pastudyhub.flashcard.search.DeckSearchQuery;
+import com.pastudyhub.flashcard.search.PublicDeckFacetIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,8 +33,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of deck management operations.
@@ -36,20 +55,33 @@ public class DeckServiceImpl implements DeckService {
     private final DeckRepository deckRepository;
     private final CardRepository cardRepository;
     private final ReviewScheduleRepository reviewScheduleRepository;
+    private final DeckClosureRepository deckClosureRepository;
+    private final NoteRepository noteRepository;
     private final DeckMapper deckMapper;
     private final CardMapper cardMapper;
+    private final PopularityTracker popularityTracker;
+    private final PublicDeckFacetIndex facetIndex;
 
     @Override
     @Transactional(readOnly = true)
     public Page<DeckResponse> getUserDecks(UUID userId, MedicalCategory category, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
         return deckRepository.findByUserIdAndNotDeleted(userId, category, pageable)
-                .map(deck -> {
-                    int cardCount = cardRepository.countByDeckIdAndNotDeleted(deck.getId());
-                    int cardsToReview = reviewScheduleRepository.countDueForReview(
-                            deck.getId(), userId, LocalDate.now());
-                    return deckMapper.toResponse(deck, cardCount, cardsToReview);
-                });
+                .map(deck -> toResponseWithCounts(deck, userId));
+    }
+
+    /**
+     * Maps a deck with its card and due counts. Flat decks use the same two per-deck
+     * counts as always; parent decks get subtree totals from one closure-table query.
+     */
+    private DeckResponse toResponseWithCounts(Deck deck, UUID userId) {
+        if (deck.getChildCount() > 0) {
+            SubtreeStats stats = deckClosureRepository.findSubtreeStats(deck.getId(), userId, LocalDate.now());
+            return deckMapper.toResponse(deck, stats.total(), stats.due());
+        }
+        int cardCount = cardRepository.countByDeckIdAndNotDeleted(deck.getId());
+        int cardsToReview = reviewScheduleRepository.countDueForReview(deck.getId(), userId, LocalDate.now());
+        return deckMapper.toResponse(deck, cardCount, cardsToReview);
     }
 
     @Override
@@ -57,16 +89,26 @@ public class DeckServiceImpl implements DeckService {
     public DeckResponse getDeck(UUID deckId, UUID userId) {
         Deck deck = deckRepository.findByIdAndNotDeleted(deckId)
                 .orElseThrow(() -> new DeckNotFoundException(deckId));
-        int cardCount = cardRepository.countByDeckIdAndNotDeleted(deckId);
-        int cardsToReview = reviewScheduleRepository.countDueForReview(deckId, userId, LocalDate.now());
-        return deckMapper.toResponse(deck, cardCount, cardsToReview);
+        if (deck.isPublic() && !deck.getUserId().equals(userId)) {
+            popularityTracker.record(deckId, deck.getCategory(), PopularityEvent.VIEW);
+        }
+        return toResponseWithCounts(deck, userId);
     }
 
     @Override
     @Transactional
     public DeckResponse createDeck(CreateDeckRequest request, UUID userId) {
+        if (request.getParentId() != null) {
+            requireOwnedDeck(request.getParentId(), userId);
+        }
         Deck deck = deckMapper.toEntity(request, userId);
         Deck saved = deckRepository.save(deck);
+        deckClosureRepository.save(new DeckClosure(saved.getId(), saved.getId(), 0));
+        if (saved.getParentId() != null) {
+            deckClosureRepository.insertPathsToLeaf(saved.getParentId(), saved.getId());
+            deckRepository.adjustChildCount(saved.getParentId(), 1);
+        }
+        facetIndex.deckSaved(saved);
         log.info("Deck created: id={}, userId={}, title={}", saved.getId(), userId, saved.getTitle());
         return deckMapper.toResponse(saved, 0, 0);
     }
@@ -84,11 +126,55 @@ public class DeckServiceImpl implements DeckService {
         if (request.getTitle() != null) deck.setTitle(request.getTitle().trim());
         if (request.getDescription() != null) deck.setDescription(request.getDescription());
         if (request.getCategory() != null) deck.setCategory(request.getCategory());
+        deck.setContentVersion(deck.getContentVersion() + 1);
 
         Deck saved = deckRepository.save(deck);
-        int cardCount = cardRepository.countByDeckIdAndNotDeleted(deckId);
-        int cardsToReview = reviewScheduleRepository.countDueForReview(deckId, userId, LocalDate.now());
-        return deckMapper.toResponse(saved, cardCount, cardsToReview);
+        facetIndex.deckSaved(saved);
+        return toResponseWithCounts(saved, userId);
+    }
+
+    /**
+     * Moves a deck (with its whole subtree) under a new parent, or to the top level.
+     * Rewrites only the closure paths crossing the subtree boundary.
+     */
+    @Override
+    @Transactional
+    public DeckResponse moveDeck(UUID deckId, UUID newParentId, UUID userId) {
+        Deck deck = requireOwnedDeck(deckId, userId);
+        UUID oldParentId = deck.getParentId();
+        if (Objects.equals(oldParentId, newParentId)) {
+            return toResponseWithCounts(deck, userId);
+        }
+        if (newParentId != null) {
+            requireOwnedDeck(newParentId, userId);
+            if (deckClosureRepository.isInSubtree(deckId, newParentId)) {
+                throw new InvalidDeckHierarchyException("A deck cannot be moved under itself or one of its sub-decks");
+            }
+        }
+
+        deck.setParentId(newParentId);
+        Deck saved = deckRepository.save(deck);
+
+        // Old ancestors lose the subtree's cards, new ancestors gain them
+        deckRepository.incrementContentVersion(deckId);
+        deckClosureRepository.detachSubtree(deckId);
+        if (oldParentId != null) deckRepository.adjustChildCount(oldParentId, -1);
+        if (newParentId != null) {
+            deckClosureRepository.attachSubtree(deckId, newParentId);
+            deckRepository.adjustChildCount(newParentId, 1);
+        }
+        deckRepository.incrementContentVersion(deckId);
+        log.info("Deck moved: id={}, from={}, to={}", deckId, oldParentId, newParentId);
+        return toResponseWithCounts(saved, userId);
+    }
+
+    private Deck requireOwnedDeck(UUID deckId, UUID userId) {
+        Deck deck = deckRepository.findByIdAndNotDeleted(deckId)
+                .orElseThrow(() -> new DeckNotFoundException(deckId));
+        if (!deck.getUserId().equals(userId)) {
+            throw new UnauthorizedDeckAccessException();
+        }
+        return deck;
     }
 
     @Override
@@ -102,13 +188,34 @@ public class DeckServiceImpl implements DeckService {
         }
 
         deck.setDeleted(true);
+        deck.setDeletedAt(LocalDateTime.now());
+        deck.setContentVersion(deck.getContentVersion() + 1);
         deckRepository.save(deck);
+        popularityTracker.forget(deckId);
+        facetIndex.deckRemoved(deckId);
+
+        // Sub-decks go with their parent
+        if (deck.getChildCount() > 0) {
+            List<UUID> descendants = deckClosureRepository.findSubtreeIds(deckId);
+            deckRepository.softDeleteAll(descendants, deck.getDeletedAt());
+            descendants.forEach(id -> {
+                popularityTracker.forget(id);
+                facetIndex.deckRemoved(id);
+            });
+        }
+        if (deck.getParentId() != null) {
+            deckRepository.adjustChildCount(deck.getParentId(), -1);
+            deckRepository.incrementContentVersion(deck.getParentId());
+        }
         log.info("Deck soft-deleted: id={}, userId={}", deckId, userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<DeckResponse> getPublicDecks(MedicalCategory category, int page, int size) {
+    public Page<DeckResponse> getPublicDecks(MedicalCategory category, PublicDeckSort sort, int page, int size) {
+        if (sort == PublicDeckSort.TRENDING || sort == PublicDeckSort.POPULAR) {
+            return getRankedPublicDecks(category, sort, PageRequest.of(page, size));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
         return deckRepository.findPublicDecks(category, pageable)
                 .map(deck -> {
@@ -117,6 +224,74 @@ public class DeckServiceImpl implements DeckService {
                 });
     }
 
+    /**
+     * Serves a page of the precomputed top-K ranking. Decks deleted or unpublished since
+     * the last flush are dropped first (an ID-only query over at most top-K decks), so
+     * pages stay full and the total matches; only the decks on the requested page are loaded.
+     */
+    private Page<DeckResponse> getRankedPublicDecks(MedicalCategory category, PublicDeckSort sort, Pageable pageable) {
+        List<UUID> ranked = popularityTracker.topDecks(sort, category);
+        Set<UUID> live = ranked.isEmpty() ? Set.of() : new HashSet<>(deckRepository.findPublicIdsIn(ranked));
+        List<UUID> visible = ranked.stream().filter(live::contains).toList();
+        int from = (int) Math.min(pageable.getOffset(), visible.size());
+        int to = Math.min(from + pageable.getPageSize(), visible.size());
+        List<UUID> pageIds = visible.subList(from, to);
+
+        Map<UUID, Deck> decksById = deckRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Deck::getId, Function.identity()));
+
+        List<DeckResponse> content = pageIds.stream()
+                .map(decksById::get)
+                .filter(Objects::nonNull)
+                .map(deck -> deckMapper.toResponse(deck, cardRepository.countByDeckIdAndNotDeleted(deck.getId()), 0))
+                .toList();
+        return new PageImpl<>(content, pageable, visible.size());
+    }
+
+    /**
+     * Faceted search over public decks, answered entirely from the in-memory facet index.
+     * Only the decks on the requested page are loaded from the database; with no filters
+     * the page comes from the regular public deck query and facets from the global counts.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedDeckSearchResponse searchPublicDecks(DeckSearchQuery query) {
+        if (query.isUnfiltered()) {
+            Page<DeckResponse> decks = getPublicDecks(null, PublicDeckSort.RECENT, query.page(), query.size());
+            PublicDeckFacetIndex.Facets facets = facetIndex.globalFacets();
+            return FacetedDeckSearchResponse.builder()
+                    .content(decks.getContent())
+                    .page(query.page())
+                    .size(query.size())
+                    .totalElements(decks.getTotalElements())
+                    .categoryFacets(facets.categories())
+                    .cardCountFacets(facets.cardCounts())
+                    .tagFacets(facets.tags())
+                    .build();
+        }
+
+        PublicDeckFacetIndex.SearchResult result = facetIndex.search(query);
+        Map<UUID, Deck> decksById = deckRepository.findAllById(result.pageIds()).stream()
+                .collect(Collectors.toMap(Deck::getId, Function.identity()));
+        List<DeckResponse> content = result.pageIds().stream()
+                .map(decksById::get)
+                .filter(deck -> deck != null && deck.isPublic() && !deck.isDeleted())
+                .map(deck -> {
+                    Integer cardCount = facetIndex.cardCount(deck.getId());
+                    return deckMapper.toResponse(deck, cardCount != null ? cardCount : 0, 0);
+                })
+                .toList();
+        return FacetedDeckSearchResponse.builder()
+                .content(content)
+                .page(query.page())
+                .size(query.size())
+                .totalElements(result.total())
+                .categoryFacets(result.categories())
+                .cardCountFacets(result.cardCounts())
+                .tagFacets(result.tags())
+                .build();
+    }
+
     @Override
     @Transactional
     public DeckResponse cloneDeck(UUID sourceDeckId, UUID userId) {
@@ -126,6 +301,9 @@ public class DeckServiceImpl implements DeckService {
         if (!source.isPublic() && !source.getUserId().equals(userId)) {
             throw new UnauthorizedDeckAccessException();
         }
+        if (source.isPublic()) {
+            popularityTracker.record(sourceDeckId, source.getCategory(), PopularityEvent.CLONE);
+        }
 
         // Create a new deck for this user
         Deck clone = Deck.builder()
@@ -137,22 +315,34 @@ public class DeckServiceImpl implements DeckService {
                 .isDeleted(false)
                 .build();
         Deck savedClone = deckRepository.save(clone);
+        deckClosureRepository.save(new DeckClosure(savedClone.getId(), savedClone.getId(), 0));
 
-        // Clone all cards from the source deck
-        List<UUID> sourceCardIds = cardRepository.findCardIdsByDeckId(sourceDeckId);
-        for (UUID cardId : sourceCardIds) {
-            cardRepository.findByIdAndNotDeleted(cardId).ifPresent(sourceCard -> {
-                Card clonedCard = Card.builder()
-                        .deck(savedClone)
-                        .front(sourceCard.getFront())
-                        .back(sourceCard.getBack())
-                        .hint(sourceCard.getHint())
-                        .imageUrl(sourceCard.getImageUrl())
-                        .tags(sourceCard.getTags())
-                        .isDeleted(false)
-                        .build();
-                cardRepository.save(clonedCard);
-            });
+        // Clone all cards from the source deck; each source note is copied once and
+        // shared by the cloned cards generated from it
+        Map<UUID, Note> clonedNotes = new HashMap<>();
+        for (Card sourceCard : cardRepository.findAllByDeckIdWithNotes(sourceDeckId)) {
+            Note sourceNote = sourceCard.getNote();
+            Note clonedNote = sourceNote == null ? null : clonedNotes.computeIfAbsent(sourceNote.getId(),
+                    id -> noteRepository.save(Note.builder()
+                            .deck(savedClone)
+                            .type(sourceNote.getType())
+                            .front(sourceNote.getFront())
+                            .back(sourceNote.getBack())
+                            .hint(sourceNote.getHint())
+                            .imageUrl(sourceNote.getImageUrl())
+                            .build()));
+            Card clonedCard = Card.builder()
+                    .deck(savedClone)
+                    .note(clonedNote)
+                    .ordinal(sourceCard.getOrdinal())
+                    .front(sourceCard.getFront())
+                    .back(sourceCard.getBack())
+                    .hint(sourceCard.getHint())
+                    .imageUrl(sourceCard.getImageUrl())
+                    .tags(sourceCard.getTags())
+                    .isDeleted(false)
+                    .build();
+            cardRepository.save(clonedCard);
         }
 
         int cardCount = cardRepository.countByDeckIdAndNotDeleted(savedClone.getId());
@@ -163,9 +353,19 @@ public class DeckServiceImpl implements DeckService {
     @Override
     @Transactional(readOnly = true)
     public DeckStatsResponse getDeckStats(UUID deckId, UUID userId) {
-        deckRepository.findByIdAndNotDeleted(deckId)
+        Deck deck = deckRepository.findByIdAndNotDeleted(deckId)
                 .orElseThrow(() -> new DeckNotFoundException(deckId));
 
+        if (deck.getChildCount() > 0) {
+            SubtreeStats stats = deckClosureRepository.findSubtreeStats(deckId, userId, LocalDate.now());
+            return DeckStatsResponse.builder()
+                    .totalCards(stats.total())
+                    .cardsDueToday(stats.due())
+                    .cardsMastered(stats.mastered())
+                    .averageEaseFactor(stats.avgEaseFactor() != null ? stats.avgEaseFactor() : 2.5)
+                    .build();
+        }
+
         int totalCards = cardRepository.countByDeckIdAndNotDeleted(deckId);
         int cardsDueToday = reviewScheduleRepository.countDueForReview(deckId, userId, LocalDate.now());
         int cardsMastered = reviewScheduleRepository.countMastered(deckId, userId);
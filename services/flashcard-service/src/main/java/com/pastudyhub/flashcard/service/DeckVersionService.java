@@ -0,0 +1,60 @@
+package com.pastudyhub.flashcard.service;
+
+import com.pastudyhub.flashcard.exception.DeckNotFoundException;
+import com.pastudyhub.flashcard.model.UserReviewVersion;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.UserReviewVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Version counters behind the ETags of deck, card-list and stats reads.
+ *
+ * <p>A deck read depends on three things: the deck and its cards ({@code Deck.contentVersion}),
+ * the reader's review schedules ({@link UserReviewVersion}) and today's date (due counts roll
+ * over at midnight). The ETag combines all three plus the reader, so computing it costs two
+ * primary-key lookups and never touches the card or schedule tables.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeckVersionService {
+
+    private final DeckRepository deckRepository;
+    private final UserReviewVersionRepository userReviewVersionRepository;
+
+    /**
+     * Returns the current strong ETag value (unquoted) of a deck as seen by {@code userId}.
+     *
+     * @throws DeckNotFoundException if the deck does not exist or was deleted
+     */
+    @Transactional(readOnly = true)
+    public String deckETag(UUID deckId, UUID userId) {
+        long deckVersion = deckRepository.findContentVersion(deckId)
+                .orElseThrow(() -> new DeckNotFoundException(deckId));
+        long reviewVersion = userReviewVersionRepository.findVersion(userId).orElse(0L);
+        return deckVersion + "-" + reviewVersion + "-" + LocalDate.now().toEpochDay() + "-" + userId;
+    }
+
+    /** Marks a deck's cards as changed. Joins the caller's transaction. */
+    @Transactional
+    public void deckChanged(UUID deckId) {
+        deckRepository.incrementContentVersion(deckId);
+    }
+
+    /**
+     * Marks a user's review schedules as changed. Joins the caller's transaction.
+     * The first review creates the counter with an insert that ignores conflicts, so
+     * concurrent first reviews neither collide on the primary key nor lose a bump.
+     */
+    @Transactional
+    public void reviewsChanged(UUID userId) {
+        if (userReviewVersionRepository.increment(userId) == 0) {
+            userReviewVersionRepository.insertIfAbsent(userId);
+            userReviewVersionRepository.increment(userId);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.pastudyhub.flashcard.service;
+
+import com.pastudyhub.flashcard.dto.CardResponse;
+import com.pastudyhub.flashcard.dto.CreateNoteRequest;
+import com.pastudyhub.flashcard.dto.NoteResponse;
+import com.pastudyhub.flashcard.exception.DeckNotFoundException;
+import com.pastudyhub.flashcard.exception.InvalidNoteException;
+import com.pastudyhub.flashcard.exception.NoteNotFoundException;
+import com.pastudyhub.flashcard.exception.UnauthorizedDeckAccessException;
+import com.pastudyhub.flashcard.mapper.CardMapper;
+import com.pastudyhub.flashcard.mapper.CardTemplateRenderer;
+import com.pastudyhub.flashcard.model.Card;
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.Note;
+import com.pastudyhub.flashcard.model.NoteType;
+import com.pastudyhub.flashcard.model.ReviewSchedule;
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
+import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import com.pastudyhub.flashcard.search.PublicDeckFacetIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for notes — the shared content behind reversed and cloze cards.
+ *
+ * <p>Creating or editing a note reconciles its cards against the ordinals its type and
+ * text produce: missing cards are created, cards whose template or cloze number is gone
+ * are soft-deleted, and surviving cards keep their review schedules. Card rows never
+ * copy the note's text.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoteServiceImpl {
+
+    private final NoteRepository noteRepository;
+    private final CardRepository cardRepository;
+    private final DeckRepository deckRepository;
+    private final ReviewScheduleRepository reviewScheduleRepository;
+    private final CardMapper cardMapper;
+    private final CardTemplateRenderer templateRenderer;
+    private final PublicDeckFacetIndex facetIndex;
+    private final DeckVersionService deckVersionService;
+
+    @Transactional(readOnly = true)
+    public NoteResponse getNote(UUID noteId, UUID userId) {
+        Note note = noteRepository.findByIdAndNotDeleted(noteId)
+                .orElseThrow(() -> new NoteNotFoundException(noteId));
+        Deck deck = note.getDeck();
+        if (!deck.isPublic() && !deck.getUserId().equals(userId)) {
+            throw new UnauthorizedDeckAccessException();
+        }
+        return toResponse(note, cardRepository.findByNoteIdAndNotDeleted(noteId), userId);
+    }
+
+    @Transactional
+    public NoteResponse createNote(UUID deckId, CreateNoteRequest request, UUID userId) {
+        Deck deck = deckRepository.findByIdAndNotDeleted(deckId)
+                .orElseThrow(() -> new DeckNotFoundException(deckId));
+        if (!deck.getUserId().equals(userId)) {
+            throw new UnauthorizedDeckAccessException();
+        }
+        List<Integer> ordinals = ordinalsFor(request);
+
+        Note note = Note.builder().deck(deck).build();
+        applyContent(note, request);
+        Note saved = noteRepository.save(note);
+
+        String tags = Card.joinTags(request.getTags());
+        List<Card> cards = new ArrayList<>(ordinals.size());
+        for (int ordinal : ordinals) {
+            cards.add(cardRepository.save(newCard(saved, ordinal, tags)));
+            facetIndex.cardAdded(deckId, tags);
+        }
+        deckVersionService.deckChanged(deckId);
+        log.info("Note created: id={}, deckId={}, type={}, cards={}", saved.getId(), deckId, saved.getType(), cards.size());
+        return toResponse(saved, cards, userId);
+    }
+
+    @Transactional
+    public NoteResponse updateNote(UUID noteId, CreateNoteRequest request, UUID userId) {
+        Note note = requireOwnedNote(noteId, userId);
+        UUID deckId = note.getDeck().getId();
+        List<Integer> ordinals = ordinalsFor(request);
+        applyContent(note, request);
+        Note saved = noteRepository.save(note);
+
+        Map<Integer, Card> existing = cardRepository.findByNoteIdAndNotDeleted(noteId).stream()
+                .collect(Collectors.toMap(Card::getOrdinal, Function.identity()));
+        String requestedTags = request.getTags() != null ? Card.joinTags(request.getTags()) : null;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Card> cards = new ArrayList<>(ordinals.size());
+        for (int ordinal : ordinals) {
+            Card card = existing.remove(ordinal);
+            if (card == null) {
+                String tags = requestedTags != null ? requestedTags : currentTags(existing.values(), cards);
+                card = cardRepository.save(newCard(saved, ordinal, tags));
+                facetIndex.cardAdded(deckId, tags);
+            } else if (requestedTags != null && !Objects.equals(card.getTags(), requestedTags)) {
+                String previousTags = card.getTags();
+                card.setTags(requestedTags);
+                card = cardRepository.save(card);
+                facetIndex.cardTagsChanged(deckId, previousTags, requestedTags);
+            }
+            cards.add(card);
+        }
+        // Templates or cloze numbers that no longer exist
+        for (Card orphan : existing.values()) {
+            orphan.setDeleted(true);
+            orphan.setDeletedAt(now);
+            cardRepository.save(orphan);
+            facetIndex.cardRemoved(deckId, orphan.getTags());
+        }
+        deckVersionService.deckChanged(deckId);
+        return toResponse(saved, cards, userId);
+    }
+
+    @Transactional
+    public void deleteNote(UUID noteId, UUID userId) {
+        Note note = requireOwnedNote(noteId, userId);
+        UUID deckId = note.getDeck().getId();
+        LocalDateTime now = LocalDateTime.now();
+        note.setDeleted(true);
+        note.setDeletedAt(now);
+        noteRepository.save(note);
+        for (Card card : cardRepository.findByNoteIdAndNotDeleted(noteId)) {
+            card.setDeleted(true);
+            card.setDeletedAt(now);
+            cardRepository.save(card);
+            facetIndex.cardRemoved(deckId, card.getTags());
+        }
+        deckVersionService.deckChanged(deckId);
+        log.info("Note soft-deleted: id={}", noteId);
+    }
+
+    private Note requireOwnedNote(UUID noteId, UUID userId) {
+        Note note = noteRepository.findByIdAndNotDeleted(noteId)
+                .orElseThrow(() -> new NoteNotFoundException(noteId));
+        if (note.getDeck().isDeleted()) {
+            throw new NoteNotFoundException(noteId);
+        }
+        if (!note.getDeck().getUserId().equals(userId)) {
+            throw new UnauthorizedDeckAccessException();
+        }
+        return note;
+    }
+
+    private List<Integer> ordinalsFor(CreateNoteRequest request) {
+        if (request.getType() != NoteType.CLOZE && (request.getBack() == null || request.getBack().isBlank())) {
+            throw new InvalidNoteException("Note back is required for " + request.getType() + " notes");
+        }
+        List<Integer> ordinals = templateRenderer.ordinals(request.getType(), request.getFront());
+        if (ordinals.isEmpty()) {
+            throw new InvalidNoteException("Cloze notes need at least one deletion, e.g. {{c1::answer}}");
+        }
+        return ordinals;
+    }
+
+    private static void applyContent(Note note, CreateNoteRequest request) {
+        note.setType(request.getType());
+        note.setFront(request.getFront().trim());
+        note.setBack(request.getBack() != null ? request.getBack().trim() : null);
+        note.setHint(request.getHint());
+        note.setImageUrl(request.getImageUrl());
+    }
+
+    private static Card newCard(Note note, int ordinal, String tags) {
+        return Card.builder()
+                .deck(note.getDeck())
+                .note(note)
+                .ordinal(ordinal)
+                .tags(tags)
+                .isDeleted(false)
+                .build();
+    }
+
+    /** Tags of the note's existing cards, for a card added without explicit tags. */
+    private static String currentTags(Collection<Card> remaining, List<Card> kept) {
+        if (!kept.isEmpty()) return kept.get(0).getTags();
+        return remaining.stream().findFirst().map(Card::getTags).orElse(null);
+    }
+
+    private NoteResponse toResponse(Note note, List<Card> cards, UUID userId) {
+        Map<UUID, ReviewSchedule> schedules = new HashMap<>();
+        if (!cards.isEmpty()) {
+            reviewScheduleRepository.findByUserIdAndCardIds(userId, cards.stream().map(Card::getId).toList())
+                    .forEach(schedule -> schedules.put(schedule.getCard().getId(), schedule));
+        }
+        List<CardResponse> cardResponses = cards.stream()
+                .map(card -> cardMapper.toResponse(card, schedules.get(card.getId())))
+                .toList();
+        return NoteResponse.builder()
+                .id(note.getId())
+                .deckId(note.getDeck().getId())
+                .type(note.getType())
+                .front(note.getFront())
+                .back(note.getBack())
+                .hint(note.getHint())
+                .imageUrl(note.getImageUrl())
+                .tags(cards.isEmpty() ? List.of() : cards.get(0).getTagsList())
+                .cards(cardResponses)
+                .createdAt(note.getCreatedAt())
+                .updatedAt(note.getUpdatedAt())
+                .build();
+    }
+}
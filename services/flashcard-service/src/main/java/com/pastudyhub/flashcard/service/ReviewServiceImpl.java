@@ -1,16 +1,27 @@
 package com.pastudyhub.flashcard.service;
 
 import com.pastudyhub.flashcard.dto.CardResponse;
+import com.pastudyhub.flashcard.dto.ReviewQueueResponse;
 import com.pastudyhub.flashcard.dto.ReviewRequest;
 import com.pastudyhub.flashcard.dto.ReviewResponse;
+import com.pastudyhub.flashcard.engine.DueDateLoadBalancer;
+import com.pastudyhub.flashcard.engine.ReviewQueueMerger;
 import com.pastudyhub.flashcard.engine.ReviewResult;
 import com.pastudyhub.flashcard.engine.SpacedRepetitionEngine;
 import com.pastudyhub.flashcard.exception.CardNotFoundException;
 import com.pastudyhub.flashcard.exception.DeckNotFoundException;
+import com.pastudyhub.flashcard.learning.LearningStepScheduler;
+import com.pastudyhub.flashcard.loadbalancing.DueLoadHistogram;
 import com.pastudyhub.flashcard.mapper.CardMapper;
 import com.pastudyhub.flashcard.model.Card;
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.MedicalCategory;
 import com.pastudyhub.flashcard.model.ReviewSchedule;
+import com.pastudyhub.flashcard.popularity.PopularityEvent;
+import com.pastudyhub.flashcard.popularity.PopularityTracker;
 import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckClosureRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
 import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,11 +31,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Service for flashcard review operations using the SM-2 algorithm.
@@ -35,40 +55,205 @@ import java.util.UUID;
 public class ReviewServiceImpl {
 
     private final CardRepository cardRepository;
+    private final DeckRepository deckRepository;
+    private final DeckClosureRepository deckClosureRepository;
     private final ReviewScheduleRepository reviewScheduleRepository;
     private final CardMapper cardMapper;
     private final WebClient progressServiceClient;
+    private final PopularityTracker popularityTracker;
+    private final DeckVersionService deckVersionService;
+    private final LearningStepScheduler learningStepScheduler;
+    private final DueLoadHistogram dueLoadHistogram;
 
     @Value("${progress.service.url:http://study-progress-service:8083}")
     private String progressServiceUrl;
 
+    @Value("${flashcard.review.new-cards-per-day:20}")
+    private int newCardsPerDay;
+
+    @Value("${flashcard.review.load-balance.enabled:false}")
+    private boolean loadBalanceEnabled;
+
     /**
      * Get cards due for review in a deck (max 20, most overdue first).
+     * For a parent deck, due cards are drawn from the whole subtree in due order.
+     * Learning cards whose step delay has elapsed come first; learning cards still
+     * waiting on their step are held back even though their persisted schedule is due.
      */
     @Transactional(readOnly = true)
     public List<CardResponse> getCardsForReview(UUID deckId, UUID userId) {
-        List<ReviewSchedule> dueSchedules = reviewScheduleRepository.findDueForReview(
-                deckId, userId, LocalDate.now(), PageRequest.of(0, 20));
+        boolean hasSubDecks = deckRepository.findByIdAndNotDeleted(deckId)
+                .map(Deck::getChildCount)
+                .orElse(0) > 0;
+        Set<UUID> learning = learningStepScheduler.learningCards(userId);
+        PageRequest page = PageRequest.of(0, 20 + learning.size());
+        List<ReviewSchedule> dueSchedules = hasSubDecks
+                ? reviewScheduleRepository.findDueForReviewInSubtree(deckId, userId, LocalDate.now(), page)
+                : reviewScheduleRepository.findDueForReview(deckId, userId, LocalDate.now(), page);
+
+        Set<UUID> deckIds = hasSubDecks ? Set.copyOf(deckClosureRepository.findSubtreeIds(deckId)) : Set.of(deckId);
+        List<CardResponse> cards = new ArrayList<>(learningCardsDue(userId, deck -> deckIds.contains(deck.getId())));
 
         // Also find cards that have NEVER been reviewed (no ReviewSchedule yet)
         // Get all card IDs in the deck and find those without a schedule for this user
-        return dueSchedules.stream()
-                .map(schedule -> cardMapper.toResponse(schedule.getCard(), schedule))
+        dueSchedules.stream()
+                .filter(schedule -> !learning.contains(schedule.getCard().getId()))
+                .limit(Math.max(0, 20 - cards.size()))
+                .forEach(schedule -> cards.add(cardMapper.toResponse(schedule.getCard(), schedule)));
+        return cards;
+    }
+
+    /**
+     * Global review queue across all of the user's decks: learning cards whose step has
+     * elapsed, then due cards (most overdue first), then never-reviewed cards up to the
+     * remaining daily new-card budget.
+     *
+     * <p>Runs three queries regardless of deck count — due schedules, today's introduced
+     * count and new cards. Each result is split into per-deck streams (already sorted by
+     * the query) and k-way merged so decks interleave when due dates tie.
+     */
+    @Transactional(readOnly = true)
+    public ReviewQueueResponse getReviewQueue(UUID userId, MedicalCategory category, int limit) {
+        LocalDate today = LocalDate.now();
+        List<CardResponse> learningQueue = learningCardsDue(
+                userId, deck -> category == null || deck.getCategory() == category).stream()
+                .limit(limit)
+                .toList();
+        Set<UUID> learning = learningStepScheduler.learningCards(userId);
+        List<ReviewSchedule> due = reviewScheduleRepository.findDueAcrossDecks(
+                userId, today, category, PageRequest.of(0, limit + learning.size())).stream()
+                .filter(schedule -> !learning.contains(schedule.getCard().getId()))
                 .toList();
+        List<ReviewSchedule> dueQueue = ReviewQueueMerger.merge(
+                byDeck(due, schedule -> schedule.getCard().getDeck().getId()),
+                Comparator.comparing(ReviewSchedule::getNextReviewDate),
+                limit - learningQueue.size());
+
+        int introducedToday = reviewScheduleRepository.countIntroducedSince(userId, today.atStartOfDay());
+        int newBudget = Math.max(0, newCardsPerDay - introducedToday);
+        int newSlots = Math.min(newBudget, limit - learningQueue.size() - dueQueue.size());
+        List<Card> newQueue = List.of();
+        if (newSlots > 0) {
+            List<Card> fresh = cardRepository.findNewCardsForUser(
+                    userId, category, PageRequest.of(0, newSlots + learning.size())).stream()
+                    .filter(card -> !learning.contains(card.getId()))
+                    .toList();
+            newQueue = ReviewQueueMerger.merge(
+                    byDeck(fresh, card -> card.getDeck().getId()),
+                    Comparator.comparing(Card::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+                    newSlots);
+        }
+
+        List<CardResponse> cards = new ArrayList<>(learningQueue.size() + dueQueue.size() + newQueue.size());
+        cards.addAll(learningQueue);
+        dueQueue.forEach(schedule -> cards.add(cardMapper.toResponse(schedule.getCard(), schedule)));
+        newQueue.forEach(card -> cards.add(cardMapper.toResponse(card, null)));
+        return ReviewQueueResponse.builder()
+                .cards(cards)
+                .learningCount(learningQueue.size())
+                .dueCount(dueQueue.size())
+                .newCount(newQueue.size())
+                .newCardsRemainingToday(newBudget - newQueue.size())
+                .build();
+    }
+
+    /**
+     * Learning cards of the user that are due now and whose deck passes {@code include},
+     * in the order their steps elapsed. Cards deleted since they lapsed are skipped.
+     */
+    private List<CardResponse> learningCardsDue(UUID userId, Predicate<Deck> include) {
+        List<UUID> dueIds = learningStepScheduler.dueCards(userId);
+        if (dueIds.isEmpty()) return List.of();
+        Map<UUID, Card> cardsById = new LinkedHashMap<>();
+        cardRepository.findAllById(dueIds).forEach(card -> cardsById.put(card.getId(), card));
+        Map<UUID, ReviewSchedule> schedules = new LinkedHashMap<>();
+        reviewScheduleRepository.findByUserIdAndCardIds(userId, dueIds)
+                .forEach(schedule -> schedules.put(schedule.getCard().getId(), schedule));
+
+        List<CardResponse> due = new ArrayList<>(dueIds.size());
+        for (UUID cardId : dueIds) {
+            Card card = cardsById.get(cardId);
+            if (card == null || card.isDeleted() || card.getDeck().isDeleted()) continue;
+            if (include.test(card.getDeck())) {
+                due.add(cardMapper.toResponse(card, schedules.get(cardId)));
+            }
+        }
+        return due;
+    }
+
+    /** Splits a sorted result into per-deck streams, preserving order within each deck. */
+    private static <T> List<List<T>> byDeck(List<T> items, Function<T, UUID> deckId) {
+        Map<UUID, List<T>> streams = new LinkedHashMap<>();
+        for (T item : items) {
+            streams.computeIfAbsent(deckId.apply(item), id -> new ArrayList<>()).add(item);
+        }
+        return new ArrayList<>(streams.values());
     }
 
     /**
      * Submit a review for a card. Runs the SM-2 algorithm, updates the schedule,
      * and fires an activity log to the study-progress-service.
+     *
+     * <p>A failed card (quality &lt; 3) enters minute-level learning steps instead of
+     * being persisted: its SM-2 result is held by {@link LearningStepScheduler} and only
+     * written to the schedule when the card graduates from its last step.
      */
     @Transactional
     public ReviewResponse submitReview(UUID cardId, UUID userId, ReviewRequest request) {
         Card card = cardRepository.findByIdAndNotDeleted(cardId)
                 .orElseThrow(() -> new CardNotFoundException(cardId));
+        int quality = request.getQuality();
+
+        ReviewResponse response;
+        if (learningStepScheduler.isLearning(userId, cardId)) {
+            LearningStepScheduler.StepOutcome outcome = learningStepScheduler.answer(userId, cardId, quality);
+            response = outcome.isGraduated()
+                    ? persistReview(card, userId, quality, outcome.graduation())
+                    : learningResponse(outcome.step(), outcome.dueAt());
+        } else {
+            // Find or create the review schedule for this user+card combination
+            ReviewSchedule schedule = reviewScheduleRepository
+                    .findByCardIdAndUserId(cardId, userId)
+                    .orElse(null);
+
+            // Run the SM-2 algorithm
+            SpacedRepetitionEngine engine = schedule != null
+                    ? new SpacedRepetitionEngine(schedule)
+                    : new SpacedRepetitionEngine();
+            ReviewResult result = engine.calculateNextReview(quality);
+
+            if (quality < 3 && learningStepScheduler.isEnabled()) {
+                Instant dueAt = learningStepScheduler.startLearning(userId, cardId, result);
+                response = learningResponse(0, dueAt);
+            } else {
+                response = persistReview(card, userId, quality, result);
+            }
+        }
+
+        // In-memory only — popularity counters are flushed to the DB by a background job
+        if (card.getDeck().isPublic()) {
+            popularityTracker.record(card.getDeck().getId(), card.getDeck().getCategory(), PopularityEvent.REVIEW);
+        }
 
-        // Find or create the review schedule for this user+card combination
+        // Fire-and-forget: log the activity to study-progress-service
+        // We don't block on this — review should succeed even if progress service is down
+        logActivityAsync(userId, card.getDeck().getCategory().name(), quality);
+
+        log.debug("Review submitted: cardId={}, userId={}, quality={}, learning={}, nextReview={}",
+                cardId, userId, quality, response.isLearning(), response.getNextReviewDate());
+        return response;
+    }
+
+    /**
+     * Writes an SM-2 result to the user's schedule for the card (creating it on first review).
+     * With load balancing on, the due date first moves to the quietest day of its fuzz window.
+     */
+    private ReviewResponse persistReview(Card card, UUID userId, int quality, ReviewResult smResult) {
+        ReviewResult result = loadBalanceEnabled
+                ? DueDateLoadBalancer.balance(smResult, LocalDate.now(), date -> dueLoadHistogram.dueOn(userId, date))
+                : smResult;
         ReviewSchedule schedule = reviewScheduleRepository
-                .findByCardIdAndUserId(cardId, userId)
+                .findByCardIdAndUserId(card.getId(), userId)
                 .orElseGet(() -> ReviewSchedule.builder()
                         .card(card)
                         .userId(userId)
@@ -77,9 +262,7 @@ public class ReviewServiceImpl {
                         .repetitions(0)
                         .build());
 
-        // Run the SM-2 algorithm
-        SpacedRepetitionEngine engine = new SpacedRepetitionEngine(schedule);
-        ReviewResult result = engine.calculateNextReview(request.getQuality());
+        LocalDate previousDueDate = schedule.getNextReviewDate();
 
         // Update the schedule with the new values
         schedule.setInterval(result.newInterval());
@@ -87,26 +270,33 @@ public class ReviewServiceImpl {
         schedule.setRepetitions(result.newRepetitions());
         schedule.setNextReviewDate(result.nextReviewDate());
         schedule.setLastReviewedAt(LocalDateTime.now());
-        schedule.setLastQuality(request.getQuality());
+        schedule.setLastQuality(quality);
 
         reviewScheduleRepository.save(schedule);
-
-        // Fire-and-forget: log the activity to study-progress-service
-        // We don't block on this — review should succeed even if progress service is down
-        logActivityAsync(userId, card.getDeck().getCategory().name(), request.getQuality());
-
-        log.debug("Review submitted: cardId={}, userId={}, quality={}, nextReview={}",
-                cardId, userId, request.getQuality(), result.nextReviewDate());
-
-        // Build human-readable message
-        String message = buildReviewMessage(result);
+        deckVersionService.reviewsChanged(userId);
+        if (loadBalanceEnabled) {
+            dueLoadHistogram.moved(userId, previousDueDate, result.nextReviewDate());
+        }
 
         return ReviewResponse.builder()
                 .nextReviewDate(result.nextReviewDate())
                 .interval(result.newInterval())
                 .easeFactor(result.newEaseFactor())
                 .repetitions(result.newRepetitions())
-                .message(message)
+                .message(buildReviewMessage(result))
+                .build();
+    }
+
+    /** Response for a card still in learning — nothing was persisted. */
+    private ReviewResponse learningResponse(int step, Instant dueAt) {
+        long minutes = Math.max(1, (Duration.between(Instant.now(), dueAt).getSeconds() + 59) / 60);
+        return ReviewResponse.builder()
+                .nextReviewDate(LocalDate.now())
+                .interval(0)
+                .learning(true)
+                .learningStep(step)
+                .learningDueAt(dueAt)
+                .message(minutes == 1 ? "Review again in 1 minute" : "Review again in " + minutes + " minutes")
                 .build();
     }
 
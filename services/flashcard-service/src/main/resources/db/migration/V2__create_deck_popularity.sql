@@ -0,0 +1,16 @@
+-- ============================================================
+-- Public deck popularity counters
+-- Written only by the periodic flush of the in-memory tracker.
+-- ============================================================
+
+CREATE TABLE deck_popularity (
+    deck_id        UUID             NOT NULL PRIMARY KEY REFERENCES decks(id) ON DELETE CASCADE,
+    category       VARCHAR(50)      NOT NULL,
+    view_count     BIGINT           NOT NULL DEFAULT 0,
+    review_count   BIGINT           NOT NULL DEFAULT 0,
+    clone_count    BIGINT           NOT NULL DEFAULT 0,
+    trending_score DOUBLE PRECISION NOT NULL DEFAULT 0,
+    score_at       TIMESTAMP        NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_deck_popularity_category ON deck_popularity (category);
@@ -0,0 +1,15 @@
+-- ============================================================
+-- Soft-delete timestamps for the compaction job
+-- Rows soft-deleted longer than the retention period are hard-deleted
+-- in keyset batches; these partial indexes cover only the deleted rows.
+-- ============================================================
+
+ALTER TABLE decks ADD COLUMN deleted_at TIMESTAMP;
+ALTER TABLE cards ADD COLUMN deleted_at TIMESTAMP;
+
+-- Existing soft-deleted rows start their retention from the last update
+UPDATE decks SET deleted_at = updated_at WHERE is_deleted = TRUE;
+UPDATE cards SET deleted_at = updated_at WHERE is_deleted = TRUE;
+
+CREATE INDEX idx_decks_soft_deleted ON decks (id, deleted_at) WHERE is_deleted = TRUE;
+CREATE INDEX idx_cards_soft_deleted ON cards (id, deleted_at) WHERE is_deleted = TRUE;
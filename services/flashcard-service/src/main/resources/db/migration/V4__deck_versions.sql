@@ -0,0 +1,10 @@
+-- ============================================================
+-- Version counters for deck/card/stats ETags
+-- ============================================================
+
+ALTER TABLE decks ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE user_review_versions (
+    user_id UUID   NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
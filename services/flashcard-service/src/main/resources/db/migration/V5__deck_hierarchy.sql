@@ -0,0 +1,24 @@
+-- ============================================================
+-- Nested decks: parent pointer + closure table
+-- ============================================================
+
+ALTER TABLE decks ADD COLUMN parent_id   UUID;
+ALTER TABLE decks ADD COLUMN child_count INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_decks_parent_id ON decks (parent_id) WHERE parent_id IS NOT NULL;
+
+-- One row per ancestor → descendant path, including a depth-0 self row per deck.
+-- PK (ancestor_id, descendant_id) serves subtree scans; the descendant index serves
+-- ancestor lookups (version bumps, moves).
+CREATE TABLE deck_closure (
+    ancestor_id   UUID NOT NULL REFERENCES decks(id) ON DELETE CASCADE,
+    descendant_id UUID NOT NULL REFERENCES decks(id) ON DELETE CASCADE,
+    depth         INT  NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX idx_deck_closure_descendant ON deck_closure (descendant_id);
+
+-- Existing decks are all top-level
+INSERT INTO deck_closure (ancestor_id, descendant_id, depth)
+SELECT id, id, 0 FROM decks;
@@ -0,0 +1,28 @@
+-- ============================================================
+-- Notes: content stored once, rendered into one or more cards
+-- ============================================================
+
+CREATE TABLE notes (
+    id          UUID          NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    deck_id     UUID          NOT NULL REFERENCES decks(id),
+    type        VARCHAR(30)   NOT NULL,
+    front       VARCHAR(2000) NOT NULL,
+    back        VARCHAR(5000),
+    hint        VARCHAR(500),
+    image_url   VARCHAR(500),
+    is_deleted  BOOLEAN       NOT NULL DEFAULT FALSE,
+    deleted_at  TIMESTAMP,
+    created_at  TIMESTAMP     NOT NULL DEFAULT NOW(),
+    updated_at  TIMESTAMP     NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_notes_deck_id ON notes (deck_id);
+CREATE INDEX idx_notes_soft_deleted ON notes (id, deleted_at) WHERE is_deleted = TRUE;
+
+-- Note-backed cards keep only the template ordinal; their faces are rendered from the note.
+ALTER TABLE cards ADD COLUMN note_id UUID REFERENCES notes(id);
+ALTER TABLE cards ADD COLUMN ordinal INT NOT NULL DEFAULT 0;
+ALTER TABLE cards ALTER COLUMN front DROP NOT NULL;
+ALTER TABLE cards ALTER COLUMN back  DROP NOT NULL;
+
+CREATE INDEX idx_cards_note_id ON cards (note_id) WHERE note_id IS NOT NULL;
@@ -0,0 +1,115 @@
+package com.pastudyhub.flashcard.compaction;
+
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckClosureRepository;
+import com.pastudyhub.flashcard.repository.DeckPopularityRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
+import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SoftDeleteCompactor unit tests")
+class SoftDeleteCompactorTest {
+
+    private DeckRepository deckRepository;
+    private CardRepository cardRepository;
+    private ReviewScheduleRepository reviewScheduleRepository;
+    private DeckPopularityRepository deckPopularityRepository;
+    private DeckClosureRepository deckClosureRepository;
+    private NoteRepository noteRepository;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private SoftDeleteCompactor compactor;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T03:30:00Z"), ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        deckRepository = mock(DeckRepository.class);
+        cardRepository = mock(CardRepository.class);
+        reviewScheduleRepository = mock(ReviewScheduleRepository.class);
+        deckPopularityRepository = mock(DeckPopularityRepository.class);
+        deckClosureRepository = mock(DeckClosureRepository.class);
+        noteRepository = mock(NoteRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        compactor = new SoftDeleteCompactor(deckRepository, cardRepository, reviewScheduleRepository,
+                deckPopularityRepository, deckClosureRepository, noteRepository, new TransactionTemplate(transactionManager),
+                meterRegistry, clock, Duration.ofDays(30), 2, 0);
+    }
+
+    @Test
+    @DisplayName("compact: pages cards by keyset and deletes schedules before cards, one transaction per batch")
+    void compact_keysetBatchesCards() {
+        UUID c1 = id(1), c2 = id(2), c3 = id(3);
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(30);
+        when(cardRepository.findCompactableIds(eq(cutoff), eq(new UUID(0, 0)), any(Pageable.class)))
+                .thenReturn(List.of(c1, c2));
+        when(cardRepository.findCompactableIds(eq(cutoff), eq(c2), any(Pageable.class))).thenReturn(List.of(c3));
+        when(cardRepository.findCompactableIds(eq(cutoff), eq(c3), any(Pageable.class))).thenReturn(List.of());
+        when(deckRepository.findCompactableIds(any(), any(), any())).thenReturn(List.of());
+        when(reviewScheduleRepository.deleteByCardIds(anyCollection())).thenReturn(4);
+        when(cardRepository.deleteByIds(anyCollection())).thenAnswer(inv -> inv.<List<UUID>>getArgument(0).size());
+
+        compactor.compact();
+
+        InOrder inOrder = inOrder(reviewScheduleRepository, cardRepository);
+        inOrder.verify(reviewScheduleRepository).deleteByCardIds(List.of(c1, c2));
+        inOrder.verify(cardRepository).deleteByIds(List.of(c1, c2));
+        inOrder.verify(reviewScheduleRepository).deleteByCardIds(List.of(c3));
+        inOrder.verify(cardRepository).deleteByIds(List.of(c3));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(rowsDeleted("cards")).isEqualTo(3);
+        assertThat(rowsDeleted("review_schedules")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("compact: drains a deleted deck's cards before deleting the deck, its notes, popularity and closure rows")
+    void compact_cascadesDeckToCards() {
+        UUID deckId = id(10), card = id(11);
+        when(cardRepository.findCompactableIds(any(), any(), any())).thenReturn(List.of());
+        when(deckRepository.findCompactableIds(any(), eq(new UUID(0, 0)), any())).thenReturn(List.of(deckId));
+        when(deckRepository.findCompactableIds(any(), eq(deckId), any())).thenReturn(List.of());
+        when(cardRepository.findAllIdsByDeckId(eq(deckId), any())).thenReturn(List.of(card), List.of());
+        when(deckRepository.deleteByIds(anyCollection())).thenReturn(1);
+
+        compactor.compact();
+
+        InOrder inOrder = inOrder(cardRepository, deckPopularityRepository, noteRepository, deckRepository);
+        inOrder.verify(cardRepository).deleteByIds(List.of(card));
+        inOrder.verify(deckPopularityRepository).deleteAllByIdInBatch(List.of(deckId));
+        verify(deckClosureRepository).deleteByDeckIds(List.of(deckId));
+        inOrder.verify(noteRepository).deleteByDeckIds(List.of(deckId));
+        inOrder.verify(deckRepository).deleteByIds(List.of(deckId));
+        assertThat(rowsDeleted("decks")).isEqualTo(1);
+        assertThat(meterRegistry.get("flashcard.compaction.last.completed").gauge().value())
+                .isEqualTo(clock.instant().getEpochSecond());
+    }
+
+    private double rowsDeleted(String table) {
+        return meterRegistry.get("flashcard.compaction.rows.deleted").tag("table", table).counter().count();
+    }
+
+    private static UUID id(long n) {
+        return new UUID(0, n);
+    }
+}
@@ -0,0 +1,52 @@
+package com.pastudyhub.flashcard.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CardTemplate unit tests")
+class CardTemplateTest {
+
+    @Test
+    @DisplayName("render: substitutes fields around literal text")
+    void render_substitutesFields() {
+        CardTemplate template = CardTemplate.compile("Q: {{Front}} ({{Missing}})");
+
+        assertThat(template.render(Map.of("Front", "First-line drug for HTN?"), 0, false))
+                .isEqualTo("Q: First-line drug for HTN? ()");
+    }
+
+    @Test
+    @DisplayName("render: hides only the card's own cloze deletion on the question side")
+    void render_clozeQuestionAndAnswer() {
+        CardTemplate template = CardTemplate.compile("{{cloze:Front}}\n\n{{Back}}");
+        Map<String, String> fields = Map.of(
+                "Front", "{{c1::Furosemide}} acts on the {{c2::loop of Henle::segment}}",
+                "Back", "");
+
+        assertThat(template.render(fields, 1, false)).isEqualTo("[...] acts on the loop of Henle");
+        assertThat(template.render(fields, 2, false)).isEqualTo("Furosemide acts on the [segment]");
+        assertThat(template.render(fields, 2, true)).isEqualTo("Furosemide acts on the loop of Henle");
+    }
+
+    @Test
+    @DisplayName("clozeNumbers: one entry per distinct deletion number, ascending")
+    void clozeNumbers_distinctAndSorted() {
+        assertThat(CardTemplate.clozeNumbers("{{c3::a}} {{c1::b}} {{c3::c}}")).containsExactly(1, 3);
+        assertThat(CardTemplate.clozeNumbers("no deletions")).isEmpty();
+        assertThat(CardTemplate.clozeNumbers(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("clozeNumbers: an overlong cloze number is plain text, not a deletion")
+    void clozeNumbers_overlongNumberIsText() {
+        String text = "{{c99999999999::x}} and {{c2::y}}";
+
+        assertThat(CardTemplate.clozeNumbers(text)).containsExactly(2);
+        assertThat(CardTemplate.compile("{{cloze:Front}}").render(Map.of("Front", text), 2, false))
+                .isEqualTo("{{c99999999999::x}} and [...]");
+    }
+}
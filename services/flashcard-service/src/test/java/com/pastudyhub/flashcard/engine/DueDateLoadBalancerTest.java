@@ -0,0 +1,157 @@
+package com.pastudyhub.flashcard.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DueDateLoadBalancer unit tests")
+class DueDateLoadBalancerTest {
+
+    @Test
+    @DisplayName("fuzz: short intervals are exact, longer ones get a proportional window")
+    void fuzz_growsWithInterval() {
+        assertThat(DueDateLoadBalancer.fuzz(1)).isZero();
+        assertThat(DueDateLoadBalancer.fuzz(2)).isZero();
+        assertThat(DueDateLoadBalancer.fuzz(6)).isEqualTo(1);
+        assertThat(DueDateLoadBalancer.fuzz(20)).isEqualTo(3);
+        assertThat(DueDateLoadBalancer.fuzz(200)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("balance: picks the least-loaded day, the closest then the earlier one on ties")
+    void balance_picksQuietestDay() {
+        Map<Integer, Integer> load = Map.of(14, 30, 15, 30, 16, 30, 17, 12, 18, 12);
+
+        assertThat(DueDateLoadBalancer.balance(16, day -> load.getOrDefault(day, 40))).isEqualTo(17);
+        assertThat(DueDateLoadBalancer.balance(16, day -> day == 14 || day == 18 ? 5 : 20)).isEqualTo(14);
+        assertThat(DueDateLoadBalancer.balance(16, day -> 0)).isEqualTo(16);
+        assertThat(DueDateLoadBalancer.balance(1, day -> day == 1 ? 100 : 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("balance: a uniform or evenly sloping load keeps the original interval")
+    void balance_uniformLoad_keepsInterval() {
+        for (int interval : new int[]{5, 12, 20, 29, 45, 200}) {
+            assertThat(DueDateLoadBalancer.balance(interval, day -> 10)).isEqualTo(interval);
+            // Later days are emptier only because less has been scheduled that far yet
+            assertThat(DueDateLoadBalancer.balance(interval, day -> 1_000 - 3 * day)).isEqualTo(interval);
+        }
+    }
+
+    @Test
+    @DisplayName("balance: moves the review date with the interval and keeps ease and repetitions")
+    void balance_reviewResult() {
+        LocalDate today = LocalDate.of(2026, 3, 1);
+        ReviewResult result = ReviewResult.of(6, 2.6, 2, today.plusDays(6));
+
+        ReviewResult balanced = DueDateLoadBalancer.balance(result, today,
+                date -> date.equals(today.plusDays(6)) ? 50 : 10);
+
+        assertThat(balanced.newInterval()).isEqualTo(5);
+        assertThat(balanced.nextReviewDate()).isEqualTo(today.plusDays(5));
+        assertThat(balanced.newEaseFactor()).isEqualTo(2.6);
+        assertThat(balanced.newRepetitions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("simulation: balancing lowers peak-day load and day-to-day variance")
+    void simulation_flattensDailyLoad() {
+        DailyLoad plain = simulate(false);
+        DailyLoad balanced = simulate(true);
+
+        assertThat(balanced.spikeVariance()).isLessThan(plain.spikeVariance() * 0.5);
+        assertThat(balanced.variance()).isLessThan(plain.variance() * 0.7);
+        assertThat(balanced.peak()).isLessThan(plain.peak());
+        // Balancing shifts dates, it must not change how much work there is overall
+        assertThat(balanced.total()).isCloseTo(plain.total(), withinPercentage(5));
+        // Nor shorten intervals: SM-2 grows the next one from the stored one, so a bias
+        // compounds. Moving dates at random within the window alone costs up to ~3%.
+        assertThat(balanced.meanInterval()).isGreaterThanOrEqualTo(plain.meanInterval() * 0.97);
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static final int SIM_DAYS = 730;
+    private static final int WARM_UP_DAYS = 365;
+    private static final int NEW_CARDS_PER_DAY = 20;
+
+    /**
+     * One user learns 20 new cards every day for two years and reviews every due card
+     * each day with a fixed answer mix. Returns the daily review counts and the intervals
+     * scheduled in the second year, once the intervals have had time to compound.
+     */
+    private static DailyLoad simulate(boolean balance) {
+        Random random = new Random(42);
+        int[] dueCount = new int[SIM_DAYS + 400];
+        List<List<int[]>> dueCards = new ArrayList<>();
+        for (int i = 0; i < dueCount.length; i++) dueCards.add(new ArrayList<>());
+
+        List<Integer> reviewsPerDay = new ArrayList<>();
+        List<Integer> intervals = new ArrayList<>();
+        for (int day = 0; day < SIM_DAYS; day++) {
+            for (int n = 0; n < NEW_CARDS_PER_DAY; n++) {
+                dueCards.get(day).add(new int[]{0, 0, 250}); // interval, repetitions, ease × 100
+                dueCount[day]++;
+            }
+            List<int[]> today = dueCards.get(day);
+            if (day >= WARM_UP_DAYS) reviewsPerDay.add(today.size());
+            for (int[] card : today) {
+                int roll = random.nextInt(100);
+                int quality = roll < 8 ? 2 : roll < 80 ? 4 : 5;
+                ReviewResult result = new SpacedRepetitionEngine(card[0], card[1], card[2] / 100.0)
+                        .calculateNextReview(quality);
+                final int from = day;
+                int interval = balance
+                        ? DueDateLoadBalancer.balance(result.newInterval(), d -> dueCount[Math.min(from + d, dueCount.length - 1)])
+                        : result.newInterval();
+                if (day >= WARM_UP_DAYS) intervals.add(interval);
+                int next = Math.min(day + interval, dueCount.length - 1);
+                dueCards.get(next).add(new int[]{interval, result.newRepetitions(),
+                        (int) Math.round(result.newEaseFactor() * 100)});
+                dueCount[next]++;
+            }
+            dueCount[day] = 0;
+        }
+        return new DailyLoad(reviewsPerDay, intervals);
+    }
+
+    private record DailyLoad(List<Integer> perDay, List<Integer> intervals) {
+        double meanInterval() {
+            return intervals.stream().mapToInt(Integer::intValue).average().orElse(0);
+        }
+
+        int peak() {
+            return perDay.stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        long total() {
+            return perDay.stream().mapToLong(Integer::longValue).sum();
+        }
+
+        double variance() {
+            double mean = perDay.stream().mapToInt(Integer::intValue).average().orElse(0);
+            return perDay.stream().mapToDouble(n -> (n - mean) * (n - mean)).average().orElse(0);
+        }
+
+        /** Variance around a centred 7-day moving average — day-to-day spikes, ignoring the slow trend. */
+        double spikeVariance() {
+            double sum = 0;
+            int days = 0;
+            for (int i = 3; i < perDay.size() - 3; i++) {
+                double week = 0;
+                for (int j = i - 3; j <= i + 3; j++) week += perDay.get(j);
+                double residual = perDay.get(i) - week / 7;
+                sum += residual * residual;
+                days++;
+            }
+            return days == 0 ? 0 : sum / days;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.pastudyhub.flashcard.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HierarchicalTimerWheel unit tests")
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    @DisplayName("advance: fires each timer on its due tick, not before")
+    void advance_firesOnDueTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("a", 5 * TICK);
+        wheel.schedule("b", 3 * TICK);
+
+        assertThat(wheel.advance(2 * TICK)).isEmpty();
+        assertThat(wheel.advance(3 * TICK)).containsExactly("b");
+        assertThat(wheel.advance(4 * TICK)).isEmpty();
+        assertThat(wheel.advance(5 * TICK)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance: timers in higher wheels cascade down and fire at the right tick")
+    void advance_cascadesAcrossLevels() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, 17 * TICK);
+        long[] delays = {1, 63, 64, 65, 600, 4_095, 4_096, 4_097, 86_400, 300_000};
+        for (long delay : delays) {
+            wheel.schedule(delay, (17 + delay) * TICK);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long t = 18; t <= 17 + 300_000; t++) {
+            for (long delay : wheel.advance(t * TICK)) {
+                assertThat(17 + delay).as("fire tick of %d", delay).isEqualTo(t);
+                fired.add(delay);
+            }
+        }
+        assertThat(fired).containsExactly(1L, 63L, 64L, 65L, 600L, 4_095L, 4_096L, 4_097L, 86_400L, 300_000L);
+    }
+
+    @Test
+    @DisplayName("advance: a large jump fires everything overdue, and past-due timers fire on the next call")
+    void advance_lazyJump() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, 0);
+        wheel.schedule("soon", 10 * TICK);
+        wheel.schedule("later", 3_600 * TICK);
+        wheel.schedule("overdue", 0);
+
+        assertThat(wheel.advance(0)).containsExactly("overdue");
+        assertThat(wheel.advance(7_200 * TICK)).containsExactly("soon", "later");
+        assertThat(wheel.size()).isZero();
+    }
+}
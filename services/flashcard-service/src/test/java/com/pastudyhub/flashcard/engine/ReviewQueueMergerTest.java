@@ -0,0 +1,44 @@
+package com.pastudyhub.flashcard.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReviewQueueMerger unit tests")
+class ReviewQueueMergerTest {
+
+    @Test
+    @DisplayName("merge: produces a globally sorted queue from sorted per-deck streams")
+    void merge_sortsAcrossStreams() {
+        List<Integer> merged = ReviewQueueMerger.merge(
+                List.of(List.of(1, 4, 9), List.of(2, 3, 10), List.of(5)),
+                Comparator.naturalOrder(), 10);
+
+        assertThat(merged).containsExactly(1, 2, 3, 4, 5, 9, 10);
+    }
+
+    @Test
+    @DisplayName("merge: rotates through decks when keys tie")
+    void merge_interleavesTies() {
+        List<String> merged = ReviewQueueMerger.merge(
+                List.of(List.of("a1", "a2", "a3"), List.of("b1", "b2")),
+                Comparator.comparing(s -> 0), 10);
+
+        assertThat(merged).containsExactly("a1", "b1", "a2", "b2", "a3");
+    }
+
+    @Test
+    @DisplayName("merge: stops at the limit and tolerates empty streams")
+    void merge_respectsLimit() {
+        List<Integer> merged = ReviewQueueMerger.merge(
+                List.of(List.of(), List.of(3, 4), List.of(1, 2)),
+                Comparator.naturalOrder(), 3);
+
+        assertThat(merged).containsExactly(1, 2, 3);
+        assertThat(ReviewQueueMerger.merge(List.<List<Integer>>of(), Comparator.naturalOrder(), 5)).isEmpty();
+    }
+}
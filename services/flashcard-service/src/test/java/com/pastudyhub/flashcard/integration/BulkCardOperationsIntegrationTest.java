@@ -0,0 +1,127 @@
+package com.pastudyhub.flashcard.integration;
+
+import com.pastudyhub.flashcard.dto.BulkCardOperation;
+import com.pastudyhub.flashcard.dto.BulkCardRequest;
+import com.pastudyhub.flashcard.dto.BulkCardResponse;
+import com.pastudyhub.flashcard.model.Card;
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.service.CardServiceImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk card operations against the H2 test database, at the size the endpoint is
+ * meant for: 5,000 cards per request in under a second. Each operation is timed a few
+ * times after a warm-up and the best run is checked, so a GC pause or a busy build
+ * machine does not fail the test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Bulk card operations integration tests")
+class BulkCardOperationsIntegrationTest {
+
+    private static final int CARDS = 5_000;
+    private static final Duration BUDGET = Duration.ofSeconds(1);
+    /** Timed repetitions per test; the best one is checked against the budget. */
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private CardServiceImpl cardService;
+    @Autowired
+    private DeckRepository deckRepository;
+    @Autowired
+    private CardRepository cardRepository;
+
+    private final UUID userId = UUID.randomUUID();
+    private Deck source;
+    private Deck target;
+    private List<UUID> cardIds;
+
+    @BeforeAll
+    void seed() {
+        source = deckRepository.save(deck("Bulk source"));
+        target = deckRepository.save(deck("Bulk target"));
+        cardIds = cardRepository.saveAll(IntStream.range(0, CARDS)
+                        .mapToObj(i -> Card.builder().deck(source).front("Q" + i).back("A" + i).build())
+                        .toList())
+                .stream().map(Card::getId).toList();
+        // Warm the query plans and JIT so the timed calls below measure steady state
+        run(BulkCardOperation.ADD_TAGS, List.of("warm-up"));
+        run(BulkCardOperation.REMOVE_TAGS, List.of("warm-up"));
+    }
+
+    @Test
+    @DisplayName("ADD_TAGS / REMOVE_TAGS: 5,000 cards retagged in under a second")
+    void retag_fiveThousandCards() {
+        Duration best = Duration.ofDays(1);
+        for (int round = 0; round < ROUNDS; round++) {
+            long started = System.nanoTime();
+            BulkCardResponse added = run(BulkCardOperation.ADD_TAGS, List.of("renal"));
+            best = min(best, Duration.ofNanos(System.nanoTime() - started));
+            assertThat(added.getUpdated()).isEqualTo(CARDS);
+            assertThat(cardRepository.findRefsByDeck(source.getId(), "%,renal,%", PageRequest.of(0, CARDS + 1)))
+                    .hasSize(CARDS);
+
+            assertThat(run(BulkCardOperation.REMOVE_TAGS, List.of("renal")).getUpdated()).isEqualTo(CARDS);
+        }
+        assertThat(best).isLessThan(BUDGET);
+    }
+
+    @Test
+    @DisplayName("MOVE: 5,000 cards moved to another deck in under a second")
+    void move_fiveThousandCards() {
+        BulkCardRequest request = request(BulkCardOperation.MOVE, null);
+        Duration best = Duration.ofDays(1);
+        for (int round = 0; round < 2 * ROUNDS; round++) {
+            // Back and forth, so the cards end where they started
+            Deck to = round % 2 == 0 ? target : source;
+            request.setTargetDeckId(to.getId());
+            long started = System.nanoTime();
+            BulkCardResponse moved = cardService.bulkUpdate(request, userId);
+            best = min(best, Duration.ofNanos(System.nanoTime() - started));
+
+            assertThat(moved.getUpdated()).isEqualTo(CARDS);
+            assertThat(cardRepository.findRefsByDeck(to.getId(), null, PageRequest.of(0, CARDS + 1))).hasSize(CARDS);
+        }
+        assertThat(best).isLessThan(BUDGET);
+    }
+
+    // -------------------------------------------------------------------------
+
+    private BulkCardResponse run(BulkCardOperation operation, List<String> tags) {
+        return cardService.bulkUpdate(request(operation, tags), userId);
+    }
+
+    private BulkCardRequest request(BulkCardOperation operation, List<String> tags) {
+        BulkCardRequest request = new BulkCardRequest();
+        request.setOperation(operation);
+        request.setCardIds(cardIds);
+        request.setTags(tags);
+        return request;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private Deck deck(String title) {
+        return Deck.builder().userId(userId).title(title).category(MedicalCategory.NEPHROLOGY).build();
+    }
+}
@@ -2,7 +2,11 @@ package com.pastudyhub.flashcard.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pastudyhub.flashcard.dto.CreateDeckRequest;
+import com.pastudyhub.flashcard.model.DeckPopularity;
 import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.popularity.PopularityEvent;
+import com.pastudyhub.flashcard.popularity.PopularityTracker;
+import com.pastudyhub.flashcard.repository.DeckPopularityRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.UUID;
 
@@ -39,6 +44,15 @@ class DeckControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PopularityTracker popularityTracker;
+
+    @Autowired
+    private DeckPopularityRepository deckPopularityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private static final UUID USER_A = UUID.fromString("11111111-1111-1111-1111-111111111111");
     private static final UUID USER_B = UUID.fromString("22222222-2222-2222-2222-222222222222");
     private static String createdDeckId;
@@ -202,4 +216,55 @@ class DeckControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray());
     }
+
+    // ---- Popularity ---------------------------------------------------------
+
+    @Test
+    @Order(12)
+    @DisplayName("Popularity: flushes add to persisted counters; ranked pages skip deleted decks")
+    void popularity_flushesAreAdditiveAndPagesMatchTotal() throws Exception {
+        UUID kept = createPublicDeck("Dermatology Rashes");
+        UUID deleted = createPublicDeck("Dermatology Lesions");
+
+        popularityTracker.record(kept, MedicalCategory.DERMATOLOGY, PopularityEvent.CLONE);
+        popularityTracker.record(deleted, MedicalCategory.DERMATOLOGY, PopularityEvent.VIEW);
+        popularityTracker.flush();
+        // Another instance, which never saw the first clone, adds to the row rather than replacing it
+        PopularityTracker otherInstance = new PopularityTracker(deckPopularityRepository, transactionManager, 24, 10);
+        otherInstance.record(kept, MedicalCategory.DERMATOLOGY, PopularityEvent.CLONE);
+        otherInstance.record(kept, MedicalCategory.DERMATOLOGY, PopularityEvent.VIEW);
+        otherInstance.flush();
+
+        DeckPopularity row = deckPopularityRepository.findById(kept).orElseThrow();
+        assertThat(row.getCloneCount()).isEqualTo(2);
+        assertThat(row.getViewCount()).isEqualTo(1);
+        assertThat(row.getTrendingScore()).isGreaterThan(0);
+
+        // Deleted after the last flush: still in the ranking, but not in the page or its total
+        mockMvc.perform(delete("/api/v1/decks/{deckId}", deleted)
+                        .header("X-User-Id", USER_A.toString()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/decks/public")
+                        .param("category", "DERMATOLOGY")
+                        .param("sort", "popular")
+                        .param("page", "0")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(kept.toString()))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    private UUID createPublicDeck(String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/decks")
+                        .header("X-User-Id", USER_A.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title":"%s","category":"DERMATOLOGY","public":true}
+                                """.formatted(title)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return UUID.fromString(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText());
+    }
 }
@@ -0,0 +1,132 @@
+package com.pastudyhub.flashcard.learning;
+
+import com.pastudyhub.flashcard.engine.ReviewResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LearningStepScheduler unit tests")
+class LearningStepSchedulerTest {
+
+    private MutableClock clock;
+    private LearningStepScheduler scheduler;
+
+    private final UUID user = UUID.randomUUID();
+    private final UUID card = UUID.randomUUID();
+    private final ReviewResult lapse = ReviewResult.of(1, 1.96, 0, LocalDate.of(2026, 1, 2));
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T09:00:00Z"));
+        scheduler = new LearningStepScheduler(clock,
+                List.of(Duration.ofMinutes(1), Duration.ofMinutes(10)), Duration.ofHours(2));
+    }
+
+    @Test
+    @DisplayName("startLearning: card is due only after the first step delay")
+    void startLearning_dueAfterFirstStep() {
+        Instant dueAt = scheduler.startLearning(user, card, lapse);
+
+        assertThat(dueAt).isEqualTo(clock.instant().plus(Duration.ofMinutes(1)));
+        assertThat(scheduler.isLearning(user, card)).isTrue();
+        assertThat(scheduler.dueCards(user)).isEmpty();
+
+        clock.advance(Duration.ofSeconds(60));
+        assertThat(scheduler.dueCards(user)).containsExactly(card);
+    }
+
+    @Test
+    @DisplayName("answer: passing every step graduates with the held-back SM-2 result")
+    void answer_graduatesAfterLastStep() {
+        scheduler.startLearning(user, card, lapse);
+        clock.advance(Duration.ofMinutes(1));
+
+        LearningStepScheduler.StepOutcome first = scheduler.answer(user, card, 4);
+        assertThat(first.isGraduated()).isFalse();
+        assertThat(first.step()).isEqualTo(1);
+        assertThat(scheduler.dueCards(user)).isEmpty();
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(scheduler.dueCards(user)).containsExactly(card);
+        LearningStepScheduler.StepOutcome second = scheduler.answer(user, card, 4);
+
+        assertThat(second.isGraduated()).isTrue();
+        assertThat(second.graduation().newEaseFactor()).isEqualTo(1.96);
+        assertThat(second.graduation().nextReviewDate()).isEqualTo(LocalDate.of(2026, 1, 2));
+        assertThat(scheduler.isLearning(user, card)).isFalse();
+        assertThat(scheduler.dueCards(user)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("answer: failing restarts at step 0 and the earlier timer is ignored")
+    void answer_failureRestartsSteps() {
+        scheduler.startLearning(user, card, lapse);
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.answer(user, card, 4);
+
+        // Answered early, before the 10-minute step elapsed
+        clock.advance(Duration.ofMinutes(2));
+        LearningStepScheduler.StepOutcome outcome = scheduler.answer(user, card, 1);
+        assertThat(outcome.step()).isZero();
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(scheduler.dueCards(user)).containsExactly(card);
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(scheduler.dueCards(user)).containsExactly(card);
+    }
+
+    @Test
+    @DisplayName("answer: Easy graduates immediately")
+    void answer_easyGraduates() {
+        scheduler.startLearning(user, card, lapse);
+
+        assertThat(scheduler.answer(user, card, 5).isGraduated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("evictIdleSessions: idle sessions are dropped")
+    void evictIdleSessions_dropsIdle() {
+        scheduler.startLearning(user, card, lapse);
+        clock.advance(Duration.ofHours(3));
+
+        scheduler.evictIdleSessions();
+
+        assertThat(scheduler.isLearning(user, card)).isFalse();
+        assertThat(scheduler.learningCards(user)).isEmpty();
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.pastudyhub.flashcard.popularity;
+
+import com.pastudyhub.flashcard.dto.PublicDeckSort;
+import com.pastudyhub.flashcard.model.DeckPopularity;
+import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.repository.DeckPopularityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PopularityTracker unit tests")
+class PopularityTrackerTest {
+
+    private DeckPopularityRepository repository;
+    private MutableClock clock;
+    private PopularityTracker tracker;
+
+    private final UUID deckA = UUID.randomUUID();
+    private final UUID deckB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DeckPopularityRepository.class);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        tracker = new PopularityTracker(repository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                clock, 24, 10);
+    }
+
+    @Test
+    @DisplayName("record: nothing is ranked or persisted until flush")
+    void record_isNotVisibleBeforeFlush() {
+        tracker.record(deckA, MedicalCategory.CARDIOLOGY, PopularityEvent.VIEW);
+
+        assertThat(tracker.topDecks(PublicDeckSort.TRENDING, null)).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("flush: ranks by weighted score and persists the new events as increments")
+    void flush_ranksByWeightedScore() {
+        tracker.record(deckA, MedicalCategory.CARDIOLOGY, PopularityEvent.VIEW);
+        tracker.record(deckA, MedicalCategory.CARDIOLOGY, PopularityEvent.VIEW);
+        tracker.record(deckB, MedicalCategory.CARDIOLOGY, PopularityEvent.CLONE);
+
+        tracker.flush();
+
+        assertThat(tracker.topDecks(PublicDeckSort.TRENDING, null)).containsExactly(deckB, deckA);
+        assertThat(tracker.topDecks(PublicDeckSort.POPULAR, MedicalCategory.CARDIOLOGY)).containsExactly(deckB, deckA);
+        assertThat(tracker.topDecks(PublicDeckSort.TRENDING, MedicalCategory.NEUROLOGY)).isEmpty();
+        verify(repository).insertIfAbsent(eq(deckA), eq("CARDIOLOGY"), any());
+        verify(repository).addCounts(eq(deckA), eq(2L), eq(0L), eq(0L), eq(2 * PopularityEvent.VIEW.getWeight()),
+                any(), eq(24 * 3600.0));
+        verify(repository).addCounts(eq(deckB), eq(0L), eq(0L), eq(1L), eq(PopularityEvent.CLONE.getWeight()),
+                any(), eq(24 * 3600.0));
+    }
+
+    @Test
+    @DisplayName("flush: a failed write is retried once, with the events of both flushes")
+    void flush_retriesFailedDeltas() {
+        when(repository.addCounts(any(), anyLong(), anyLong(), anyLong(), anyDouble(), any(), anyDouble()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(1);
+        tracker.record(deckA, MedicalCategory.CARDIOLOGY, PopularityEvent.VIEW);
+        tracker.flush();
+
+        tracker.record(deckA, MedicalCategory.CARDIOLOGY, PopularityEvent.VIEW);
+        tracker.flush();
+        tracker.flush();
+
+        verify(repository).addCounts(eq(deckA), eq(2L), eq(0L), eq(0L), anyDouble(), any(), anyDouble());
+        verify(repository, times(2)).addCounts(any(), anyLong(), anyLong(), anyLong(), anyDouble(), any(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("flush: old activity decays so recent activity trends higher")
+    void flush_decaysOldActivity() {
+        // deckA gets a burst of 10 views, then two half-lives pass
+        for (int i = 0; i < 10; i++) {
+            tracker.record(deckA, MedicalCategory.PHARMACOLOGY, PopularityEvent.VIEW);
+        }
+        tracker.flush();
+        clock.advance(Duration.ofHours(48));
+
+        // deckB gets 2 reviews now (score 4.0 vs deckA's decayed 2.5)
+        tracker.record(deckB, MedicalCategory.PHARMACOLOGY, PopularityEvent.REVIEW);
+        tracker.record(deckB, MedicalCategory.PHARMACOLOGY, PopularityEvent.REVIEW);
+        tracker.flush();
+
+        assertThat(tracker.topDecks(PublicDeckSort.TRENDING, MedicalCategory.PHARMACOLOGY))
+                .containsExactly(deckB, deckA);
+        // All-time ordering is clones, then reviews, then views — no decay involved
+        assertThat(tracker.topDecks(PublicDeckSort.POPULAR, MedicalCategory.PHARMACOLOGY))
+                .containsExactly(deckB, deckA);
+    }
+
+    @Test
+    @DisplayName("forget: removes the deck from rankings on the next flush")
+    void forget_removesDeck() {
+        tracker.record(deckA, MedicalCategory.CARDIOLOGY, PopularityEvent.CLONE);
+        tracker.flush();
+
+        tracker.forget(deckA);
+        tracker.flush();
+
+        assertThat(tracker.topDecks(PublicDeckSort.POPULAR, null)).isEmpty();
+        verify(repository).deleteAllByIdInBatch(List.of(deckA));
+    }
+
+    @Test
+    @DisplayName("loadPersisted: rankings survive a restart")
+    void loadPersisted_restoresRankings() {
+        when(repository.findAll()).thenReturn(List.of(DeckPopularity.builder()
+                .deckId(deckA)
+                .category(MedicalCategory.ANATOMY)
+                .cloneCount(3)
+                .trendingScore(30)
+                .scoreAt(LocalDateTime.now(clock))
+                .build()));
+
+        tracker.loadPersisted();
+
+        assertThat(tracker.topDecks(PublicDeckSort.POPULAR, MedicalCategory.ANATOMY)).containsExactly(deckA);
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
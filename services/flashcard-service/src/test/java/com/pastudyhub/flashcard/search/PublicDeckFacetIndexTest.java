@@ -0,0 +1,120 @@
+package com.pastudyhub.flashcard.search;
+
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PublicDeckFacetIndex unit tests")
+class PublicDeckFacetIndexTest {
+
+    private PublicDeckFacetIndex index;
+    private Deck heartDeck;
+    private Deck brainDeck;
+
+    @BeforeEach
+    void setUp() {
+        heartDeck = deck("Heart Failure Essentials", "BNP, ejection fraction", MedicalCategory.CARDIOLOGY, 2);
+        brainDeck = deck("Stroke Review", "Acute stroke workup", MedicalCategory.NEUROLOGY, 1);
+
+        DeckRepository deckRepository = mock(DeckRepository.class);
+        CardRepository cardRepository = mock(CardRepository.class);
+        when(deckRepository.findAllPublic()).thenReturn(List.of(heartDeck, brainDeck));
+        when(cardRepository.findPublicDeckCardTags()).thenReturn(List.of(
+                new Object[]{heartDeck.getId(), "hf,bnp"},
+                new Object[]{heartDeck.getId(), "HF"},
+                new Object[]{brainDeck.getId(), "stroke"}));
+
+        index = new PublicDeckFacetIndex(deckRepository, cardRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("rebuild: global facets count decks per category, range and tag")
+    void rebuild_buildsGlobalFacets() {
+        PublicDeckFacetIndex.Facets facets = index.globalFacets();
+
+        assertThat(facets.categories()).containsEntry("CARDIOLOGY", 1L).containsEntry("NEUROLOGY", 1L);
+        assertThat(facets.cardCounts()).containsExactly(entry("0-9", 2L));
+        assertThat(facets.tags()).containsEntry("hf", 1L).containsEntry("bnp", 1L).containsEntry("stroke", 1L);
+        assertThat(index.cardCount(heartDeck.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("search: text prefix and tag filters narrow results; facets ignore their own filter")
+    void search_filtersAndCountsFacets() {
+        PublicDeckFacetIndex.SearchResult byText = index.search(query("heart fail", Set.of(), Set.of()));
+        assertThat(byText.pageIds()).containsExactly(heartDeck.getId());
+
+        PublicDeckFacetIndex.SearchResult byCategory = index.search(
+                query(null, Set.of(MedicalCategory.NEUROLOGY), Set.of()));
+        assertThat(byCategory.pageIds()).containsExactly(brainDeck.getId());
+        assertThat(byCategory.categories()).containsEntry("CARDIOLOGY", 1L).containsEntry("NEUROLOGY", 1L);
+        assertThat(byCategory.tags()).containsOnlyKeys("stroke");
+
+        PublicDeckFacetIndex.SearchResult byTag = index.search(query(null, Set.of(), Set.of("bnp", "hf")));
+        assertThat(byTag.total()).isEqualTo(1);
+        assertThat(byTag.categories()).containsOnlyKeys("CARDIOLOGY");
+    }
+
+    @Test
+    @DisplayName("card and deck mutations adjust counts incrementally")
+    void mutations_adjustCountsIncrementally() {
+        index.cardAdded(brainDeck.getId(), "tpa,stroke");
+        index.cardTagsChanged(heartDeck.getId(), "HF", null);
+        index.cardRemoved(heartDeck.getId(), "hf,bnp");
+
+        PublicDeckFacetIndex.Facets facets = index.globalFacets();
+        assertThat(facets.tags()).containsOnlyKeys("stroke", "tpa");
+        assertThat(index.cardCount(brainDeck.getId())).isEqualTo(2);
+        assertThat(index.cardCount(heartDeck.getId())).isEqualTo(1);
+
+        brainDeck.setPublic(false);
+        index.deckSaved(brainDeck);
+
+        assertThat(index.globalFacets().categories()).containsOnlyKeys("CARDIOLOGY");
+        assertThat(index.globalFacets().tags()).isEmpty();
+        assertThat(index.cardCount(brainDeck.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("cardsChanged: a bulk mutation applies every card's tags in one update")
+    void cardsChanged_appliesBulkMutation() {
+        index.cardsChanged(heartDeck.getId(), -2, Arrays.asList("stroke", null), List.of("hf,bnp", "HF"));
+        index.cardsChanged(brainDeck.getId(), 2, List.of("hf", "hf,tpa"), List.of());
+
+        assertThat(index.cardCount(heartDeck.getId())).isZero();
+        assertThat(index.cardCount(brainDeck.getId())).isEqualTo(3);
+        assertThat(index.globalFacets().tags())
+                .containsOnlyKeys("hf", "stroke", "tpa")
+                .containsEntry("stroke", 2L);
+    }
+
+    private static DeckSearchQuery query(String text, Set<MedicalCategory> categories, Set<String> tags) {
+        return new DeckSearchQuery(text, categories, Set.of(), tags, 0, 20);
+    }
+
+    private static Deck deck(String title, String description, MedicalCategory category, int ageDays) {
+        return Deck.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .title(title)
+                .description(description)
+                .category(category)
+                .isPublic(true)
+                .updatedAt(LocalDateTime.now().minusDays(ageDays))
+                .build();
+    }
+}
@@ -0,0 +1,316 @@
+package com.pastudyhub.flashcard.service;
+
+import com.pastudyhub.flashcard.dto.BulkCardOperation;
+import com.pastudyhub.flashcard.dto.BulkCardRequest;
+import com.pastudyhub.flashcard.dto.BulkCardResponse;
+import com.pastudyhub.flashcard.exception.CardNotFoundException;
+import com.pastudyhub.flashcard.exception.InvalidBulkOperationException;
+import com.pastudyhub.flashcard.exception.UnauthorizedDeckAccessException;
+import com.pastudyhub.flashcard.mapper.CardMapper;
+import com.pastudyhub.flashcard.model.Deck;
+import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.repository.CardRef;
+import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
+import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import com.pastudyhub.flashcard.search.PublicDeckFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardServiceImpl bulk operation unit tests")
+class CardServiceImplTest {
+
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private DeckRepository deckRepository;
+    @Mock
+    private ReviewScheduleRepository reviewScheduleRepository;
+    @Mock
+    private CardMapper cardMapper;
+    @Mock
+    private PublicDeckFacetIndex facetIndex;
+    @Mock
+    private DeckVersionService deckVersionService;
+    @Mock
+    private NoteRepository noteRepository;
+
+    @InjectMocks
+    private CardServiceImpl cardService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID sourceDeckId = UUID.randomUUID();
+    private final UUID targetDeckId = UUID.randomUUID();
+
+    /** Every card the repository knows, by id. */
+    private final Map<UUID, CardRef> stored = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardService, "bulkMaxCards", 10_000);
+    }
+
+    // ---- MOVE --------------------------------------------------------------
+
+    @Test
+    @DisplayName("bulkUpdate MOVE: 501 note-backed cards take their siblings and notes along, in 500-ID chunks")
+    void move_chunksNoteQueriesAndUpdates() {
+        List<CardRef> selected = IntStream.range(0, 501)
+                .mapToObj(i -> card(sourceDeckId, userId, UUID.randomUUID(), null))
+                .toList();
+        // One unselected sibling of the first note
+        CardRef sibling = card(sourceDeckId, userId, selected.get(0).noteId(), null);
+        stubFindByIds();
+        when(cardRepository.findRefsByNoteIds(anyCollection())).thenAnswer(inv -> {
+            Collection<UUID> noteIds = inv.getArgument(0);
+            return noteIds.contains(sibling.noteId()) ? List.of(sibling) : List.of();
+        });
+        when(deckRepository.findByIdAndNotDeleted(targetDeckId)).thenReturn(Optional.of(deck(targetDeckId)));
+        when(cardRepository.moveToDeck(anyCollection(), any(), any()))
+                .thenAnswer(inv -> new HashSet<>(inv.<Collection<UUID>>getArgument(0)).size());
+
+        BulkCardResponse response = cardService.bulkUpdate(move(selected), userId);
+
+        assertThat(response.getMatched()).isEqualTo(502);
+        assertThat(response.getUpdated()).isEqualTo(502);
+        ArgumentCaptor<Collection<UUID>> noteQueries = collectionCaptor();
+        verify(cardRepository, times(2)).findRefsByNoteIds(noteQueries.capture());
+        assertThat(chunkSizes(noteQueries.getAllValues())).containsExactly(500, 500);
+        ArgumentCaptor<Collection<UUID>> movedNotes = collectionCaptor();
+        verify(noteRepository, times(2)).moveToDeck(movedNotes.capture(), any(), any());
+        assertThat(chunkSizes(movedNotes.getAllValues())).containsExactly(500, 500);
+        assertThat(distinct(movedNotes.getAllValues())).hasSize(501);
+        ArgumentCaptor<Collection<UUID>> movedCards = collectionCaptor();
+        verify(cardRepository, times(2)).moveToDeck(movedCards.capture(), any(), any());
+        assertThat(distinct(movedCards.getAllValues())).hasSize(502).contains(sibling.id());
+        verify(deckVersionService).deckChanged(sourceDeckId);
+        verify(deckVersionService).deckChanged(targetDeckId);
+    }
+
+    @Test
+    @DisplayName("bulkUpdate MOVE: cards already in the target deck are not counted or moved")
+    void move_skipsCardsAlreadyInTarget() {
+        CardRef alreadyThere = card(targetDeckId, userId, null, null);
+        CardRef moving = card(sourceDeckId, userId, null, null);
+        stubFindByIds();
+        when(deckRepository.findByIdAndNotDeleted(targetDeckId)).thenReturn(Optional.of(deck(targetDeckId)));
+        when(cardRepository.moveToDeck(anyCollection(), any(), any())).thenReturn(1);
+
+        BulkCardResponse response = cardService.bulkUpdate(move(List.of(alreadyThere, moving)), userId);
+
+        assertThat(response.getMatched()).isEqualTo(2);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        ArgumentCaptor<Collection<UUID>> movedCards = collectionCaptor();
+        verify(cardRepository).moveToDeck(movedCards.capture(), any(), any());
+        assertThat(distinct(movedCards.getAllValues())).containsExactly(moving.id());
+        verifyNoInteractions(noteRepository);
+    }
+
+    @Test
+    @DisplayName("bulkUpdate MOVE: another user's target deck is refused before anything changes")
+    void move_foreignTargetDeck() {
+        CardRef moving = card(sourceDeckId, userId, UUID.randomUUID(), null);
+        stubFindByIds();
+        when(cardRepository.findRefsByNoteIds(anyCollection())).thenReturn(List.of());
+        Deck foreign = deck(targetDeckId);
+        foreign.setUserId(UUID.randomUUID());
+        when(deckRepository.findByIdAndNotDeleted(targetDeckId)).thenReturn(Optional.of(foreign));
+
+        assertThatThrownBy(() -> cardService.bulkUpdate(move(List.of(moving)), userId))
+                .isInstanceOf(UnauthorizedDeckAccessException.class);
+        verifyNoInteractions(noteRepository);
+        verify(cardRepository, never()).moveToDeck(anyCollection(), any(), any());
+    }
+
+    // ---- ADD_TAGS / REMOVE_TAGS ---------------------------------------------
+
+    @Test
+    @DisplayName("bulkUpdate ADD_TAGS: one statement per distinct tag and exact 500-ID chunk")
+    void addTags_oneStatementPerTagAndChunk() {
+        List<CardRef> cards = IntStream.range(0, 1000)
+                .mapToObj(i -> card(sourceDeckId, userId, null, i == 0 ? "a" : null))
+                .toList();
+        stubFindByIds();
+        when(cardRepository.addTag(anyCollection(), anyString(), anyString(), any())).thenReturn(500);
+
+        BulkCardRequest request = byIds(BulkCardOperation.ADD_TAGS, cards);
+        request.setTags(List.of(" a", "a", "b "));
+        BulkCardResponse response = cardService.bulkUpdate(request, userId);
+
+        assertThat(response.getUpdated()).isEqualTo(2000);
+        verify(cardRepository, times(2)).addTag(argThat(ids -> ids.size() == 500), eq("a"), eq("%,a,%"), any());
+        verify(cardRepository, times(2)).addTag(argThat(ids -> ids.size() == 500), eq("b"), eq("%,b,%"), any());
+        verify(deckVersionService).deckChanged(sourceDeckId);
+        // Private deck: the facet index only tracks public decks
+        verifyNoInteractions(facetIndex);
+    }
+
+    @Test
+    @DisplayName("bulkUpdate REMOVE_TAGS: removes the wrapped tag and updates facets of public decks")
+    void removeTags_updatesPublicFacets() {
+        CardRef tagged = new CardRef(UUID.randomUUID(), sourceDeckId, userId, true, null, "a,b");
+        CardRef untagged = new CardRef(UUID.randomUUID(), sourceDeckId, userId, true, null, "b");
+        stored.put(tagged.id(), tagged);
+        stored.put(untagged.id(), untagged);
+        stubFindByIds();
+        when(cardRepository.removeTag(anyCollection(), anyString(), anyString(), any())).thenReturn(1);
+
+        BulkCardRequest request = byIds(BulkCardOperation.REMOVE_TAGS, List.of(tagged, untagged));
+        request.setTags(List.of("a"));
+        BulkCardResponse response = cardService.bulkUpdate(request, userId);
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        verify(cardRepository).removeTag(anyCollection(), eq(",a,"), eq("%,a,%"), any());
+        verify(facetIndex).cardsChanged(sourceDeckId, 0, List.of("b"), List.of("a,b"));
+    }
+
+    @Test
+    @DisplayName("bulkUpdate ADD_TAGS: tags are required")
+    void addTags_requiresTags() {
+        CardRef card = card(sourceDeckId, userId, null, null);
+        stubFindByIds();
+
+        assertThatThrownBy(() -> cardService.bulkUpdate(byIds(BulkCardOperation.ADD_TAGS, List.of(card)), userId))
+                .isInstanceOf(InvalidBulkOperationException.class);
+    }
+
+    // ---- DELETE / RESET_SCHEDULE -------------------------------------------
+
+    @Test
+    @DisplayName("bulkUpdate DELETE: a short last chunk is padded to the fixed chunk size")
+    void delete_padsLastChunk() {
+        List<CardRef> cards = IntStream.range(0, 3).mapToObj(i -> card(sourceDeckId, userId, null, null)).toList();
+        stubFindByIds();
+        when(cardRepository.softDeleteAll(anyCollection(), any())).thenReturn(3);
+
+        BulkCardResponse response = cardService.bulkUpdate(byIds(BulkCardOperation.DELETE, cards), userId);
+
+        assertThat(response.getUpdated()).isEqualTo(3);
+        ArgumentCaptor<Collection<UUID>> deleted = collectionCaptor();
+        verify(cardRepository).softDeleteAll(deleted.capture(), any());
+        assertThat(chunkSizes(deleted.getAllValues())).containsExactly(500);
+        assertThat(distinct(deleted.getAllValues())).containsExactlyInAnyOrderElementsOf(cards.stream().map(CardRef::id).toList());
+    }
+
+    @Test
+    @DisplayName("bulkUpdate RESET_SCHEDULE: deletes only the caller's schedules and bumps their review version")
+    void resetSchedule_onlyCallersSchedules() {
+        List<CardRef> cards = IntStream.range(0, 501).mapToObj(i -> card(sourceDeckId, userId, null, null)).toList();
+        stubFindByIds();
+        when(reviewScheduleRepository.deleteByUserIdAndCardIds(eq(userId), anyCollection())).thenReturn(250);
+
+        BulkCardResponse response = cardService.bulkUpdate(byIds(BulkCardOperation.RESET_SCHEDULE, cards), userId);
+
+        assertThat(response.getUpdated()).isEqualTo(500);
+        verify(reviewScheduleRepository, times(2)).deleteByUserIdAndCardIds(eq(userId), anyCollection());
+        verify(deckVersionService).reviewsChanged(userId);
+    }
+
+    // ---- Selection ---------------------------------------------------------
+
+    @Test
+    @DisplayName("bulkUpdate: a card in another user's deck rejects the whole request")
+    void foreignCard_rejectsRequest() {
+        CardRef own = card(sourceDeckId, userId, null, null);
+        CardRef foreign = card(UUID.randomUUID(), UUID.randomUUID(), null, null);
+        stubFindByIds();
+
+        assertThatThrownBy(() -> cardService.bulkUpdate(byIds(BulkCardOperation.DELETE, List.of(own, foreign)), userId))
+                .isInstanceOf(UnauthorizedDeckAccessException.class);
+        verify(cardRepository, never()).softDeleteAll(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("bulkUpdate: a missing or deleted card is reported by id")
+    void missingCard_notFound() {
+        CardRef own = card(sourceDeckId, userId, null, null);
+        stubFindByIds();
+
+        BulkCardRequest request = byIds(BulkCardOperation.DELETE, List.of(own));
+        request.setCardIds(List.of(own.id(), UUID.randomUUID()));
+
+        assertThatThrownBy(() -> cardService.bulkUpdate(request, userId))
+                .isInstanceOf(CardNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("bulkUpdate: selections over the configured maximum are rejected before any query")
+    void oversizedSelection_rejected() {
+        ReflectionTestUtils.setField(cardService, "bulkMaxCards", 2);
+        BulkCardRequest request = new BulkCardRequest();
+        request.setOperation(BulkCardOperation.DELETE);
+        request.setCardIds(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        assertThatThrownBy(() -> cardService.bulkUpdate(request, userId))
+                .isInstanceOf(InvalidBulkOperationException.class);
+        verifyNoInteractions(cardRepository);
+    }
+
+    // -------------------------------------------------------------------------
+
+    private CardRef card(UUID deckId, UUID ownerId, UUID noteId, String tags) {
+        CardRef card = new CardRef(UUID.randomUUID(), deckId, ownerId, false, noteId, tags);
+        stored.put(card.id(), card);
+        return card;
+    }
+
+    private Deck deck(UUID id) {
+        return Deck.builder().id(id).userId(userId).title("Target").category(MedicalCategory.CARDIOLOGY).build();
+    }
+
+    private void stubFindByIds() {
+        when(cardRepository.findRefsByIds(anyCollection())).thenAnswer(inv -> {
+            Collection<UUID> ids = inv.getArgument(0);
+            return new HashSet<>(ids).stream().map(stored::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    private static BulkCardRequest byIds(BulkCardOperation operation, List<CardRef> cards) {
+        BulkCardRequest request = new BulkCardRequest();
+        request.setOperation(operation);
+        request.setCardIds(cards.stream().map(CardRef::id).toList());
+        return request;
+    }
+
+    private BulkCardRequest move(List<CardRef> cards) {
+        BulkCardRequest request = byIds(BulkCardOperation.MOVE, cards);
+        request.setTargetDeckId(targetDeckId);
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<UUID>> collectionCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static List<Integer> chunkSizes(List<Collection<UUID>> chunks) {
+        return chunks.stream().map(Collection::size).toList();
+    }
+
+    private static List<UUID> distinct(List<Collection<UUID>> chunks) {
+        return chunks.stream().flatMap(Collection::stream).distinct().toList();
+    }
+}
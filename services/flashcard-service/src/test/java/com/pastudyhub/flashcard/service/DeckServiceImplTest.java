@@ -9,9 +9,13 @@ import com.pastudyhub.flashcard.mapper.CardMapper;
 import com.pastudyhub.flashcard.mapper.DeckMapper;
 import com.pastudyhub.flashcard.model.Deck;
 import com.pastudyhub.flashcard.model.MedicalCategory;
+import com.pastudyhub.flashcard.popularity.PopularityTracker;
 import com.pastudyhub.flashcard.repository.CardRepository;
+import com.pastudyhub.flashcard.repository.DeckClosureRepository;
 import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.NoteRepository;
 import com.pastudyhub.flashcard.repository.ReviewScheduleRepository;
+import com.pastudyhub.flashcard.search.PublicDeckFacetIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,9 +42,17 @@ class DeckServiceImplTest {
     @Mock
     private ReviewScheduleRepository reviewScheduleRepository;
     @Mock
+    private DeckClosureRepository deckClosureRepository;
+    @Mock
+    private NoteRepository noteRepository;
+    @Mock
     private DeckMapper deckMapper;
     @Mock
     private CardMapper cardMapper;
+    @Mock
+    private PopularityTracker popularityTracker;
+    @Mock
+    private PublicDeckFacetIndex facetIndex;
 
     @InjectMocks
     private DeckServiceImpl deckService;
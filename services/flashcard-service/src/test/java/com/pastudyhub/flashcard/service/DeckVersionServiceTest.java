@@ -0,0 +1,93 @@
+package com.pastudyhub.flashcard.service;
+
+import com.pastudyhub.flashcard.exception.DeckNotFoundException;
+import com.pastudyhub.flashcard.repository.DeckRepository;
+import com.pastudyhub.flashcard.repository.UserReviewVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeckVersionService unit tests")
+class DeckVersionServiceTest {
+
+    @Mock
+    private DeckRepository deckRepository;
+    @Mock
+    private UserReviewVersionRepository userReviewVersionRepository;
+
+    @InjectMocks
+    private DeckVersionService deckVersionService;
+
+    private final UUID deckId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("deckETag: changes when either the deck or the user's review version changes")
+    void deckETag_tracksBothVersions() {
+        when(deckRepository.findContentVersion(deckId)).thenReturn(Optional.of(3L), Optional.of(4L), Optional.of(4L));
+        when(userReviewVersionRepository.findVersion(userId)).thenReturn(Optional.empty(), Optional.empty(), Optional.of(1L));
+
+        String initial = deckVersionService.deckETag(deckId, userId);
+        String afterCardEdit = deckVersionService.deckETag(deckId, userId);
+        String afterReview = deckVersionService.deckETag(deckId, userId);
+
+        assertThat(initial).startsWith("3-0-");
+        assertThat(afterCardEdit).startsWith("4-0-");
+        assertThat(afterReview).startsWith("4-1-");
+    }
+
+    @Test
+    @DisplayName("deckETag: differs per reader for the same versions")
+    void deckETag_isPerUser() {
+        when(deckRepository.findContentVersion(deckId)).thenReturn(Optional.of(1L));
+        when(userReviewVersionRepository.findVersion(any())).thenReturn(Optional.empty());
+
+        assertThat(deckVersionService.deckETag(deckId, userId))
+                .isNotEqualTo(deckVersionService.deckETag(deckId, UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("deckETag: throws DeckNotFoundException for missing or deleted decks")
+    void deckETag_missingDeck() {
+        when(deckRepository.findContentVersion(deckId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> deckVersionService.deckETag(deckId, userId))
+                .isInstanceOf(DeckNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("reviewsChanged: creates the counter row on a user's first review")
+    void reviewsChanged_createsRowOnFirstReview() {
+        when(userReviewVersionRepository.increment(userId)).thenReturn(0, 1);
+
+        deckVersionService.reviewsChanged(userId);
+
+        InOrder inOrder = inOrder(userReviewVersionRepository);
+        inOrder.verify(userReviewVersionRepository).increment(userId);
+        inOrder.verify(userReviewVersionRepository).insertIfAbsent(userId);
+        inOrder.verify(userReviewVersionRepository).increment(userId);
+        verify(userReviewVersionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("reviewsChanged: increments an existing counter in place")
+    void reviewsChanged_incrementsExistingRow() {
+        when(userReviewVersionRepository.increment(userId)).thenReturn(1);
+
+        deckVersionService.reviewsChanged(userId);
+
+        verify(userReviewVersionRepository, never()).insertIfAbsent(any());
+    }
+}